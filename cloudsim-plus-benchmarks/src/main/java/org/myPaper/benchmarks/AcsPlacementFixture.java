@@ -0,0 +1,145 @@
+package org.myPaper.benchmarks;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.myPaper.datacenter.DatacenterPowerSupplyOverheadPowerAware;
+import org.myPaper.datacenter.DatacenterPro;
+import org.myPaper.datacenter.vmAllocationPolicies.VmAllocationPolicyFirstFitCustomized;
+import org.myPaper.host.HostTypeAbstract;
+import org.myPaper.host.instances.*;
+import org.myPaper.programs.ParentClass;
+import org.myPaper.vm.VmInstanceAbstract;
+import org.myPaper.vm.instances.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A synthetic fixture for the benchmarks of the VM placement algorithms. It creates a {@link DatacenterPro} with the
+ * same host instances, energy price, carbon model, power supply and weather dataset as the experiment programs
+ * (see {@link ParentClass}), and a list of VM creation requests from the same VM instances. The simulation is never
+ * started, so the algorithms see an idle datacenter at time zero, which is the initial VM placement decision.
+ * <p>
+ * The host and VM instances are picked by a seeded random generator, so the same parameters always build the same
+ * fixture.
+ * </p>
+ */
+public class AcsPlacementFixture {
+    private static final String WEATHER_DATASET = "weather-info/Palo-Alto-California-US-weather-info-hourly-data.csv";
+    private static final double TIMEZONE = -7;
+    private static final double OFF_SITE_ENERGY_PRICE = 12.37; //Cents/KWh
+    private static final double CARBON_FOOTPRINT_RATE = 0.2060; //Tons/MWh
+    private static final double CARBON_TAX = 15.30 * 100; //Cents/Ton
+
+    /**
+     * The CPU over-utilization threshold which is used by the experiment programs.
+     */
+    public static final double OVERUTILIZATION_THRESHOLD = 0.9;
+
+    private final CloudSim simulation;
+    private final DatacenterPro datacenter;
+    private final List<Vm> vmList;
+
+    /**
+     * Creates a new fixture.
+     *
+     * @param numberOfHosts the number of hosts of the datacenter
+     * @param numberOfVms   the number of VM creation requests
+     * @param seed          the seed of the random generator which picks the host and VM instances
+     */
+    public AcsPlacementFixture(final int numberOfHosts, final int numberOfVms, final long seed) {
+        final Random random = new Random(seed);
+
+        simulation = new CloudSim();
+        datacenter = createDatacenter(createHostList(numberOfHosts, random));
+        vmList = createVmList(numberOfVms, random);
+    }
+
+    private List<Host> createHostList(final int numberOfHosts, final Random random) {
+        final List<Host> hostList = new ArrayList<>(numberOfHosts);
+        for (int i = 0; i < numberOfHosts; i++) {
+            final Host host = createHostInstance(random.nextInt(6)).getHost();
+            host.setId(i);
+            hostList.add(host);
+        }
+
+        return hostList;
+    }
+
+    private HostTypeAbstract createHostInstance(final int type) {
+        switch (type) {
+            case 0: return new Host_Instance1_medium();
+            case 1: return new Host_Instance2_large();
+            case 2: return new Host_Instance3_xlarge();
+            case 3: return new Host_Instance4_2xlarge();
+            case 4: return new Host_Instance5_4xlarge();
+            default: return new Host_Instance6_8xLarge();
+        }
+    }
+
+    private List<Vm> createVmList(final int numberOfVms, final Random random) {
+        final List<Vm> list = new ArrayList<>(numberOfVms);
+        for (int i = 0; i < numberOfVms; i++) {
+            final Vm vm = createVmInstance(random.nextInt(5)).createVm();
+            vm.setId(i + 1);
+            list.add(vm);
+        }
+
+        return list;
+    }
+
+    private VmInstanceAbstract createVmInstance(final int type) {
+        switch (type) {
+            case 0: return new VmInstance1_A1_Medium();
+            case 1: return new VmInstance2_C4_Large();
+            case 2: return new VmInstance3_C4_xLarge();
+            case 3: return new VmInstance4_C4_2xLarge();
+            default: return new VmInstance5_C4_4xLarge();
+        }
+    }
+
+    private DatacenterPro createDatacenter(final List<Host> hostList) {
+        final DatacenterPro datacenterPro = new DatacenterPro(simulation, hostList, new VmAllocationPolicyFirstFitCustomized());
+        datacenterPro.setTimeZone(TIMEZONE);
+        datacenterPro.setEnergyPriceModel(OFF_SITE_ENERGY_PRICE);
+        datacenterPro.setCarbonTaxAndFootprintRateModel(CARBON_TAX, CARBON_FOOTPRINT_RATE);
+        datacenterPro.setPowerSupply(new DatacenterPowerSupplyOverheadPowerAware(datacenterPro));
+
+        try {
+            datacenterPro.loadWeatherDataset(WEATHER_DATASET);
+        } catch (Exception e) {
+            throw new IllegalStateException("The weather dataset of the benchmark fixture could not be loaded!", e);
+        }
+
+        return datacenterPro;
+    }
+
+    public CloudSim getSimulation() {
+        return simulation;
+    }
+
+    public DatacenterPro getDatacenter() {
+        return datacenter;
+    }
+
+    /**
+     * Gets the datacenter as a list, e.g., for creating a broker.
+     *
+     * @return a list which only contains the datacenter of the fixture
+     */
+    public List<Datacenter> getDatacenterList() {
+        return new ArrayList<>(Collections.singletonList(datacenter));
+    }
+
+    public List<Host> getHostList() {
+        return datacenter.getHostList();
+    }
+
+    public List<Vm> getVmList() {
+        return vmList;
+    }
+}
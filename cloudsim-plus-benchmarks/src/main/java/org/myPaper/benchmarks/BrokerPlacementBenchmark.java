@@ -0,0 +1,81 @@
+package org.myPaper.benchmarks;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.myPaper.broker.DatacenterBrokeFFD;
+import org.myPaper.broker.DatacenterBrokerBFD;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A set of benchmarks for the initial VM placement of the Best Fit Decreasing ({@link DatacenterBrokerBFD}) and
+ * First Fit Decreasing ({@link DatacenterBrokeFFD}) brokers, which are the baselines of the ACS algorithms.
+ * <p>
+ * These brokers place the VMs while they request the datacenter to create them, which changes the hosts (temporary
+ * VMs) and sends the VM creation requests. Hence, a new fixture and broker are created before each call
+ * ({@link Level#Invocation}) and the benchmark only measures the placement of the waiting VMs; the simulation is not
+ * started, so the VM creation requests are just dropped (with a warning) by the simulation.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class BrokerPlacementBenchmark {
+    @Param({"50", "200"})
+    private int vms;
+
+    @Param({"100", "400"})
+    private int hosts;
+
+    private BenchmarkBrokerBFD brokerBFD;
+    private BenchmarkBrokerFFD brokerFFD;
+
+    @Setup(Level.Invocation)
+    public void doSetup() {
+        final AcsPlacementFixture bfdFixture = new AcsPlacementFixture(hosts, vms, 1);
+        brokerBFD = new BenchmarkBrokerBFD(bfdFixture.getSimulation(), bfdFixture.getDatacenterList());
+        brokerBFD.submitVmList(bfdFixture.getVmList());
+
+        final AcsPlacementFixture ffdFixture = new AcsPlacementFixture(hosts, vms, 1);
+        brokerFFD = new BenchmarkBrokerFFD(ffdFixture.getSimulation(), ffdFixture.getDatacenterList());
+        brokerFFD.submitVmList(ffdFixture.getVmList());
+    }
+
+    @Benchmark
+    public boolean testBfdPlacement() {
+        return brokerBFD.placeWaitingVms();
+    }
+
+    @Benchmark
+    public boolean testFfdPlacement() {
+        return brokerFFD.placeWaitingVms();
+    }
+
+    /**
+     * A {@link DatacenterBrokerBFD} which exposes its VM placement to the benchmark.
+     */
+    private static final class BenchmarkBrokerBFD extends DatacenterBrokerBFD {
+        private BenchmarkBrokerBFD(final CloudSim simulation, final List<Datacenter> datacenterList) {
+            super(simulation, "BFD", datacenterList);
+        }
+
+        private boolean placeWaitingVms() {
+            return requestDatacenterToCreateWaitingVms(false);
+        }
+    }
+
+    /**
+     * A {@link DatacenterBrokeFFD} which exposes its VM placement to the benchmark.
+     */
+    private static final class BenchmarkBrokerFFD extends DatacenterBrokeFFD {
+        private BenchmarkBrokerFFD(final CloudSim simulation, final List<Datacenter> datacenterList) {
+            super(simulation, "FFD", datacenterList);
+        }
+
+        private boolean placeWaitingVms() {
+            return requestDatacenterToCreateWaitingVms(false);
+        }
+    }
+}
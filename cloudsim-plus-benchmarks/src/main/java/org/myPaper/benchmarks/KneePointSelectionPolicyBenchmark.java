@@ -0,0 +1,89 @@
+package org.myPaper.benchmarks;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.myPaper.acsAlgorithms.DatacenterSolutionEntry;
+import org.myPaper.acsAlgorithms.OurAcsAlgorithm.KneePointSelectionPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A set of benchmarks for the {@link KneePointSelectionPolicy#getNonDominatedSortation(List)} method over a
+ * pre-generated list of random (but feasible) placement solutions. Each benchmark call evaluates the objectives
+ * of all the solutions and finds their Pareto front.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class KneePointSelectionPolicyBenchmark {
+    @Param({"50", "200"})
+    private int vms;
+
+    @Param({"100", "400"})
+    private int hosts;
+
+    @Param({"20", "100"})
+    private int solutions;
+
+    private AcsPlacementFixture fixture;
+    private List<DatacenterSolutionEntry> solutionList;
+
+    @Setup
+    public void doSetup() {
+        fixture = new AcsPlacementFixture(hosts, vms, 1);
+
+        final Random random = new Random(1);
+        solutionList = new ArrayList<>(solutions);
+        for (int i = 0; i < solutions; i++) {
+            solutionList.add(new DatacenterSolutionEntry(fixture.getDatacenter(), createRandomSolution(random)));
+        }
+    }
+
+    /**
+     * Creates a random solution in which each VM is placed on a random host that still has enough free PEs and RAM
+     * for it.
+     *
+     * @param random the random generator
+     * @return the solution
+     */
+    private Map<Vm, Host> createRandomSolution(final Random random) {
+        final List<Host> hostList = fixture.getHostList();
+        final long[] freePes = new long[hostList.size()];
+        final long[] freeRam = new long[hostList.size()];
+        for (int i = 0; i < hostList.size(); i++) {
+            freePes[i] = hostList.get(i).getNumberOfPes();
+            freeRam[i] = hostList.get(i).getRam().getCapacity();
+        }
+
+        final Map<Vm, Host> solution = new HashMap<>();
+        for (Vm vm : fixture.getVmList()) {
+            final int start = random.nextInt(hostList.size());
+            int hostIndex = -1;
+            for (int j = 0; j < hostList.size(); j++) {
+                final int candidate = (start + j) % hostList.size();
+                if (freePes[candidate] >= vm.getNumberOfPes() && freeRam[candidate] >= vm.getRam().getCapacity()) {
+                    hostIndex = candidate;
+                    break;
+                }
+            }
+
+            if (hostIndex == -1) {
+                throw new IllegalStateException("The benchmark fixture does not have enough hosts for all the VMs!");
+            }
+
+            freePes[hostIndex] -= vm.getNumberOfPes();
+            freeRam[hostIndex] -= vm.getRam().getCapacity();
+            solution.put(vm, hostList.get(hostIndex));
+        }
+
+        return solution;
+    }
+
+    @Benchmark
+    public List<DatacenterSolutionEntry> testGetNonDominatedSortation() {
+        final KneePointSelectionPolicy kneePointSelectionPolicy = new KneePointSelectionPolicy(fixture.getVmList());
+        return kneePointSelectionPolicy.getNonDominatedSortation(solutionList);
+    }
+}
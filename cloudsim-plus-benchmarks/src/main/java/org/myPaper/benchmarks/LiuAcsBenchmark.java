@@ -0,0 +1,53 @@
+package org.myPaper.benchmarks;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.myPaper.acsAlgorithms.Liu.Liu2016;
+import org.myPaper.acsAlgorithms.Liu.Liu2017;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A set of benchmarks for the initial VM placement of the {@link Liu2016} (OEMACS) and {@link Liu2017} (UACS)
+ * algorithms inside an idle datacenter. The other parameters of the algorithms are the ones used by the experiment
+ * programs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class LiuAcsBenchmark {
+    @Param({"50", "200"})
+    private int vms;
+
+    @Param({"100", "400"})
+    private int hosts;
+
+    @Param({"5", "10"})
+    private int ants;
+
+    @Param({"5", "10"})
+    private int generations;
+
+    private AcsPlacementFixture fixture;
+
+    @Setup
+    public void doSetup() {
+        fixture = new AcsPlacementFixture(hosts, vms, 1);
+    }
+
+    @Benchmark
+    public Optional<Map<Vm, Host>> testLiu2016GetBestSolution() {
+        final Liu2016 liu2016 = new Liu2016(generations, ants, 0.7, 0.1, 0.1, 2);
+        return liu2016.getBestSolution(fixture.getVmList(), fixture.getDatacenter(), fixture.getHostList());
+    }
+
+    @Benchmark
+    public Optional<Map<Vm, Host>> testLiu2017GetBestSolution() {
+        final Liu2017 liu2017 =
+            new Liu2017(generations, ants, 0.7, 0.1, 0.1, 2, AcsPlacementFixture.OVERUTILIZATION_THRESHOLD, 10);
+        return liu2017.getBestSolution(fixture.getVmList(), fixture.getDatacenter(), fixture.getHostList());
+    }
+}
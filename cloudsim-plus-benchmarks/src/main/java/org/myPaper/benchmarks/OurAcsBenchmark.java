@@ -0,0 +1,45 @@
+package org.myPaper.benchmarks;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.myPaper.acsAlgorithms.OurAcsAlgorithm.OurAcs;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A set of benchmarks for the {@link OurAcs#getBestSolution(java.util.List, org.myPaper.datacenter.DatacenterPro, java.util.List)}
+ * method, i.e., the initial placement of a list of VM creation requests inside an idle datacenter.
+ * The other parameters of the algorithm are the ones used by the experiment programs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class OurAcsBenchmark {
+    @Param({"50", "200"})
+    private int vms;
+
+    @Param({"100", "400"})
+    private int hosts;
+
+    @Param({"5", "10"})
+    private int ants;
+
+    @Param({"5", "10"})
+    private int generations;
+
+    private AcsPlacementFixture fixture;
+
+    @Setup
+    public void doSetup() {
+        fixture = new AcsPlacementFixture(hosts, vms, 1);
+    }
+
+    @Benchmark
+    public Optional<Map<Vm, Host>> testGetBestSolution() {
+        final OurAcs ourAcs = new OurAcs(generations, ants, 2, 0.85, 0.3, 0.6, AcsPlacementFixture.OVERUTILIZATION_THRESHOLD);
+        return ourAcs.getBestSolution(fixture.getVmList(), fixture.getDatacenter(), fixture.getHostList());
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * A set of benchmarks created using the
+ * <a href="http://openjdk.java.net/projects/code-tools/jmh/">JMH (Java Microbenchmark Harness framework)</a>
+ * to assess performance of the VM placement algorithms of the paper (the ACS algorithms and their baselines).
+ *
+ * <p>The main class that starts the benchmarks is the {@link org.cloudsimplus.benchmarks.Run}</p>.
+ */
+package org.myPaper.benchmarks;
@@ -0,0 +1,469 @@
+package org.myPaper;
+
+import org.myPaper.acsAlgorithms.OurAcsAlgorithm.OurAcs;
+import org.myPaper.programs.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a matrix of experiments without any user interaction.
+ * The matrix is defined by a scenario file in the {@link Properties} format
+ * and/or by command line arguments in the format {@code --key=value1,value2},
+ * which override the values of the scenario file given by {@code --scenario=file}.
+ * Each key may have a comma-separated list of values and every combination of them is run.
+ *
+ * <p>The available keys are:</p>
+ * <ul>
+ *     <li>{@code algorithms}: the programs to run (BFD, FFD, CRA_DP, OEMACS, UACS, OUR_ACS);</li>
+ *     <li>{@code federation}: if the cloud federation is enabled (on/off);</li>
+ *     <li>{@code migration}: if the live VM migration is enabled (on/off), just used by UACS and OUR_ACS;</li>
+ *     <li>{@code workloads}: the total number of VM creation requests in range (0,14000];</li>
+ *     <li>{@code seeds}: the seeds of the host shuffling, workload utilization and workload distribution of the programs.
+ *     The brokers and the placement algorithms still draw from their own unseeded generators,
+ *     thus two runs with the same seed may produce different results;</li>
+ *     <li>{@code skipAhead}: if the simulation clock skips ahead when there is no event to process (on/off, off by default).
+ *     It makes the runs faster, but the workloads are submitted at different times, thus the results differ from the
+ *     published experiments;</li>
+ *     <li>{@code acs.g}, {@code acs.a}, {@code acs.beta}, {@code acs.q0}, {@code acs.p}, {@code acs.w}:
+ *     the OUR-ACS parameters, see {@link OurAcs#OurAcs(int, int, int, double, double, double, double)};</li>
+ *     <li>{@code acs.parallel}: if the ants of each OUR-ACS generation are run in parallel (on/off, off by default),
+ *     see {@link OurAcs#setParallelColony(boolean)}. The ants don't see the local pheromone updates of each other
+ *     within a generation, thus the results differ from the published (sequential) algorithm;</li>
+ *     <li>{@code profile}: if the simulation of every run is profiled (on/off, off by default). The profile records
+ *     where the wall-clock time is spent, including the run time of OUR-ACS, and is saved beside the results of each run,
+ *     see {@link org.cloudbus.cloudsim.core.SimulationProfiler};</li>
+ *     <li>{@code output}: the directory to save the results, where a sub-directory is created for each run;</li>
+ *     <li>{@code parallelism}: the maximum number of runs executed at the same time (1 by default).
+ *     Each run keeps a whole simulation in the same heap, thus a higher value requires a larger heap.</li>
+ * </ul>
+ *
+ * <p>Each run creates its own simulation, thus runs don't share any state and can be executed in parallel.</p>
+ */
+public class BatchRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchRunner.class.getSimpleName());
+
+    private static final String SCENARIO = "scenario";
+    private static final String ALGORITHMS = "algorithms";
+    private static final String FEDERATION = "federation";
+    private static final String MIGRATION = "migration";
+    private static final String WORKLOADS = "workloads";
+    private static final String SEEDS = "seeds";
+    private static final String SKIP_AHEAD = "skipAhead";
+    private static final String PROFILE = "profile";
+    private static final String OUTPUT = "output";
+    private static final String PARALLELISM = "parallelism";
+    private static final String ACS_G = "acs.g";
+    private static final String ACS_A = "acs.a";
+    private static final String ACS_BETA = "acs.beta";
+    private static final String ACS_Q0 = "acs.q0";
+    private static final String ACS_P = "acs.p";
+    private static final String ACS_W = "acs.w";
+    private static final String ACS_PARALLEL = "acs.parallel";
+
+    private static final int MAXIMUM_WORKLOADS_NUMBER = 14000;
+
+    private final Path outputDirectory;
+    private final int parallelism;
+    private final List<Run> runList;
+
+    /**
+     * Creates a batch runner from a scenario.
+     *
+     * @param scenario the values of the matrix keys
+     */
+    public BatchRunner(final Properties scenario) {
+        outputDirectory = Paths.get(getValue(scenario, OUTPUT, null));
+        parallelism = Integer.parseInt(getValue(scenario, PARALLELISM, "1"));
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be greater than 0.");
+        }
+
+        runList = createRuns(scenario);
+    }
+
+    /**
+     * Creates a batch runner from command line arguments.
+     *
+     * @param args the arguments in the format {@code --key=value1,value2}
+     * @return the batch runner
+     * @throws IOException when the scenario file cannot be read
+     */
+    public static BatchRunner fromArgs(final String[] args) throws IOException {
+        final Properties arguments = new Properties();
+        for (final String arg : args) {
+            final String keyValue = arg.replaceFirst("^-+", "");
+            final int separator = keyValue.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("The argument " + arg + " is not in the format --key=value!");
+            }
+
+            arguments.setProperty(keyValue.substring(0, separator).trim(), keyValue.substring(separator + 1).trim());
+        }
+
+        final Properties scenario = new Properties();
+        final String scenarioFile = arguments.getProperty(SCENARIO);
+        if (scenarioFile != null) {
+            try (InputStream inputStream = Files.newInputStream(Paths.get(scenarioFile))) {
+                scenario.load(inputStream);
+            }
+        }
+
+        scenario.putAll(arguments);
+        return new BatchRunner(scenario);
+    }
+
+    /**
+     * Runs all the combinations of the matrix, waiting them to finish.
+     * A failed run is logged and doesn't prevent the other ones to be executed.
+     *
+     * @return the number of failed runs
+     * @throws IOException when the output directory cannot be created
+     */
+    public int run() throws IOException {
+        Files.createDirectories(outputDirectory);
+        LOGGER.info("Running {} experiments with parallelism {} into {}", runList.size(), parallelism, outputDirectory);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        final List<Future<?>> futureList = new ArrayList<>();
+        try {
+            for (final Run run : runList) {
+                futureList.add(executor.submit(() -> {
+                    run.execute(outputDirectory);
+                    return null;
+                }));
+            }
+
+            int failedRuns = 0;
+            for (int i = 0; i < runList.size(); i++) {
+                try {
+                    futureList.get(i).get();
+                    LOGGER.info("Run {}/{} {} finished.", i + 1, runList.size(), runList.get(i).getName());
+                } catch (ExecutionException e) {
+                    failedRuns++;
+                    LOGGER.error("Run {}/{} {} failed!", i + 1, runList.size(), runList.get(i).getName(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("The batch execution was interrupted!", e);
+                }
+            }
+
+            LOGGER.info("{} experiments finished, {} failed.", runList.size() - failedRuns, failedRuns);
+            return failedRuns;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the runs of the matrix.
+     *
+     * @return a read-only list of runs
+     */
+    public List<Run> getRunList() {
+        return Collections.unmodifiableList(runList);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private static List<Run> createRuns(final Properties scenario) {
+        final List<MainClass.PROGRAM> algorithms = getValues(scenario, ALGORITHMS, null, value -> MainClass.PROGRAM.valueOf(value.toUpperCase()));
+        final List<Boolean> federations = getValues(scenario, FEDERATION, "off", BatchRunner::parseBoolean);
+        final List<Boolean> migrations = getValues(scenario, MIGRATION, "off", BatchRunner::parseBoolean);
+        final List<Integer> workloads = getValues(scenario, WORKLOADS, null, BatchRunner::parseWorkloadsNumber);
+        final List<Long> seeds = getValues(scenario, SEEDS, "0", Long::parseLong);
+        final List<Boolean> skipAheads = getValues(scenario, SKIP_AHEAD, "off", BatchRunner::parseBoolean);
+        final List<double[]> acsParameters = createAcsParameters(scenario);
+        final List<Boolean> acsParallelColonies = getValues(scenario, ACS_PARALLEL, "off", BatchRunner::parseBoolean);
+        final boolean profiling = parseBoolean(getValue(scenario, PROFILE, "off"));
+
+        final List<Run> runs = new ArrayList<>();
+        for (final MainClass.PROGRAM algorithm : algorithms) {
+            final boolean migrationAware = algorithm == MainClass.PROGRAM.UACS || algorithm == MainClass.PROGRAM.OUR_ACS;
+            final List<Boolean> algorithmMigrations = migrationAware ? migrations : Collections.singletonList(false);
+            final List<double[]> algorithmAcsParameters =
+                algorithm == MainClass.PROGRAM.OUR_ACS ? acsParameters : Collections.singletonList(null);
+            final List<Boolean> algorithmAcsParallelColonies =
+                algorithm == MainClass.PROGRAM.OUR_ACS ? acsParallelColonies : Collections.singletonList(false);
+
+            for (final boolean federation : federations) {
+                for (final boolean migration : algorithmMigrations) {
+                    for (final int workloadsNumber : workloads) {
+                        for (final double[] acs : algorithmAcsParameters) {
+                            for (final boolean acsParallelColony : algorithmAcsParallelColonies) {
+                                for (final long seed : seeds) {
+                                    for (final boolean skipAhead : skipAheads) {
+                                        runs.add(new Run(algorithm, federation, migration, workloadsNumber, seed, skipAhead, acs, acsParallelColony, profiling));
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return runs;
+    }
+
+    /**
+     * Creates every combination of OUR-ACS parameters in the order g, a, beta, q0, p, w.
+     */
+    private static List<double[]> createAcsParameters(final Properties scenario) {
+        final List<List<Double>> values = Arrays.asList(
+            getValues(scenario, ACS_G, "10", Double::parseDouble),
+            getValues(scenario, ACS_A, "5", Double::parseDouble),
+            getValues(scenario, ACS_BETA, "2", Double::parseDouble),
+            getValues(scenario, ACS_Q0, "0.85", Double::parseDouble),
+            getValues(scenario, ACS_P, "0.3", Double::parseDouble),
+            getValues(scenario, ACS_W, "0.6", Double::parseDouble));
+
+        List<double[]> combinations = Collections.singletonList(new double[0]);
+        for (final List<Double> parameterValues : values) {
+            final List<double[]> newCombinations = new ArrayList<>();
+            for (final double[] combination : combinations) {
+                for (final double value : parameterValues) {
+                    final double[] newCombination = Arrays.copyOf(combination, combination.length + 1);
+                    newCombination[combination.length] = value;
+                    newCombinations.add(newCombination);
+                }
+            }
+
+            combinations = newCombinations;
+        }
+
+        return combinations;
+    }
+
+    private static String getValue(final Properties scenario, final String key, final String defaultValue) {
+        final String value = scenario.getProperty(key, defaultValue);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("The scenario key " + key + " is required!");
+        }
+
+        return value.trim();
+    }
+
+    private static <T> List<T> getValues(final Properties scenario,
+                                         final String key,
+                                         final String defaultValue,
+                                         final Function<String, T> parser) {
+        return Arrays.stream(getValue(scenario, key, defaultValue).split(","))
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .map(parser)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    private static boolean parseBoolean(final String value) {
+        switch (value.toLowerCase()) {
+            case "on":
+            case "true":
+            case "yes":
+            case "y":
+                return true;
+            case "off":
+            case "false":
+            case "no":
+            case "n":
+                return false;
+            default:
+                throw new IllegalArgumentException("The given value " + value + " is not a valid on/off value!");
+        }
+    }
+
+    private static int parseWorkloadsNumber(final String value) {
+        final int workloadsNumber = Integer.parseInt(value);
+        if (workloadsNumber <= 0 || workloadsNumber > MAXIMUM_WORKLOADS_NUMBER) {
+            throw new IllegalArgumentException("The number of VM creation requests " + value + " must be in range (0," + MAXIMUM_WORKLOADS_NUMBER + "]!");
+        }
+
+        return workloadsNumber;
+    }
+
+    /**
+     * A single combination of the matrix, which runs a program into its own simulation.
+     */
+    public static final class Run {
+        private final MainClass.PROGRAM algorithm;
+        private final boolean cloudFederation;
+        private final boolean liveVmMigration;
+        private final int workloadsNumber;
+        private final long seed;
+        private final boolean clockSkipAhead;
+
+        /**
+         * The OUR-ACS parameters in the order g, a, beta, q0, p, w or null if the algorithm isn't OUR-ACS.
+         */
+        private final double[] acsParameters;
+
+        /**
+         * Indicates if the ants of each OUR-ACS generation are run in parallel.
+         */
+        private final boolean acsParallelColony;
+
+        /**
+         * Indicates if the simulation is profiled.
+         */
+        private final boolean profiling;
+
+        private Run(final MainClass.PROGRAM algorithm,
+                    final boolean cloudFederation,
+                    final boolean liveVmMigration,
+                    final int workloadsNumber,
+                    final long seed,
+                    final boolean clockSkipAhead,
+                    final double[] acsParameters,
+                    final boolean acsParallelColony,
+                    final boolean profiling) {
+            this.algorithm = algorithm;
+            this.cloudFederation = cloudFederation;
+            this.liveVmMigration = liveVmMigration;
+            this.workloadsNumber = workloadsNumber;
+            this.seed = seed;
+            this.clockSkipAhead = clockSkipAhead;
+            this.acsParameters = acsParameters;
+            this.acsParallelColony = acsParallelColony;
+            this.profiling = profiling;
+        }
+
+        /**
+         * Gets the name of the run, which is also the name of its output directory.
+         */
+        public String getName() {
+            final StringBuilder name = new StringBuilder(algorithm.toString())
+                .append("_fed-").append(cloudFederation ? "on" : "off")
+                .append("_mig-").append(liveVmMigration ? "on" : "off")
+                .append('_').append(workloadsNumber).append("-reqs");
+
+            if (acsParameters != null) {
+                name.append("_acs");
+                for (final double parameter : acsParameters) {
+                    name.append('-').append(parameter % 1 == 0 ? String.valueOf((long) parameter) : String.valueOf(parameter));
+                }
+
+                if (acsParallelColony) {
+                    name.append("-parallel");
+                }
+            }
+
+            name.append("_seed-").append(seed);
+            if (clockSkipAhead) {
+                name.append("_skip-ahead");
+            }
+
+            return name.toString();
+        }
+
+        /**
+         * Runs the program, saving the experimental results into a sub-directory of the given directory.
+         *
+         * @param outputDirectory the directory where the run sub-directory is created
+         * @throws IOException when the run directory or its settings cannot be written
+         */
+        private void execute(final Path outputDirectory) throws IOException {
+            final Path runDirectory = Files.createDirectories(outputDirectory.resolve(getName()));
+            saveSettings(runDirectory);
+
+            final String directory = runDirectory.toString();
+            switch (algorithm) {
+                case BFD:
+                    new BFDProgram(directory, cloudFederation, workloadsNumber, seed, clockSkipAhead, profiling);
+                    break;
+                case FFD:
+                    new FFDProgram(directory, cloudFederation, workloadsNumber, seed, clockSkipAhead, profiling);
+                    break;
+                case CRA_DP:
+                    new CraDpProgram(directory, cloudFederation, workloadsNumber, seed, clockSkipAhead, profiling);
+                    break;
+                case OEMACS:
+                    new Liu2016Program(directory, cloudFederation, workloadsNumber, seed, clockSkipAhead, profiling);
+                    break;
+                case UACS:
+                    new Liu2017Program(directory, cloudFederation, liveVmMigration, workloadsNumber, seed, clockSkipAhead, profiling);
+                    break;
+                case OUR_ACS:
+                    new OurAcsProgram(directory, cloudFederation, liveVmMigration, workloadsNumber, seed, clockSkipAhead, profiling, this::createOurAcs);
+                    break;
+                default:
+                    throw new IllegalStateException("The requested program was not found!");
+            }
+        }
+
+        private OurAcs createOurAcs(final double ovuThreshold) {
+            return new OurAcs((int) acsParameters[0], (int) acsParameters[1], (int) acsParameters[2],
+                acsParameters[3], acsParameters[4], acsParameters[5], ovuThreshold)
+                .setParallelColony(acsParallelColony);
+        }
+
+        /**
+         * Saves the settings of the run into its directory, beside its results.
+         */
+        private void saveSettings(final Path runDirectory) throws IOException {
+            final Properties settings = new Properties();
+            settings.setProperty(ALGORITHMS, algorithm.toString());
+            settings.setProperty(FEDERATION, cloudFederation ? "on" : "off");
+            settings.setProperty(MIGRATION, liveVmMigration ? "on" : "off");
+            settings.setProperty(WORKLOADS, String.valueOf(workloadsNumber));
+            settings.setProperty(SEEDS, String.valueOf(seed));
+            settings.setProperty(SKIP_AHEAD, clockSkipAhead ? "on" : "off");
+            settings.setProperty(PROFILE, profiling ? "on" : "off");
+            if (acsParameters != null) {
+                final List<String> keys = Arrays.asList(ACS_G, ACS_A, ACS_BETA, ACS_Q0, ACS_P, ACS_W);
+                for (int i = 0; i < keys.size(); i++) {
+                    settings.setProperty(keys.get(i), String.valueOf(acsParameters[i]));
+                }
+
+                settings.setProperty(ACS_PARALLEL, acsParallelColony ? "on" : "off");
+            }
+
+            try (OutputStream outputStream = Files.newOutputStream(runDirectory.resolve("run.properties"))) {
+                settings.store(outputStream, getName());
+            }
+        }
+
+        public MainClass.PROGRAM getAlgorithm() {
+            return algorithm;
+        }
+
+        public boolean isCloudFederation() {
+            return cloudFederation;
+        }
+
+        public boolean isLiveVmMigration() {
+            return liveVmMigration;
+        }
+
+        public int getWorkloadsNumber() {
+            return workloadsNumber;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public boolean isClockSkipAhead() {
+            return clockSkipAhead;
+        }
+
+        public boolean isProfiling() {
+            return profiling;
+        }
+    }
+}
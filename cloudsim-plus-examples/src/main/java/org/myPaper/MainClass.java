@@ -4,17 +4,24 @@ import org.myPaper.programs.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Scanner;
 
 public class MainClass {
     private static final Logger LOGGER = LoggerFactory.getLogger(MainClass.class.getSimpleName());
-    private enum PROGRAM{BFD, FFD, CRA_DP, OEMACS, UACS, OUR_ACS};
+    public enum PROGRAM{BFD, FFD, CRA_DP, OEMACS, UACS, OUR_ACS};
     private static String directory = null;
     private static int workloadsNumber = -1;
 
-    public static void main(String[] arg) {
+    public static void main(String[] arg) throws IOException {
+        //Runs a matrix of experiments without user interaction, see the BatchRunner
+        if (arg.length > 0) {
+            final int failedRuns = BatchRunner.fromArgs(arg).run();
+            System.exit(failedRuns == 0 ? 0 : 1);
+        }
+
         LOGGER.info("Welcome to CloudSim Plus Simulation Toolkit.");
         LOGGER.info("Please choose one of the following programs for running the simulator: \n{}",
             "1. The BFD (Best Fit Decreasing) algorithm \n" +
@@ -0,0 +1,223 @@
+package org.myPaper.acsAlgorithms;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * An index of hosts by their residual number of PEs and residual amount of memory (RAM) which is used by the ACS
+ * algorithms to find the candidate hosts of a VM without scanning the whole allowed host list.
+ * <p>
+ * The index is a segment tree over the hosts (in the order of the given host list) where each node keeps the maximum
+ * residual PEs and the maximum residual memory of its hosts. Therefore, a query only visits the subtrees which may
+ * contain a host that fits the given VM shape, and each update is done in a logarithmic time. Since the tree is
+ * traversed from left to right, the candidate hosts are returned in the same order of the given host list.
+ * </p>
+ * Note that the index only considers the number of PEs and the amount of memory, hence the other constraints (such as
+ * MIPS, storage, bandwidth or over-utilization threshold) are checked by a given predicate on the hosts the index finds.
+ * Just the hosts which pass such a predicate are counted towards the size of the candidate list, thus a bounded list
+ * only misses suitable hosts when it is full.
+ */
+public class HostCandidateIndex {
+    /**
+     * @see #getHostList()
+     */
+    private final List<Host> HOST_LIST;
+
+    /**
+     * The dense index of each host.
+     */
+    private final Map<Host, Integer> HOST_INDEX_MAP;
+
+    /**
+     * The number of leaves of the segment tree which is a power of two.
+     */
+    private final int LEAVES;
+
+    /**
+     * The maximum residual PEs of each node of the segment tree.
+     */
+    private final double[] maxResidualPes;
+
+    /**
+     * The maximum residual memory of each node of the segment tree.
+     */
+    private final double[] maxResidualRam;
+
+    /**
+     * Creates a new host candidate index.
+     *
+     * @param hostList    the list of hosts
+     * @param residualPes a function that gives the current residual number of PEs of a host
+     * @param residualRam a function that gives the current residual amount of memory of a host
+     */
+    public HostCandidateIndex(final List<Host> hostList,
+                              final ToDoubleFunction<Host> residualPes,
+                              final ToDoubleFunction<Host> residualRam) {
+        HOST_LIST = Collections.unmodifiableList(new ArrayList<>(Objects.requireNonNull(hostList)));
+        HOST_INDEX_MAP = new HashMap<>(HOST_LIST.size() * 2);
+        for (int i = 0; i < HOST_LIST.size(); i++) {
+            HOST_INDEX_MAP.put(HOST_LIST.get(i), i);
+        }
+
+        int leaves = 1;
+        while (leaves < HOST_LIST.size()) {
+            leaves *= 2;
+        }
+
+        LEAVES = leaves;
+        maxResidualPes = new double[2 * LEAVES];
+        maxResidualRam = new double[2 * LEAVES];
+        Arrays.fill(maxResidualPes, Double.NEGATIVE_INFINITY);
+        Arrays.fill(maxResidualRam, Double.NEGATIVE_INFINITY);
+
+        for (int i = 0; i < HOST_LIST.size(); i++) {
+            maxResidualPes[LEAVES + i] = residualPes.applyAsDouble(HOST_LIST.get(i));
+            maxResidualRam[LEAVES + i] = residualRam.applyAsDouble(HOST_LIST.get(i));
+        }
+
+        for (int node = LEAVES - 1; node > 0; node--) {
+            pull(node);
+        }
+    }
+
+    /**
+     * Creates a copy of the given index which shares its host list.
+     *
+     * @param origin the origin index
+     */
+    private HostCandidateIndex(final HostCandidateIndex origin) {
+        HOST_LIST = origin.HOST_LIST;
+        HOST_INDEX_MAP = origin.HOST_INDEX_MAP;
+        LEAVES = origin.LEAVES;
+        maxResidualPes = origin.maxResidualPes.clone();
+        maxResidualRam = origin.maxResidualRam.clone();
+    }
+
+    /**
+     * Gets a new independent copy of this index.
+     *
+     * @return a copy of this index
+     */
+    public HostCandidateIndex copy() {
+        return new HostCandidateIndex(this);
+    }
+
+    /**
+     * Gets the list of indexed hosts.
+     *
+     * @return the host list
+     */
+    public List<Host> getHostList() {
+        return HOST_LIST;
+    }
+
+    /**
+     * Updates the residual resources of the given host.
+     *
+     * @param host        the host
+     * @param residualPes the new residual number of PEs
+     * @param residualRam the new residual amount of memory
+     */
+    public void update(final Host host, final double residualPes, final double residualRam) {
+        Integer hostIndex = HOST_INDEX_MAP.get(host);
+        if (hostIndex == null) {
+            throw new IllegalStateException("The given host is not recorded in the host candidate index!");
+        }
+
+        int node = LEAVES + hostIndex;
+        maxResidualPes[node] = residualPes;
+        maxResidualRam[node] = residualRam;
+
+        for (node /= 2; node > 0; node /= 2) {
+            pull(node);
+        }
+    }
+
+    /**
+     * Recomputes the maximum residual resources of the given node from its children.
+     *
+     * @param node the node of the segment tree
+     */
+    private void pull(final int node) {
+        maxResidualPes[node] = Math.max(maxResidualPes[2 * node], maxResidualPes[2 * node + 1]);
+        maxResidualRam[node] = Math.max(maxResidualRam[2 * node], maxResidualRam[2 * node + 1]);
+    }
+
+    /**
+     * Gets a bounded list of candidate hosts that can fit the number of PEs and the amount of memory of the given VM
+     * and pass the given suitability check.
+     *
+     * @param vm                the VM
+     * @param suitable          a predicate that checks the other constraints of a host that fits the PEs and memory
+     * @param candidateListSize the maximum number of candidate hosts
+     * @return the list of candidate hosts
+     */
+    public List<Host> getCandidateHostList(final Vm vm, final Predicate<Host> suitable, final int candidateListSize) {
+        return getCandidateHostList(vm.getNumberOfPes(), vm.getRam().getCapacity(), suitable, candidateListSize);
+    }
+
+    /**
+     * Gets a bounded list of candidate hosts which have at least the given number of residual PEs and the given amount
+     * of residual memory and pass the given suitability check. The scan goes on until the given number of hosts pass
+     * the check or all hosts that fit the PEs and memory are checked.
+     *
+     * @param pes               the requested number of PEs
+     * @param ram               the requested amount of memory
+     * @param suitable          a predicate that checks the other constraints of a host that fits the PEs and memory
+     * @param candidateListSize the maximum number of candidate hosts
+     * @return the list of candidate hosts
+     */
+    public List<Host> getCandidateHostList(final double pes,
+                                           final double ram,
+                                           final Predicate<Host> suitable,
+                                           final int candidateListSize) {
+        if (candidateListSize <= 0) {
+            throw new IllegalStateException("The candidate list size must be greater than zero!");
+        }
+
+        List<Host> candidateHostList = new ArrayList<>();
+        if (!HOST_LIST.isEmpty()) {
+            collectCandidateHosts(1, pes, ram, suitable, candidateListSize, candidateHostList);
+        }
+
+        return candidateHostList;
+    }
+
+    /**
+     * Collects the candidate hosts of the subtree of the given node from left to right.
+     *
+     * @param node              the node of the segment tree
+     * @param pes               the requested number of PEs
+     * @param ram               the requested amount of memory
+     * @param suitable          a predicate that checks the other constraints of a host that fits the PEs and memory
+     * @param candidateListSize the maximum number of candidate hosts
+     * @param candidateHostList the list where the candidate hosts are added to
+     */
+    private void collectCandidateHosts(final int node,
+                                       final double pes,
+                                       final double ram,
+                                       final Predicate<Host> suitable,
+                                       final int candidateListSize,
+                                       final List<Host> candidateHostList) {
+        if (candidateHostList.size() >= candidateListSize ||
+            maxResidualPes[node] < pes || maxResidualRam[node] < ram) {
+            return;
+        }
+
+        if (node >= LEAVES) {
+            final Host host = HOST_LIST.get(node - LEAVES);
+            if (suitable.test(host)) {
+                candidateHostList.add(host);
+            }
+
+            return;
+        }
+
+        collectCandidateHosts(2 * node, pes, ram, suitable, candidateListSize, candidateHostList);
+        collectCandidateHosts(2 * node + 1, pes, ram, suitable, candidateListSize, candidateHostList);
+    }
+}
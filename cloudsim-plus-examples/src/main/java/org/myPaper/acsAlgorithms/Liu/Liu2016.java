@@ -3,6 +3,7 @@ package org.myPaper.acsAlgorithms.Liu;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.myPaper.acsAlgorithms.HostCandidateIndex;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -119,6 +120,7 @@ public class Liu2016 extends LiuAbstract {
                                   final Map<Vm, Host> globalBestSolutionMap) {
         Map<Vm, Host> localBestSolution = globalBestSolutionMap;
         Map<Vm, PheromoneInformationBetweenVmPairs> localVmPheromoneInformationMap = copyPheromoneInformation(vmPheromoneInformationVmPairsMap);
+        final HostCandidateIndex allowedHostCandidateIndex = createHostCandidateIndex(allowedHostList);
 
         //Starting the ants
         for (int ant = 1; ant <= getNumberOfAnts(); ant++) {
@@ -132,6 +134,7 @@ public class Liu2016 extends LiuAbstract {
 
             //The new added VMs to hosts will be saved at this map
             Map<Host, List<Vm>> hostNewVmListMap = new HashMap<>();
+            HostCandidateIndex hostCandidateIndex = allowedHostCandidateIndex.copy();
 
             //It shows the generated solution by this ant obeyed both CPU and Memory (Ram) constraints or not
             boolean cpuAndMemoryConstraints = true;
@@ -140,7 +143,7 @@ public class Liu2016 extends LiuAbstract {
             for (Vm vm : shuffledVmList) {
                 //Finding a list of suitable hosts for this VM
                 List<Host> suitableHostList =
-                    getSuitableHostList(vm, hostNewVmListMap, allowedHostList);
+                    getSuitableHostList(vm, hostNewVmListMap, hostCandidateIndex);
 
                 suitableHostList.subList(0, Math.min(suitableHostList.size(), M_t));
 
@@ -151,6 +154,7 @@ public class Liu2016 extends LiuAbstract {
                         findASuitableOverloadedHost(vm, hostNewVmListMap, allowedHostList);
                     hostNewVmListMap.putIfAbsent(suitableOverloadedHost, new ArrayList<>());
                     hostNewVmListMap.get(suitableOverloadedHost).add(vm);
+                    updateHostCandidateIndex(hostCandidateIndex, suitableOverloadedHost, hostNewVmListMap);
                     continue;
                 }
 
@@ -162,6 +166,7 @@ public class Liu2016 extends LiuAbstract {
                     vmList.size(),
                     localVmPheromoneInformationMap);
                 hostNewVmListMap.get(host).add(vm);
+                updateHostCandidateIndex(hostCandidateIndex, host, hostNewVmListMap);
             }
 
             Map<Vm, Host> newSolution = convertHostNewVmListMapToSolutionMap(hostNewVmListMap);
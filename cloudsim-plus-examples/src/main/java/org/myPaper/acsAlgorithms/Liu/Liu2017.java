@@ -3,6 +3,8 @@ package org.myPaper.acsAlgorithms.Liu;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.myPaper.acsAlgorithms.HostCandidateIndex;
+import org.myPaper.acsAlgorithms.ParetoArchive;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -128,6 +130,7 @@ public class Liu2017 extends LiuAbstract {
                                         final Map<Vm, PheromoneInformationBetweenVmPairs> vmPheromoneInformationVmPairsMap) {
         List<Map<Vm, Host>> solutionMapList = new ArrayList<>();
         Map<Vm, PheromoneInformationBetweenVmPairs> localVmPheromoneInformationMap = copyPheromoneInformation(vmPheromoneInformationVmPairsMap);
+        final HostCandidateIndex allowedHostCandidateIndex = createHostCandidateIndex(allowedHostList);
 
         //Starting the ants
         for (int ant = 1; ant <= getNumberOfAnts(); ant++) {
@@ -139,12 +142,13 @@ public class Liu2017 extends LiuAbstract {
 
             //The new added VMs to hosts will be saved at this map
             Map<Host, List<Vm>> hostNewVmListMap = new HashMap<>();
+            HostCandidateIndex hostCandidateIndex = allowedHostCandidateIndex.copy();
 
             //Iterating the VM list
             for (Vm vm : vmList) {
                 //Finding a list of suitable hosts for this VM
                 List<Host> suitableHostList =
-                    getSuitableHostList(vm, hostNewVmListMap, allowedHostList);
+                    getSuitableHostList(vm, hostNewVmListMap, hostCandidateIndex);
 
                 suitableHostList.subList(0, Math.min(suitableHostList.size(), M_g));
 
@@ -164,6 +168,7 @@ public class Liu2017 extends LiuAbstract {
                     allowedHostList.size(),
                     localVmPheromoneInformationMap);
                 hostNewVmListMap.get(host).add(vm);
+                updateHostCandidateIndex(hostCandidateIndex, host, hostNewVmListMap);
             }
 
             currentAntSolutionMap = convertHostNewVmListMapToSolutionMap(hostNewVmListMap);
@@ -284,48 +289,17 @@ public class Liu2017 extends LiuAbstract {
     }
 
     /**
-     * Sorts the given solutions according to the non-dominated sortation policy.
+     * Sorts the given solutions according to the non-dominated sortation policy. The objectives are the total power
+     * consumption and the number of VM migrations of each solution.
      *
      * @param solutionList the list of solutions
      * @return non-dominated solutions in the first front (Pareto front)
+     * @see ParetoArchive#getNonDominatedSolutions(List, java.util.function.Function, java.util.function.Function)
      */
     private List<Map<Vm, Host>> sortNonDominatedSolutions(List<Map<Vm, Host>> solutionList) {
-        Map<Map<Vm, Host>, Double> solutionPowerConsumptionMap = new HashMap<>();
-        Map<Map<Vm, Host>, Integer> solutionNumberOfMigrationMap = new HashMap<>();
-
-        solutionList.forEach(solution -> {
-            solutionPowerConsumptionMap.put(solution, getSolutionTotalPowerConsumption(solution));
-            solutionNumberOfMigrationMap.put(solution, getMigrationMapOfSolution(solution).size());
-        });
-
-        List<Map<Vm, Host>> nonDominatedSolutionsInFirstFront = new ArrayList<>();
-
-        SourceLoop:
-        for (Map<Vm, Host> sourceSolution : solutionList) {
-
-            if (nonDominatedSolutionsInFirstFront.parallelStream()
-                .anyMatch(solution -> solution.equals(sourceSolution))) {
-                continue ;
-            }
-            for (Map<Vm, Host> targetSolution : solutionList) {
-                if (sourceSolution.equals(targetSolution)) {
-                    continue ;
-                }
-
-                if (solutionPowerConsumptionMap.get(targetSolution) <= solutionPowerConsumptionMap.get(sourceSolution) &&
-                    solutionNumberOfMigrationMap.get(targetSolution) <= solutionNumberOfMigrationMap.get(sourceSolution)) {
-
-                    if (solutionPowerConsumptionMap.get(targetSolution) < solutionPowerConsumptionMap.get(sourceSolution) ||
-                        solutionNumberOfMigrationMap.get(targetSolution) < solutionNumberOfMigrationMap.get(sourceSolution)) {
-                        continue SourceLoop;
-                    }
-                }
-            }
-
-            nonDominatedSolutionsInFirstFront.add(sourceSolution);
-        }
-
-        return nonDominatedSolutionsInFirstFront;
+        return ParetoArchive.getNonDominatedSolutions(solutionList,
+            solution -> new double[]{getSolutionTotalPowerConsumption(solution), getMigrationMapOfSolution(solution).size()},
+            solution -> solution);
     }
 
     /**
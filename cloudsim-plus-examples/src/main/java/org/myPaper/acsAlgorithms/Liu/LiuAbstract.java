@@ -4,6 +4,8 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.myPaper.acsAlgorithms.HostCandidateIndex;
+import org.myPaper.acsAlgorithms.PlacementSolution;
 import org.myPaper.additionalClasses.NormalizeZeroOne;
 import org.myPaper.additionalClasses.SortMap;
 
@@ -20,6 +22,7 @@ public abstract class LiuAbstract implements Liu {
     private double beta; //is a predefined parameter that controls the relative importance of heuristic information (beta > 0)
     private double overutilizationThreshold;
     private Map<Vm, PheromoneInformationBetweenVmPairs> LAST_VM_PHEROMONE_INFORMATION_MAP;
+    private int candidateListSize; //The maximum number of candidate hosts for each VM
 
     /**
      * OurAcs abstract class.
@@ -54,6 +57,7 @@ public abstract class LiuAbstract implements Liu {
         GLOBAL_PHEROMONE_DECAY = gld;
         this.beta = beta;
         overutilizationThreshold = 1;
+        candidateListSize = Integer.MAX_VALUE;
 
         LAST_VM_PHEROMONE_INFORMATION_MAP = new HashMap<>();
     }
@@ -195,53 +199,106 @@ public abstract class LiuAbstract implements Liu {
     }
 
     /**
-     * Gets a list of suitable hosts for the given VM.
+     * Gets the maximum number of candidate hosts that are considered for each VM during the solution construction
+     * (the ACS candidate list). Just the hosts which are suitable for the VM count towards this size. By default, all
+     * the allowed hosts which fit the VM are considered.
+     *
+     * @return the candidate list size
+     */
+    public int getCandidateListSize() {
+        return candidateListSize;
+    }
+
+    /**
+     * Sets the maximum number of candidate hosts that are considered for each VM during the solution construction.
+     *
+     * @param candidateListSize the candidate list size (greater than zero)
+     */
+    public void setCandidateListSize(int candidateListSize) {
+        if (candidateListSize <= 0) {
+            throwIllegalState("The candidate list size must be greater than zero", "setCandidateListSize");
+        }
+
+        this.candidateListSize = candidateListSize;
+    }
+
+    /**
+     * Creates a new index of the given hosts by their current residual PEs and memory.
+     *
+     * @param allowedHostList list of allowed hosts at this datacenter
+     * @return the host candidate index
+     * @see #updateHostCandidateIndex(HostCandidateIndex, Host, Map)
+     */
+    protected HostCandidateIndex createHostCandidateIndex(List<Host> allowedHostList) {
+        return new HostCandidateIndex(allowedHostList,
+            host -> getHostTotalAvailablePes(host, null),
+            host -> getHostTotalAvailableMemory(host, null));
+    }
+
+    /**
+     * Updates the residual PEs and memory of the given host in the given index after adding a new VM to the host.
+     *
+     * @param hostCandidateIndex the host candidate index
+     * @param host               the host which a new VM is added to
+     * @param hostNewVmListMap   the host temporary VM list map
+     */
+    protected void updateHostCandidateIndex(HostCandidateIndex hostCandidateIndex, Host host, Map<Host, List<Vm>> hostNewVmListMap) {
+        hostCandidateIndex.update(host,
+            getHostTotalAvailablePes(host, hostNewVmListMap.get(host)),
+            getHostTotalAvailableMemory(host, hostNewVmListMap.get(host)));
+    }
+
+    /**
+     * Gets a list of suitable hosts for the given VM. Only the candidate hosts which have enough residual PEs and memory
+     * for the VM are checked, until at most {@link #getCandidateListSize()} suitable hosts are found.
+     *
+     * @param vm                 the target VM
+     * @param hostNewVmListMap   the host temporary VM list map
+     * @param hostCandidateIndex the index of allowed hosts at this datacenter by their residual PEs and memory
+     * @return a list of suitable hosts
+     */
+    protected List<Host> getSuitableHostList(Vm vm, Map<Host, List<Vm>> hostNewVmListMap, HostCandidateIndex hostCandidateIndex) {
+        return hostCandidateIndex.getCandidateHostList(vm, host -> isSuitable(vm, host, hostNewVmListMap), getCandidateListSize());
+    }
+
+    /**
+     * Checks if the given host has enough resources for the given VM without being over-utilized.
      *
      * @param vm               the target VM
+     * @param host             the candidate host
      * @param hostNewVmListMap the host temporary VM list map
-     * @param allowedHostList  list of allowed hosts at this datacenter
-     * @return a list of suitable hosts
+     * @return true if the host is suitable for the VM, false otherwise
      */
-    protected List<Host> getSuitableHostList(Vm vm, Map<Host, List<Vm>> hostNewVmListMap, List<Host> allowedHostList) {
-        //List of suitable hosts for the given VM
-        List<Host> suitableHostList = new ArrayList<>();
-
-        for (Host host : allowedHostList) {
-            //checks hosts in the allowed host list for the given VM
-            double availablePes =
-                getHostTotalAvailablePes(host, hostNewVmListMap.get(host)) - vm.getNumberOfPes();
-
-            double availableMips =
-                getHostTotalAvailableMIPS(host, hostNewVmListMap.get(host)) - vm.getTotalMipsCapacity();
-
-            double availableMemory =
-                getHostTotalAvailableMemory(host, hostNewVmListMap.get(host)) - vm.getRam().getCapacity();
-
-            double availableStorage =
-                getHostTotalAvailableStorage(host, hostNewVmListMap.get(host)) - vm.getStorage().getCapacity();
-
-            double availableBw =
-                getHostTotalAvailableBandwidth(host, hostNewVmListMap.get(host)) - vm.getBw().getCapacity();
-
-            double currentMipsUtilization =
-                ((double) getHostMipsUtilization(host, hostNewVmListMap.get(host)) + vm.getTotalCpuMipsUtilization())
-                    / host.getTotalMipsCapacity();
-
-            double currentRamUtilization =
-                ((double) getHostMemoryUtilization(host, hostNewVmListMap.get(host)) + vm.getRam().getAllocatedResource())
-                    / (double) host.getRam().getCapacity();
-
-            if (availablePes >= 0 &&
-                availableMips >= 0 &&
-                currentMipsUtilization <= getOverutilizationThreshold() &&
-                availableMemory >= 0 &&
-                currentRamUtilization <= getOverutilizationThreshold() &&
-                availableStorage >= 0 && availableBw >= 0) {
-                suitableHostList.add(host);
-            }
-        }
+    private boolean isSuitable(Vm vm, Host host, Map<Host, List<Vm>> hostNewVmListMap) {
+        double availablePes =
+            getHostTotalAvailablePes(host, hostNewVmListMap.get(host)) - vm.getNumberOfPes();
+
+        double availableMips =
+            getHostTotalAvailableMIPS(host, hostNewVmListMap.get(host)) - vm.getTotalMipsCapacity();
+
+        double availableMemory =
+            getHostTotalAvailableMemory(host, hostNewVmListMap.get(host)) - vm.getRam().getCapacity();
+
+        double availableStorage =
+            getHostTotalAvailableStorage(host, hostNewVmListMap.get(host)) - vm.getStorage().getCapacity();
+
+        double availableBw =
+            getHostTotalAvailableBandwidth(host, hostNewVmListMap.get(host)) - vm.getBw().getCapacity();
 
-        return suitableHostList;
+        double currentMipsUtilization =
+            ((double) getHostMipsUtilization(host, hostNewVmListMap.get(host)) + vm.getTotalCpuMipsUtilization())
+                / host.getTotalMipsCapacity();
+
+        double currentRamUtilization =
+            ((double) getHostMemoryUtilization(host, hostNewVmListMap.get(host)) + vm.getRam().getAllocatedResource())
+                / (double) host.getRam().getCapacity();
+
+        return availablePes >= 0 &&
+            availableMips >= 0 &&
+            currentMipsUtilization <= getOverutilizationThreshold() &&
+            availableMemory >= 0 &&
+            currentRamUtilization <= getOverutilizationThreshold() &&
+            availableStorage >= 0 && availableBw >= 0;
     }
 
     /**
@@ -779,12 +836,17 @@ public abstract class LiuAbstract implements Liu {
     }
 
     /**
-     * Converts the solution map to the hostNewVmListMap.
+     * Converts the solution map to the hostNewVmListMap. If the given solution is a {@link PlacementSolution}, its
+     * precomputed inverse index is used.
      *
      * @param solution the target solution
      * @return hostNewVmListMap
      */
     protected Map<Host, List<Vm>> convertSolutionMapToHostNewVmListMap(Map<Vm, Host> solution) {
+        if (solution instanceof PlacementSolution) {
+            return ((PlacementSolution) solution).getHostVmListMap();
+        }
+
         Map<Host, List<Vm>> hostNewVmListMap = new HashMap<>();
 
         for (Map.Entry<Vm, Host> vmHostEntry : solution.entrySet()) {
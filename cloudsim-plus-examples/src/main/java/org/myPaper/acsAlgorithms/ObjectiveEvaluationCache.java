@@ -0,0 +1,161 @@
+package org.myPaper.acsAlgorithms;
+
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.power.models.PowerModel;
+import org.cloudbus.cloudsim.power.models.PowerModelSpecPower;
+import org.myPaper.datacenter.DatacenterPowerSupplyOverheadPowerAware;
+import org.myPaper.datacenter.DatacenterPro;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An evaluation cache which keeps the values that are needed for scoring the objectives of VM placement solutions
+ * during one decision (i.e., at one simulation time). It is supposed to be created at the beginning of a decision and
+ * discarded at its end, since the cached values are not refreshed. The cache holds:
+ * <ul>
+ *     <li>power versus CPU utilization tables per host type (a {@link PowerModelSpecPower} class), which are
+ *     shared by all the caches since they never change;</li>
+ *     <li>the current power consumption of each host;</li>
+ *     <li>the current IT power consumption and outside temperature of each datacenter, which are used to compute
+ *     the datacenter dynamic PUE.</li>
+ * </ul>
+ * This class is thread-safe, so it can be used by the ants that are running in parallel.
+ */
+public class ObjectiveEvaluationCache {
+    /**
+     * The number of CPU utilization steps of the power tables, i.e., the tables have a resolution of 0.0001.
+     */
+    private static final int POWER_TABLE_STEPS = 10_000;
+
+    /**
+     * The power consumption of a host in sleep mode in Watt.
+     */
+    private static final double SLEEP_MODE_POWER_CONSUMPTION = 10;
+
+    /**
+     * The power versus CPU utilization tables of each host type.
+     */
+    private static final Map<Class<? extends PowerModel>, double[]> POWER_TABLE_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * The current power consumption of each host.
+     */
+    private final Map<Host, Double> hostCurrentPowerMap;
+
+    /**
+     * The current IT power consumption of each datacenter.
+     */
+    private final Map<Datacenter, Double> datacenterITPowerConsumptionMap;
+
+    /**
+     * The current outside temperature of each datacenter.
+     */
+    private final Map<Datacenter, Double> datacenterOutsideTemperatureMap;
+
+    /**
+     * Creates a new evaluation cache for one decision.
+     */
+    public ObjectiveEvaluationCache() {
+        hostCurrentPowerMap = new ConcurrentHashMap<>();
+        datacenterITPowerConsumptionMap = new ConcurrentHashMap<>();
+        datacenterOutsideTemperatureMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the power consumption of the given host at the given CPU utilization in Watt. The power is read from the
+     * power table of the host type if the host has a {@link PowerModelSpecPower} model; otherwise the host power model
+     * is used directly.
+     *
+     * @param host        the host
+     * @param utilization the CPU utilization in scale [0-1]
+     * @return the host power consumption in Watt
+     */
+    public double getPower(final Host host, final double utilization) {
+        if (utilization < 0 || utilization > 1) {
+            throw new IllegalArgumentException(
+                String.format("Utilization value must be between 0 and 1. The given value was %f", utilization));
+        }
+
+        final PowerModel powerModel = host.getPowerModel();
+        if (!(powerModel instanceof PowerModelSpecPower)) {
+            return powerModel.getPower(utilization);
+        }
+
+        final double[] powerTable = getPowerTable(powerModel);
+        final double step = utilization * POWER_TABLE_STEPS;
+        final int lower = (int) step;
+        if (lower >= POWER_TABLE_STEPS) {
+            return powerTable[POWER_TABLE_STEPS];
+        }
+
+        return powerTable[lower] + (powerTable[lower + 1] - powerTable[lower]) * (step - lower);
+    }
+
+    /**
+     * Gets the maximum power consumption of the given host in Watt.
+     *
+     * @param host the host
+     * @return the host maximum power consumption in Watt
+     */
+    public double getMaxPower(final Host host) {
+        final PowerModel powerModel = host.getPowerModel();
+        return powerModel instanceof PowerModelSpecPower ? getPowerTable(powerModel)[POWER_TABLE_STEPS] : powerModel.getMaxPower();
+    }
+
+    /**
+     * Gets the current power consumption of the given host in Watt, considering the sleep mode power consumption
+     * if the host is not active.
+     *
+     * @param host the host
+     * @return the host current power consumption in Watt
+     */
+    public double getCurrentPower(final Host host) {
+        return hostCurrentPowerMap.computeIfAbsent(host,
+            key -> key.isActive() ? key.getPowerModel().getPower() : SLEEP_MODE_POWER_CONSUMPTION);
+    }
+
+    /**
+     * Gets the current outside temperature of the given datacenter in centigrade.
+     *
+     * @param datacenter the datacenter
+     * @return the outside temperature in centigrade
+     */
+    public double getOutsideTemperature(final DatacenterPro datacenter) {
+        return datacenterOutsideTemperatureMap.computeIfAbsent(datacenter, key -> datacenter.getOutsideTemperature());
+    }
+
+    /**
+     * Gets the dynamic PUE of the given datacenter if the given amount of power consumption is added to it.
+     *
+     * @param datacenter            the datacenter
+     * @param addedPowerConsumption the extra amount of power consumption that might be added to the datacenter
+     * @return the datacenter's dynamic PUE in range >= 1
+     * @see DatacenterPro#getDatacenterDynamicPUE(double)
+     */
+    public double getDatacenterDynamicPUE(final DatacenterPro datacenter, final double addedPowerConsumption) {
+        final DatacenterPowerSupplyOverheadPowerAware powerSupply = datacenter.getPowerSupplyOverheadPowerAware();
+        final double itPowerConsumption =
+            datacenterITPowerConsumptionMap.computeIfAbsent(datacenter, key -> powerSupply.getITPowerConsumption());
+
+        return powerSupply.getDynamicPUE(itPowerConsumption, addedPowerConsumption, getOutsideTemperature(datacenter));
+    }
+
+    /**
+     * Gets the power table of the type of the given power model.
+     *
+     * @param powerModel the power model
+     * @return the power table
+     */
+    private static double[] getPowerTable(final PowerModel powerModel) {
+        return POWER_TABLE_MAP.computeIfAbsent(powerModel.getClass(), key -> {
+            final double[] powerTable = new double[POWER_TABLE_STEPS + 1];
+            for (int i = 0; i <= POWER_TABLE_STEPS; i++) {
+                powerTable[i] = powerModel.getPower((double) i / POWER_TABLE_STEPS);
+            }
+
+            return powerTable;
+        });
+    }
+}
@@ -0,0 +1,362 @@
+package org.myPaper.acsAlgorithms.OurAcsAlgorithm;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.myPaper.acsAlgorithms.HostCandidateIndex;
+
+import java.util.*;
+
+/**
+ * An incremental capacity ledger of a list of hosts which is used by the ants of our ACS algorithm. The ledger is built
+ * once from the live state of the hosts, where the resources of the requested VMs that are already placed on a host
+ * are released, and then it is updated by constant time deltas whenever a requested VM is placed on a host.
+ * <p>
+ * Each ant must work on its own {@link #copy() copy} of the ledger; the per-VM demands and the per-host capacities are
+ * shared between the copies and only the remaining resources are copied.
+ */
+public class HostCapacityLedger {
+    /**
+     * @see #getHostList()
+     */
+    private final List<Host> HOST_LIST;
+
+    /**
+     * The dense index of each host.
+     */
+    private final Map<Host, Integer> HOST_INDEX_MAP;
+
+    /**
+     * The dense index of each requested VM.
+     */
+    private final Map<Vm, Integer> VM_INDEX_MAP;
+
+    /**
+     * The demands of the requested VMs which are indexed by their dense indexes.
+     */
+    private final double[] VM_PES;
+    private final double[] VM_MIPS;
+    private final double[] VM_RAM;
+    private final double[] VM_STORAGE;
+    private final double[] VM_BW;
+    private final double[] VM_CPU_UTILIZATION;
+    private final double[] VM_RESERVED_MIPS;
+    private final double[] VM_RESERVED_RAM;
+
+    /**
+     * The remaining resources and the utilization of the hosts which are indexed by their dense indexes.
+     */
+    private final double[] availablePes;
+    private final double[] availableMips;
+    private final double[] availableRam;
+    private final double[] availableStorage;
+    private final double[] availableBw;
+    private final double[] mipsUtilization;
+    private final double[] ramUtilization;
+
+    /**
+     * The number of requested VMs that are placed on each host through this ledger.
+     */
+    private final int[] numberOfPlacedVms;
+
+    /**
+     * The index of hosts by their residual PEs and memory which is kept in sync with this ledger.
+     */
+    private final HostCandidateIndex hostCandidateIndex;
+
+    /**
+     * Creates a new capacity ledger for the given hosts according to their current state.
+     *
+     * @param hostList                 the list of hosts
+     * @param requestedVmList          the list of VMs that are requested to be placed on the given hosts
+     * @param overUtilizationThreshold the CPU over-utilization threshold which is used to reserve resources for the
+     *                                 VMs that are not created yet
+     */
+    public HostCapacityLedger(final List<Host> hostList, final List<Vm> requestedVmList, final double overUtilizationThreshold) {
+        HOST_LIST = Collections.unmodifiableList(new ArrayList<>(Objects.requireNonNull(hostList)));
+        HOST_INDEX_MAP = createIndexMap(HOST_LIST);
+        VM_INDEX_MAP = createIndexMap(Objects.requireNonNull(requestedVmList));
+
+        final int numberOfVms = VM_INDEX_MAP.size();
+        VM_PES = new double[numberOfVms];
+        VM_MIPS = new double[numberOfVms];
+        VM_RAM = new double[numberOfVms];
+        VM_STORAGE = new double[numberOfVms];
+        VM_BW = new double[numberOfVms];
+        VM_CPU_UTILIZATION = new double[numberOfVms];
+        VM_RESERVED_MIPS = new double[numberOfVms];
+        VM_RESERVED_RAM = new double[numberOfVms];
+
+        VM_INDEX_MAP.forEach((vm, i) -> {
+            VM_PES[i] = vm.getNumberOfPes();
+            VM_MIPS[i] = vm.getTotalMipsCapacity();
+            VM_RAM[i] = vm.getRam().getCapacity();
+            VM_STORAGE[i] = vm.getStorage().getCapacity();
+            VM_BW[i] = vm.getBw().getCapacity();
+            VM_CPU_UTILIZATION[i] = vm.getTotalCpuMipsUtilization();
+            VM_RESERVED_MIPS[i] = vm.isCreated() ? vm.getTotalCpuMipsUtilization() :
+                vm.getTotalMipsCapacity() * overUtilizationThreshold;
+            VM_RESERVED_RAM[i] = vm.isCreated() && vm.getRam().getAllocatedResource() != 0 ?
+                vm.getRam().getAllocatedResource() : vm.getRam().getCapacity() * overUtilizationThreshold;
+        });
+
+        final int numberOfHosts = HOST_LIST.size();
+        availablePes = new double[numberOfHosts];
+        availableMips = new double[numberOfHosts];
+        availableRam = new double[numberOfHosts];
+        availableStorage = new double[numberOfHosts];
+        availableBw = new double[numberOfHosts];
+        mipsUtilization = new double[numberOfHosts];
+        ramUtilization = new double[numberOfHosts];
+        numberOfPlacedVms = new int[numberOfHosts];
+
+        for (int h = 0; h < numberOfHosts; h++) {
+            final Host host = HOST_LIST.get(h);
+            availablePes[h] = host.getFreePesNumber();
+            availableMips[h] = host.getTotalAvailableMips();
+            availableRam[h] = host.getRam().getAvailableResource();
+            availableStorage[h] = host.getStorage().getAvailableResource();
+            availableBw[h] = host.getBw().getAvailableResource();
+            mipsUtilization[h] = host.getCpuMipsUtilization();
+
+            for (Vm vm : host.getVmList()) {
+                final double ramInUse = vm.isCreated() ? vm.getRam().getAllocatedResource() :
+                    vm.getRam().getCapacity() * overUtilizationThreshold;
+                final Integer i = VM_INDEX_MAP.get(vm);
+
+                if (i == null) {
+                    ramUtilization[h] += ramInUse;
+                } else {
+                    //the requested VMs are going to be reallocated, so their resources are released
+                    availablePes[h] += VM_PES[i];
+                    availableMips[h] += VM_MIPS[i];
+                    availableRam[h] += VM_RAM[i];
+                    availableStorage[h] += VM_STORAGE[i];
+                    availableBw[h] += VM_BW[i];
+                    mipsUtilization[h] -= VM_CPU_UTILIZATION[i];
+                }
+            }
+        }
+
+        hostCandidateIndex = new HostCandidateIndex(HOST_LIST,
+            host -> availablePes[HOST_INDEX_MAP.get(host)],
+            host -> availableRam[HOST_INDEX_MAP.get(host)]);
+    }
+
+    /**
+     * Creates a copy of the given ledger which shares its per-VM demands and its per-host capacities.
+     *
+     * @param origin the origin ledger
+     */
+    private HostCapacityLedger(final HostCapacityLedger origin) {
+        HOST_LIST = origin.HOST_LIST;
+        HOST_INDEX_MAP = origin.HOST_INDEX_MAP;
+        VM_INDEX_MAP = origin.VM_INDEX_MAP;
+        VM_PES = origin.VM_PES;
+        VM_MIPS = origin.VM_MIPS;
+        VM_RAM = origin.VM_RAM;
+        VM_STORAGE = origin.VM_STORAGE;
+        VM_BW = origin.VM_BW;
+        VM_CPU_UTILIZATION = origin.VM_CPU_UTILIZATION;
+        VM_RESERVED_MIPS = origin.VM_RESERVED_MIPS;
+        VM_RESERVED_RAM = origin.VM_RESERVED_RAM;
+
+        availablePes = origin.availablePes.clone();
+        availableMips = origin.availableMips.clone();
+        availableRam = origin.availableRam.clone();
+        availableStorage = origin.availableStorage.clone();
+        availableBw = origin.availableBw.clone();
+        mipsUtilization = origin.mipsUtilization.clone();
+        ramUtilization = origin.ramUtilization.clone();
+        numberOfPlacedVms = origin.numberOfPlacedVms.clone();
+        hostCandidateIndex = origin.hostCandidateIndex.copy();
+    }
+
+    /**
+     * Assigns dense indexes to the given objects according to their order in the list.
+     *
+     * @param objectList the list of objects
+     * @param <T>        the type of objects
+     * @return the index map
+     */
+    private static <T> Map<T, Integer> createIndexMap(final List<T> objectList) {
+        Map<T, Integer> indexMap = new HashMap<>(objectList.size() * 2);
+        for (T object : objectList) {
+            indexMap.putIfAbsent(object, indexMap.size());
+        }
+
+        return Collections.unmodifiableMap(indexMap);
+    }
+
+    /**
+     * Gets a new independent copy of this ledger.
+     *
+     * @return a copy of this ledger
+     */
+    public HostCapacityLedger copy() {
+        return new HostCapacityLedger(this);
+    }
+
+    /**
+     * Gets the list of hosts which are recorded in this ledger.
+     *
+     * @return the host list
+     */
+    public List<Host> getHostList() {
+        return HOST_LIST;
+    }
+
+    /**
+     * Gets the dense index of the given host.
+     *
+     * @param host the host
+     * @return the host index
+     */
+    private int getHostIndex(final Host host) {
+        Integer hostIndex = HOST_INDEX_MAP.get(host);
+        if (hostIndex == null) {
+            throw new IllegalStateException("The given host is not recorded in the host capacity ledger!");
+        }
+
+        return hostIndex;
+    }
+
+    /**
+     * Gets the dense index of the given VM.
+     *
+     * @param vm the VM
+     * @return the VM index
+     */
+    private int getVmIndex(final Vm vm) {
+        Integer vmIndex = VM_INDEX_MAP.get(vm);
+        if (vmIndex == null) {
+            throw new IllegalStateException("The given VM is not requested from the host capacity ledger!");
+        }
+
+        return vmIndex;
+    }
+
+    /**
+     * Checks if the given VM fits in the remaining resources of the given host without exceeding the CPU
+     * over-utilization threshold.
+     *
+     * @param vm                       the VM
+     * @param host                     the host
+     * @param overUtilizationThreshold the CPU over-utilization threshold
+     * @return true if the host is suitable for the VM, false otherwise
+     */
+    public boolean isSuitable(final Vm vm, final Host host, final double overUtilizationThreshold) {
+        final int v = getVmIndex(vm);
+        final int h = getHostIndex(host);
+
+        return availablePes[h] - VM_PES[v] >= 0 &&
+            availableMips[h] - VM_MIPS[v] >= 0 &&
+            (mipsUtilization[h] + VM_CPU_UTILIZATION[v]) / host.getTotalMipsCapacity() <= overUtilizationThreshold &&
+            availableRam[h] - VM_RAM[v] >= 0 &&
+            availableStorage[h] - VM_STORAGE[v] >= 0 &&
+            availableBw[h] - VM_BW[v] >= 0;
+    }
+
+    /**
+     * Places the given VM on the given host and updates the remaining resources of the host.
+     *
+     * @param vm   the VM
+     * @param host the host
+     */
+    public void place(final Vm vm, final Host host) {
+        final int v = getVmIndex(vm);
+        final int h = getHostIndex(host);
+
+        availablePes[h] -= VM_PES[v];
+        availableMips[h] -= VM_MIPS[v];
+        availableRam[h] -= VM_RAM[v];
+        availableStorage[h] -= VM_STORAGE[v];
+        availableBw[h] -= VM_BW[v];
+        mipsUtilization[h] += VM_RESERVED_MIPS[v];
+        ramUtilization[h] += VM_RESERVED_RAM[v];
+        numberOfPlacedVms[h]++;
+        hostCandidateIndex.update(host, availablePes[h], availableRam[h]);
+    }
+
+    /**
+     * Gets a bounded list of candidate hosts which are {@link #isSuitable(Vm, Host, double) suitable} for the given VM,
+     * in the order of the host list of this ledger.
+     *
+     * @param vm                       the VM
+     * @param overUtilizationThreshold the CPU over-utilization threshold
+     * @param candidateListSize        the maximum number of candidate hosts
+     * @return the list of candidate hosts
+     */
+    public List<Host> getCandidateHostList(final Vm vm, final double overUtilizationThreshold, final int candidateListSize) {
+        final int v = getVmIndex(vm);
+        return hostCandidateIndex.getCandidateHostList(VM_PES[v], VM_RAM[v],
+            host -> isSuitable(vm, host, overUtilizationThreshold), candidateListSize);
+    }
+
+    /**
+     * Gets the number of requested VMs that are placed on the given host through this ledger.
+     *
+     * @param host the host
+     * @return the number of placed VMs
+     */
+    public int getNumberOfPlacedVms(final Host host) {
+        return numberOfPlacedVms[getHostIndex(host)];
+    }
+
+    /**
+     * Gets the list of hosts that at least one requested VM is placed on them through this ledger.
+     *
+     * @return the list of used hosts
+     */
+    public List<Host> getUsedHostList() {
+        List<Host> usedHostList = new ArrayList<>();
+        for (int h = 0; h < HOST_LIST.size(); h++) {
+            if (numberOfPlacedVms[h] > 0) {
+                usedHostList.add(HOST_LIST.get(h));
+            }
+        }
+
+        return usedHostList;
+    }
+
+    /**
+     * Gets the MIPS utilization of the given host.
+     *
+     * @param host the host
+     * @return the host MIPS utilization
+     */
+    public double getMipsUtilization(final Host host) {
+        return mipsUtilization[getHostIndex(host)];
+    }
+
+    /**
+     * Gets the MIPS utilization of the given host if the given VM is placed on it.
+     *
+     * @param host the host
+     * @param vm   the VM which may be placed on the host
+     * @return the host MIPS utilization
+     */
+    public double getMipsUtilization(final Host host, final Vm vm) {
+        return getMipsUtilization(host) + VM_RESERVED_MIPS[getVmIndex(vm)];
+    }
+
+    /**
+     * Gets the memory utilization of the given host.
+     *
+     * @param host the host
+     * @return the host memory utilization
+     */
+    public double getMemoryUtilization(final Host host) {
+        return ramUtilization[getHostIndex(host)];
+    }
+
+    /**
+     * Gets the memory utilization of the given host if the given VM is placed on it.
+     *
+     * @param host the host
+     * @param vm   the VM which may be placed on the host
+     * @return the host memory utilization
+     */
+    public double getMemoryUtilization(final Host host, final Vm vm) {
+        return getMemoryUtilization(host) + VM_RESERVED_RAM[getVmIndex(vm)];
+    }
+}
@@ -4,6 +4,9 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.myPaper.acsAlgorithms.DatacenterSolutionEntry;
+import org.myPaper.acsAlgorithms.ObjectiveEvaluationCache;
+import org.myPaper.acsAlgorithms.ParetoArchive;
+import org.myPaper.acsAlgorithms.PlacementSolution;
 import org.myPaper.additionalClasses.NormalizeZeroOne;
 import org.myPaper.datacenter.DatacenterPro;
 
@@ -17,8 +20,35 @@ public class KneePointSelectionPolicy {
      */
     private final List<Vm> requestedVmList;
 
+    /**
+     * @see #getEvaluationCache()
+     */
+    private final ObjectiveEvaluationCache EVALUATION_CACHE;
+
     public KneePointSelectionPolicy(final List<Vm> vmList) {
+        this(vmList, new ObjectiveEvaluationCache());
+    }
+
+    /**
+     * Creates a knee point selection policy which shares the given evaluation cache, e.g., with the ACS algorithm that
+     * generates the solutions of the same decision.
+     *
+     * @param vmList          the list of requested VMs
+     * @param evaluationCache the evaluation cache of the current decision
+     */
+    public KneePointSelectionPolicy(final List<Vm> vmList, final ObjectiveEvaluationCache evaluationCache) {
         requestedVmList = vmList;
+        EVALUATION_CACHE = Objects.requireNonNull(evaluationCache);
+    }
+
+    /**
+     * Gets the evaluation cache which keeps the power tables, the host power consumptions and the datacenter PUE
+     * parameters of the current decision.
+     *
+     * @return the evaluation cache
+     */
+    public ObjectiveEvaluationCache getEvaluationCache() {
+        return EVALUATION_CACHE;
     }
 
     /**
@@ -37,9 +67,6 @@ public class KneePointSelectionPolicy {
      * @return the knee point
      */
     public Map<Vm, Host> getKneePoint(final List<DatacenterSolutionEntry> datacenterSolutionListMap, final boolean nonDominatedSortation) {
-        //Reference Point
-        double referencePint = 1;
-
         //Do a non dominated sortation and get the pareto front
         List<DatacenterSolutionEntry> nonDominatedSolutions;
         if (nonDominatedSortation) {
@@ -52,6 +79,46 @@ public class KneePointSelectionPolicy {
             return nonDominatedSolutions.get(0).getSolution();
         };
 
+        //Record the hypervolume of each solution in the following map
+        Map<Map<Vm, Host>, Double> solutionHypervolumeMap = new HashMap<>();
+        for (DatacenterSolutionEntry datacenterSolutionEntry : nonDominatedSolutions) {
+            solutionHypervolumeMap.put(datacenterSolutionEntry.getSolution(), getHypervolume(getSolutionObjectives(datacenterSolutionEntry)));
+        }
+
+        //Return the solution with the highest amount of hypervolume
+        return Collections.max(solutionHypervolumeMap.entrySet(), Map.Entry.comparingByValue()).getKey();
+    }
+
+    /**
+     * Selects the knee point of the given Pareto archive, using the objective vectors which are already cached by the
+     * archive.
+     *
+     * @param paretoArchive the Pareto archive which is created by {@link #createParetoArchive(int)}
+     * @return the knee point
+     * @see #getKneePoint(List, boolean)
+     */
+    public Map<Vm, Host> getKneePoint(final ParetoArchive<DatacenterSolutionEntry> paretoArchive) {
+        if (paretoArchive.isEmpty()) {
+            throwIllegalState("The given Pareto archive could not be empty", "getKneePoint");
+        }
+
+        return Collections.max(paretoArchive.getSolutionObjectivesMap().entrySet(),
+            Comparator.comparingDouble(solutionObjectivesEntry -> getHypervolume(solutionObjectivesEntry.getValue())))
+            .getKey().getSolution();
+    }
+
+    /**
+     * Gets the hypervolume of the given objective vector between the origin and the reference point (1, 1, 1) after
+     * normalizing the objectives.
+     *
+     * @param objectives the objective vector of a solution
+     * @return the hypervolume of the solution
+     * @see #getSolutionObjectives(DatacenterSolutionEntry)
+     */
+    private double getHypervolume(final double[] objectives) {
+        //Reference Point
+        double referencePint = 1;
+
         double minimumIncreaseInPowerConsumption = 0;
 
         double maximumIncreaseInPowerConsumption = 10_000;//10 KW
@@ -66,31 +133,16 @@ public class KneePointSelectionPolicy {
 
         double maximumIncreaseInCost = 10_000;//100$
 
-        //Record the hypervolume of each solution in the following map
-        Map<Map<Vm, Host>, Double> solutionHypervolumeMap = new HashMap<>();
-        for (DatacenterSolutionEntry datacenterSolutionEntry : nonDominatedSolutions) {
-            Datacenter datacenter = datacenterSolutionEntry.getDatacenter();
-            Map<Vm, Host> solution = datacenterSolutionEntry.getSolution();
-
-            double solutionTotalPowerConsumption = getSolutionTotalIncreasePowerConsumption(solution, datacenter);
-
-            double totalPowerConsumptionNormalized =
-                NormalizeZeroOne.normalize(solutionTotalPowerConsumption, maximumIncreaseInPowerConsumption, minimumIncreaseInPowerConsumption);
-            double totalCarbonFootprintNormalized =
-                NormalizeZeroOne.normalize(getTotalCarbonEmission(solutionTotalPowerConsumption, datacenter),
-                    maximumIncreaseCarbonFootprint, minimumIncreaseInCarbonFootprint);
-            double totalCostNormalized =
-                NormalizeZeroOne.normalize(getTotalCost(solutionTotalPowerConsumption, datacenter), maximumIncreaseInCost, minimumIncreaseInCost);
+        double totalPowerConsumptionNormalized =
+            NormalizeZeroOne.normalize(objectives[0], maximumIncreaseInPowerConsumption, minimumIncreaseInPowerConsumption);
+        double totalCarbonFootprintNormalized =
+            NormalizeZeroOne.normalize(objectives[1], maximumIncreaseCarbonFootprint, minimumIncreaseInCarbonFootprint);
+        double totalCostNormalized =
+            NormalizeZeroOne.normalize(objectives[2], maximumIncreaseInCost, minimumIncreaseInCost);
 
-            double hypervolume = (referencePint - totalPowerConsumptionNormalized) *
-                (referencePint - totalCarbonFootprintNormalized) *
-                (referencePint - totalCostNormalized);
-
-            solutionHypervolumeMap.put(solution, hypervolume);
-        }
-
-        //Return the solution with the highest amount of hypervolume
-        return Collections.max(solutionHypervolumeMap.entrySet(), Map.Entry.comparingByValue()).getKey();
+        return (referencePint - totalPowerConsumptionNormalized) *
+            (referencePint - totalCarbonFootprintNormalized) *
+            (referencePint - totalCostNormalized);
     }
 
     /**
@@ -99,64 +151,45 @@ public class KneePointSelectionPolicy {
      *
      * @param datacenterSolutionListMap the list of different solutions at different datacenters
      * @return non-dominated solutions in the first front (Pareto front)
+     * @see #getSolutionObjectives(DatacenterSolutionEntry)
      */
     public List<DatacenterSolutionEntry> getNonDominatedSortation(final List<DatacenterSolutionEntry> datacenterSolutionListMap) {
-        //The It infrastructures power consumption + datacenter overhead power consumption
-        Map<DatacenterSolutionEntry, Double> solutionIncreaseInPowerConsumptionMap = new HashMap<>();
-
-        //The carbon footprint of power consumption
-        Map<DatacenterSolutionEntry, Double> solutionCarbonFootprintMap = new HashMap<>();
-
-        //The energy cost ($) + the carbon tax ($)
-        Map<DatacenterSolutionEntry, Double> solutionTotalCost = new HashMap<>();
-
-        for (DatacenterSolutionEntry datacenterSolutionEntry : datacenterSolutionListMap) {
-            Datacenter datacenter = datacenterSolutionEntry.getDatacenter();
-            Map<Vm, Host> solution = datacenterSolutionEntry.getSolution();
-
-            double solutionTotalIncreaseInPowerConsumption = getSolutionTotalIncreasePowerConsumption(solution, datacenter);
-
-            solutionIncreaseInPowerConsumptionMap.put(datacenterSolutionEntry, solutionTotalIncreaseInPowerConsumption);
-            solutionCarbonFootprintMap.put(datacenterSolutionEntry, getTotalCarbonEmission(solutionTotalIncreaseInPowerConsumption, datacenter));
-            solutionTotalCost.put(datacenterSolutionEntry, getTotalCost(solutionTotalIncreaseInPowerConsumption, datacenter));
-        }
-
-        List<DatacenterSolutionEntry> nonDominatedSolutionsInFirstFront = new ArrayList<>();
-
-        SourceLoop:
-        for (DatacenterSolutionEntry entrySource : datacenterSolutionListMap) {
-            Map<Vm, Host> sourceSolution = entrySource.getSolution();
-
-            if (nonDominatedSolutionsInFirstFront.parallelStream()
-                .anyMatch(datacenterSolutionEntry -> datacenterSolutionEntry.getSolution().equals(sourceSolution))) {
-                continue ;
-            }
-
-            for (DatacenterSolutionEntry entryTarget : datacenterSolutionListMap) {
-                Map<Vm, Host> targetSolution = entryTarget.getSolution();
-
-                if (sourceSolution.equals(targetSolution)) {
-                    continue ;
-                }
-
-                if (solutionIncreaseInPowerConsumptionMap.get(entryTarget) <= solutionIncreaseInPowerConsumptionMap.get(entrySource) &&
-                    solutionCarbonFootprintMap.get(entryTarget) <= solutionCarbonFootprintMap.get(entrySource) &&
-                    solutionTotalCost.get(entryTarget) <= solutionTotalCost.get(entrySource)) {
-
-                    if (solutionIncreaseInPowerConsumptionMap.get(entryTarget) < solutionIncreaseInPowerConsumptionMap.get(entrySource) ||
-                        solutionCarbonFootprintMap.get(entryTarget) < solutionCarbonFootprintMap.get(entrySource) ||
-                        solutionTotalCost.get(entryTarget) < solutionTotalCost.get(entrySource)) {
-                        //The target solution dominates the source solution
-                        continue SourceLoop;
-                    }
-                }
-            }
+        return ParetoArchive.getNonDominatedSolutions(datacenterSolutionListMap,
+            this::getSolutionObjectives,
+            DatacenterSolutionEntry::getSolution);
+    }
 
-            //None of the solutions dominate the source solution
-            nonDominatedSolutionsInFirstFront.add(entrySource);
-        }
+    /**
+     * Creates an empty Pareto archive which compares the solutions according to the objectives of this policy.
+     *
+     * @param capacity the maximum number of solutions that the archive keeps
+     * @return the Pareto archive
+     * @see #getSolutionObjectives(DatacenterSolutionEntry)
+     */
+    public ParetoArchive<DatacenterSolutionEntry> createParetoArchive(final int capacity) {
+        return new ParetoArchive<>(this::getSolutionObjectives, DatacenterSolutionEntry::getSolution, capacity);
+    }
 
-        return nonDominatedSolutionsInFirstFront;
+    /**
+     * Gets the objective vector of the given solution which consists of:
+     * <ol>
+     *     <li>the IT infrastructures power consumption + datacenter overhead power consumption;</li>
+     *     <li>the carbon footprint of power consumption;</li>
+     *     <li>the energy cost ($) + the carbon tax ($).</li>
+     * </ol>
+     *
+     * @param datacenterSolutionEntry the solution
+     * @return the objective vector of the solution
+     */
+    public double[] getSolutionObjectives(final DatacenterSolutionEntry datacenterSolutionEntry) {
+        Datacenter datacenter = datacenterSolutionEntry.getDatacenter();
+        double solutionTotalIncreaseInPowerConsumption =
+            getSolutionTotalIncreasePowerConsumption(datacenterSolutionEntry.getSolution(), datacenter);
+
+        return new double[]{
+            solutionTotalIncreaseInPowerConsumption,
+            getTotalCarbonEmission(solutionTotalIncreaseInPowerConsumption, datacenter),
+            getTotalCost(solutionTotalIncreaseInPowerConsumption, datacenter)};
     }
 
     /**
@@ -170,14 +203,17 @@ public class KneePointSelectionPolicy {
     public double getSolutionTotalIncreasePowerConsumption(final Map<Vm, Host> solution, Datacenter datacenter) {
         Map<Host, List<Vm>> hostNewVmListMap = convertSolutionMapToHostTemporaryVmListMap(solution);
 
-        double currentITPowerConsumption = getSolutionCurrentITPowerConsumption(solution);
-        double newITPowerConsumption = hostNewVmListMap.keySet().parallelStream()
-            .mapToDouble(host -> host.getPowerModel().getPower(getHostNewCpuUtilization(host, solution)))
-            .sum();
+        double currentITPowerConsumption = getSolutionCurrentITPowerConsumption(hostNewVmListMap);
+        double newITPowerConsumption = 0;
+        for (Map.Entry<Host, List<Vm>> hostNewVmListEntry : hostNewVmListMap.entrySet()) {
+            Host host = hostNewVmListEntry.getKey();
+            newITPowerConsumption += getEvaluationCache().getPower(host, getHostNewCpuUtilization(host, hostNewVmListEntry.getValue()));
+        }
 
         double extraITPowerConsumption = newITPowerConsumption - currentITPowerConsumption;
 
-        double solutionOverhead = extraITPowerConsumption * (getDatacenterPro(datacenter).getDatacenterDynamicPUE(extraITPowerConsumption) - 1);
+        double solutionOverhead = extraITPowerConsumption *
+            (getEvaluationCache().getDatacenterDynamicPUE(getDatacenterPro(datacenter), extraITPowerConsumption) - 1);
 
         return extraITPowerConsumption + solutionOverhead;
     }
@@ -185,15 +221,16 @@ public class KneePointSelectionPolicy {
     /**
      * Gets the solution current power consumption (solution without temporary Vms) in Watt-Sec.
      *
-     * @param solution the solution
+     * @param hostNewVmListMap the host temporary Vm list map of the solution
      * @return the solution current power consumption in Watt-Sec
      */
-    private double getSolutionCurrentITPowerConsumption(final Map<Vm, Host> solution) {
-        Map<Host, List<Vm>> hostNewVmListMap = convertSolutionMapToHostTemporaryVmListMap(solution);
+    private double getSolutionCurrentITPowerConsumption(final Map<Host, List<Vm>> hostNewVmListMap) {
+        double currentITPowerConsumption = 0;
+        for (Host host : hostNewVmListMap.keySet()) {
+            currentITPowerConsumption += getEvaluationCache().getCurrentPower(host);
+        }
 
-        return hostNewVmListMap.keySet().parallelStream()
-            .mapToDouble(host -> host.isActive() ? host.getPowerModel().getPower() : 10)
-            .sum();
+        return currentITPowerConsumption;
     }
 
     /**
@@ -274,12 +311,17 @@ public class KneePointSelectionPolicy {
     }
 
     /**
-     * Converts the solution map to the host temporary Vm list map.
+     * Converts the solution map to the host temporary Vm list map. If the given solution is a {@link PlacementSolution},
+     * its precomputed inverse index is used.
      *
      * @param solution the target solution
      * @return host temporary Vm list map
      */
     protected Map<Host, List<Vm>> convertSolutionMapToHostTemporaryVmListMap(Map<Vm, Host> solution) {
+        if (solution instanceof PlacementSolution) {
+            return ((PlacementSolution) solution).getHostVmListMap();
+        }
+
         Map<Host, List<Vm>> hostTemporaryVmListMap = new HashMap<>();
 
         for (Map.Entry<Vm, Host> vmHostEntry : solution.entrySet()) {
@@ -301,10 +343,24 @@ public class KneePointSelectionPolicy {
      * @return the new CPU utilization of the target host in scale [0-1]
      */
     protected double getHostNewCpuUtilization(final Host host, final Map<Vm, Host> solution) {
+        if (solution instanceof PlacementSolution) {
+            return getHostNewCpuUtilization(host, ((PlacementSolution) solution).getVmList(host));
+        }
+
+        return getHostNewCpuUtilization(host, convertSolutionMapToHostTemporaryVmListMap(solution).get(host));
+    }
+
+    /**
+     * Gets the host's new CPU utilization according to its current mips usage and the given temporary VM list.
+     *
+     * @param host            the target host
+     * @param temporaryVmList the new list of VMs for the target host which are not created yet
+     * @return the new CPU utilization of the target host in scale [0-1]
+     */
+    private double getHostNewCpuUtilization(final Host host, final List<Vm> temporaryVmList) {
         //The new CPU utilization of the given host
-        List<Vm> temporaryVmLit = convertSolutionMapToHostTemporaryVmListMap(solution).get(host);
         double utilization =
-            getHostMipsUtilization(host, temporaryVmLit) / host.getTotalMipsCapacity();
+            getHostMipsUtilization(host, temporaryVmList) / host.getTotalMipsCapacity();
 
         //Round the host's overall CPU utilization to the nearest floating pont (up to 4 places)
         utilization = roundDouble.apply(utilization, 4);
@@ -4,14 +4,19 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.myPaper.acsAlgorithms.DatacenterSolutionEntry;
+import org.myPaper.acsAlgorithms.ObjectiveEvaluationCache;
+import org.myPaper.acsAlgorithms.ParetoArchive;
+import org.myPaper.acsAlgorithms.PlacementSolution;
 import org.myPaper.additionalClasses.NormalizeZeroOne;
 import org.myPaper.additionalClasses.SortMap;
 import org.myPaper.datacenter.DatacenterPro;
-import org.myPaper.programs.OurAcsProgram;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * An ant colony system (ACS) algorithm that sees the VM placement problem as a combinatorial optimization problem and
@@ -27,6 +32,12 @@ import java.util.stream.Collectors;
  * If you are using this algorithm please cite the following paper:
  */
 public class OurAcs {
+    /**
+     * The name of the {@link org.cloudbus.cloudsim.core.SimulationProfiler} code section the run time of OUR-ACS is
+     * added to.
+     */
+    public static final String PROFILER_SECTION = "OUR-ACS";
+
     final int G;//the number of generations
     final int A;//the the number of ants
     final int BETA;//is a predefined parameter that controls the relative importance of heuristic information (beta > 0)
@@ -44,6 +55,61 @@ public class OurAcs {
 
     Map<Vm, Host> lastGenerationBestSolution;
 
+    /**
+     * The capacity ledger of the allowed hosts which is built at the beginning of each run and copied by each ant.
+     */
+    HostCapacityLedger hostCapacityLedger;
+
+    /**
+     * The evaluation cache of the current run which is shared with the knee point selection policy.
+     */
+    ObjectiveEvaluationCache evaluationCache;
+
+    /**
+     * The numbered VMs and allowed hosts of the current run which are shared by the pheromone matrix and the ant
+     * solutions.
+     */
+    PlacementSolution.Domain solutionDomain;
+
+    /**
+     * @see #isParallelColony()
+     */
+    private boolean parallelColony;
+
+    /**
+     * @see #getCandidateListSize()
+     */
+    private int candidateListSize = Integer.MAX_VALUE;
+
+    /**
+     * @see #getArchiveSize()
+     */
+    private int archiveSize = Integer.MAX_VALUE;
+
+    /**
+     * @see #getTimeBudget()
+     */
+    private long timeBudget = Long.MAX_VALUE;
+
+    /**
+     * @see #getEvaluationBudget()
+     */
+    private int evaluationBudget = Integer.MAX_VALUE;
+
+    /**
+     * @see #getStagnationThreshold()
+     */
+    private int stagnationThreshold = Integer.MAX_VALUE;
+
+    /**
+     * @see #getLastRunStatistics()
+     */
+    private OurAcsRunStatistics lastRunStatistics;
+
+    /**
+     * @see #getExecutionTimeList()
+     */
+    private List<Double> executionTimeList;
 
     /**
      * An ant colony system (ACS) algorithm that sees the VM placement problem as a combinatorial optimization problem and
@@ -80,12 +146,23 @@ public class OurAcs {
      * algorithm could not find any suitable solution (VM-Host mapping) for covering all the Vms in the list, it will return
      * back an empty solution. In other words, if all the VMs are not able to be created in the given datacenter, an empty
      * solution list will be returned by our ACS Algorithm.
+     * <p>
+     * The algorithm runs at most the given number of generations, but it stops earlier (anytime mode) if the
+     * {@link #getTimeBudget() time budget} has been spent, the next generation would exceed the
+     * {@link #getEvaluationBudget() evaluation budget} or the knee point has not changed for
+     * {@link #getStagnationThreshold() stagnation threshold} generations. The budgets are only checked between the
+     * generations, so the first generation is always run and a started generation is never cut. The statistics of the
+     * run are available by {@link #getLastRunStatistics()}.
+     * </p>
      *
      * @param vmList          a list of VMs that must be mapped to a new suitable list of hosts
      * @param allowedHostList the list of allowed hosts at the given datacenter
      * @param datacenter      the target datacenter
      */
     private void runOurAcs(final List<Vm> vmList, final List<Host> allowedHostList, final DatacenterPro datacenter) {
+        final long startTime = System.nanoTime();
+        final long timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(getTimeBudget());
+
         if (vmList == null || vmList.isEmpty() || allowedHostList == null || allowedHostList.isEmpty()) {
             throwIllegalState("The given vmList or allowedHostList could not be null or empty", "runOurAcs");
         }
@@ -97,21 +174,49 @@ public class OurAcs {
         requestedVmList = vmList;
         lastGenerationBestSolution = new HashMap<>();
         this.datacenter = datacenter;
+        hostCapacityLedger = new HostCapacityLedger(allowedHostList, requestedVmList, OVER_UTILIZATION_THRESHOLD);
+        evaluationCache = new ObjectiveEvaluationCache();
+        solutionDomain = new PlacementSolution.Domain(vmList, allowedHostList);
 
-        KneePointSelectionPolicy kneePointSelectionPolicy = new KneePointSelectionPolicy(requestedVmList);
-        List<DatacenterSolutionEntry> externalArchive = new ArrayList<>();
+        KneePointSelectionPolicy kneePointSelectionPolicy = new KneePointSelectionPolicy(requestedVmList, evaluationCache);
+        ParetoArchive<DatacenterSolutionEntry> externalArchive = kneePointSelectionPolicy.createParetoArchive(getArchiveSize());
 
         double initialPheromoneValue = 1 / (double) allowedHostList.size();
-        Map<Vm, PheromoneInformationBetweenVmHostPairs> pheromoneInformationMap = new HashMap<>();
-        setInitialPheromoneValue(vmList, allowedHostList, pheromoneInformationMap, initialPheromoneValue);
+        PheromoneMatrix pheromoneMatrix = new PheromoneMatrix(solutionDomain, initialPheromoneValue);
+
+        OurAcsRunStatistics.StopReason stopReason = OurAcsRunStatistics.StopReason.GENERATIONS;
+        int generation = 0;
+        int evaluations = 0;
+        int stagnantGenerations = 0;
+
+        while (generation < G) {
+            if (generation > 0) {
+                if (System.nanoTime() - startTime >= timeBudgetNanos) {
+                    stopReason = OurAcsRunStatistics.StopReason.TIME_BUDGET;
+                    break;
+                }
+
+                if (evaluations + A > getEvaluationBudget()) {
+                    stopReason = OurAcsRunStatistics.StopReason.EVALUATION_BUDGET;
+                    break;
+                }
+
+                if (stagnantGenerations >= getStagnationThreshold()) {
+                    stopReason = OurAcsRunStatistics.StopReason.STAGNATION;
+                    break;
+                }
+            }
 
-        for (int generation = 0; generation < G; generation++) {
-            List<Map<Vm, Host>> solutionMapList = runAnts(vmList, allowedHostList, pheromoneInformationMap);
+            List<PlacementSolution> solutionMapList = runAnts(vmList, pheromoneMatrix);
+            generation++;
+            evaluations += A;
 
             if (solutionMapList.isEmpty()) {
+                stagnantGenerations++;
+
                 if (!lastGenerationBestSolution.isEmpty()) {
                     //Choose the generation best solution according to the minimum power consumption policy
-                    performGlobalPheromoneUpdating(lastGenerationBestSolution, pheromoneInformationMap);
+                    performGlobalPheromoneUpdating(lastGenerationBestSolution, pheromoneMatrix);
                 }
 
                 continue;
@@ -121,368 +226,348 @@ public class OurAcs {
                 .map(solution -> new DatacenterSolutionEntry(datacenter, solution))
                 .collect(Collectors.toList());
             externalArchive.addAll(newDatacenterSolutionEntryList);
-            externalArchive = kneePointSelectionPolicy.getNonDominatedSortation(externalArchive);
 
             //Choose the generation best solution according to the minimum power consumption policy
             /*MinimumPowerSelectionPolicy minimumPowerSelectionPolicy = new MinimumPowerSelectionPolicy(getRequestedVmList());
             Map<Vm, Host> test = minimumPowerSelectionPolicy.getSolutionWithMinimumPowerConsumption(externalArchive);*/
-            lastGenerationBestSolution = kneePointSelectionPolicy.getKneePoint(externalArchive, false);
-            performGlobalPheromoneUpdating(lastGenerationBestSolution, pheromoneInformationMap);
+            Map<Vm, Host> kneePoint = kneePointSelectionPolicy.getKneePoint(externalArchive);
+            stagnantGenerations = kneePoint.equals(lastGenerationBestSolution) ? stagnantGenerations + 1 : 0;
+            lastGenerationBestSolution = kneePoint;
+            performGlobalPheromoneUpdating(lastGenerationBestSolution, pheromoneMatrix);
         }
 
+        final long runTime = System.nanoTime() - startTime;
+        lastRunStatistics = new OurAcsRunStatistics(generation,
+            evaluations,
+            externalArchive.size(),
+            runTime / 1_000_000.0,
+            stopReason);
+
+        //Attributes the run time to OUR-ACS in the profile of the simulation event that ran it
+        datacenter.getSimulation().getProfiler().addSectionProcessing(PROFILER_SECTION, runTime);
     }
 
     /**
-     * @param vmList                  the list of VMs that are looking for a list of suitable hosts
-     * @param allowedHostList         the list of allowed hosts
-     * @param pheromoneInformationMap the pheromone map between VM-Host pairs
+     * Runs all the ants of one generation. In the sequential mode, the ants are started one after another and share a
+     * single local pheromone matrix, so each ant sees the local updates of the previous ones. In the parallel colony mode,
+     * each ant builds its solution on its own worker according to a private snapshot of the given pheromone matrix; the
+     * solutions are then merged in the order of the ant indexes, so the archive receives them deterministically.
+     *
+     * @param vmList          the list of VMs that are looking for a list of suitable hosts
+     * @param pheromoneMatrix the pheromone matrix between VM-Host pairs
      * @return a list of feasible solutions if available
+     * @see #setParallelColony(boolean)
      */
-    private List<Map<Vm, Host>> runAnts(final List<Vm> vmList,
-                                        final List<Host> allowedHostList,
-                                        final Map<Vm, PheromoneInformationBetweenVmHostPairs> pheromoneInformationMap) {
-        List<Map<Vm, Host>> solutionMapList = new ArrayList<>();
-        Map<Vm, PheromoneInformationBetweenVmHostPairs> localVmPheromoneInformationMap = copyPheromoneInformation(pheromoneInformationMap);
+    private List<PlacementSolution> runAnts(final List<Vm> vmList, final PheromoneMatrix pheromoneMatrix) {
+        List<PlacementSolution> antSolutionList;
 
-        //Starting the ants
-        for (int ant = 0; ant < A; ant++) {
+        if (isParallelColony()) {
+            antSolutionList = IntStream.range(0, A).parallel()
+                .mapToObj(ant -> runAnt(vmList, pheromoneMatrix.snapshot()))
+                .collect(Collectors.toList());
+        } else {
+            PheromoneMatrix localPheromoneMatrix = pheromoneMatrix.snapshot();
+            antSolutionList = new ArrayList<>();
 
-            //Shuffle the Vm list
-            List<Vm> shuffleVmList = shuffleVmList(vmList);
+            for (int ant = 0; ant < A; ant++) {
+                antSolutionList.add(runAnt(vmList, localPheromoneMatrix));
+            }
+        }
 
-            //The new added VMs to hosts will be saved at this map
-            Map<Host, List<Vm>> hostTemporaryVmListMap = new HashMap<>();
+        return antSolutionList.stream()
+            .filter(solution -> solution.keySet().size() == vmList.size())
+            .collect(Collectors.toList());
+    }
 
-            //Iterating the VM list
-            for (Vm vm : shuffleVmList) {
-                //Finding a list of suitable hosts for this VM
-                List<Host> suitableHostList =
-                    getSuitableHostList(vm, hostTemporaryVmListMap, allowedHostList);
+    /**
+     * Runs a single ant which builds its own solution and performs the local pheromone updating on the given local
+     * pheromone matrix.
+     *
+     * @param vmList               the list of VMs that are looking for a list of suitable hosts
+     * @param localPheromoneMatrix the local pheromone matrix that is used and updated by the ant
+     * @return the ant solution which may not cover all the VMs of the given list
+     */
+    private PlacementSolution runAnt(final List<Vm> vmList, final PheromoneMatrix localPheromoneMatrix) {
+        //Shuffle the Vm list
+        List<Vm> shuffleVmList = shuffleVmList(vmList);
 
-                if (suitableHostList.isEmpty()) {
-                    continue;
-                }
+        //The remaining resources of the hosts after placing the new added VMs
+        HostCapacityLedger antCapacityLedger = hostCapacityLedger.copy();
+        int[] vmToHostIndex = solutionDomain.createEmptyVmToHostIndex();
 
-                suitableHostList.forEach(host -> hostTemporaryVmListMap.putIfAbsent(host, new ArrayList<>()));
+        //Iterating the VM list
+        for (Vm vm : shuffleVmList) {
+            //Finding a list of suitable hosts for this VM
+            List<Host> suitableHostList =
+                getSuitableHostList(vm, antCapacityLedger);
 
-                Host targetHost =
-                    selectHostForVmAccordingToConstructionRule(vm, hostTemporaryVmListMap, suitableHostList, localVmPheromoneInformationMap);
-                hostTemporaryVmListMap.get(targetHost).add(vm);
+            if (suitableHostList.isEmpty()) {
+                continue;
             }
 
-            Map<Vm, Host> currentAntSolution = Objects.requireNonNull(convertHostTemporaryVmListMapToSolutionMap(hostTemporaryVmListMap));
-            performLocalPheromoneUpdating(currentAntSolution, localVmPheromoneInformationMap);
+            Host targetHost =
+                selectHostForVmAccordingToConstructionRule(vm, antCapacityLedger, suitableHostList, localPheromoneMatrix);
+            antCapacityLedger.place(vm, targetHost);
+            vmToHostIndex[solutionDomain.requireVmIndex(vm)] = solutionDomain.requireHostIndex(targetHost);
+        }
 
-            if (currentAntSolution.keySet().size() == vmList.size()) {
-                solutionMapList.add(currentAntSolution);
-            }
+        PlacementSolution currentAntSolution = PlacementSolution.of(solutionDomain, vmToHostIndex);
 
-        }
+        performLocalPheromoneUpdating(currentAntSolution, localPheromoneMatrix);
 
-        return solutionMapList;
+        return currentAntSolution;
     }
 
     /**
-     * Gets the list of VMs are requested from the ACS algorithm to find a solution for them.
+     * Checks if the ants of each generation are run in parallel (parallel colony mode).
      *
-     * @return the requested VM list
+     * @return true if the parallel colony mode is enabled, false otherwise
+     * @see #setParallelColony(boolean)
      */
-    public List<Vm> getRequestedVmList() {
-        return requestedVmList;
+    public boolean isParallelColony() {
+        return parallelColony;
     }
 
     /**
-     * Throws a new illegal state exception including the given error message.
+     * Enables or disables the parallel colony mode. When it is enabled, the ants of each generation build their
+     * solutions concurrently, each one with a thread-local random generator and its own snapshot of the pheromone
+     * information; therefore, the local pheromone updating of an ant is not visible to the other ants of the same
+     * generation.
      *
-     * @param errorMsg   the error message
-     * @param callerName the name of the method where the error was happened
+     * @param parallelColony true to run the ants in parallel, false to run them one after another
+     * @return the Our ACS instance
      */
-    private void throwIllegalState(String errorMsg, String callerName) {
-        throw new IllegalStateException("Our ACS Algorithm: " + callerName + " " + errorMsg + "!");
+    public OurAcs setParallelColony(final boolean parallelColony) {
+        this.parallelColony = parallelColony;
+        return this;
     }
 
     /**
-     * Sets the initial pheromone value between VM and host pairs.
+     * Gets the maximum number of candidate hosts that are considered for each VM during the solution construction
+     * (the ACS candidate list). Just the hosts which are suitable for the VM count towards this size. By default, all
+     * the allowed hosts which fit the VM are considered.
      *
-     * @param vmList                  the list of VMs
-     * @param hostList                the list of hosts
-     * @param pheromoneInformationMap the pheromone information map
-     * @param value                   the initial pheromone value
+     * @return the candidate list size
      */
-    private void setInitialPheromoneValue(final List<Vm> vmList,
-                                          final List<Host> hostList,
-                                          final Map<Vm, PheromoneInformationBetweenVmHostPairs> pheromoneInformationMap,
-                                          final double value) {
-        if (vmList.isEmpty()) {
-            throwIllegalState("The given vmList could not be empty", "setInitialPheromoneLevel");
-        }
-
-        Map<Vm, PheromoneInformationBetweenVmHostPairs> pheromoneMap = vmList.parallelStream()
-            .map(vm -> new PheromoneInformationBetweenVmHostPairs(vm, value, hostList))
-            .collect(Collectors.toMap(PheromoneInformationBetweenVmHostPairs::getVm, pheromone -> pheromone));
-
-        pheromoneInformationMap.clear();
-        pheromoneInformationMap.putAll(pheromoneMap);
+    public int getCandidateListSize() {
+        return candidateListSize;
     }
 
     /**
-     * Gets the host combined Vm list which is the combination of current host Vm list that are not moved out yet and also
-     * the given temporary Vm list.
+     * Sets the maximum number of candidate hosts that are considered for each VM during the solution construction.
      *
-     * @param host            the host
-     * @param temporaryVmList the list of temporary Vms that might not be part of current host Vm list that are not move out.
-     * @return the host current Vm list
+     * @param candidateListSize the candidate list size (greater than zero)
+     * @return the Our ACS instance
      */
-    protected List<Vm> getHostCurrentVmList(final Host host, final List<Vm> temporaryVmList) {
-        List<Vm> vmList = new ArrayList<>();
-
-        if (temporaryVmList != null && !temporaryVmList.isEmpty()) {
-            vmList.addAll(temporaryVmList);
+    public OurAcs setCandidateListSize(final int candidateListSize) {
+        if (candidateListSize <= 0) {
+            throwIllegalState("The candidate list size must be greater than zero", "setCandidateListSize");
         }
 
-        List<Vm> hostRemainingVmList = host.getVmList().parallelStream()
-            .filter(vm -> temporaryVmList == null || temporaryVmList.isEmpty() || !temporaryVmList.contains(vm))
-            .filter(vm -> !getRequestedVmList().contains(vm))
-            .collect(Collectors.toList());
-
-        vmList.addAll(hostRemainingVmList);
-
-        return vmList;
+        this.candidateListSize = candidateListSize;
+        return this;
     }
 
     /**
-     * Gets host total number of reserved Pes + in use Pes.
+     * Gets the maximum number of non-dominated solutions that are kept in the external archive. By default, the
+     * archive is not bounded.
      *
-     * @param host          the target host
-     * @param hostNewVmList the host temporary VM list
-     * @return the number of available Pes at the given host
+     * @return the external archive size
      */
-    protected int getHostTotalAvailablePes(Host host, List<Vm> hostNewVmList) {
-        List<Vm> vmList = getHostCurrentVmList(host, hostNewVmList);
-
-        int totalNumberOfReservedPes = vmList.parallelStream()
-            .filter(vm -> vm.getHost() != host || getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getNumberOfPes())
-            .sum();
-
-        int totalNumberOfReallocationVmsPes = host.getVmList().parallelStream()
-            .filter(vm -> getRequestedVmList().contains(vm))
-            .mapToInt((vm -> (int) vm.getNumberOfPes()))
-            .sum();
-
-        return host.getFreePesNumber() + totalNumberOfReallocationVmsPes - totalNumberOfReservedPes;
+    public int getArchiveSize() {
+        return archiveSize;
     }
 
     /**
-     * Gets host total amount of reserved MIPS + in use MIPS.
+     * Sets the maximum number of non-dominated solutions that are kept in the external archive. If there are more
+     * non-dominated solutions, the most crowded ones are removed from the archive.
      *
-     * @param host          the target host
-     * @param hostNewVmList the host temporary VM list
-     * @return the amount of available MIPS at the given host
+     * @param archiveSize the external archive size (greater than zero)
+     * @return the Our ACS instance
+     * @see ParetoArchive
      */
-    private int getHostTotalAvailableMIPS(Host host, List<Vm> hostNewVmList) {
-        List<Vm> vmList = getHostCurrentVmList(host, hostNewVmList);
-
-        int totalAmountOfReservedMIPS = vmList.parallelStream()
-            .filter(vm -> vm.getHost() != host || getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getTotalMipsCapacity())
-            .sum();
-
-        int totalAmountOfReallocationVmsMIPS = host.getVmList().parallelStream()
-            .filter(vm -> getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getTotalMipsCapacity())
-            .sum();
+    public OurAcs setArchiveSize(final int archiveSize) {
+        if (archiveSize <= 0) {
+            throwIllegalState("The archive size must be greater than zero", "setArchiveSize");
+        }
 
-        return (int) host.getTotalAvailableMips() + totalAmountOfReallocationVmsMIPS - totalAmountOfReservedMIPS;
+        this.archiveSize = archiveSize;
+        return this;
     }
 
     /**
-     * Gets host total amount of reserved memory + in use memory.
+     * Gets the wall-clock time budget of each run. When it is spent, no more generations are started and the best
+     * knee point found so far is returned. By default, the runs are not bounded by time.
      *
-     * @param host          the target host
-     * @param hostNewVmList the host temporary VM list
-     * @return the amount of available memory at the given host
+     * @return the time budget in milliseconds
      */
-    protected int getHostTotalAvailableMemory(Host host, List<Vm> hostNewVmList) {
-        List<Vm> vmList = getHostCurrentVmList(host, hostNewVmList);
-
-        int totalAmountOfReservedMemory = vmList.parallelStream()
-            .filter(vm -> vm.getHost() != host || getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getRam().getCapacity())
-            .sum();
-
-        int totalAmountOfReallocationVmsMemory = host.getVmList().parallelStream()
-            .filter(vm -> getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getRam().getCapacity())
-            .sum();
-
-        return (int) host.getRam().getAvailableResource() + totalAmountOfReallocationVmsMemory - totalAmountOfReservedMemory;
+    public long getTimeBudget() {
+        return timeBudget;
     }
 
     /**
-     * Gets host total amount of reserved storage + in use storage.
+     * Sets the wall-clock time budget of each run.
      *
-     * @param host          the target host
-     * @param hostNewVmList the host temporary VM list
-     * @return the amount of available storage at the given host
+     * @param timeBudget the time budget in milliseconds (greater than zero)
+     * @return the Our ACS instance
+     * @see #getTimeBudget()
      */
-    private int getHostTotalAvailableStorage(Host host, List<Vm> hostNewVmList) {
-        List<Vm> vmList = getHostCurrentVmList(host, hostNewVmList);
-
-        int totalAmountOfReservedStorage = vmList.parallelStream()
-            .filter(vm -> vm.getHost() != host || getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getStorage().getCapacity())
-            .sum();
-
-        int totalAmountOfReallocationVmsStorage = host.getVmList().parallelStream()
-            .filter(vm -> getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getStorage().getCapacity())
-            .sum();
+    public OurAcs setTimeBudget(final long timeBudget) {
+        if (timeBudget <= 0) {
+            throwIllegalState("The time budget must be greater than zero", "setTimeBudget");
+        }
 
-        return (int) host.getStorage().getAvailableResource() + totalAmountOfReallocationVmsStorage - totalAmountOfReservedStorage;
+        this.timeBudget = timeBudget;
+        return this;
     }
 
     /**
-     * Gets host total amount of reserved bandwidth + in use bandwidth.
+     * Gets the maximum number of solutions that the ants may construct in each run. A generation is only started if
+     * all of its ants fit in the remaining budget. By default, the runs are not bounded by the number of evaluations.
      *
-     * @param host          the target host
-     * @param hostNewVmList the host temporary VM list map
-     * @return the amount of available bandwidth at the given host
+     * @return the evaluation budget
      */
-    private int getHostTotalAvailableBandwidth(Host host, List<Vm> hostNewVmList) {
-        List<Vm> vmList = getHostCurrentVmList(host, hostNewVmList);
-
-        int totalAmountOfReservedBw = vmList.parallelStream()
-            .filter(vm -> vm.getHost() != host || getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getBw().getCapacity())
-            .sum();
+    public int getEvaluationBudget() {
+        return evaluationBudget;
+    }
 
-        int totalAmountOfReallocationVmsBw = host.getVmList().parallelStream()
-            .filter(vm -> getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getBw().getCapacity())
-            .sum();
+    /**
+     * Sets the maximum number of solutions that the ants may construct in each run.
+     *
+     * @param evaluationBudget the evaluation budget (greater than zero)
+     * @return the Our ACS instance
+     * @see #getEvaluationBudget()
+     */
+    public OurAcs setEvaluationBudget(final int evaluationBudget) {
+        if (evaluationBudget <= 0) {
+            throwIllegalState("The evaluation budget must be greater than zero", "setEvaluationBudget");
+        }
 
-        return (int) host.getBw().getAvailableResource() + totalAmountOfReallocationVmsBw - totalAmountOfReservedBw;
+        this.evaluationBudget = evaluationBudget;
+        return this;
     }
 
     /**
-     * Gets the host MIPS utilization according to its new Vm list
+     * Gets the number of consecutive generations without any change in the knee point after which a run is stopped
+     * (early convergence stop). By default, a run is never stopped for stagnation.
      *
-     * @param host          the host
-     * @param hostNewVmList the temporary Vm list
-     * @return the host MIPS utilization
+     * @return the stagnation threshold
      */
-    private int getHostMipsUtilization(Host host, List<Vm> hostNewVmList) {
-        List<Vm> vmList = getHostCurrentVmList(host, hostNewVmList);
-
-        int totalReservedMips = vmList.parallelStream()
-            .filter(vm -> vm.getHost() != host || getRequestedVmList().contains(vm))
-            .mapToInt(vm -> vm.isCreated() ? (int) vm.getTotalCpuMipsUtilization() :
-                (int) (vm.getTotalMipsCapacity() * OVER_UTILIZATION_THRESHOLD))
-            .sum();
+    public int getStagnationThreshold() {
+        return stagnationThreshold;
+    }
 
-        int totalAmountOfReallocationVmsMips = host.getVmList().parallelStream()
-            .filter(vm -> getRequestedVmList().contains(vm))
-            .mapToInt(vm -> (int) vm.getTotalCpuMipsUtilization())
-            .sum();
+    /**
+     * Sets the number of consecutive generations without any change in the knee point after which a run is stopped.
+     *
+     * @param stagnationThreshold the stagnation threshold (greater than zero)
+     * @return the Our ACS instance
+     * @see #getStagnationThreshold()
+     */
+    public OurAcs setStagnationThreshold(final int stagnationThreshold) {
+        if (stagnationThreshold <= 0) {
+            throwIllegalState("The stagnation threshold must be greater than zero", "setStagnationThreshold");
+        }
 
-        return (int) host.getCpuMipsUtilization() - totalAmountOfReallocationVmsMips + totalReservedMips;
+        this.stagnationThreshold = stagnationThreshold;
+        return this;
     }
 
     /**
-     * Gets the host Memory utilization according to its new Vm list
+     * Gets the statistics of the last run, i.e., the last call of {@link #getBestSolution(List, DatacenterPro, List)}.
      *
-     * @param host          the host
-     * @param hostNewVmList the temporary Vm list
-     * @return the host MIPS utilization
+     * @return the statistics of the last run, or null if the algorithm has not been run yet
      */
-    public int getHostMemoryUtilization(Host host, List<Vm> hostNewVmList) {
-        List<Vm> vmList = getHostCurrentVmList(host, hostNewVmList);
+    public OurAcsRunStatistics getLastRunStatistics() {
+        return lastRunStatistics;
+    }
 
-        int totalReservedMemory = vmList.parallelStream()
-            .filter(vm -> vm.getHost() != host || getRequestedVmList().contains(vm))
-            .mapToInt(vm -> vm.isCreated() && vm.getRam().getAllocatedResource() != 0 ? (int) vm.getRam().getAllocatedResource() :
-                (int) (vm.getRam().getCapacity() * OVER_UTILIZATION_THRESHOLD))
-            .sum();
+    /**
+     * Gets the list where the run time of each call of {@link #getBestSolution(List, DatacenterPro, List)} is recorded.
+     *
+     * @return the execution time list, or null if the run times are not recorded
+     */
+    public List<Double> getExecutionTimeList() {
+        return executionTimeList;
+    }
 
-        int totalAmountOfReallocationVmsMemory = host.getVmList().parallelStream()
-            .filter(vm -> getRequestedVmList().contains(vm))
-            .mapToInt(vm -> vm.isCreated() ? (int) vm.getRam().getAllocatedResource() : (int) (vm.getRam().getCapacity() * OVER_UTILIZATION_THRESHOLD))
-            .sum();
+    /**
+     * Sets the list where the run time of each call of {@link #getBestSolution(List, DatacenterPro, List)} is recorded.
+     * The same list may be shared by the algorithm instances of different datacenters of a simulation, so it must be
+     * thread-safe when the datacenters are processed in parallel.
+     *
+     * @param executionTimeList the execution time list, or null to not record the run times
+     * @return the Our ACS instance
+     */
+    public OurAcs setExecutionTimeList(final List<Double> executionTimeList) {
+        this.executionTimeList = executionTimeList;
+        return this;
+    }
 
-        int totalMemoryUtilization = host.getVmList().parallelStream()
-            .mapToInt(vm -> vm.isCreated() ? (int) vm.getRam().getAllocatedResource() : (int) (vm.getRam().getCapacity() * OVER_UTILIZATION_THRESHOLD))
-            .sum();
+    /**
+     * Gets the list of VMs are requested from the ACS algorithm to find a solution for them.
+     *
+     * @return the requested VM list
+     */
+    public List<Vm> getRequestedVmList() {
+        return requestedVmList;
+    }
 
-        return totalMemoryUtilization - totalAmountOfReallocationVmsMemory + totalReservedMemory;
+    /**
+     * Throws a new illegal state exception including the given error message.
+     *
+     * @param errorMsg   the error message
+     * @param callerName the name of the method where the error was happened
+     */
+    private void throwIllegalState(String errorMsg, String callerName) {
+        throw new IllegalStateException("Our ACS Algorithm: " + callerName + " " + errorMsg + "!");
     }
 
     /**
-     * Gets a list of suitable hosts for the given VM.
+     * Gets a list of suitable hosts for the given VM. Only the candidate hosts which have enough residual PEs and memory
+     * for the VM are checked, until at most {@link #getCandidateListSize()} suitable hosts are found.
      *
-     * @param vm               the target VM
-     * @param hostNewVmListMap the host temporary VM list map
-     * @param allowedHostList  list of allowed hosts at this datacenter
+     * @param vm                 the target VM
+     * @param hostCapacityLedger the capacity ledger of the allowed hosts including the new added VMs
      * @return a list of suitable hosts
      */
-    private List<Host> getSuitableHostList(Vm vm, Map<Host, List<Vm>> hostNewVmListMap, List<Host> allowedHostList) {
-        //List of suitable hosts for the given VM
-        List<Host> suitableHostList = new ArrayList<>();
-
-        for (Host host : allowedHostList) {
-            //checks hosts in the allowed host list for the given VM
-            int availablePes =
-                (int) (getHostTotalAvailablePes(host, hostNewVmListMap.get(host)) - vm.getNumberOfPes());
-
-            int availableMips =
-                (int) (getHostTotalAvailableMIPS(host, hostNewVmListMap.get(host)) - vm.getTotalMipsCapacity());
-
-            int availableMemory =
-                (int) (getHostTotalAvailableMemory(host, hostNewVmListMap.get(host)) - vm.getRam().getCapacity());
-
-            int availableStorage =
-                (int) (getHostTotalAvailableStorage(host, hostNewVmListMap.get(host)) - vm.getStorage().getCapacity());
-
-            int availableBw =
-                (int) (getHostTotalAvailableBandwidth(host, hostNewVmListMap.get(host)) - vm.getBw().getCapacity());
-
-            double currentMipsUtilization =
-                ((double) getHostMipsUtilization(host, hostNewVmListMap.get(host)) + vm.getTotalCpuMipsUtilization()) / host.getTotalMipsCapacity();
-
-            if (availablePes >= 0 &&
-                availableMips >= 0 &&
-                currentMipsUtilization <= OVER_UTILIZATION_THRESHOLD &&
-                availableMemory >= 0 &&
-                availableStorage >= 0 && availableBw >= 0) {
-                suitableHostList.add(host);
-            }
-        }
-
-        return suitableHostList;
+    private List<Host> getSuitableHostList(Vm vm, HostCapacityLedger hostCapacityLedger) {
+        return hostCapacityLedger.getCandidateHostList(vm, OVER_UTILIZATION_THRESHOLD, getCandidateListSize());
     }
 
     /**
      * Gets the host total MIPS wastage.
      *
      * @param host            the host
-     * @param temporaryVmList the list of Vms that are going to be assigned to the given host
+     * @param mipsUtilization the host MIPS utilization including the VMs that are going to be assigned to it
      * @return the total MIPS wastage
      */
-    protected double getHostTotalMipsWastage(final Host host, final List<Vm> temporaryVmList) {
-        return (host.getTotalMipsCapacity() - getHostMipsUtilization(host, temporaryVmList)) /
-            host.getTotalMipsCapacity();
+    protected double getHostTotalMipsWastage(final Host host, final double mipsUtilization) {
+        return (host.getTotalMipsCapacity() - mipsUtilization) / host.getTotalMipsCapacity();
     }
 
     /**
      * Gets the host total Memory wastage.
      *
-     * @param host            the host
-     * @param temporaryVmList the list of Vms that are going to be assigned to the given host
+     * @param host              the host
+     * @param memoryUtilization the host memory utilization including the VMs that are going to be assigned to it
      * @return the total memory wastage
      */
-    protected double getHostTotalMemoryWastage(final Host host, final List<Vm> temporaryVmList) {
-        return (double) (host.getRam().getCapacity() - getHostMemoryUtilization(host, temporaryVmList)) /
-            (double) host.getRam().getCapacity();
+    protected double getHostTotalMemoryWastage(final Host host, final double memoryUtilization) {
+        return (host.getRam().getCapacity() - memoryUtilization) / (double) host.getRam().getCapacity();
+    }
+
+    /**
+     * Gets the capacity ledger of the allowed hosts after placing the VMs of the given solution.
+     *
+     * @param solution the solution
+     * @return the solution capacity ledger
+     */
+    private HostCapacityLedger getSolutionCapacityLedger(final Map<Vm, Host> solution) {
+        HostCapacityLedger solutionCapacityLedger = hostCapacityLedger.copy();
+        solution.forEach(solutionCapacityLedger::place);
+
+        return solutionCapacityLedger;
     }
 
     /**
@@ -492,13 +577,15 @@ public class OurAcs {
      * @return the total resource wastage in scale 0-1
      */
     protected double getSolutionTotalResourceWastageNormalize(Map<Vm, Host> solution) {
-        Map<Host, List<Vm>> hostNewVmList = convertSolutionMapToHostTemporaryVmListMap(solution);
+        HostCapacityLedger solutionCapacityLedger = getSolutionCapacityLedger(solution);
+        List<Host> usedHostList = solutionCapacityLedger.getUsedHostList();
 
-        double totalWastage = hostNewVmList.keySet().parallelStream()
-            .mapToDouble(host -> getHostTotalMipsWastage(host, hostNewVmList.get(host)) + getHostTotalMemoryWastage(host, hostNewVmList.get(host)))
+        double totalWastage = usedHostList.stream()
+            .mapToDouble(host -> getHostTotalMipsWastage(host, solutionCapacityLedger.getMipsUtilization(host)) +
+                getHostTotalMemoryWastage(host, solutionCapacityLedger.getMemoryUtilization(host)))
             .sum();
 
-        totalWastage = NormalizeZeroOne.normalize(totalWastage, hostNewVmList.size() * 2, 0);
+        totalWastage = NormalizeZeroOne.normalize(totalWastage, usedHostList.size() * 2, 0);
 
         return totalWastage;
     }
@@ -506,31 +593,31 @@ public class OurAcs {
     /**
      * Gets the Vm heuristic for the given host
      *
-     * @param vm                  the Vm
-     * @param host                the host
-     * @param hostTemporaryVmList the temporary Vm list of the given host
+     * @param vm                 the Vm
+     * @param host               the host
+     * @param hostCapacityLedger the capacity ledger of the hosts including the new added VMs
      * @return the Vm heuristic for the given host
      */
-    private double getHostHeuristic(final Vm vm, final Host host, final List<Vm> hostTemporaryVmList) {
-        List<Vm> hostTemporaryVmListNew = new ArrayList<>(hostTemporaryVmList);
-        hostTemporaryVmListNew.add(vm);
+    private double getHostHeuristic(final Vm vm, final Host host, final HostCapacityLedger hostCapacityLedger) {
+        final double hostCurrentMipsUtilization = hostCapacityLedger.getMipsUtilization(host);
+        final double hostFutureMipsUtilization = hostCapacityLedger.getMipsUtilization(host, vm);
 
-        final double cpuWastage = getHostTotalMipsWastage(host, hostTemporaryVmListNew);
-        final double memoryWastage = getHostTotalMemoryWastage(host, hostTemporaryVmListNew);
+        final double cpuWastage = getHostTotalMipsWastage(host, hostFutureMipsUtilization);
+        final double memoryWastage = getHostTotalMemoryWastage(host, hostCapacityLedger.getMemoryUtilization(host, vm));
 
         if (cpuWastage > 1 || memoryWastage > 1 || cpuWastage < 0 || memoryWastage < 0) {
             throwIllegalState("The CPU or Memory wastage must be between >= 0 an <= 1", "getHostHeuristic");
         }
 
-        final double hostCurrentCpuUtilization = getHostMipsUtilization(host, hostTemporaryVmList) / host.getTotalMipsCapacity();
-        final double hostFutureCpuUtilization = getHostMipsUtilization(host, hostTemporaryVmListNew) / host.getTotalMipsCapacity();
-        final double currentPowerConsumption = host.getPowerModel().getPower(hostCurrentCpuUtilization);
-        final double newPowerConsumption = host.getPowerModel().getPower(hostFutureCpuUtilization);
+        final double hostCurrentCpuUtilization = hostCurrentMipsUtilization / host.getTotalMipsCapacity();
+        final double hostFutureCpuUtilization = hostFutureMipsUtilization / host.getTotalMipsCapacity();
+        final double currentPowerConsumption = evaluationCache.getPower(host, hostCurrentCpuUtilization);
+        final double newPowerConsumption = evaluationCache.getPower(host, hostFutureCpuUtilization);
         final double increaseInPowerConsumption = newPowerConsumption - currentPowerConsumption;
         double normalizedPowerConsumption =
             NormalizeZeroOne
-                .normalize(increaseInPowerConsumption, host.getPowerModel().getMaxPower() - currentPowerConsumption, 0);
-        final int priority = hostTemporaryVmListNew.size();
+                .normalize(increaseInPowerConsumption, evaluationCache.getMaxPower(host) - currentPowerConsumption, 0);
+        final int priority = hostCapacityLedger.getNumberOfPlacedVms(host) + 1;
 
         return ((w * (1 / (normalizedPowerConsumption + 1))) + ((1 - w) * (1 / (cpuWastage + memoryWastage + 1)))) * priority;
     }
@@ -538,24 +625,24 @@ public class OurAcs {
     /**
      * Gets the VM assignment probability to the target host
      *
-     * @param vm                      the target VM
-     * @param targetHost              the target host
-     * @param hostVmList              the host temporary Vm list
-     * @param smpdh                   the sum of multiplication of the pheromone deposition and heuristic
-     * @param pheromoneInformationMap the Pheromone information map
+     * @param vm                 the target VM
+     * @param targetHost         the target host
+     * @param hostCapacityLedger the capacity ledger of the hosts including the new added VMs
+     * @param smpdh              the sum of multiplication of the pheromone deposition and heuristic
+     * @param pheromoneMatrix    the Pheromone matrix
      * @return the assignment probability
      */
     private double getAssignmentProbability(Vm vm, Host targetHost,
-                                            List<Vm> hostVmList,
+                                            HostCapacityLedger hostCapacityLedger,
                                             double smpdh,
-                                            Map<Vm, PheromoneInformationBetweenVmHostPairs> pheromoneInformationMap) {
+                                            PheromoneMatrix pheromoneMatrix) {
         if (smpdh == 0) {
             throwIllegalState("The sum of multiplication of Vm host pheromone value and heuristic could not be zero",
                 "getAssignmentProbability");
         }
 
         double multiplicationOfPheromoneAndHeuristic =
-            pheromoneInformationMap.get(vm).getPheromoneValue(targetHost) * Math.pow(getHostHeuristic(vm, targetHost, hostVmList), BETA);
+            pheromoneMatrix.getPheromoneValue(vm, targetHost) * Math.pow(getHostHeuristic(vm, targetHost, hostCapacityLedger), BETA);
 
         return multiplicationOfPheromoneAndHeuristic / smpdh;
     }
@@ -592,39 +679,38 @@ public class OurAcs {
     /**
      * Selects a suitable host for the given VM according to the construction rule.
      *
-     * @param vm                      the target VM
-     * @param hostTemporaryVmListMap  the host temporary VM list
-     * @param suitableHostList        a list of suitable hosts for the given VM
-     * @param pheromoneInformationMap the vmPheromoneInformationMap
+     * @param vm                 the target VM
+     * @param hostCapacityLedger the capacity ledger of the hosts including the new added VMs
+     * @param suitableHostList   a list of suitable hosts for the given VM
+     * @param pheromoneMatrix    the pheromone matrix
      * @return a suitable host
      */
     protected Host selectHostForVmAccordingToConstructionRule(Vm vm,
-                                                              Map<Host, List<Vm>> hostTemporaryVmListMap,
+                                                              HostCapacityLedger hostCapacityLedger,
                                                               List<Host> suitableHostList,
-                                                              Map<Vm, PheromoneInformationBetweenVmHostPairs> pheromoneInformationMap) {
+                                                              PheromoneMatrix pheromoneMatrix) {
         if (suitableHostList.size() == 1) {
             return suitableHostList.get(0);
         }
 
-        Random random = new Random();
-        double q = random.nextDouble() * 1;
+        double q = ThreadLocalRandom.current().nextDouble() * 1;
 
         if (q <= q0) {
             return Collections.max(suitableHostList,
                 Comparator.comparing(targetHost ->
-                    (pheromoneInformationMap.get(vm).getPheromoneValue(targetHost) *
-                        Math.pow(getHostHeuristic(vm, targetHost, hostTemporaryVmListMap.get(targetHost)), BETA))));
+                    (pheromoneMatrix.getPheromoneValue(vm, targetHost) *
+                        Math.pow(getHostHeuristic(vm, targetHost, hostCapacityLedger), BETA))));
         } else {
 
             //the sum of multiplication of the pheromone deposition and heuristic
-            final double smpdh = suitableHostList.parallelStream()
-                .mapToDouble(targetHost -> pheromoneInformationMap.get(vm).getPheromoneValue(targetHost) *
-                    Math.pow(getHostHeuristic(vm, targetHost, hostTemporaryVmListMap.get(targetHost)), BETA))
+            final double smpdh = suitableHostList.stream()
+                .mapToDouble(targetHost -> pheromoneMatrix.getPheromoneValue(vm, targetHost) *
+                    Math.pow(getHostHeuristic(vm, targetHost, hostCapacityLedger), BETA))
                 .sum();
 
-            Map<Host, Double> probabilityMap = suitableHostList.parallelStream()
+            Map<Host, Double> probabilityMap = suitableHostList.stream()
                 .collect(Collectors.toMap(host -> host, host ->
-                    getAssignmentProbability(vm, host, hostTemporaryVmListMap.get(host), smpdh, pheromoneInformationMap)));
+                    getAssignmentProbability(vm, host, hostCapacityLedger, smpdh, pheromoneMatrix)));
 
             Map<Host, Double> rouletteWheelMap = getAccumulatedSumMap(probabilityMap);
             return selectHostBasedOnRouletteWheelMap(rouletteWheelMap);
@@ -642,8 +728,7 @@ public class OurAcs {
             throwIllegalState("The accumulated sum map could not be empty", "selectHostBasedOnRouletteWheelMap");
         }
 
-        Random random = new Random();
-        double randomDouble = random.nextDouble() * 1;
+        double randomDouble = ThreadLocalRandom.current().nextDouble() * 1;
         double previousThreshold = 0;
 
         for (Map.Entry<Host, Double> hostProbability : rouletteWheelMap.entrySet()) {
@@ -666,80 +751,27 @@ public class OurAcs {
         return Host.NULL;
     }
 
-    /**
-     * Converts the solution map to the host temporary Vm list map.
-     *
-     * @param solution the target solution
-     * @return host temporary Vm list map
-     */
-    protected Map<Host, List<Vm>> convertSolutionMapToHostTemporaryVmListMap(Map<Vm, Host> solution) {
-        Map<Host, List<Vm>> hostTemporaryVmListMap = new HashMap<>();
-
-        for (Map.Entry<Vm, Host> vmHostEntry : solution.entrySet()) {
-            Vm vm = vmHostEntry.getKey();
-            Host host = vmHostEntry.getValue();
-
-            hostTemporaryVmListMap.putIfAbsent(host, new ArrayList<>());
-            hostTemporaryVmListMap.get(host).add(vm);
-        }
-
-        return hostTemporaryVmListMap;
-    }
-
-    /**
-     * Converts the host temporary Vm list map to the solution map.
-     *
-     * @param hostTemporaryVmListMap the host temporary Vm list map
-     * @return the solution
-     */
-    protected Map<Vm, Host> convertHostTemporaryVmListMapToSolutionMap(final Map<Host, List<Vm>> hostTemporaryVmListMap) {
-        Map<Vm, Host> solution = new HashMap<>();
-        for (Map.Entry<Host, List<Vm>> hostListEntry : hostTemporaryVmListMap.entrySet()) {
-            for (Vm vm : hostListEntry.getValue()) {
-                solution.put(vm, hostListEntry.getKey());
-            }
-        }
-
-        return solution;
-    }
-
     /**
      * Performs local updating between VM-Host pairs.
      *
-     * @param solution                the target solution
-     * @param pheromoneInformationMap the pheromone information map
+     * @param solution        the target solution
+     * @param pheromoneMatrix the pheromone matrix
      */
-    protected void performLocalPheromoneUpdating(Map<Vm, Host> solution, Map<Vm, PheromoneInformationBetweenVmHostPairs> pheromoneInformationMap) {
-        for (Map.Entry<Vm, Host> vmHostEntry : solution.entrySet()) {
-            Vm vm = vmHostEntry.getKey();
-            Host host = vmHostEntry.getValue();
-
-            double currentPheromoneValue = pheromoneInformationMap.get(vm).getPheromoneValue(host);
-            double newPheromoneValue = (1 - PHEROMONE_DECAY) * currentPheromoneValue +
-                PHEROMONE_DECAY * pheromoneInformationMap.get(vm).getInitialPheromoneValue();
-
-            pheromoneInformationMap.get(vm).updatePheromoneValue(host, newPheromoneValue);
-        }
+    protected void performLocalPheromoneUpdating(Map<Vm, Host> solution, PheromoneMatrix pheromoneMatrix) {
+        pheromoneMatrix.evaporate(solution, PHEROMONE_DECAY, pheromoneMatrix.getInitialPheromoneValue());
     }
 
     /**
      * Performs a global updating between the VM-Host pairs.
      *
-     * @param solution                the solution
-     * @param pheromoneInformationMap the pheromone information map
-     */
-    protected void performGlobalPheromoneUpdating(Map<Vm, Host> solution, Map<Vm, PheromoneInformationBetweenVmHostPairs> pheromoneInformationMap) {
-        for (Map.Entry<Vm, Host> vmHostEntry : solution.entrySet()) {
-            Vm vm = vmHostEntry.getKey();
-            Host host = vmHostEntry.getValue();
-
-            double resourceWastage = getSolutionTotalResourceWastageNormalize(solution);
-            double solutionTotalIncreaseInPowerConsumptionNormalized = getSolutionTotalIncreaseInPowerConsumptionNormalized(solution);
-            double currentPheromoneValue = pheromoneInformationMap.get(vm).getPheromoneValue(host);
-            double reinforcementValue = (1 / (resourceWastage + 1)) + (1 / (solutionTotalIncreaseInPowerConsumptionNormalized + 1));
-            double newPheromoneValue = (1 - PHEROMONE_DECAY) * currentPheromoneValue + PHEROMONE_DECAY * reinforcementValue;
-            pheromoneInformationMap.get(vm).updatePheromoneValue(host, newPheromoneValue);
-        }
+     * @param solution        the solution
+     * @param pheromoneMatrix the pheromone matrix
+     */
+    protected void performGlobalPheromoneUpdating(Map<Vm, Host> solution, PheromoneMatrix pheromoneMatrix) {
+        double resourceWastage = getSolutionTotalResourceWastageNormalize(solution);
+        double solutionTotalIncreaseInPowerConsumptionNormalized = getSolutionTotalIncreaseInPowerConsumptionNormalized(solution);
+        double reinforcementValue = (1 / (resourceWastage + 1)) + (1 / (solutionTotalIncreaseInPowerConsumptionNormalized + 1));
+        pheromoneMatrix.evaporate(solution, PHEROMONE_DECAY, reinforcementValue);
     }
 
     /**
@@ -749,15 +781,16 @@ public class OurAcs {
      * @return the total increase power consumption in Watt-S
      */
     public double getSolutionTotalIncreaseInPowerConsumptionNormalized(final Map<Vm, Host> solution) {
-        Map<Host, List<Vm>> hostNewVmListMap = convertSolutionMapToHostTemporaryVmListMap(solution);
+        HostCapacityLedger solutionCapacityLedger = getSolutionCapacityLedger(solution);
+        List<Host> usedHostList = solutionCapacityLedger.getUsedHostList();
 
-        double currentITPowerConsumption = hostNewVmListMap.keySet().parallelStream()
-            .mapToDouble(host -> host.isActive() ? host.getPowerModel().getPower() : 10)
+        double currentITPowerConsumption = usedHostList.stream()
+            .mapToDouble(evaluationCache::getCurrentPower)
             .sum();
 
-        double newITPowerConsumption = hostNewVmListMap.keySet().parallelStream()
+        double newITPowerConsumption = usedHostList.stream()
             .mapToDouble(host ->
-                host.getPowerModel().getPower(getHostMipsUtilization(host, hostNewVmListMap.get(host)) / host.getTotalMipsCapacity()))
+                evaluationCache.getPower(host, solutionCapacityLedger.getMipsUtilization(host) / host.getTotalMipsCapacity()))
             .sum();
 
         double extraITPowerConsumption = newITPowerConsumption - currentITPowerConsumption;
@@ -765,8 +798,8 @@ public class OurAcs {
         double minimumPowerIncrease = 0;
 
         double maximumPowerIncrease =
-            hostNewVmListMap.keySet().parallelStream()
-                .mapToDouble(host -> host.getPowerModel().getMaxPower())
+            usedHostList.stream()
+                .mapToDouble(evaluationCache::getMaxPower)
                 .sum() - currentITPowerConsumption;
 
         return NormalizeZeroOne.normalize(extraITPowerConsumption, maximumPowerIncrease, minimumPowerIncrease);
@@ -788,32 +821,13 @@ public class OurAcs {
      */
     private List<Vm> shuffleVmList(List<Vm> vmList) {
         List<Vm> shuffledObjectList = new ArrayList<>(vmList);
-        Collections.shuffle(shuffledObjectList);
+        Collections.shuffle(shuffledObjectList, ThreadLocalRandom.current());
         return shuffledObjectList;
     }
 
     /**
-     * Copies the given pheromone information map to a new map
-     *
-     * @param pheromoneInformationMap the pheromone information map
-     * @return a new copy of the given pheromone information map (deep copy)
-     */
-    private Map<Vm, PheromoneInformationBetweenVmHostPairs> copyPheromoneInformation(final Map<Vm, PheromoneInformationBetweenVmHostPairs>
-                                                                                         pheromoneInformationMap) {
-
-        Map<Vm, PheromoneInformationBetweenVmHostPairs> newMap = new HashMap<>();
-
-        pheromoneInformationMap.forEach((vm, pheromoneInformationBetweenVmHostPairs) -> {
-            double initialPheromoneLevel = pheromoneInformationBetweenVmHostPairs.getInitialPheromoneValue();
-            Map<Host, Double> pheromoneHostMap = pheromoneInformationBetweenVmHostPairs.getHostPheromoneMap();
-            newMap.put(vm, new PheromoneInformationBetweenVmHostPairs(vm, initialPheromoneLevel, pheromoneHostMap));
-        });
-
-        return newMap;
-    }
-
-    /**
-     * Gets the best generated solution.
+     * Gets the best generated solution, i.e., the knee point of the last generation that has been run. The run time is
+     * recorded in the {@link #getExecutionTimeList() execution time list}, if it is set.
      *
      * @param vmList          the list of Vms which want to be created or migrated.
      * @param datacenter      the datacenter
@@ -821,11 +835,10 @@ public class OurAcs {
      * @return the best solution if available, empty solution otherwise
      */
     public Optional<Map<Vm, Host>> getBestSolution(final List<Vm> vmList, final DatacenterPro datacenter, final List<Host> allowedHostList) {
-        double startTime = System.currentTimeMillis();
         runOurAcs(vmList, allowedHostList, datacenter);
-        double finishTime = System.currentTimeMillis();
-        double runTime= finishTime - startTime;
-        OurAcsProgram.ourAcsExecutionTimeList.add(runTime);
+        if (executionTimeList != null) {
+            executionTimeList.add(getLastRunStatistics().getRunTime());
+        }
         return Optional.of(lastGenerationBestSolution);
     }
 }
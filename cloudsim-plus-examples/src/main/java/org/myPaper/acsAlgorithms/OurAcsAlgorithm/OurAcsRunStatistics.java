@@ -0,0 +1,120 @@
+package org.myPaper.acsAlgorithms.OurAcsAlgorithm;
+
+/**
+ * The statistics of a single run of {@link OurAcs}, i.e., a single call of
+ * {@link OurAcs#getBestSolution(java.util.List, org.myPaper.datacenter.DatacenterPro, java.util.List)}.
+ */
+public class OurAcsRunStatistics {
+    /**
+     * The reasons that a run of Our ACS may stop for.
+     */
+    public enum StopReason {
+        /**
+         * All the generations have been run.
+         */
+        GENERATIONS,
+
+        /**
+         * The wall-clock time budget has been spent.
+         */
+        TIME_BUDGET,
+
+        /**
+         * The next generation would exceed the evaluation budget.
+         */
+        EVALUATION_BUDGET,
+
+        /**
+         * The knee point has not changed for the stagnation threshold number of generations.
+         */
+        STAGNATION
+    }
+
+    /**
+     * @see #getGenerations()
+     */
+    private final int GENERATIONS;
+
+    /**
+     * @see #getEvaluations()
+     */
+    private final int EVALUATIONS;
+
+    /**
+     * @see #getArchiveSize()
+     */
+    private final int ARCHIVE_SIZE;
+
+    /**
+     * @see #getRunTime()
+     */
+    private final double RUN_TIME;
+
+    /**
+     * @see #getStopReason()
+     */
+    private final StopReason STOP_REASON;
+
+    public OurAcsRunStatistics(final int generations,
+                               final int evaluations,
+                               final int archiveSize,
+                               final double runTime,
+                               final StopReason stopReason) {
+        GENERATIONS = generations;
+        EVALUATIONS = evaluations;
+        ARCHIVE_SIZE = archiveSize;
+        RUN_TIME = runTime;
+        STOP_REASON = stopReason;
+    }
+
+    /**
+     * Gets the number of generations that have been run.
+     *
+     * @return the number of generations
+     */
+    public int getGenerations() {
+        return GENERATIONS;
+    }
+
+    /**
+     * Gets the number of solutions that have been constructed by the ants, i.e., the number of ants that have been run.
+     *
+     * @return the number of evaluations
+     */
+    public int getEvaluations() {
+        return EVALUATIONS;
+    }
+
+    /**
+     * Gets the number of non-dominated solutions of the external archive at the end of the run.
+     *
+     * @return the archive size
+     */
+    public int getArchiveSize() {
+        return ARCHIVE_SIZE;
+    }
+
+    /**
+     * Gets the wall-clock time that has been spent by the run.
+     *
+     * @return the run time in milliseconds
+     */
+    public double getRunTime() {
+        return RUN_TIME;
+    }
+
+    /**
+     * Gets the reason that the run has stopped for.
+     *
+     * @return the stop reason
+     */
+    public StopReason getStopReason() {
+        return STOP_REASON;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Our ACS run: %d generations, %d evaluations, archive size %d, %.2f ms (stopped by %s)",
+            GENERATIONS, EVALUATIONS, ARCHIVE_SIZE, RUN_TIME, STOP_REASON);
+    }
+}
@@ -0,0 +1,229 @@
+package org.myPaper.acsAlgorithms.OurAcsAlgorithm;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.myPaper.acsAlgorithms.PlacementSolution;
+
+import java.util.*;
+
+/**
+ * A dense pheromone matrix between VM-Host pairs. The pheromone values are stored in a flat primitive array where the
+ * pheromone value of a VM-Host pair is located at {@code vmIndex * numberOfHosts + hostIndex}. The dense VM and host
+ * indexes are given by a {@link PlacementSolution.Domain} which is shared between the matrix, all its snapshots and
+ * the solutions of the same domain.
+ * <p>
+ * A {@link #snapshot() snapshot} shares the pheromone values of its origin until one of them is updated; then the
+ * updated matrix copies the values into its own array (copy-on-write). Therefore, taking a snapshot per ant is cheap
+ * and no pheromone value is boxed.
+ */
+public class PheromoneMatrix {
+    /**
+     * @see #getDomain()
+     */
+    private final PlacementSolution.Domain DOMAIN;
+
+    /**
+     * @see #getInitialPheromoneValue()
+     */
+    private final double INITIAL_PHEROMONE_VALUE;
+
+    /**
+     * The pheromone values of all VM-Host pairs.
+     */
+    private double[] pheromoneValues;
+
+    /**
+     * Indicates if the {@link #pheromoneValues} array is shared with another matrix and must be copied before
+     * being updated.
+     */
+    private boolean shared;
+
+    /**
+     * Creates a dense pheromone matrix between the given VMs and hosts. The pheromone value between a created VM and its
+     * current host is set to twice the initial pheromone value.
+     *
+     * @param vmList   the list of VMs
+     * @param hostList the list of hosts that pheromone trails are spraying between them and the given VMs
+     * @param ipv      the initial pheromone value between the given VMs and hosts
+     */
+    public PheromoneMatrix(final List<Vm> vmList, final List<Host> hostList, final double ipv) {
+        this(new PlacementSolution.Domain(Objects.requireNonNull(vmList), Objects.requireNonNull(hostList)), ipv);
+    }
+
+    /**
+     * Creates a dense pheromone matrix between the VMs and hosts of the given domain. The pheromone value between a
+     * created VM and its current host is set to twice the initial pheromone value.
+     *
+     * @param domain the VMs and hosts that pheromone trails are spraying between them
+     * @param ipv    the initial pheromone value between the given VMs and hosts
+     */
+    public PheromoneMatrix(final PlacementSolution.Domain domain, final double ipv) {
+        if (domain.getNumberOfVms() == 0 || domain.getNumberOfHosts() == 0) {
+            throw new IllegalStateException("The given VM list or host list could not be empty or null!");
+        }
+
+        DOMAIN = domain;
+        INITIAL_PHEROMONE_VALUE = ipv;
+        pheromoneValues = new double[DOMAIN.getNumberOfVms() * DOMAIN.getNumberOfHosts()];
+        Arrays.fill(pheromoneValues, INITIAL_PHEROMONE_VALUE);
+
+        for (int vmIndex = 0; vmIndex < DOMAIN.getNumberOfVms(); vmIndex++) {
+            Vm vm = DOMAIN.getVm(vmIndex);
+            int hostIndex = vm.isCreated() ? DOMAIN.getHostIndex(vm.getHost()) : PlacementSolution.UNASSIGNED;
+            if (hostIndex != PlacementSolution.UNASSIGNED) {
+                pheromoneValues[getCell(vmIndex, hostIndex)] = INITIAL_PHEROMONE_VALUE * 2;
+            }
+        }
+    }
+
+    /**
+     * Creates a snapshot of the given pheromone matrix which shares the indexes and the pheromone values of it.
+     *
+     * @param origin the origin pheromone matrix
+     */
+    private PheromoneMatrix(final PheromoneMatrix origin) {
+        DOMAIN = origin.DOMAIN;
+        INITIAL_PHEROMONE_VALUE = origin.INITIAL_PHEROMONE_VALUE;
+        pheromoneValues = origin.pheromoneValues;
+        shared = true;
+    }
+
+    /**
+     * Gets a snapshot of this pheromone matrix. The snapshot and this matrix are independent from each other, i.e.,
+     * updating one of them does not affect the other one. The values are only copied when one of them is updated.
+     *
+     * @return a new snapshot of this pheromone matrix
+     */
+    public synchronized PheromoneMatrix snapshot() {
+        shared = true;
+        return new PheromoneMatrix(this);
+    }
+
+    /**
+     * Gets the domain (the numbered VMs and hosts) of this pheromone matrix.
+     *
+     * @return the domain
+     */
+    public PlacementSolution.Domain getDomain() {
+        return DOMAIN;
+    }
+
+    /**
+     * Gets the initial pheromone value between the VMs and hosts.
+     *
+     * @return the initial pheromone value
+     */
+    public double getInitialPheromoneValue() {
+        return INITIAL_PHEROMONE_VALUE;
+    }
+
+    /**
+     * Gets the dense index of the given VM.
+     *
+     * @param vm the VM
+     * @return the VM index
+     */
+    public int getVmIndex(final Vm vm) {
+        int vmIndex = DOMAIN.getVmIndex(vm);
+        if (vmIndex == PlacementSolution.UNASSIGNED) {
+            throw new IllegalStateException("The is no pheromone deposition between the given VM and the hosts!");
+        }
+
+        return vmIndex;
+    }
+
+    /**
+     * Gets the dense index of the given host.
+     *
+     * @param host the host
+     * @return the host index
+     */
+    public int getHostIndex(final Host host) {
+        int hostIndex = DOMAIN.getHostIndex(host);
+        if (hostIndex == PlacementSolution.UNASSIGNED) {
+            throw new IllegalStateException("The is no pheromone deposition between the VMs and the target host!");
+        }
+
+        return hostIndex;
+    }
+
+    /**
+     * Gets the index of the pheromone value of the given VM-Host pair in the pheromone array.
+     *
+     * @param vmIndex   the VM index
+     * @param hostIndex the host index
+     * @return the cell index
+     */
+    private int getCell(final int vmIndex, final int hostIndex) {
+        return vmIndex * DOMAIN.getNumberOfHosts() + hostIndex;
+    }
+
+    /**
+     * Gets the pheromone value between the given VM and the target host.
+     *
+     * @param vm         the VM
+     * @param targetHost the target host
+     * @return the pheromone value between the VM and the target host
+     */
+    public double getPheromoneValue(final Vm vm, final Host targetHost) {
+        return pheromoneValues[getCell(getVmIndex(vm), getHostIndex(targetHost))];
+    }
+
+    /**
+     * Updates the current pheromone value between the given VM and the target host.
+     *
+     * @param vm             the VM
+     * @param targetHost     the target host
+     * @param pheromoneValue the new amount of pheromone value
+     */
+    public void updatePheromoneValue(final Vm vm, final Host targetHost, final double pheromoneValue) {
+        final int cell = getCell(getVmIndex(vm), getHostIndex(targetHost));
+        getWritablePheromoneValues()[cell] = pheromoneValue;
+    }
+
+    /**
+     * Evaporates and deposits pheromone on the given VM-Host pairs according to the ACS pheromone updating rule, i.e.,
+     * {@code (1 - decay) * currentValue + decay * deposit}.
+     *
+     * @param solution the VM-Host pairs which must be updated
+     * @param decay    the pheromone decay
+     * @param deposit  the amount of pheromone which is deposited on each pair
+     */
+    public void evaporate(final Map<Vm, Host> solution, final double decay, final double deposit) {
+        final int[] cells = new int[solution.size()];
+        int i = 0;
+        if (solution instanceof PlacementSolution && ((PlacementSolution) solution).getDomain() == DOMAIN) {
+            final PlacementSolution placementSolution = (PlacementSolution) solution;
+            for (int vmIndex = 0; vmIndex < DOMAIN.getNumberOfVms(); vmIndex++) {
+                if (placementSolution.getHostIndex(vmIndex) != PlacementSolution.UNASSIGNED) {
+                    cells[i++] = getCell(vmIndex, placementSolution.getHostIndex(vmIndex));
+                }
+            }
+        } else {
+            for (Map.Entry<Vm, Host> vmHostEntry : solution.entrySet()) {
+                cells[i++] = getCell(getVmIndex(vmHostEntry.getKey()), getHostIndex(vmHostEntry.getValue()));
+            }
+        }
+
+        final double[] values = getWritablePheromoneValues();
+        final double retained = 1 - decay;
+        final double deposited = decay * deposit;
+        for (int cell : cells) {
+            values[cell] = retained * values[cell] + deposited;
+        }
+    }
+
+    /**
+     * Gets the pheromone values array which can be updated by this matrix, copying it if it is shared with a snapshot.
+     *
+     * @return the writable pheromone values
+     */
+    private synchronized double[] getWritablePheromoneValues() {
+        if (shared) {
+            pheromoneValues = pheromoneValues.clone();
+            shared = false;
+        }
+
+        return pheromoneValues;
+    }
+}
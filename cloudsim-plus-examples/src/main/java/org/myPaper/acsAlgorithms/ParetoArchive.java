@@ -0,0 +1,348 @@
+package org.myPaper.acsAlgorithms;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * An external archive of non-dominated solutions which is used by the multi-objective ACS algorithms. All the
+ * objectives are minimized.
+ * <p>
+ * The objective vector of each solution is computed once, when the solution is added to the archive, and is kept as a
+ * primitive array for all the following comparisons. Solutions are deduplicated by their identity (e.g., the VM-Host
+ * map of a solution) whose hash code is also computed once, so equal solutions are only compared when their hash codes
+ * collide.
+ * </p>
+ * <p>
+ * The first (Pareto) front is found by an efficient non-dominated sort (ENS): the solutions are sorted
+ * lexicographically by their objective vectors, so a solution can only be dominated by the solutions before it, and
+ * each solution is only compared against the non-dominated solutions found so far. If the number of non-dominated
+ * solutions exceeds the capacity of the archive, the most crowded solutions (according to the NSGA-II crowding
+ * distance) are removed one by one.
+ * </p>
+ *
+ * @param <T> the type of solutions
+ */
+public class ParetoArchive<T> {
+    /**
+     * The function which computes the objective vector of a solution.
+     */
+    private final Function<? super T, double[]> OBJECTIVE_FUNCTION;
+
+    /**
+     * The function which gives the identity of a solution that is used to deduplicate the solutions.
+     */
+    private final Function<? super T, ?> IDENTITY_FUNCTION;
+
+    /**
+     * @see #getCapacity()
+     */
+    private final int CAPACITY;
+
+    /**
+     * The members of the archive in the order that they have been added.
+     */
+    private List<Member<T>> memberList;
+
+    /**
+     * The identities of the archive members.
+     */
+    private Set<SolutionKey> memberKeySet;
+
+    /**
+     * Creates a new empty Pareto archive.
+     *
+     * @param objectiveFunction the function which computes the objective vector of a solution
+     * @param identityFunction  the function which gives the identity of a solution, equal identities are considered as
+     *                          duplicate solutions
+     * @param capacity          the maximum number of solutions that the archive keeps
+     */
+    public ParetoArchive(final Function<? super T, double[]> objectiveFunction,
+                         final Function<? super T, ?> identityFunction,
+                         final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalStateException("The capacity of the Pareto archive must be greater than zero!");
+        }
+
+        OBJECTIVE_FUNCTION = Objects.requireNonNull(objectiveFunction);
+        IDENTITY_FUNCTION = Objects.requireNonNull(identityFunction);
+        CAPACITY = capacity;
+        memberList = new ArrayList<>();
+        memberKeySet = new HashSet<>();
+    }
+
+    /**
+     * Gets the non-dominated solutions (the first front) of the given solution list without any size bound. The
+     * duplicate solutions are removed and the order of the given list is kept.
+     *
+     * @param solutionList      the list of solutions
+     * @param objectiveFunction the function which computes the objective vector of a solution
+     * @param identityFunction  the function which gives the identity of a solution
+     * @param <T>               the type of solutions
+     * @return the non-dominated solutions in the first front (Pareto front)
+     */
+    public static <T> List<T> getNonDominatedSolutions(final List<T> solutionList,
+                                                       final Function<? super T, double[]> objectiveFunction,
+                                                       final Function<? super T, ?> identityFunction) {
+        ParetoArchive<T> paretoArchive = new ParetoArchive<>(objectiveFunction, identityFunction, Integer.MAX_VALUE);
+        paretoArchive.addAll(solutionList);
+
+        return paretoArchive.getSolutionList();
+    }
+
+    /**
+     * Adds the given solutions to the archive. The solutions which are already in the archive are ignored; then only
+     * the non-dominated solutions of the archive are kept and the archive is truncated to its capacity.
+     *
+     * @param solutions the new solutions
+     */
+    public void addAll(final Collection<? extends T> solutions) {
+        List<Member<T>> candidateList = new ArrayList<>(memberList.size() + solutions.size());
+        candidateList.addAll(memberList);
+        Set<SolutionKey> candidateKeySet = new HashSet<>(memberKeySet);
+
+        for (T solution : solutions) {
+            SolutionKey solutionKey = new SolutionKey(IDENTITY_FUNCTION.apply(solution));
+            if (candidateKeySet.add(solutionKey)) {
+                candidateList.add(new Member<>(solution, solutionKey, OBJECTIVE_FUNCTION.apply(solution).clone()));
+            }
+        }
+
+        List<Member<T>> firstFront = getFirstFront(candidateList);
+        while (firstFront.size() > CAPACITY) {
+            firstFront.remove(getMostCrowdedMemberIndex(firstFront));
+        }
+
+        memberList = firstFront;
+        memberKeySet = new HashSet<>(memberList.size() * 2);
+        memberList.forEach(member -> memberKeySet.add(member.KEY));
+    }
+
+    /**
+     * Gets the non-dominated members of the given list in the same order of the list.
+     *
+     * @param candidateList the list of candidate members
+     * @return the members of the first front
+     */
+    private List<Member<T>> getFirstFront(final List<Member<T>> candidateList) {
+        Integer[] sortedIndexes = new Integer[candidateList.size()];
+        for (int i = 0; i < sortedIndexes.length; i++) {
+            sortedIndexes[i] = i;
+        }
+
+        Arrays.sort(sortedIndexes, (first, second) ->
+            compareLexicographically(candidateList.get(first).OBJECTIVES, candidateList.get(second).OBJECTIVES));
+
+        List<Member<T>> firstFront = new ArrayList<>();
+        boolean[] nonDominated = new boolean[candidateList.size()];
+
+        CandidateLoop:
+        for (int index : sortedIndexes) {
+            Member<T> candidate = candidateList.get(index);
+
+            for (Member<T> member : firstFront) {
+                if (dominates(member.OBJECTIVES, candidate.OBJECTIVES)) {
+                    continue CandidateLoop;
+                }
+            }
+
+            firstFront.add(candidate);
+            nonDominated[index] = true;
+        }
+
+        List<Member<T>> orderedFirstFront = new ArrayList<>(firstFront.size());
+        for (int i = 0; i < nonDominated.length; i++) {
+            if (nonDominated[i]) {
+                orderedFirstFront.add(candidateList.get(i));
+            }
+        }
+
+        return orderedFirstFront;
+    }
+
+    /**
+     * Gets the index of the member with the lowest crowding distance in the given front. The members which have the
+     * minimum or the maximum value of an objective have an infinite crowding distance, hence they are never removed.
+     *
+     * @param front the non-dominated members
+     * @return the index of the most crowded member
+     */
+    private int getMostCrowdedMemberIndex(final List<Member<T>> front) {
+        final double[] crowdingDistances = new double[front.size()];
+        Integer[] sortedIndexes = new Integer[front.size()];
+
+        for (int objective = 0; objective < front.get(0).OBJECTIVES.length; objective++) {
+            final int currentObjective = objective;
+            for (int i = 0; i < sortedIndexes.length; i++) {
+                sortedIndexes[i] = i;
+            }
+
+            Arrays.sort(sortedIndexes, Comparator.comparingDouble(index -> front.get(index).OBJECTIVES[currentObjective]));
+
+            final double min = front.get(sortedIndexes[0]).OBJECTIVES[objective];
+            final double max = front.get(sortedIndexes[sortedIndexes.length - 1]).OBJECTIVES[objective];
+            crowdingDistances[sortedIndexes[0]] = Double.POSITIVE_INFINITY;
+            crowdingDistances[sortedIndexes[sortedIndexes.length - 1]] = Double.POSITIVE_INFINITY;
+
+            if (max == min) {
+                continue;
+            }
+
+            for (int i = 1; i < sortedIndexes.length - 1; i++) {
+                crowdingDistances[sortedIndexes[i]] +=
+                    (front.get(sortedIndexes[i + 1]).OBJECTIVES[objective] - front.get(sortedIndexes[i - 1]).OBJECTIVES[objective]) /
+                        (max - min);
+            }
+        }
+
+        int mostCrowdedIndex = 0;
+        for (int i = 1; i < crowdingDistances.length; i++) {
+            if (crowdingDistances[i] < crowdingDistances[mostCrowdedIndex]) {
+                mostCrowdedIndex = i;
+            }
+        }
+
+        return mostCrowdedIndex;
+    }
+
+    /**
+     * Compares the given objective vectors lexicographically.
+     *
+     * @param first  the first objective vector
+     * @param second the second objective vector
+     * @return a negative value, zero or a positive value if the first vector is less than, equal to or greater than
+     * the second one
+     */
+    private static int compareLexicographically(final double[] first, final double[] second) {
+        for (int i = 0; i < first.length; i++) {
+            final int comparison = Double.compare(first[i], second[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Checks if the first objective vector dominates the second one, i.e., it is not worse in any objective and it is
+     * better in at least one objective.
+     *
+     * @param first  the first objective vector
+     * @param second the second objective vector
+     * @return true if the first vector dominates the second one, false otherwise
+     */
+    public static boolean dominates(final double[] first, final double[] second) {
+        boolean better = false;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] > second[i]) {
+                return false;
+            }
+
+            if (first[i] < second[i]) {
+                better = true;
+            }
+        }
+
+        return better;
+    }
+
+    /**
+     * Gets the solutions of the archive in the order that they have been added.
+     *
+     * @return the list of non-dominated solutions
+     */
+    public List<T> getSolutionList() {
+        List<T> solutionList = new ArrayList<>(memberList.size());
+        memberList.forEach(member -> solutionList.add(member.SOLUTION));
+
+        return solutionList;
+    }
+
+    /**
+     * Gets the cached objective vector of each solution of the archive.
+     *
+     * @return the solution objectives map in the order of the archive
+     */
+    public Map<T, double[]> getSolutionObjectivesMap() {
+        Map<T, double[]> solutionObjectivesMap = new LinkedHashMap<>();
+        memberList.forEach(member -> solutionObjectivesMap.put(member.SOLUTION, member.OBJECTIVES.clone()));
+
+        return solutionObjectivesMap;
+    }
+
+    /**
+     * Gets the number of solutions of the archive.
+     *
+     * @return the archive size
+     */
+    public int size() {
+        return memberList.size();
+    }
+
+    /**
+     * Checks if the archive has no solution.
+     *
+     * @return true if the archive is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return memberList.isEmpty();
+    }
+
+    /**
+     * Gets the maximum number of solutions that the archive keeps.
+     *
+     * @return the archive capacity
+     */
+    public int getCapacity() {
+        return CAPACITY;
+    }
+
+    /**
+     * A member of the archive.
+     *
+     * @param <T> the type of solution
+     */
+    private static final class Member<T> {
+        private final T SOLUTION;
+        private final SolutionKey KEY;
+        private final double[] OBJECTIVES;
+
+        private Member(final T solution, final SolutionKey key, final double[] objectives) {
+            SOLUTION = solution;
+            KEY = key;
+            OBJECTIVES = objectives;
+        }
+    }
+
+    /**
+     * The identity of a solution with a cached hash code.
+     */
+    private static final class SolutionKey {
+        private final Object IDENTITY;
+        private final int HASH;
+
+        private SolutionKey(final Object identity) {
+            IDENTITY = identity;
+            HASH = identity.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof SolutionKey)) {
+                return false;
+            }
+
+            SolutionKey that = (SolutionKey) o;
+            return HASH == that.HASH && IDENTITY.equals(that.IDENTITY);
+        }
+
+        @Override
+        public int hashCode() {
+            return HASH;
+        }
+    }
+}
@@ -0,0 +1,500 @@
+package org.myPaper.acsAlgorithms;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.*;
+
+/**
+ * A compact and immutable VM placement solution (VM-Host mapping) which is shared by the ACS algorithms, the selection
+ * policies and the VM allocation policies.
+ * <p>
+ * The VMs and hosts of a decision are numbered once by a {@link Domain}; then a solution is only an {@code int[]} which
+ * gives the host index of each VM index (or {@link #UNASSIGNED}). The inverse index (the VMs of each host) and both a
+ * 32-bit and a 64-bit hash code are computed once, when the solution is created, so a solution can be grouped by hosts,
+ * hashed and compared without building any temporary map.
+ * </p>
+ * Since the class is a read-only {@link Map Map&lt;Vm, Host&gt;}, it can be passed to all the methods that work with
+ * VM-Host maps; it is equal to any other map which has the same VM-Host pairs.
+ */
+public final class PlacementSolution extends AbstractMap<Vm, Host> {
+    /**
+     * The host index of a VM which is not placed by the solution.
+     */
+    public static final int UNASSIGNED = -1;
+
+    /**
+     * @see #getDomain()
+     */
+    private final Domain DOMAIN;
+
+    /**
+     * The host index of each VM index.
+     */
+    private final int[] VM_TO_HOST_INDEX;
+
+    /**
+     * The number of placed VMs.
+     */
+    private final int SIZE;
+
+    /**
+     * The beginning of the VM indexes of each host index in {@link #HOST_VM_INDEXES}; the VMs of the host {@code h} are
+     * located at {@code [HOST_VM_OFFSETS[h], HOST_VM_OFFSETS[h + 1])}.
+     */
+    private final int[] HOST_VM_OFFSETS;
+
+    /**
+     * The VM indexes grouped by their host indexes.
+     */
+    private final int[] HOST_VM_INDEXES;
+
+    /**
+     * The hash code of the solution according to the {@link Map#hashCode()} contract.
+     */
+    private final int HASH;
+
+    /**
+     * @see #getLongHash()
+     */
+    private final long LONG_HASH;
+
+    /**
+     * The lazily created entry set view of the solution.
+     */
+    private Set<Entry<Vm, Host>> entrySet;
+
+    /**
+     * Creates a new solution which takes the ownership of the given array.
+     *
+     * @param domain         the domain of the solution
+     * @param vmToHostIndex  the host index of each VM index
+     */
+    private PlacementSolution(final Domain domain, final int[] vmToHostIndex) {
+        if (vmToHostIndex.length != domain.getNumberOfVms()) {
+            throw new IllegalStateException("The size of the given VM-Host index array does not match the domain!");
+        }
+
+        DOMAIN = domain;
+        VM_TO_HOST_INDEX = vmToHostIndex;
+        HOST_VM_OFFSETS = new int[domain.getNumberOfHosts() + 1];
+
+        int size = 0;
+        int hash = 0;
+        long longHash = 0x9E3779B97F4A7C15L;
+        for (int vmIndex = 0; vmIndex < VM_TO_HOST_INDEX.length; vmIndex++) {
+            final int hostIndex = VM_TO_HOST_INDEX[vmIndex];
+            if (hostIndex == UNASSIGNED) {
+                continue;
+            }
+
+            if (hostIndex < 0 || hostIndex >= domain.getNumberOfHosts()) {
+                throw new IllegalStateException("The host index " + hostIndex + " is out of the domain!");
+            }
+
+            size++;
+            HOST_VM_OFFSETS[hostIndex + 1]++;
+            hash += domain.getVm(vmIndex).hashCode() ^ domain.getHost(hostIndex).hashCode();
+            longHash = mix(longHash ^ (((long) vmIndex << 32) | hostIndex));
+        }
+
+        for (int hostIndex = 0; hostIndex < domain.getNumberOfHosts(); hostIndex++) {
+            HOST_VM_OFFSETS[hostIndex + 1] += HOST_VM_OFFSETS[hostIndex];
+        }
+
+        HOST_VM_INDEXES = new int[size];
+        final int[] nextPosition = Arrays.copyOf(HOST_VM_OFFSETS, domain.getNumberOfHosts());
+        for (int vmIndex = 0; vmIndex < VM_TO_HOST_INDEX.length; vmIndex++) {
+            if (VM_TO_HOST_INDEX[vmIndex] != UNASSIGNED) {
+                HOST_VM_INDEXES[nextPosition[VM_TO_HOST_INDEX[vmIndex]]++] = vmIndex;
+            }
+        }
+
+        SIZE = size;
+        HASH = hash;
+        LONG_HASH = mix(longHash ^ size);
+    }
+
+    /**
+     * Creates a new solution from the given VM-Host index array.
+     *
+     * @param domain        the domain of the solution
+     * @param vmToHostIndex the host index of each VM index of the domain, or {@link #UNASSIGNED}
+     * @return the new solution
+     */
+    public static PlacementSolution of(final Domain domain, final int[] vmToHostIndex) {
+        return new PlacementSolution(Objects.requireNonNull(domain), vmToHostIndex.clone());
+    }
+
+    /**
+     * Creates a new solution from the given VM-Host map. If the map is already a solution of the given domain, it is
+     * returned as it is.
+     *
+     * @param domain   the domain of the solution
+     * @param solution the VM-Host map whose VMs and hosts must belong to the domain
+     * @return the new solution
+     */
+    public static PlacementSolution of(final Domain domain, final Map<Vm, Host> solution) {
+        if (solution instanceof PlacementSolution && ((PlacementSolution) solution).DOMAIN == domain) {
+            return (PlacementSolution) solution;
+        }
+
+        final int[] vmToHostIndex = domain.createEmptyVmToHostIndex();
+        solution.forEach((vm, host) -> vmToHostIndex[domain.requireVmIndex(vm)] = domain.requireHostIndex(host));
+
+        return new PlacementSolution(domain, vmToHostIndex);
+    }
+
+    /**
+     * A 64-bit variant of the SplitMix64 finalizer which spreads the bits of the given value.
+     *
+     * @param value the value
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Gets the domain (the numbered VMs and hosts) of this solution.
+     *
+     * @return the solution domain
+     */
+    public Domain getDomain() {
+        return DOMAIN;
+    }
+
+    /**
+     * Gets the host index of the given VM index.
+     *
+     * @param vmIndex the VM index
+     * @return the host index or {@link #UNASSIGNED} if the VM is not placed by this solution
+     */
+    public int getHostIndex(final int vmIndex) {
+        return VM_TO_HOST_INDEX[vmIndex];
+    }
+
+    /**
+     * Gets a copy of the host index of each VM index.
+     *
+     * @return the VM-Host index array
+     */
+    public int[] getVmToHostIndex() {
+        return VM_TO_HOST_INDEX.clone();
+    }
+
+    /**
+     * Gets the list of VMs which are placed on the given host by this solution.
+     *
+     * @param host the host
+     * @return the list of VMs of the host, which is empty if the host is not used by the solution
+     */
+    public List<Vm> getVmList(final Host host) {
+        final int hostIndex = DOMAIN.getHostIndex(host);
+        if (hostIndex == UNASSIGNED) {
+            return new ArrayList<>();
+        }
+
+        final List<Vm> vmList = new ArrayList<>(HOST_VM_OFFSETS[hostIndex + 1] - HOST_VM_OFFSETS[hostIndex]);
+        for (int i = HOST_VM_OFFSETS[hostIndex]; i < HOST_VM_OFFSETS[hostIndex + 1]; i++) {
+            vmList.add(DOMAIN.getVm(HOST_VM_INDEXES[i]));
+        }
+
+        return vmList;
+    }
+
+    /**
+     * Gets the list of hosts which are used by this solution in the order of the domain.
+     *
+     * @return the list of used hosts
+     */
+    public List<Host> getUsedHostList() {
+        final List<Host> usedHostList = new ArrayList<>();
+        for (int hostIndex = 0; hostIndex < DOMAIN.getNumberOfHosts(); hostIndex++) {
+            if (HOST_VM_OFFSETS[hostIndex + 1] > HOST_VM_OFFSETS[hostIndex]) {
+                usedHostList.add(DOMAIN.getHost(hostIndex));
+            }
+        }
+
+        return usedHostList;
+    }
+
+    /**
+     * Gets the VMs of each used host of this solution, i.e., the inverse of this solution.
+     *
+     * @return the host VM list map
+     */
+    public Map<Host, List<Vm>> getHostVmListMap() {
+        final Map<Host, List<Vm>> hostVmListMap = new HashMap<>();
+        for (Host host : getUsedHostList()) {
+            hostVmListMap.put(host, getVmList(host));
+        }
+
+        return hostVmListMap;
+    }
+
+    /**
+     * Gets a 64-bit hash code of this solution which is used to compare the solutions of the same domain quickly.
+     *
+     * @return the 64-bit hash code
+     */
+    public long getLongHash() {
+        return LONG_HASH;
+    }
+
+    @Override
+    public Host get(final Object key) {
+        if (!(key instanceof Vm)) {
+            return null;
+        }
+
+        final int vmIndex = DOMAIN.getVmIndex((Vm) key);
+        if (vmIndex == UNASSIGNED || VM_TO_HOST_INDEX[vmIndex] == UNASSIGNED) {
+            return null;
+        }
+
+        return DOMAIN.getHost(VM_TO_HOST_INDEX[vmIndex]);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return SIZE;
+    }
+
+    @Override
+    public Set<Entry<Vm, Host>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<Vm, Host>>() {
+                @Override
+                public Iterator<Entry<Vm, Host>> iterator() {
+                    return new Iterator<Entry<Vm, Host>>() {
+                        private int position;
+
+                        @Override
+                        public boolean hasNext() {
+                            return position < HOST_VM_INDEXES.length;
+                        }
+
+                        @Override
+                        public Entry<Vm, Host> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+
+                            final int vmIndex = HOST_VM_INDEXES[position++];
+                            return new SimpleImmutableEntry<>(DOMAIN.getVm(vmIndex), DOMAIN.getHost(VM_TO_HOST_INDEX[vmIndex]));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return SIZE;
+                }
+            };
+        }
+
+        return entrySet;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o instanceof PlacementSolution && ((PlacementSolution) o).DOMAIN == DOMAIN) {
+            final PlacementSolution that = (PlacementSolution) o;
+            return LONG_HASH == that.LONG_HASH && Arrays.equals(VM_TO_HOST_INDEX, that.VM_TO_HOST_INDEX);
+        }
+
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return HASH;
+    }
+
+    /**
+     * The VMs and hosts of a decision which are numbered by dense indexes according to their order in the given lists.
+     * A domain is immutable, hence it can be shared by all the solutions of a decision and by all the threads.
+     */
+    public static final class Domain {
+        /**
+         * The VMs of the domain by their indexes.
+         */
+        private final List<Vm> VM_LIST;
+
+        /**
+         * The hosts of the domain by their indexes.
+         */
+        private final List<Host> HOST_LIST;
+
+        /**
+         * The index of each VM.
+         */
+        private final Map<Vm, Integer> VM_INDEX_MAP;
+
+        /**
+         * The index of each host.
+         */
+        private final Map<Host, Integer> HOST_INDEX_MAP;
+
+        /**
+         * Creates a new domain. The duplicate VMs or hosts of the given lists are ignored.
+         *
+         * @param vmList   the list of VMs
+         * @param hostList the list of hosts
+         */
+        public Domain(final List<Vm> vmList, final List<Host> hostList) {
+            VM_INDEX_MAP = new HashMap<>(vmList.size() * 2);
+            HOST_INDEX_MAP = new HashMap<>(hostList.size() * 2);
+            VM_LIST = Collections.unmodifiableList(createIndex(vmList, VM_INDEX_MAP));
+            HOST_LIST = Collections.unmodifiableList(createIndex(hostList, HOST_INDEX_MAP));
+        }
+
+        /**
+         * Assigns dense indexes to the given objects according to their order in the list.
+         *
+         * @param objectList the list of objects
+         * @param indexMap   the map where the index of each object is put
+         * @param <T>        the type of objects
+         * @return the list of distinct objects by their indexes
+         */
+        private static <T> List<T> createIndex(final List<T> objectList, final Map<T, Integer> indexMap) {
+            final List<T> distinctObjectList = new ArrayList<>(objectList.size());
+            for (T object : objectList) {
+                if (indexMap.putIfAbsent(object, distinctObjectList.size()) == null) {
+                    distinctObjectList.add(object);
+                }
+            }
+
+            return distinctObjectList;
+        }
+
+        /**
+         * Gets the list of VMs by their indexes.
+         *
+         * @return the VM list
+         */
+        public List<Vm> getVmList() {
+            return VM_LIST;
+        }
+
+        /**
+         * Gets the list of hosts by their indexes.
+         *
+         * @return the host list
+         */
+        public List<Host> getHostList() {
+            return HOST_LIST;
+        }
+
+        /**
+         * Gets the number of VMs of the domain.
+         *
+         * @return the number of VMs
+         */
+        public int getNumberOfVms() {
+            return VM_LIST.size();
+        }
+
+        /**
+         * Gets the number of hosts of the domain.
+         *
+         * @return the number of hosts
+         */
+        public int getNumberOfHosts() {
+            return HOST_LIST.size();
+        }
+
+        /**
+         * Gets the VM of the given index.
+         *
+         * @param vmIndex the VM index
+         * @return the VM
+         */
+        public Vm getVm(final int vmIndex) {
+            return VM_LIST.get(vmIndex);
+        }
+
+        /**
+         * Gets the host of the given index.
+         *
+         * @param hostIndex the host index
+         * @return the host
+         */
+        public Host getHost(final int hostIndex) {
+            return HOST_LIST.get(hostIndex);
+        }
+
+        /**
+         * Gets the index of the given VM.
+         *
+         * @param vm the VM
+         * @return the VM index or {@link #UNASSIGNED} if the VM does not belong to the domain
+         */
+        public int getVmIndex(final Vm vm) {
+            return VM_INDEX_MAP.getOrDefault(vm, UNASSIGNED);
+        }
+
+        /**
+         * Gets the index of the given host.
+         *
+         * @param host the host
+         * @return the host index or {@link #UNASSIGNED} if the host does not belong to the domain
+         */
+        public int getHostIndex(final Host host) {
+            return HOST_INDEX_MAP.getOrDefault(host, UNASSIGNED);
+        }
+
+        /**
+         * Gets the index of the given VM which must belong to the domain.
+         *
+         * @param vm the VM
+         * @return the VM index
+         */
+        public int requireVmIndex(final Vm vm) {
+            final int vmIndex = getVmIndex(vm);
+            if (vmIndex == UNASSIGNED) {
+                throw new IllegalStateException("The given VM does not belong to the solution domain!");
+            }
+
+            return vmIndex;
+        }
+
+        /**
+         * Gets the index of the given host which must belong to the domain.
+         *
+         * @param host the host
+         * @return the host index
+         */
+        public int requireHostIndex(final Host host) {
+            final int hostIndex = getHostIndex(host);
+            if (hostIndex == UNASSIGNED) {
+                throw new IllegalStateException("The given host does not belong to the solution domain!");
+            }
+
+            return hostIndex;
+        }
+
+        /**
+         * Creates a VM-Host index array of this domain where no VM is placed.
+         *
+         * @return an array filled by {@link #UNASSIGNED}
+         */
+        public int[] createEmptyVmToHostIndex() {
+            final int[] vmToHostIndex = new int[getNumberOfVms()];
+            Arrays.fill(vmToHostIndex, UNASSIGNED);
+            return vmToHostIndex;
+        }
+    }
+}
@@ -2,10 +2,12 @@ package org.myPaper.additionalClasses;
 
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.SimulationProfiler;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.myPaper.broker.DatacenterBrokerMain;
 import org.myPaper.datacenter.DatacenterPro;
+import org.myPaper.datacenter.MigrationTransfer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +37,7 @@ public class ExperimentalResults {
                 datacenterBroker.getVmCreatedList().size() + datacenterBroker.getVmWaitingList().size() + datacenterBroker.getVmFailedList().size())
             .sum();
 
-        SOURCE_DIR = new File(outputDirectory + "\\" + LocalTime.now().toString().replace(":", "-") +
+        SOURCE_DIR = new File(outputDirectory + File.separator + LocalTime.now().toString().replace(":", "-") +
             "_" + numberOfSubmittedVmReqs + "_VmCreationReqs");
 
         if (!SOURCE_DIR.mkdir()) {
@@ -69,6 +71,28 @@ public class ExperimentalResults {
 
         //Generate the datacenters' outside temperature
         generateDatacentersOutsideTemperature();
+
+        //Generate the simulation profile
+        generateSimulationProfile();
+    }
+
+    /**
+     * Generates where the wall-clock time of the simulation was spent, if the simulation was profiled.
+     */
+    private void generateSimulationProfile() {
+        SimulationProfiler profiler = BROKERS.get(0).getSimulation().getProfiler();
+        if (profiler == SimulationProfiler.NULL) {
+            return;
+        }
+
+        File file = new File(SOURCE_DIR.getAbsolutePath() + File.separator + "simulation-profile.csv");
+        try (PrintStream out = new PrintStream(file)) {
+            profiler.printCsv(out);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        LOGGER.info("Simulation profile generated successfully at: {}", file.getAbsolutePath());
     }
 
     private void generateReadme() {
@@ -134,7 +158,7 @@ public class ExperimentalResults {
             contentList.add("OUR-ACS Average Execution Time: " + ourAcsAverageExecutionTime);
         }
 
-        String fileName = SOURCE_DIR.getAbsolutePath() + "\\" + "readme";
+        String fileName = SOURCE_DIR.getAbsolutePath() + File.separator + "readme";
         createNewFile(fileName, contentList);
 
         LOGGER.info("Readme file generated successfully at: {}" + fileName);
@@ -145,7 +169,7 @@ public class ExperimentalResults {
         List<String> contentList = new ArrayList<>();
         contentList.add("Provider,DC ID,DC Name,Broker ID,Broker Name,Number of Hosts,Average Hosts Uptime,Average CPU Utilization," +
             "Number of Created Vms,Number of Live Vm Migrations,PDM,SLATAH,SLAV,ESV,Average PUE,Total Energy Consumption (KWh),Total Energy Cost ($)," +
-            "Total Carbon Emission (Kg),Total Carbon Tax ($),Total Cost ($)");
+            "Total Carbon Emission (Kg),Total Carbon Tax ($),Total Cost ($),Average Migration Downtime (s),Total Migrated Data (MB)");
 
         int provider = 1;
         for (DatacenterBroker broker : BROKERS) {
@@ -168,18 +192,53 @@ public class ExperimentalResults {
                     datacenterPro.getCreatedVmList().size() + "," + datacenterPro.getMaximumNumberOfLiveVmMigrations() + "," + pdm + "," +
                     slatah + "," + slav + "," + esv + "," + datacenterPro.getPowerSupplyOverheadPowerAware().getAveragePueDuringSimulation() + "," +
                     totalEnergyConsumption + "," + totalEnergyCost + "," + totalCarbonEmission + "," + totalCarbonTax + "," +
-                    totalCost);
+                    totalCost + "," + datacenterPro.getMigrationTransferEngine().getAverageDowntime() + "," +
+                    datacenterPro.getMigrationTransferEngine().getTotalTransferredDataSize());
             }
 
             provider++;
         }
 
-        String fileName = datacenterDir.getAbsolutePath() + "\\" + "datacenters.csv";
+        String fileName = datacenterDir.getAbsolutePath() + File.separator + "datacenters.csv";
         createNewFile(fileName, contentList);
 
         LOGGER.info("Datacenters experimental results generated successfully at: {}", fileName);
 
         generateDatacentersSummary(datacenterDir.getAbsolutePath());
+        generateLiveVmMigrationsResults(datacenterDir.getAbsolutePath());
+    }
+
+    /**
+     * Generates the memory transfer results of each finished live VM migration, by the datacenter the migration started from.
+     *
+     * @param datacenterDir the directory of the datacenters' experimental results
+     */
+    private void generateLiveVmMigrationsResults(final String datacenterDir) {
+        List<String> contentList = new ArrayList<>();
+        contentList.add("Provider,DC ID,VM ID,Source Host ID,Destination DC ID,Destination Host ID,Start Time (Seconds)," +
+            "Finish Time (Seconds),Migration Time (Seconds),Downtime (Seconds),Transferred Data (MB)");
+
+        int provider = 1;
+        for (DatacenterBroker broker : BROKERS) {
+            for (Datacenter datacenter : getProviderDatacenterList(broker)) {
+                DatacenterPro datacenterPro = (DatacenterPro) datacenter;
+
+                for (MigrationTransfer transfer : datacenterPro.getMigrationTransferEngine().getFinishedTransferList()) {
+                    contentList.add(provider + "," + datacenter.getId() + "," + transfer.getVm().getId() + "," +
+                        transfer.getSourceHost().getId() + "," + transfer.getTargetHost().getDatacenter().getId() + "," +
+                        transfer.getTargetHost().getId() + "," + transfer.getStartTime() + "," +
+                        (transfer.getStartTime() + transfer.getMigrationTime()) + "," + transfer.getMigrationTime() + "," +
+                        transfer.getDowntime() + "," + transfer.getDataSize());
+                }
+            }
+
+            provider++;
+        }
+
+        String fileName = datacenterDir + File.separator + "live-vm-migrations.csv";
+        createNewFile(fileName, contentList);
+
+        LOGGER.info("Live VM migrations results generated successfully at: {}", fileName);
     }
 
     private void generateDatacentersSummary(final String datacenterDir) {
@@ -248,7 +307,7 @@ public class ExperimentalResults {
             averageSLATAH + "," + averageSLAV + "," + averageESV + "," + averagePUE + "," + totalEnergyConsumption + "," + totalEnergyCost + "," +
             totalCarbonEmission + "," + totalCarbonTax + "," + totalCost);
 
-        String fileName = datacenterDir + "\\" + "summary.csv";
+        String fileName = datacenterDir + File.separator + "summary.csv";
         createNewFile(fileName, contentList);
 
         LOGGER.info("Datacenters summary results generated successfully at: {}", fileName);
@@ -276,7 +335,7 @@ public class ExperimentalResults {
             provider++;
         }
 
-        String fileName = brokerDir.getAbsolutePath() + "\\" + "brokers.csv";
+        String fileName = brokerDir.getAbsolutePath() + File.separator + "brokers.csv";
         createNewFile(fileName, contentList);
 
         LOGGER.info("Brokers experimental results generated successfully at: {}", fileName);
@@ -317,7 +376,7 @@ public class ExperimentalResults {
             totalNumberOfCreatedCloudlets + "," + totalNumberOfWaitingCloudlets + "," + totalNumberOfCreatedVms + "," +
             totalNumberOfWaitingVms + "," + totalNumberOfFailedVms + "," + averageVmsExecutionTime);
 
-        String fileName = brokerDir + "\\" + "summary.csv";
+        String fileName = brokerDir + File.separator + "summary.csv";
         createNewFile(fileName, contentList);
 
         LOGGER.info("Brokers summary results generated successfully at: {}", fileName);
@@ -325,7 +384,7 @@ public class ExperimentalResults {
 
     private void generateSimulationOverallResults() {
         final File file = createNewDirectory("simulation-overall-results");
-        String fileName = file.getAbsolutePath() + "\\" + "results.csv";
+        String fileName = file.getAbsolutePath() + File.separator + "results.csv";
 
         List<Cloudlet> cloudletList = BROKERS.stream()
             .map(DatacenterBroker::getCloudletCreatedList)
@@ -364,7 +423,7 @@ public class ExperimentalResults {
             for (Datacenter datacenter : getProviderDatacenterList(broker)) {
                 DatacenterPro datacenterPro = (DatacenterPro) datacenter;
 
-                String fileName = file.getAbsolutePath() + "\\" + datacenter.getId() + "_" + datacenter.getName() + ".csv";
+                String fileName = file.getAbsolutePath() + File.separator + datacenter.getId() + "_" + datacenter.getName() + ".csv";
                 List<String> contentList = new ArrayList<>();
 
                 contentList.add("From,To,Temperature (centigrade),Temperature (fahrenheit)");
@@ -405,7 +464,7 @@ public class ExperimentalResults {
     }
 
     private File createNewDirectory(final String directoryName) {
-        File file = new File(SOURCE_DIR.getAbsolutePath() + "\\" + directoryName);
+        File file = new File(SOURCE_DIR.getAbsolutePath() + File.separator + directoryName);
 
         if (!file.mkdir()) {
             throw new IllegalStateException("The Simulator is not able to create the requested directory!");
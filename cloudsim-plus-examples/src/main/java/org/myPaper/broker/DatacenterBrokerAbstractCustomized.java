@@ -809,6 +809,19 @@ public abstract class DatacenterBrokerAbstractCustomized extends CloudSimEntity
 
     @Override
     public DatacenterBroker requestIdleVmDestruction(final Vm vm) {
+        /*The request is buffered when the VM is being updated by a worker thread,
+        due to parallel Host processing, since it changes the broker state.*/
+        getSimulation().runOrBuffer(() -> destroyIdleVm(vm));
+        return this;
+    }
+
+    /**
+     * Requests the destruction of a VM if it's idle enough,
+     * as described in {@link #requestIdleVmDestruction(Vm)}.
+     *
+     * @param vm the VM to destroy
+     */
+    private void destroyIdleVm(final Vm vm) {
         final double delay = vmDestructionDelayFunction.apply(vm);
 
         if (vm.isCreated()) {
@@ -822,15 +835,13 @@ public abstract class DatacenterBrokerAbstractCustomized extends CloudSimEntity
                     new CloudSimEvent(vmDestructionDelayFunction.apply(vm),
                         vm.getHost().getDatacenter(),
                         CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING));
-                return this;
+                return;
             }
         }
 
         if (isTimeToShutdownBroker() && isBrokerIdle()) {
             shutdownEntity();
         }
-
-        return this;
     }
 
     @Override
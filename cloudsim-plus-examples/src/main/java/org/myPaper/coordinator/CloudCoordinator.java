@@ -60,6 +60,16 @@ public class CloudCoordinator {
         return federatedDatacenterList;
     }
 
+    /**
+     * Gets the list of hosts at the given datacenter that can be shared with a broker of another cloud provider,
+     * which are the active hosts that aren't overutilized and, if allowed, the sleep ones.
+     * All hosts are checked against their current state, since the shared hosts are requested whenever VMs are placed,
+     * when the utilization of some hosts may have changed since their last processing update.
+     *
+     * @param sourceProviderBroker the broker of the cloud provider requesting the hosts
+     * @param datacenter the datacenter
+     * @return the list of shared hosts
+     */
     public List<Host> getListOfSharedInfrastructures(final DatacenterBroker sourceProviderBroker, Datacenter datacenter) {
         if (!brokerAccessVerification(sourceProviderBroker)) {
             throw new IllegalStateException("The Broker " + sourceProviderBroker.getName() + " is not allowed to access the " +
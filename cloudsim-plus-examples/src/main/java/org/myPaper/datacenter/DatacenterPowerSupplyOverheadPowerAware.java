@@ -152,9 +152,27 @@ public class DatacenterPowerSupplyOverheadPowerAware extends DatacenterPowerSupp
             return 0;
         }
 
-        double ITLoad = getITLoad(ITPowerConsumption, addedPowerConsumption);
         DatacenterPro datacenterPro = (DatacenterPro) datacenter;
-        double outsideTemperature = datacenterPro.getOutsideTemperature();
+
+        return getDynamicPUE(ITPowerConsumption, addedPowerConsumption, datacenterPro.getOutsideTemperature());
+    }
+
+    /**
+     * Gets the datacenter's dynamic PUE according to the given outside temperature instead of reading the current
+     * outside temperature of the datacenter.
+     *
+     * @param ITPowerConsumption the power consumption by IT resources
+     * @param addedPowerConsumption the extra amount of power consumption that might be added to the datacenter in the future
+     * @param outsideTemperature the datacenter's outside temperature in centigrade
+     * @return the datacenter's dynamic PUE in range >= 1
+     * @see #getDynamicPUE(double, double)
+     */
+    public double getDynamicPUE(final double ITPowerConsumption, final double addedPowerConsumption, final double outsideTemperature) {
+        if (ITPowerConsumption + addedPowerConsumption <= 0) {
+            return 0;
+        }
+
+        double ITLoad = getITLoad(ITPowerConsumption, addedPowerConsumption);
 
         return 1 + ((0.2 + 0.01 * ITLoad + 0.01 * ITLoad * outsideTemperature) / ITLoad);
     }
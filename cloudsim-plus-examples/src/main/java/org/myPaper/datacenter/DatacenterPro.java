@@ -4,9 +4,11 @@ import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.DatacenterPowerSupply;
 import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
 import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.HostEventInfo;
@@ -26,6 +28,13 @@ import static java.util.Objects.requireNonNull;
 public class DatacenterPro extends DatacenterSimple {
     private static final Logger LOGGER = LoggerFactory.getLogger(DatacenterPro.class.getSimpleName());
 
+    /**
+     * The tag of the events sent by the datacenter to itself for updating the live migration transfers.
+     *
+     * @see #updateMigrationTransfers(SimEvent)
+     */
+    private static final int VM_MIGRATION_TRANSFER_UPDATE = 1000;
+
     /**
      * @see #setCloudCoordinator(CloudCoordinator)
      * @see #getCloudCoordinator()
@@ -58,14 +67,24 @@ public class DatacenterPro extends DatacenterSimple {
     /**
      * @see #getHostTotalOverUtilizationTime(Host)
      */
-    private final Map<Host, List<HostOverUtilizationHistoryEntry>> hostOverUtilizationHistoryMap;
+    private final Map<Host, HostOverUtilizationHistorySimpleEntry> hostOverUtilizationHistoryMap;
 
     /**
      * @see #migrationQueueCheckUp(HostEventInfo)
+     * @see #getMigrationAdmissionQueue()
+     */
+    private final MigrationAdmissionQueue migrationAdmissionQueue;
+
+    /**
+     * @see #getMigrationTransferEngine()
      */
-    private final Map<Host, List<Vm>> hostVmMigrationQueueMap;
+    private final MigrationTransferEngine migrationTransferEngine;
 
-    private final List<Host> hostEventListenerSuspensionQueue;
+    /**
+     * The time of the last scheduled {@link #VM_MIGRATION_TRANSFER_UPDATE} event or -1 if there isn't any.
+     * The events scheduled for other times are outdated and ignored.
+     */
+    private double nextMigrationTransferUpdateTime;
 
     /**
      * @see #getMaximumNumberOfLiveVmMigrations()
@@ -73,6 +92,11 @@ public class DatacenterPro extends DatacenterSimple {
      */
     private final Map<Vm, Integer> vmNumberOfVmMigrationsMap;
 
+    /**
+     * @see #getMaximumNumberOfLiveVmMigrations()
+     */
+    private int totalNumberOfLiveVmMigrations;
+
     /**
      * @see #updateHostCpuUtilizationHistory(HostEventInfo)
      */
@@ -83,6 +107,11 @@ public class DatacenterPro extends DatacenterSimple {
      */
     private boolean saveHostAverageCpuUtilization;
 
+    /**
+     * @see #getHostCpuUtilizationIndex()
+     */
+    private final HostCpuUtilizationIndex hostCpuUtilizationIndex;
+
     public DatacenterPro(Simulation simulation, List<? extends Host> hostList) {
         this(simulation, hostList, new VmAllocationPolicySimple());
     }
@@ -95,14 +124,20 @@ public class DatacenterPro extends DatacenterSimple {
         energyPriceModel = null;
         carbonRateAndTaxModel = null;
         hostOverUtilizationHistoryMap = new HashMap<>();
-        hostVmMigrationQueueMap = new HashMap<>();
-        hostEventListenerSuspensionQueue = new ArrayList<>();
         vmNumberOfVmMigrationsMap = new HashMap<>();
+        totalNumberOfLiveVmMigrations = 0;
         hostCpuUtilizationHistorySimpleEntryMap = new HashMap<>();
         saveHostAverageCpuUtilization = false;
+        hostCpuUtilizationIndex = new HostCpuUtilizationIndex(getHostList());
+        migrationAdmissionQueue = new MigrationAdmissionQueue(hostCpuUtilizationIndex);
+        migrationTransferEngine = new MigrationTransferEngine(host ->
+            Conversion.bitesToBytes(host.getBw().getCapacity() * getBandwidthPercentForMigration()));
+        nextMigrationTransferUpdateTime = -1;
 
         getSimulation().addOnClockTickListener(this::simulationClockTickListener);
         getHostList().parallelStream().forEach(host -> host.addOnUpdateProcessingListener(this::hostOnUpdateProcessingListener));
+        //Sleep hosts have no VM, so they are kept into the index with no CPU utilization
+        getHostList().forEach(host -> host.addOnShutdownListener(info -> hostCpuUtilizationIndex.update(info.getHost())));
     }
 
     /**
@@ -158,14 +193,13 @@ public class DatacenterPro extends DatacenterSimple {
     }
 
     private void hostOverUtilizationCheckUp(HostEventInfo hostEventInfo) {
-        if (!hostOverUtilizedStateHistory || hostEventListenerSuspensionQueue.contains(hostEventInfo.getHost())) {
+        if (!hostOverUtilizedStateHistory || migrationAdmissionQueue.isAdmitting(hostEventInfo.getHost())) {
             return;
         }
         Host host = hostEventInfo.getHost();
 
         if (host.getCpuPercentUtilization() >= 1.0 || host.getPreviousUtilizationOfCpu() >= 1.0) {
-            hostOverUtilizationHistoryMap.putIfAbsent(host, new ArrayList<>());
-            hostOverUtilizationHistoryMap.get(host).add(new HostOverUtilizationHistoryEntry(host));
+            hostOverUtilizationHistoryMap.computeIfAbsent(host, HostOverUtilizationHistorySimpleEntry::new).addNewSample();
         }
     }
 
@@ -176,39 +210,9 @@ public class DatacenterPro extends DatacenterSimple {
      * @return the total time that the given host has experienced 100% or higher amount of CPU utilization in second
      */
     private double getHostTotalOverUtilizationTime(Host host) {
-        List<HostOverUtilizationHistoryEntry> hostOverUtilizationStateHistory = hostOverUtilizationHistoryMap.get(host);
-
-        if (hostOverUtilizationStateHistory == null || hostOverUtilizationStateHistory.isEmpty()) {
-            return 0;
-        }
-
-        double totalTime = 0;
-        double previousTime = -1;
-        boolean wasPreviousEntryFullyUtilized = false;
-
-        for (HostOverUtilizationHistoryEntry hostOverUtilizationHistoryEntry : hostOverUtilizationStateHistory) {
-            if (hostOverUtilizationHistoryEntry.wasFullyUtilized()) {
-                if (previousTime == -1) {
-                    previousTime = hostOverUtilizationHistoryEntry.getTIME();
-                }
-
-                if (wasPreviousEntryFullyUtilized) {
-                    totalTime += hostOverUtilizationHistoryEntry.getTIME() - previousTime;
-                }
-
-                wasPreviousEntryFullyUtilized = true;
-            } else {
-                if (wasPreviousEntryFullyUtilized) {
-                    totalTime += hostOverUtilizationHistoryEntry.getTIME() - previousTime;
-                }
+        HostOverUtilizationHistorySimpleEntry hostOverUtilizationHistory = hostOverUtilizationHistoryMap.get(host);
 
-                wasPreviousEntryFullyUtilized = false;
-            }
-
-            previousTime = hostOverUtilizationHistoryEntry.getTIME();
-        }
-
-        return totalTime;
+        return hostOverUtilizationHistory == null ? 0 : hostOverUtilizationHistory.getTotalOverUtilizationTime();
     }
 
     /**
@@ -218,7 +222,21 @@ public class DatacenterPro extends DatacenterSimple {
      * @see #getOutsideTemperature()
      */
     public void loadWeatherDataset(final String weatherDataset) throws IOException, ParseException {
+        loadWeatherDataset(weatherDataset, false);
+    }
+
+    /**
+     * Loads the datacenter outside temperature dataset.
+     *
+     * @param weatherDataset weather dataset (CSV file)
+     * @param interpolated   indicates if the outside temperature must be linearly interpolated between the recorded
+     *                       times of the dataset
+     * @see #getOutsideTemperature()
+     * @see OutsideTemperature#setInterpolated(boolean)
+     */
+    public void loadWeatherDataset(final String weatherDataset, final boolean interpolated) throws IOException, ParseException {
         outsideTemperature = new OutsideTemperature(this);
+        outsideTemperature.setInterpolated(interpolated);
         outsideTemperature.loadOutsideTemperature(weatherDataset);
     }
 
@@ -447,10 +465,12 @@ public class DatacenterPro extends DatacenterSimple {
         }
 
         //In a federated environment some VMs might not be in this data center any more.
+        final List<Vm> createdVmList = getCreatedVmList();
+        final Set<Vm> createdVmSet = new HashSet<>(createdVmList);
         final int numberVMsThatAreNotHereAnyMore = (int) vmNumberOfVmMigrationsMap.keySet().stream()
-            .filter(vm -> !getCreatedVmList().contains(vm))
+            .filter(vm -> !createdVmSet.contains(vm))
             .count();
-        final int numberOfCreatedVms = getCreatedVmList().size() + numberVMsThatAreNotHereAnyMore;
+        final int numberOfCreatedVms = createdVmList.size() + numberVMsThatAreNotHereAnyMore;
 
         return vmNumberOfVmMigrationsMap.keySet().stream()
             .mapToDouble(integer -> (integer.getTotalMipsCapacity() * integer.getHost().getVmScheduler().getVmMigrationCpuOverhead() /
@@ -508,15 +528,14 @@ public class DatacenterPro extends DatacenterSimple {
         final String currentTime = getSimulation().clockStr();
         final Host sourceHost = sourceVm.getHost();
 
-        final double delay = timeToMigrateVm(sourceVm, targetHost);
         final String msg1 =
             sourceHost == Host.NULL ?
                 String.format("%s to %s", sourceVm, targetHost) :
                 String.format("%s from %s to %s", sourceVm, sourceHost, targetHost);
 
         final String msg2 = String.format(
-            "It's expected to finish in %.2f seconds, considering the %.0f%% of bandwidth allowed for migration and the VM RAM size.",
-            delay, getBandwidthPercentForMigration() * 100);
+            "Its %d MB of RAM are transferred using the %.0f%% of bandwidth allowed for migration, shared with the other migrations of the hosts.",
+            sourceVm.getRam().getCapacity(), getBandwidthPercentForMigration() * 100);
         LOGGER.info("{}: {}: Migration of {} is started. {}", currentTime, getName(), msg1, msg2);
 
         /*
@@ -525,71 +544,160 @@ public class DatacenterPro extends DatacenterSimple {
          */
         sourceVm.setCreated(false);
 
-        if (targetHost.addMigratingInVm(sourceVm)) {
+        if (!migrationAdmissionQueue.isMigrationLimitReached(targetHost) && targetHost.addMigratingInVm(sourceVm)) {
             if (!sourceHost.getVmsMigratingOut().contains(sourceVm)) {
                 sourceHost.addVmMigratingOut(sourceVm);
             }
 
             increaseVmNumberOfMigrationsHistory(sourceVm);
 
-            send(targetHost.getDatacenter(), delay, CloudSimTags.VM_MIGRATE, new TreeMap.SimpleEntry<>(sourceVm, targetHost));
-        } else {
-            hostVmMigrationQueueMap.putIfAbsent(targetHost, new ArrayList<>());
-            if (!hostVmMigrationQueueMap.get(targetHost).contains(sourceVm)) {
-                sourceHost.addVmMigratingOut(sourceVm);
+            migrationTransferEngine.start(sourceVm, sourceHost, targetHost, getSimulation().clock());
+            //The rates are computed once for all the migrations started at the current time
+            scheduleMigrationTransferUpdate(getSimulation().clock());
+        } else if (!migrationAdmissionQueue.contains(targetHost, sourceVm)) {
+            sourceHost.addVmMigratingOut(sourceVm);
 
-                LOGGER.warn("{}: {}: Migration of {} is not possible at the moment due to the lack of resources at {}.",
+            if (migrationAdmissionQueue.isMigrationLimitReached(targetHost)) {
+                LOGGER.warn("{}: {}: Migration of {} is not possible at the moment since {} has reached the maximum number of concurrent migrations.",
                     currentTime,
                     getName(),
                     sourceVm,
                     targetHost);
-
-                LOGGER.info("{}: {}: The {} is added to the migration queue of {} and will be done as soon as possible.",
+            } else {
+                LOGGER.warn("{}: {}: Migration of {} is not possible at the moment due to the lack of resources at {}.",
                     currentTime,
                     getName(),
                     sourceVm,
                     targetHost);
-                hostVmMigrationQueueMap.get(targetHost).add(sourceVm);
             }
+
+            LOGGER.info("{}: {}: The {} is added to the migration queue of {} and will be done as soon as possible.",
+                currentTime,
+                getName(),
+                sourceVm,
+                targetHost);
+            migrationAdmissionQueue.add(targetHost, sourceVm);
         }
 
         //Turns the Vm to its previous state
         sourceVm.setCreated(true);
     }
 
+    /**
+     * Admits the queued migrations into the host of the given event, in the order of their resource needs,
+     * skipping the VMs the host is not suitable for, until it reaches the maximum number of concurrent migrations.
+     * The host is just checked if some of its capacity was freed since its queued VMs were rejected.
+     *
+     * @param hostEventInfo the host event info
+     * @see MigrationAdmissionQueue#isWakeUpNeeded(Host)
+     */
     private void migrationQueueCheckUp(final HostEventInfo hostEventInfo) {
-        if (hostVmMigrationQueueMap.isEmpty() || hostEventListenerSuspensionQueue.contains(hostEventInfo.getHost())) {
-            return;
-        }
-
         Host host = hostEventInfo.getHost();
 
-        if (!hostVmMigrationQueueMap.containsKey(host) || hostVmMigrationQueueMap.get(host).isEmpty()) {
+        if (!migrationAdmissionQueue.isWakeUpNeeded(host)) {
             return;
         }
 
         //Suspend the listener in order to avoid repetitive calls
-        hostEventListenerSuspensionQueue.add(host);
+        migrationAdmissionQueue.startAdmission(host);
 
-        List<Vm> migrationList = new ArrayList<>(hostVmMigrationQueueMap.get(host));
-        List<Vm> removeQueueList = new ArrayList<>();
+        try {
+            for (final Vm sourceVm : migrationAdmissionQueue.getVmList(host)) {
+                if (migrationAdmissionQueue.isMigrationLimitReached(host)) {
+                    break;
+                }
+
+                if (!host.isSuitableForVm(sourceVm)) {
+                    continue;
+                }
 
-        for (Vm sourceVm : migrationList) {
-            if (host.isSuitableForVm(sourceVm)) {
                 LOGGER.info("{}: {}: {} has become suitable for {} and closed the VM from its migration queue.",
                     getSimulation().clockStr(),
                     getName(),
                     host,
                     sourceVm);
 
+                //If the migration cannot be started, the VM is queued again
+                migrationAdmissionQueue.remove(host, sourceVm);
                 requestVmMigration(sourceVm, host);
-                removeQueueList.add(sourceVm);
             }
+        } finally {
+            migrationAdmissionQueue.finishAdmission(host);
+        }
+    }
+
+    /**
+     * Gets the queue of migrations that are waiting for resources at their destination hosts.
+     *
+     * @return the migration admission queue
+     */
+    public MigrationAdmissionQueue getMigrationAdmissionQueue() {
+        return migrationAdmissionQueue;
+    }
+
+    @Override
+    public void processEvent(final SimEvent evt) {
+        if (evt.getTag() == VM_MIGRATION_TRANSFER_UPDATE) {
+            updateMigrationTransfers(evt);
+            return;
+        }
+
+        super.processEvent(evt);
+    }
+
+    /**
+     * Finishes the migration transfers that are complete, sending the {@link CloudSimTags#VM_MIGRATE} event of each one
+     * to the destination datacenter, and schedules the next update for the time the next transfer will finish.
+     *
+     * @param evt the update event
+     */
+    private void updateMigrationTransfers(final SimEvent evt) {
+        if ((double) evt.getData() != nextMigrationTransferUpdateTime) {
+            return;
+        }
+
+        nextMigrationTransferUpdateTime = -1;
+
+        for (final MigrationTransfer transfer : migrationTransferEngine.finishCompletedTransfers(getSimulation().clock())) {
+            LOGGER.info("{}: {}: Memory transfer of {} to {} is finished in {} seconds with a downtime of {} seconds.",
+                getSimulation().clockStr(),
+                getName(),
+                transfer.getVm(),
+                transfer.getTargetHost(),
+                String.format("%.2f", transfer.getMigrationTime()),
+                String.format("%.2f", transfer.getDowntime()));
+
+            sendNow(transfer.getTargetHost().getDatacenter(),
+                CloudSimTags.VM_MIGRATE,
+                new TreeMap.SimpleEntry<>(transfer.getVm(), transfer.getTargetHost()));
         }
 
-        removeQueueList.forEach(vm -> hostVmMigrationQueueMap.get(host).remove(vm));
+        if (!migrationTransferEngine.isEmpty()) {
+            scheduleMigrationTransferUpdate(migrationTransferEngine.getNextFinishTime());
+        }
+    }
 
-        hostEventListenerSuspensionQueue.remove(host);
+    /**
+     * Schedules a migration transfer update for the given time, which makes the previously scheduled update outdated.
+     *
+     * @param time the update time
+     */
+    private void scheduleMigrationTransferUpdate(final double time) {
+        if (time == nextMigrationTransferUpdateTime || time == Double.MAX_VALUE) {
+            return;
+        }
+
+        nextMigrationTransferUpdateTime = time;
+        send(this, time - getSimulation().clock(), VM_MIGRATION_TRANSFER_UPDATE, time);
+    }
+
+    /**
+     * Gets the engine that shares the bandwidth of the hosts among their concurrent live migrations.
+     *
+     * @return the migration transfer engine
+     */
+    public MigrationTransferEngine getMigrationTransferEngine() {
+        return migrationTransferEngine;
     }
 
     /**
@@ -609,9 +717,7 @@ public class DatacenterPro extends DatacenterSimple {
      * @return the maximum number of live Vm migrations
      */
     public int getMaximumNumberOfLiveVmMigrations() {
-        return vmNumberOfVmMigrationsMap.values().stream()
-            .mapToInt(i -> i)
-            .sum();
+        return totalNumberOfLiveVmMigrations;
     }
 
     /**
@@ -620,24 +726,31 @@ public class DatacenterPro extends DatacenterSimple {
      * @param vm the Vm
      */
     public void increaseVmNumberOfMigrationsHistory(final Vm vm) {
-        vmNumberOfVmMigrationsMap.putIfAbsent(vm, 0);
-
-        int totalNumberOfMigrations = vmNumberOfVmMigrationsMap.get(vm) + 1;
-
-        vmNumberOfVmMigrationsMap.replace(vm, totalNumberOfMigrations);
+        vmNumberOfVmMigrationsMap.merge(vm, 1, Integer::sum);
+        totalNumberOfLiveVmMigrations++;
     }
 
     /**
      * Makes the Idle hosts shutdown when (No event happens in the datacenter for checking them).
+     * While there are idle hosts to shut down, it requests the simulation to wake up in the next scheduling interval,
+     * since no event may happen in the datacenter if the simulation clock is skipping ahead.
      */
     private void resourceController() {
+        if (!getVmExecutionList().isEmpty()) {
+            return;
+        }
+
         if (getSimulation().clock() - getLastProcessTime() > getSchedulingInterval()) {
-            if (getVmExecutionList().isEmpty() && getSleepHostList().size() != getHostList().size()) {
+            if (getSleepHostList().size() != getHostList().size()) {
                 getHostList().parallelStream()
                     .filter(host -> host.isIdleEnough(host.getIdleShutdownDeadline()))
                     .forEach(host -> host.setActive(false));
             }
         }
+
+        if (getSimulation().isClockSkipAhead() && getSchedulingInterval() > 0 && getHostList().stream().anyMatch(Host::isActive)) {
+            getSimulation().scheduleWakeUp(getSimulation().clock() + getSchedulingInterval());
+        }
     }
 
     /**
@@ -700,7 +813,18 @@ public class DatacenterPro extends DatacenterSimple {
         return hostCpuUtilizationHistorySimpleEntryMap.get(host).getAverageCpuUtilization();
     }
 
+    /**
+     * Gets the index of the datacenter's hosts sorted by their CPU utilization,
+     * which is updated every time a host processing is updated.
+     *
+     * @return the host CPU utilization index
+     */
+    public HostCpuUtilizationIndex getHostCpuUtilizationIndex() {
+        return hostCpuUtilizationIndex;
+    }
+
     private void hostOnUpdateProcessingListener(final HostEventInfo hostEventInfo) {
+        hostCpuUtilizationIndex.update(hostEventInfo.getHost());
         migrationQueueCheckUp(hostEventInfo);
         hostOverUtilizationCheckUp(hostEventInfo);
         updateHostCpuUtilizationHistory(hostEventInfo);
@@ -0,0 +1,95 @@
+package org.myPaper.datacenter;
+
+import org.cloudbus.cloudsim.hosts.Host;
+
+import java.util.*;
+
+/**
+ * An index of the hosts of a datacenter sorted by their CPU utilization in range 0-1.
+ * The utilization of a host is updated every time the host processing is updated,
+ * so that the hosts above or below a given threshold can be queried without checking the entire host list.
+ * Note that the utilization of a host is the one at its last processing update.
+ *
+ * <p>The methods are synchronized since the index of a datacenter may be queried by the brokers of other
+ * cloud providers while the datacenter is processed in parallel.</p>
+ */
+public class HostCpuUtilizationIndex {
+    /**
+     * The hosts grouped by their last known CPU utilization.
+     */
+    private final NavigableMap<Double, Set<Host>> utilizationHostMap;
+
+    /**
+     * @see #getCpuUtilization(Host)
+     */
+    private final Map<Host, Double> hostUtilizationMap;
+
+    public HostCpuUtilizationIndex(final List<? extends Host> hostList) {
+        utilizationHostMap = new TreeMap<>();
+        hostUtilizationMap = new HashMap<>();
+
+        hostList.forEach(this::update);
+    }
+
+    /**
+     * Updates the index with the current CPU utilization of the given host.
+     *
+     * @param host the host
+     */
+    public synchronized void update(final Host host) {
+        final double utilization = host.getCpuPercentUtilization();
+        final Double previousUtilization = hostUtilizationMap.put(host, utilization);
+
+        if (previousUtilization != null) {
+            if (previousUtilization == utilization) {
+                return;
+            }
+
+            final Set<Host> previousHostSet = utilizationHostMap.get(previousUtilization);
+            previousHostSet.remove(host);
+            if (previousHostSet.isEmpty()) {
+                utilizationHostMap.remove(previousUtilization);
+            }
+        }
+
+        utilizationHostMap.computeIfAbsent(utilization, key -> new LinkedHashSet<>()).add(host);
+    }
+
+    /**
+     * Gets the CPU utilization of the given host at its last processing update.
+     *
+     * @param host the host
+     * @return the CPU utilization in range 0-1 or 0 if the host is not indexed
+     */
+    public synchronized double getCpuUtilization(final Host host) {
+        return hostUtilizationMap.getOrDefault(host, 0.0);
+    }
+
+    /**
+     * Gets the list of hosts whose CPU utilization is greater than the given threshold,
+     * sorted by the utilization in ascending order.
+     *
+     * @param threshold the CPU utilization threshold in range 0-1
+     * @return the list of hosts
+     */
+    public synchronized List<Host> getHostsAbove(final double threshold) {
+        return toList(utilizationHostMap.tailMap(threshold, false));
+    }
+
+    /**
+     * Gets the list of hosts whose CPU utilization is lower than or equal to the given threshold,
+     * sorted by the utilization in ascending order.
+     *
+     * @param threshold the CPU utilization threshold in range 0-1
+     * @return the list of hosts
+     */
+    public synchronized List<Host> getHostsAtOrBelow(final double threshold) {
+        return toList(utilizationHostMap.headMap(threshold, true));
+    }
+
+    private static List<Host> toList(final Map<Double, Set<Host>> utilizationHostMap) {
+        final List<Host> hostList = new ArrayList<>();
+        utilizationHostMap.values().forEach(hostList::addAll);
+        return hostList;
+    }
+}
@@ -0,0 +1,75 @@
+package org.myPaper.datacenter;
+
+import org.cloudbus.cloudsim.hosts.Host;
+
+/**
+ * The class is implemented to record the total time that a host has experienced 100% or higher amount of CPU utilization
+ * during its life time. Note that in order to reduce the memory usage in this class, the over-utilized time is accumulated
+ * every time a new sample is provided and just the last sample is kept, instead of a list of over-utilization histories.
+ */
+public class HostOverUtilizationHistorySimpleEntry {
+    /**
+     * @see #getHost()
+     */
+    private final Host HOST;
+
+    /**
+     * @see #getTotalOverUtilizationTime()
+     */
+    private double totalOverUtilizationTime;
+
+    /**
+     * The time of the last provided sample.
+     */
+    private double lastSampleTime;
+
+    /**
+     * Indicates if the host was fully-utilized at the last provided sample.
+     */
+    private boolean wasLastSampleFullyUtilized;
+
+    public HostOverUtilizationHistorySimpleEntry(final Host host) {
+        HOST = host;
+        totalOverUtilizationTime = 0;
+        lastSampleTime = -1;
+        wasLastSampleFullyUtilized = false;
+    }
+
+    /**
+     * Gets the host.
+     *
+     * @return the host
+     */
+    public Host getHost() {
+        return HOST;
+    }
+
+    /**
+     * Adds a new sample of the host's current CPU utilization, which must be provided when the host is over-utilized or
+     * was over-utilized at the previous processing update.
+     * If the host was fully-utilized at the last sample, the elapsed time since then is added to the over-utilized time.
+     *
+     * @see #getTotalOverUtilizationTime()
+     */
+    public void addNewSample() {
+        final double time = HOST.getSimulation().clock();
+
+        if (wasLastSampleFullyUtilized) {
+            totalOverUtilizationTime += time - lastSampleTime;
+        }
+
+        wasLastSampleFullyUtilized = HOST.getCpuPercentUtilization() >= 1.0;
+        lastSampleTime = time;
+    }
+
+    /**
+     * Gets the total time (in second) that the host has experienced 100% or higher amount of CPU utilization
+     * according to the provided samples.
+     *
+     * @return the total over-utilized time in second
+     * @see #addNewSample()
+     */
+    public double getTotalOverUtilizationTime() {
+        return totalOverUtilizationTime;
+    }
+}
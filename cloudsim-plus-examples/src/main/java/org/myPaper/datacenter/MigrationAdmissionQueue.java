@@ -0,0 +1,259 @@
+package org.myPaper.datacenter;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.*;
+
+/**
+ * The queue of live VM migrations that could not be started, due to the lack of resources at the destination host
+ * or to the maximum number of concurrent migrations into it. Each destination host has its own queue,
+ * sorted by the VMs resource needs in ascending order, so that the smaller VMs are admitted first.
+ * Since this order does not mean that a VM fits whenever a previous one does (e.g., a VM may need less PEs but more RAM),
+ * all queued VMs are checked when the host is woken up.
+ *
+ * <p>A host is woken up only if some of its capacity was freed since the last time its queued VMs
+ * could not be admitted, i.e., it has more free PEs, RAM, bandwidth or storage, a lower CPU utilization or
+ * less VMs migrating into it. Therefore, hosts with queued migrations are not checked at every processing update.</p>
+ */
+public class MigrationAdmissionQueue {
+    /**
+     * Sorts the VMs according to their resource needs, using the VM UID to break ties.
+     */
+    private static final Comparator<Vm> RESOURCE_NEED_COMPARATOR =
+        Comparator.comparingLong(Vm::getNumberOfPes)
+            .thenComparingLong(vm -> vm.getRam().getCapacity())
+            .thenComparingLong(vm -> vm.getBw().getCapacity())
+            .thenComparingLong(vm -> vm.getStorage().getCapacity())
+            .thenComparing(Vm::getUid);
+
+    private final Map<Host, HostQueue> hostQueueMap;
+
+    private final HostCpuUtilizationIndex hostCpuUtilizationIndex;
+
+    /**
+     * @see #getMaximumConcurrentMigrationsPerHost()
+     */
+    private int maximumConcurrentMigrationsPerHost;
+
+    /**
+     * Instantiates a migration admission queue.
+     *
+     * @param hostCpuUtilizationIndex the index used to check if the CPU utilization of a host has decreased
+     */
+    public MigrationAdmissionQueue(final HostCpuUtilizationIndex hostCpuUtilizationIndex) {
+        this.hostCpuUtilizationIndex = Objects.requireNonNull(hostCpuUtilizationIndex);
+        hostQueueMap = new HashMap<>();
+        maximumConcurrentMigrationsPerHost = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Adds a VM to the migration queue of the given destination host.
+     * The capacity of the host is just saved when its queue is created, since a capacity freed while the queue
+     * is waiting must still wake the host up, even if another VM is added in the meantime.
+     *
+     * @param targetHost the destination host
+     * @param vm         the VM
+     * @return true if the VM was added, false if it was already in the queue
+     */
+    public boolean add(final Host targetHost, final Vm vm) {
+        HostQueue hostQueue = hostQueueMap.get(targetHost);
+        if (hostQueue == null) {
+            hostQueue = new HostQueue(targetHost);
+            hostQueue.saveCapacity();
+            hostQueueMap.put(targetHost, hostQueue);
+        }
+
+        return hostQueue.vmSet.add(vm);
+    }
+
+    /**
+     * Checks if a VM is in the migration queue of the given destination host.
+     *
+     * @param targetHost the destination host
+     * @param vm         the VM
+     * @return true if the VM is in the queue, false otherwise
+     */
+    public boolean contains(final Host targetHost, final Vm vm) {
+        final HostQueue hostQueue = hostQueueMap.get(targetHost);
+        return hostQueue != null && hostQueue.vmSet.contains(vm);
+    }
+
+    /**
+     * Removes a VM from the migration queue of the given destination host.
+     *
+     * @param targetHost the destination host
+     * @param vm         the VM
+     */
+    public void remove(final Host targetHost, final Vm vm) {
+        final HostQueue hostQueue = hostQueueMap.get(targetHost);
+        if (hostQueue == null) {
+            return;
+        }
+
+        hostQueue.vmSet.remove(vm);
+        if (hostQueue.vmSet.isEmpty() && !hostQueue.admitting) {
+            hostQueueMap.remove(targetHost);
+        }
+    }
+
+    /**
+     * Checks if there isn't any queued migration.
+     *
+     * @return true if all queues are empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return hostQueueMap.isEmpty();
+    }
+
+    /**
+     * Gets the total number of queued migrations.
+     *
+     * @return the number of queued migrations
+     */
+    public int size() {
+        return hostQueueMap.values().stream().mapToInt(hostQueue -> hostQueue.vmSet.size()).sum();
+    }
+
+    /**
+     * Checks if the given host must be woken up to admit some of its queued migrations,
+     * which happens when it has queued migrations, it is not already admitting migrations
+     * and some of its capacity was freed since its queued VMs were rejected.
+     *
+     * @param targetHost the destination host
+     * @return true if the host queue must be checked, false otherwise
+     */
+    public boolean isWakeUpNeeded(final Host targetHost) {
+        final HostQueue hostQueue = hostQueueMap.get(targetHost);
+        return hostQueue != null && !hostQueue.admitting && hostQueue.hasCapacityBeenFreed();
+    }
+
+    /**
+     * Starts admitting the queued migrations of the given host.
+     * While it is admitting, the host is not woken up again.
+     *
+     * @param targetHost the destination host
+     * @see #finishAdmission(Host)
+     */
+    public void startAdmission(final Host targetHost) {
+        final HostQueue hostQueue = hostQueueMap.get(targetHost);
+        if (hostQueue != null) {
+            hostQueue.admitting = true;
+        }
+    }
+
+    /**
+     * Finishes admitting the queued migrations of the given host, saving its current capacity
+     * so that it is just woken up again when some of its capacity is freed.
+     *
+     * @param targetHost the destination host
+     * @see #startAdmission(Host)
+     */
+    public void finishAdmission(final Host targetHost) {
+        final HostQueue hostQueue = hostQueueMap.get(targetHost);
+        if (hostQueue == null) {
+            return;
+        }
+
+        hostQueue.admitting = false;
+        if (hostQueue.vmSet.isEmpty()) {
+            hostQueueMap.remove(targetHost);
+        } else {
+            hostQueue.saveCapacity();
+        }
+    }
+
+    /**
+     * Checks if the given host is admitting its queued migrations.
+     *
+     * @param targetHost the destination host
+     * @return true if the host is admitting migrations, false otherwise
+     */
+    public boolean isAdmitting(final Host targetHost) {
+        final HostQueue hostQueue = hostQueueMap.get(targetHost);
+        return hostQueue != null && hostQueue.admitting;
+    }
+
+    /**
+     * Gets a copy of the migration queue of the given host, sorted by the VMs resource needs in ascending order.
+     *
+     * @param targetHost the destination host
+     * @return the list of queued VMs, which is empty if there isn't any
+     */
+    public List<Vm> getVmList(final Host targetHost) {
+        final HostQueue hostQueue = hostQueueMap.get(targetHost);
+        return hostQueue == null ? Collections.emptyList() : new ArrayList<>(hostQueue.vmSet);
+    }
+
+    /**
+     * Checks if the given host has reached the maximum number of VMs migrating into it at the same time.
+     *
+     * @param targetHost the destination host
+     * @return true if no other migration into the host can be started, false otherwise
+     */
+    public boolean isMigrationLimitReached(final Host targetHost) {
+        return targetHost.getVmsMigratingIn().size() >= maximumConcurrentMigrationsPerHost;
+    }
+
+    /**
+     * Gets the maximum number of VMs that can migrate into a host at the same time.
+     *
+     * @return the maximum number of concurrent migrations per host
+     */
+    public int getMaximumConcurrentMigrationsPerHost() {
+        return maximumConcurrentMigrationsPerHost;
+    }
+
+    /**
+     * Sets the maximum number of VMs that can migrate into a host at the same time.
+     * The default value is {@link Integer#MAX_VALUE}, which means there is no limit.
+     *
+     * @param maximumConcurrentMigrationsPerHost the maximum number of concurrent migrations per host
+     */
+    public void setMaximumConcurrentMigrationsPerHost(final int maximumConcurrentMigrationsPerHost) {
+        if (maximumConcurrentMigrationsPerHost <= 0) {
+            throw new IllegalStateException("The maximum number of concurrent migrations per host must be greater than zero!");
+        }
+
+        this.maximumConcurrentMigrationsPerHost = maximumConcurrentMigrationsPerHost;
+    }
+
+    /**
+     * The migration queue of a destination host and the capacity of the host when its queued VMs were rejected.
+     */
+    private final class HostQueue {
+        private final Host host;
+        private final NavigableSet<Vm> vmSet;
+        private boolean admitting;
+
+        private int freePesNumber;
+        private long availableRam;
+        private long availableBw;
+        private long availableStorage;
+        private double cpuUtilization;
+        private int numberOfVmsMigratingIn;
+
+        private HostQueue(final Host host) {
+            this.host = host;
+            vmSet = new TreeSet<>(RESOURCE_NEED_COMPARATOR);
+        }
+
+        private void saveCapacity() {
+            freePesNumber = host.getFreePesNumber();
+            availableRam = host.getRamProvisioner().getAvailableResource();
+            availableBw = host.getBwProvisioner().getAvailableResource();
+            availableStorage = host.getStorage().getAvailableResource();
+            cpuUtilization = hostCpuUtilizationIndex.getCpuUtilization(host);
+            numberOfVmsMigratingIn = host.getVmsMigratingIn().size();
+        }
+
+        private boolean hasCapacityBeenFreed() {
+            return host.getFreePesNumber() > freePesNumber ||
+                host.getRamProvisioner().getAvailableResource() > availableRam ||
+                host.getBwProvisioner().getAvailableResource() > availableBw ||
+                host.getStorage().getAvailableResource() > availableStorage ||
+                hostCpuUtilizationIndex.getCpuUtilization(host) < cpuUtilization ||
+                host.getVmsMigratingIn().size() < numberOfVmsMigratingIn;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.myPaper.datacenter;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+/**
+ * The memory transfer of a live VM migration, whose rate is assigned by the {@link MigrationTransferEngine}
+ * and may change every time another migration sharing its source or destination host starts or finishes.
+ * The VM is just stopped during the last part of the transfer (the stop-and-copy phase), which defines the migration downtime.
+ * The data sizes are in Megabytes and the rate is in Megabytes per second.
+ */
+public class MigrationTransfer {
+    private final Vm vm;
+    private final Host sourceHost;
+    private final Host targetHost;
+    private final double dataSize;
+    private final double stopAndCopyDataSize;
+    private final double startTime;
+
+    private double remainingDataSize;
+    private double rate;
+    private double lastUpdateTime;
+    private double downtimeStartTime;
+    private double finishTime;
+
+    MigrationTransfer(final Vm vm, final Host sourceHost, final Host targetHost, final double stopAndCopyRatio, final double startTime) {
+        this.vm = vm;
+        this.sourceHost = sourceHost;
+        this.targetHost = targetHost;
+        this.dataSize = vm.getRam().getCapacity();
+        this.stopAndCopyDataSize = dataSize * stopAndCopyRatio;
+        this.startTime = startTime;
+
+        remainingDataSize = dataSize;
+        rate = 0;
+        lastUpdateTime = startTime;
+        downtimeStartTime = -1;
+        finishTime = -1;
+    }
+
+    /**
+     * Updates the remaining data up to the given time, according to the current transfer rate.
+     *
+     * @param time the current simulation time
+     */
+    void update(final double time) {
+        if (time <= lastUpdateTime) {
+            return;
+        }
+
+        final double previousRemainingDataSize = remainingDataSize;
+        remainingDataSize = Math.max(0, remainingDataSize - rate * (time - lastUpdateTime));
+
+        //The rate has been constant since the last update, so the exact time the VM was stopped can be found
+        if (downtimeStartTime < 0 && remainingDataSize <= stopAndCopyDataSize) {
+            downtimeStartTime = lastUpdateTime + Math.max(0, previousRemainingDataSize - stopAndCopyDataSize) / rate;
+        }
+
+        lastUpdateTime = time;
+    }
+
+    void finish(final double time) {
+        update(time);
+        remainingDataSize = 0;
+        if (downtimeStartTime < 0) {
+            downtimeStartTime = time;
+        }
+
+        finishTime = time;
+    }
+
+    void setRate(final double rate) {
+        this.rate = rate;
+    }
+
+    public Vm getVm() {
+        return vm;
+    }
+
+    public Host getSourceHost() {
+        return sourceHost;
+    }
+
+    public Host getTargetHost() {
+        return targetHost;
+    }
+
+    /**
+     * Gets the size of the data to transfer, which is the VM RAM capacity.
+     *
+     * @return the data size in Megabytes
+     */
+    public double getDataSize() {
+        return dataSize;
+    }
+
+    /**
+     * Gets the data transferred up to the last update.
+     *
+     * @return the transferred data in Megabytes
+     */
+    public double getTransferredDataSize() {
+        return dataSize - remainingDataSize;
+    }
+
+    /**
+     * Gets the current transfer rate.
+     *
+     * @return the rate in Megabytes per second
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    public double getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Gets the time the transfer will finish if its rate does not change.
+     *
+     * @return the estimated finish time or {@link Double#MAX_VALUE} if the transfer has no bandwidth
+     */
+    public double getEstimatedFinishTime() {
+        if (isFinished()) {
+            return finishTime;
+        }
+
+        return rate > 0 ? lastUpdateTime + remainingDataSize / rate : Double.MAX_VALUE;
+    }
+
+    public boolean isFinished() {
+        return finishTime >= 0;
+    }
+
+    /**
+     * Gets the time spent from the start to the end of the transfer.
+     *
+     * @return the migration time or 0 if the transfer is not finished yet
+     */
+    public double getMigrationTime() {
+        return isFinished() ? finishTime - startTime : 0;
+    }
+
+    /**
+     * Gets the time the VM was stopped for transferring the last part of its memory.
+     *
+     * @return the downtime or 0 if the transfer is not finished yet
+     */
+    public double getDowntime() {
+        return isFinished() ? finishTime - downtimeStartTime : 0;
+    }
+}
@@ -0,0 +1,344 @@
+package org.myPaper.datacenter;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Shares the network bandwidth of the hosts among their concurrent live VM migrations. Each host has an outgoing and an
+ * incoming link whose capacity is the bandwidth allowed for migration, and every migration uses the outgoing link of its
+ * source host and the incoming link of its destination host. The rates are assigned by max-min fairness (progressive filling),
+ * so that a migration can only get more bandwidth by taking it from another one with a lower or equal rate.
+ *
+ * <p>The rates are just computed again when a migration starts or finishes, taking O((L + M) log L) for L links and
+ * M migrations, and the remaining data of each migration is updated at the same time. Therefore, the cost does not depend
+ * on the simulation clock but on the number of migrations.</p>
+ *
+ * <p>The finished transfers are kept, so that the migration time and downtime of each migration can be reported.</p>
+ */
+public class MigrationTransferEngine {
+    /**
+     * The maximum time (in seconds) that a transfer may still need to be considered finished, which avoids
+     * floating-point errors when the transfer is checked at its estimated finish time.
+     */
+    private static final double FINISH_TIME_TOLERANCE = 1e-6;
+
+    /**
+     * Gets the bandwidth allowed for migration of a host in Megabytes per second.
+     */
+    private final ToDoubleFunction<Host> hostMigrationBandwidthFunction;
+
+    /**
+     * The migrations being transferred.
+     */
+    private final Map<Vm, MigrationTransfer> transferMap;
+
+    /**
+     * @see #getFinishedTransferList()
+     */
+    private final List<MigrationTransfer> finishedTransferList;
+
+    /**
+     * @see #setStopAndCopyRatio(double)
+     */
+    private double stopAndCopyRatio;
+
+    private double lastUpdateTime;
+
+    /**
+     * Indicates if a migration has started or finished since the last time the rates were computed.
+     */
+    private boolean ratesOutdated;
+
+    private int numberOfFinishedTransfers;
+    private double totalTransferredDataSize;
+    private double totalDowntime;
+    private double maximumDowntime;
+
+    /**
+     * Instantiates a migration transfer engine.
+     *
+     * @param hostMigrationBandwidthFunction a function that gets the bandwidth allowed for migration of a host in Megabytes per second
+     */
+    public MigrationTransferEngine(final ToDoubleFunction<Host> hostMigrationBandwidthFunction) {
+        this.hostMigrationBandwidthFunction = Objects.requireNonNull(hostMigrationBandwidthFunction);
+        transferMap = new LinkedHashMap<>();
+        finishedTransferList = new ArrayList<>();
+        stopAndCopyRatio = 0.1;
+        lastUpdateTime = 0;
+        ratesOutdated = false;
+    }
+
+    /**
+     * Starts transferring the memory of a VM. The rates of the other migrations are just computed
+     * again when the transfers are updated.
+     *
+     * @param vm         the VM
+     * @param sourceHost the current host of the VM or {@link Host#NULL} if it has no host
+     * @param targetHost the destination host
+     * @param time       the current simulation time
+     * @return the started transfer
+     */
+    public MigrationTransfer start(final Vm vm, final Host sourceHost, final Host targetHost, final double time) {
+        if (transferMap.containsKey(vm)) {
+            throw new IllegalStateException(String.format("The %s is already migrating!", vm));
+        }
+
+        update(time);
+
+        final MigrationTransfer transfer = new MigrationTransfer(vm, sourceHost, targetHost, stopAndCopyRatio, time);
+        transferMap.put(vm, transfer);
+        ratesOutdated = true;
+
+        return transfer;
+    }
+
+    /**
+     * Updates the remaining data of all transfers up to the given time.
+     *
+     * @param time the current simulation time
+     */
+    public void update(final double time) {
+        //The set of migrations has changed at the last update time, so the new rates hold since then
+        computeRatesIfOutdated();
+
+        if (time > lastUpdateTime) {
+            transferMap.values().forEach(transfer -> transfer.update(time));
+            lastUpdateTime = time;
+        }
+    }
+
+    /**
+     * Finishes the transfers that are complete at the given time.
+     *
+     * @param time the current simulation time
+     * @return the list of finished transfers
+     */
+    public List<MigrationTransfer> finishCompletedTransfers(final double time) {
+        update(time);
+
+        final List<MigrationTransfer> completedTransferList = new ArrayList<>();
+        final Iterator<MigrationTransfer> iterator = transferMap.values().iterator();
+        while (iterator.hasNext()) {
+            final MigrationTransfer transfer = iterator.next();
+            if (transfer.getEstimatedFinishTime() - time > FINISH_TIME_TOLERANCE) {
+                continue;
+            }
+
+            iterator.remove();
+            transfer.finish(time);
+            completedTransferList.add(transfer);
+            finishedTransferList.add(transfer);
+
+            numberOfFinishedTransfers++;
+            totalTransferredDataSize += transfer.getDataSize();
+            totalDowntime += transfer.getDowntime();
+            maximumDowntime = Math.max(maximumDowntime, transfer.getDowntime());
+        }
+
+        if (!completedTransferList.isEmpty()) {
+            ratesOutdated = true;
+        }
+
+        return completedTransferList;
+    }
+
+    /**
+     * Gets the time the next transfer will finish if no other migration starts.
+     *
+     * @return the next finish time or {@link Double#MAX_VALUE} if there isn't any transfer with bandwidth
+     */
+    public double getNextFinishTime() {
+        computeRatesIfOutdated();
+
+        double nextFinishTime = Double.MAX_VALUE;
+        for (final MigrationTransfer transfer : transferMap.values()) {
+            nextFinishTime = Math.min(nextFinishTime, transfer.getEstimatedFinishTime());
+        }
+
+        return nextFinishTime;
+    }
+
+    /**
+     * Gets the transfer of a VM that is migrating.
+     *
+     * @param vm the VM
+     * @return the transfer or {@link Optional#empty()} if the VM is not migrating
+     */
+    public Optional<MigrationTransfer> getTransfer(final Vm vm) {
+        computeRatesIfOutdated();
+        return Optional.ofNullable(transferMap.get(vm));
+    }
+
+    public boolean isEmpty() {
+        return transferMap.isEmpty();
+    }
+
+    /**
+     * Gets the number of migrations being transferred.
+     *
+     * @return the number of concurrent migrations
+     */
+    public int size() {
+        return transferMap.size();
+    }
+
+    /**
+     * Sets the part of the VM memory that is transferred after the VM is stopped, which defines the migration downtime.
+     * The default value is 0.1.
+     *
+     * @param stopAndCopyRatio the ratio of the VM RAM in range 0-1
+     */
+    public void setStopAndCopyRatio(final double stopAndCopyRatio) {
+        if (stopAndCopyRatio < 0 || stopAndCopyRatio > 1) {
+            throw new IllegalStateException("The stop-and-copy ratio must be in range 0-1!");
+        }
+
+        this.stopAndCopyRatio = stopAndCopyRatio;
+    }
+
+    public double getStopAndCopyRatio() {
+        return stopAndCopyRatio;
+    }
+
+    /**
+     * Gets the transfers finished so far, in the order they have finished.
+     *
+     * @return an unmodifiable list of the finished transfers
+     */
+    public List<MigrationTransfer> getFinishedTransferList() {
+        return Collections.unmodifiableList(finishedTransferList);
+    }
+
+    public int getNumberOfFinishedTransfers() {
+        return numberOfFinishedTransfers;
+    }
+
+    /**
+     * Gets the total data transferred by the finished migrations.
+     *
+     * @return the total transferred data in Megabytes
+     */
+    public double getTotalTransferredDataSize() {
+        return totalTransferredDataSize;
+    }
+
+    /**
+     * Gets the total downtime of the finished migrations.
+     *
+     * @return the total downtime in seconds
+     */
+    public double getTotalDowntime() {
+        return totalDowntime;
+    }
+
+    /**
+     * Gets the average downtime of the finished migrations.
+     *
+     * @return the average downtime in seconds
+     */
+    public double getAverageDowntime() {
+        return numberOfFinishedTransfers == 0 ? 0 : totalDowntime / numberOfFinishedTransfers;
+    }
+
+    public double getMaximumDowntime() {
+        return maximumDowntime;
+    }
+
+    private void computeRatesIfOutdated() {
+        if (ratesOutdated) {
+            computeMaxMinFairRates();
+            ratesOutdated = false;
+        }
+    }
+
+    /**
+     * Assigns the max-min fair rates by progressive filling: the link with the lowest fair share is the bottleneck of its
+     * remaining migrations, which get that share and release it from their other link. Since the share of a link can
+     * just increase when some of its migrations are assigned, the links are kept in a priority queue by their share
+     * at insertion time and are inserted again when popped with an outdated share.
+     */
+    private void computeMaxMinFairRates() {
+        final Map<Host, Link> outgoingLinkMap = new HashMap<>();
+        final Map<Host, Link> incomingLinkMap = new HashMap<>();
+        for (final MigrationTransfer transfer : transferMap.values()) {
+            if (transfer.getSourceHost() != Host.NULL) {
+                outgoingLinkMap.computeIfAbsent(transfer.getSourceHost(), this::createLink).addTransfer(transfer);
+            }
+
+            incomingLinkMap.computeIfAbsent(transfer.getTargetHost(), this::createLink).addTransfer(transfer);
+        }
+
+        final PriorityQueue<Link> linkQueue = new PriorityQueue<>(Comparator.comparingDouble(link -> link.queuedShare));
+        outgoingLinkMap.values().forEach(link -> link.enqueue(linkQueue));
+        incomingLinkMap.values().forEach(link -> link.enqueue(linkQueue));
+
+        final Set<MigrationTransfer> assignedTransferSet = new HashSet<>();
+        while (!linkQueue.isEmpty()) {
+            final Link link = linkQueue.poll();
+            if (link.numberOfUnassignedTransfers == 0) {
+                continue;
+            }
+
+            if (link.getShare() > link.queuedShare) {
+                link.enqueue(linkQueue);
+                continue;
+            }
+
+            final double share = link.getShare();
+            for (final MigrationTransfer transfer : link.transferList) {
+                if (!assignedTransferSet.add(transfer)) {
+                    continue;
+                }
+
+                transfer.setRate(share);
+
+                final Link otherLink = link == incomingLinkMap.get(transfer.getTargetHost()) ?
+                    outgoingLinkMap.get(transfer.getSourceHost()) :
+                    incomingLinkMap.get(transfer.getTargetHost());
+                if (otherLink != null) {
+                    otherLink.availableCapacity = Math.max(0, otherLink.availableCapacity - share);
+                    otherLink.numberOfUnassignedTransfers--;
+                }
+            }
+
+            link.availableCapacity = 0;
+            link.numberOfUnassignedTransfers = 0;
+        }
+    }
+
+    private Link createLink(final Host host) {
+        return new Link(Math.max(0, hostMigrationBandwidthFunction.applyAsDouble(host)));
+    }
+
+    /**
+     * The outgoing or incoming migration link of a host.
+     */
+    private static final class Link {
+        private final List<MigrationTransfer> transferList;
+        private double availableCapacity;
+        private int numberOfUnassignedTransfers;
+        private double queuedShare;
+
+        private Link(final double capacity) {
+            transferList = new ArrayList<>();
+            availableCapacity = capacity;
+        }
+
+        private void addTransfer(final MigrationTransfer transfer) {
+            transferList.add(transfer);
+            numberOfUnassignedTransfers++;
+        }
+
+        private double getShare() {
+            return availableCapacity / numberOfUnassignedTransfers;
+        }
+
+        private void enqueue(final PriorityQueue<Link> linkQueue) {
+            queuedShare = getShare();
+            linkQueue.add(this);
+        }
+    }
+}
@@ -1,71 +1,30 @@
 package org.myPaper.datacenter;
 
-import com.opencsv.CSVReader;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.util.ResourceLoader;
 
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.text.DateFormat;
+import java.io.IOException;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.Map;
-import java.util.TreeMap;
 
 public class OutsideTemperature {
     private final Datacenter DATACENTER;
-    private final Map<Integer, Double> outsideTemperatureMap;
-    private Calendar csvFileStartTime = null;
-    private long maximumAllowedTime;
+    private WeatherSeries weatherSeries;
+    private boolean interpolated;
 
     public OutsideTemperature(Datacenter datacenter) {
         DATACENTER = datacenter;
-        outsideTemperatureMap = new TreeMap<>();
-    }
-
-    public void loadOutsideTemperature(String weatherDataset) throws ParseException, FileNotFoundException {
-        CSVReader csvFile = new CSVReader(new FileReader(ResourceLoader.getResourcePath(OutsideTemperature.class, weatherDataset)));
-        int line = 0;
-        long lastTime = 0;
-        for (String[] nextLine : csvFile) {
-            if (line > 0) {
-                if (csvFileStartTime == null) {
-                    setCsvFileStartTime(nextLine[0]);
-                }
-                long seconds = convertLocalTimeToSeconds(nextLine[0]);
-                lastTime = seconds;
-                outsideTemperatureMap.put((int) seconds, Double.parseDouble(nextLine[1]));
-            }
-            line++;
-        }
-
-        maximumAllowedTime = lastTime;
-    }
-
-    private void setCsvFileStartTime(final String firstTimeDate) throws ParseException {
-        DateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
-        Date date = dateFormat.parse(firstTimeDate);
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        calendar.set(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH), calendar.get(Calendar.DAY_OF_MONTH), 0, 0);
-
-        csvFileStartTime = calendar;
     }
 
     /**
-     * Convert data center local time to seconds.
+     * Loads the given weather dataset. The dataset is shared with the other datacenters which load the same file.
      *
-     * @param localTime data center local time
-     * @return local time in seconds
-     * @throws ParseException
+     * @param weatherDataset weather dataset (CSV file)
+     * @throws IOException    if the dataset could not be read
+     * @throws ParseException if a local time of the dataset could not be parsed
+     * @see WeatherSeries#getInstance(java.net.URL)
      */
-    private long convertLocalTimeToSeconds(String localTime) throws ParseException {
-        DateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
-        Date date = dateFormat.parse(localTime);
-
-        return (date.getTime() - csvFileStartTime.getTime().getTime()) / 1000L;
+    public void loadOutsideTemperature(String weatherDataset) throws ParseException, IOException {
+        weatherSeries = WeatherSeries.getInstance(ResourceLoader.getResourceUrl(OutsideTemperature.class, weatherDataset));
     }
 
     /**
@@ -75,25 +34,11 @@ public class OutsideTemperature {
      * @return outside temperature in centigrade
      */
     public double getOutsideTemperature(double time) {
-        int simulationTime = (int) getDatacenter().getLocalTime(time);
-
-        if (simulationTime > maximumAllowedTime) {
-            return (double) outsideTemperatureMap.values().toArray()[outsideTemperatureMap.size() - 1];
+        if (weatherSeries == null) {
+            throw new IllegalStateException("The weather dataset of the datacenter has not been loaded yet!");
         }
 
-        double outsideTemperature = Double.NaN;
-        for (Map.Entry<Integer, Double> entry : outsideTemperatureMap.entrySet()) {
-            if (simulationTime <= entry.getKey()) {
-                outsideTemperature = entry.getValue();
-                break;
-            }
-        }
-
-        if (Double.isNaN(outsideTemperature)) {
-            throw new IllegalStateException("The outside temperature could not be NaN!");
-        }
-
-        return outsideTemperature;
+        return weatherSeries.getTemperature((int) getDatacenter().getLocalTime(time), interpolated);
     }
 
     /**
@@ -105,6 +50,26 @@ public class OutsideTemperature {
         return getOutsideTemperature((int) getDatacenter().getSimulation().clock());
     }
 
+    /**
+     * Indicates if the outside temperature is linearly interpolated between the recorded times of the dataset;
+     * otherwise, the temperature of the next recorded time is used.
+     *
+     * @return true if the outside temperature is interpolated, false otherwise
+     */
+    public boolean isInterpolated() {
+        return interpolated;
+    }
+
+    /**
+     * Sets whether the outside temperature is linearly interpolated between the recorded times of the dataset.
+     *
+     * @param interpolated true to interpolate the outside temperature, false to use the temperature of the next
+     *                     recorded time
+     */
+    public void setInterpolated(boolean interpolated) {
+        this.interpolated = interpolated;
+    }
+
     public DatacenterPro getDatacenter() {
         return (DatacenterPro) DATACENTER;
     }
@@ -0,0 +1,234 @@
+package org.myPaper.datacenter;
+
+import com.opencsv.CSVReader;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * An immutable, time-indexed series of outside temperatures loaded from a weather dataset (CSV file). The times (in
+ * seconds since the midnight of the first recorded day) and the temperatures are kept in two sorted primitive arrays,
+ * so a temperature is looked up by a binary search instead of walking a map.
+ * <p>
+ * Since a series never changes after being loaded, the series of each CSV file is loaded once and shared by all the
+ * {@link OutsideTemperature} objects (and hence all the {@link DatacenterPro}s) that use the same dataset.
+ * </p>
+ */
+public class WeatherSeries {
+    /**
+     * The date format of the local time column of the weather datasets.
+     */
+    private static final String DATE_PATTERN = "dd/MM/yyyy HH:mm";
+
+    /**
+     * The loaded weather series of each CSV file URL.
+     */
+    private static final Map<String, WeatherSeries> WEATHER_SERIES_MAP = new HashMap<>();
+
+    /**
+     * The recorded times in seconds in ascending order.
+     */
+    private final int[] TIMES;
+
+    /**
+     * The recorded temperatures in centigrade according to the {@link #TIMES}.
+     */
+    private final double[] TEMPERATURES;
+
+    /**
+     * @see #getMaximumAllowedTime()
+     */
+    private final long MAXIMUM_ALLOWED_TIME;
+
+    /**
+     * Creates a new weather series.
+     *
+     * @param temperatureMap     the recorded temperatures sorted by their time in seconds
+     * @param maximumAllowedTime the time of the last row of the dataset in seconds
+     */
+    private WeatherSeries(final SortedMap<Integer, Double> temperatureMap, final long maximumAllowedTime) {
+        if (temperatureMap.isEmpty()) {
+            throw new IllegalStateException("The weather dataset does not contain any outside temperature!");
+        }
+
+        TIMES = new int[temperatureMap.size()];
+        TEMPERATURES = new double[temperatureMap.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Double> entry : temperatureMap.entrySet()) {
+            TIMES[i] = entry.getKey();
+            TEMPERATURES[i] = entry.getValue();
+            i++;
+        }
+
+        MAXIMUM_ALLOWED_TIME = maximumAllowedTime;
+    }
+
+    /**
+     * Gets the weather series of the given CSV file, loading it if it has not been loaded yet. The file is read through
+     * its URL, so it can also be located inside a JAR file.
+     *
+     * @param csvFileUrl the URL of the weather dataset (CSV file)
+     * @return the weather series
+     * @throws IOException    if the file could not be found or read
+     * @throws ParseException if a local time of the file could not be parsed
+     */
+    public static synchronized WeatherSeries getInstance(final URL csvFileUrl) throws IOException, ParseException {
+        if (csvFileUrl == null) {
+            throw new FileNotFoundException("The weather dataset could not be found!");
+        }
+
+        final String csvFileKey = csvFileUrl.toString();
+        WeatherSeries weatherSeries = WEATHER_SERIES_MAP.get(csvFileKey);
+        if (weatherSeries == null) {
+            weatherSeries = load(csvFileUrl);
+            WEATHER_SERIES_MAP.put(csvFileKey, weatherSeries);
+        }
+
+        return weatherSeries;
+    }
+
+    /**
+     * Loads the given weather dataset. The first row (header) is skipped, the first column must be the local time and
+     * the second one must be the temperature in centigrade. If a time is recorded more than once, its last temperature
+     * is kept.
+     *
+     * @param csvFileUrl the URL of the weather dataset (CSV file)
+     * @return the loaded weather series
+     * @throws IOException    if the file could not be read
+     * @throws ParseException if a local time of the file could not be parsed
+     */
+    private static WeatherSeries load(final URL csvFileUrl) throws IOException, ParseException {
+        final SortedMap<Integer, Double> temperatureMap = new TreeMap<>();
+        final Calendar calendar = Calendar.getInstance();
+        final DateFormat dateFormat = new SimpleDateFormat(DATE_PATTERN);
+        long csvFileStartTime = -1;
+        long lastTime = 0;
+
+        try (CSVReader csvFile = new CSVReader(new InputStreamReader(csvFileUrl.openStream()))) {
+            int line = 0;
+            for (String[] nextLine : csvFile) {
+                if (line++ == 0) {
+                    continue;
+                }
+
+                final long milliseconds = parseLocalTime(nextLine[0], calendar, dateFormat);
+                if (csvFileStartTime == -1) {
+                    calendar.setTimeInMillis(milliseconds);
+                    calendar.set(Calendar.HOUR_OF_DAY, 0);
+                    calendar.set(Calendar.MINUTE, 0);
+                    csvFileStartTime = calendar.getTimeInMillis();
+                }
+
+                lastTime = (milliseconds - csvFileStartTime) / 1000L;
+                temperatureMap.put((int) lastTime, Double.parseDouble(nextLine[1]));
+            }
+        }
+
+        return new WeatherSeries(temperatureMap, lastTime);
+    }
+
+    /**
+     * Converts the given local time to milliseconds since the epoch in the default timezone. The local times in the
+     * {@link #DATE_PATTERN} format are parsed directly using the given calendar; the other ones fall back to the given
+     * date format.
+     *
+     * @param localTime  the local time
+     * @param calendar   a calendar of the default timezone which can be reused
+     * @param dateFormat a date format of the {@link #DATE_PATTERN} which can be reused
+     * @return the local time in milliseconds
+     * @throws ParseException if the local time could not be parsed
+     */
+    private static long parseLocalTime(final String localTime,
+                                       final Calendar calendar,
+                                       final DateFormat dateFormat) throws ParseException {
+        if (localTime.length() != DATE_PATTERN.length() ||
+            localTime.charAt(2) != '/' || localTime.charAt(5) != '/' ||
+            localTime.charAt(10) != ' ' || localTime.charAt(13) != ':') {
+            return dateFormat.parse(localTime).getTime();
+        }
+
+        final int day = parseDigits(localTime, 0, 2);
+        final int month = parseDigits(localTime, 3, 5);
+        final int year = parseDigits(localTime, 6, 10);
+        final int hour = parseDigits(localTime, 11, 13);
+        final int minute = parseDigits(localTime, 14, 16);
+        if (day < 0 || month < 0 || year < 0 || hour < 0 || minute < 0) {
+            return dateFormat.parse(localTime).getTime();
+        }
+
+        calendar.clear();
+        calendar.set(year, month - 1, day, hour, minute);
+        return calendar.getTimeInMillis();
+    }
+
+    /**
+     * Parses the decimal digits of the given range of the text.
+     *
+     * @param text  the text
+     * @param begin the beginning index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return the parsed number, or -1 if the range contains a non-digit character
+     */
+    private static int parseDigits(final String text, final int begin, final int end) {
+        int number = 0;
+        for (int i = begin; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            number = number * 10 + (c - '0');
+        }
+
+        return number;
+    }
+
+    /**
+     * Gets the outside temperature at the given time. The temperature of the first recorded time which is not before
+     * the given time is returned; after the {@link #getMaximumAllowedTime() maximum allowed time}, the last recorded
+     * temperature is returned.
+     *
+     * @param time         the target time in seconds since the midnight of the first recorded day
+     * @param interpolated indicates if the temperature must be linearly interpolated between the two recorded times
+     *                     around the given time
+     * @return the outside temperature in centigrade
+     */
+    public double getTemperature(final int time, final boolean interpolated) {
+        if (time > MAXIMUM_ALLOWED_TIME) {
+            return TEMPERATURES[TEMPERATURES.length - 1];
+        }
+
+        int index = Arrays.binarySearch(TIMES, time);
+        if (index >= 0) {
+            return TEMPERATURES[index];
+        }
+
+        index = -index - 1;
+        if (index == TIMES.length) {
+            throw new IllegalStateException("The outside temperature could not be NaN!");
+        }
+
+        if (!interpolated || index == 0) {
+            return TEMPERATURES[index];
+        }
+
+        final double fraction = (double) (time - TIMES[index - 1]) / (TIMES[index] - TIMES[index - 1]);
+        return TEMPERATURES[index - 1] + (TEMPERATURES[index] - TEMPERATURES[index - 1]) * fraction;
+    }
+
+    /**
+     * Gets the time of the last row of the dataset in seconds. The outside temperature after this time is considered
+     * as the last recorded one.
+     *
+     * @return the maximum allowed time in seconds
+     */
+    public long getMaximumAllowedTime() {
+        return MAXIMUM_ALLOWED_TIME;
+    }
+}
@@ -0,0 +1,193 @@
+package org.myPaper.datacenter.vmAllocationPolicies;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.*;
+
+/**
+ * The dependency graph of a migration map, where hosts are the nodes and each VM migration is an edge
+ * from the current host of the VM to its destination host. A migration into a host may depend on the migrations out of it,
+ * which free the resources of the host. The strongly connected components of the graph are computed by the
+ * Tarjan's algorithm in linear time, so that:
+ * <ul>
+ *     <li>the migrations can be scheduled in reverse topological order, where the migrations out of a host
+ *     (into its destinations) come before the migrations into it, except for the hosts of the same component;</li>
+ *     <li>the components with more than one host are the migration loops that may lead to the migration lock-in status.</li>
+ * </ul>
+ */
+public class MigrationDependencyGraph {
+    /**
+     * The VMs migrating out of each host, in the order of the migration map.
+     */
+    private final Map<Host, List<Vm>> hostMigratingOutVmMap;
+
+    /**
+     * The destination host of each VM to migrate.
+     */
+    private final Map<Vm, Host> migrationMap;
+
+    /**
+     * The strongly connected components, in reverse topological order (the destinations come first).
+     */
+    private final List<List<Host>> componentList;
+
+    /**
+     * Instantiates the dependency graph of a migration map and computes its strongly connected components.
+     *
+     * @param migrationMap the destination host of each VM to migrate, where every VM is still placed into its current host
+     */
+    public MigrationDependencyGraph(final Map<Vm, Host> migrationMap) {
+        this.migrationMap = migrationMap;
+        hostMigratingOutVmMap = new LinkedHashMap<>();
+        migrationMap.forEach((vm, host) -> hostMigratingOutVmMap.computeIfAbsent(vm.getHost(), key -> new ArrayList<>()).add(vm));
+        componentList = computeStronglyConnectedComponents();
+    }
+
+    /**
+     * Gets the migrations grouped by the strongly connected component of their source hosts,
+     * in reverse topological order, so that the migrations out of a host come after the migrations
+     * out of its destinations. The migrations of a component just depend on the migrations of previous
+     * components and on the other migrations of the same component.
+     *
+     * @return the list of VMs to migrate for each component
+     */
+    public List<List<Vm>> getScheduledComponentList() {
+        final List<List<Vm>> scheduledComponentList = new ArrayList<>();
+        for (final List<Host> component : componentList) {
+            final List<Vm> vmList = new ArrayList<>();
+            component.forEach(host -> vmList.addAll(hostMigratingOutVmMap.getOrDefault(host, Collections.emptyList())));
+
+            if (!vmList.isEmpty()) {
+                scheduledComponentList.add(vmList);
+            }
+        }
+
+        return scheduledComponentList;
+    }
+
+    /**
+     * Gets the migration loops, which are the migrations of the components with more than one host.
+     *
+     * @return the list of migration maps for each loop
+     */
+    public List<Map<Vm, Host>> getLoopList() {
+        final List<Map<Vm, Host>> loopList = new ArrayList<>();
+        for (final List<Host> component : componentList) {
+            if (component.size() < 2) {
+                continue;
+            }
+
+            final Set<Host> componentHostSet = new HashSet<>(component);
+            final Map<Vm, Host> loopMap = new LinkedHashMap<>();
+            component.forEach(host -> hostMigratingOutVmMap.getOrDefault(host, Collections.emptyList()).stream()
+                .filter(vm -> componentHostSet.contains(migrationMap.get(vm)))
+                .forEach(vm -> loopMap.put(vm, migrationMap.get(vm))));
+
+            loopList.add(loopMap);
+        }
+
+        return loopList;
+    }
+
+    /**
+     * Gets the destination hosts of the VMs migrating out of a host, which are the successors of the host in the graph.
+     *
+     * @param host the source host
+     * @return the set of destination hosts, in the order of the migration map
+     */
+    private Set<Host> getDestinationHostSet(final Host host) {
+        final Set<Host> destinationHostSet = new LinkedHashSet<>();
+        hostMigratingOutVmMap.getOrDefault(host, Collections.emptyList()).forEach(vm -> destinationHostSet.add(migrationMap.get(vm)));
+        return destinationHostSet;
+    }
+
+    /**
+     * Computes the strongly connected components by an iterative version of the Tarjan's algorithm,
+     * which avoids a stack overflow for long migration chains.
+     *
+     * @return the components in reverse topological order
+     */
+    private List<List<Host>> computeStronglyConnectedComponents() {
+        final Map<Host, Integer> indexMap = new HashMap<>();
+        final Map<Host, Integer> lowLinkMap = new HashMap<>();
+        final Set<Host> onStackHostSet = new HashSet<>();
+        final Deque<Host> componentStack = new ArrayDeque<>();
+        final List<List<Host>> components = new ArrayList<>();
+
+        for (final Host root : hostMigratingOutVmMap.keySet()) {
+            if (indexMap.containsKey(root)) {
+                continue;
+            }
+
+            final Deque<Host> callStack = new ArrayDeque<>();
+            final Map<Host, Iterator<Host>> successorIteratorMap = new HashMap<>();
+            visit(root, indexMap, lowLinkMap, onStackHostSet, componentStack, callStack, successorIteratorMap);
+
+            while (!callStack.isEmpty()) {
+                final Host host = callStack.peek();
+                final Iterator<Host> successorIterator = successorIteratorMap.get(host);
+
+                if (successorIterator.hasNext()) {
+                    final Host successor = successorIterator.next();
+                    if (!indexMap.containsKey(successor)) {
+                        visit(successor, indexMap, lowLinkMap, onStackHostSet, componentStack, callStack, successorIteratorMap);
+                    } else if (onStackHostSet.contains(successor)) {
+                        lowLinkMap.put(host, Math.min(lowLinkMap.get(host), indexMap.get(successor)));
+                    }
+
+                    continue;
+                }
+
+                callStack.pop();
+                if (lowLinkMap.get(host).equals(indexMap.get(host))) {
+                    final List<Host> component = new ArrayList<>();
+                    Host member;
+                    do {
+                        member = componentStack.pop();
+                        onStackHostSet.remove(member);
+                        component.add(member);
+                    } while (member != host);
+
+                    Collections.reverse(component);
+                    components.add(component);
+                }
+
+                if (!callStack.isEmpty()) {
+                    final Host caller = callStack.peek();
+                    lowLinkMap.put(caller, Math.min(lowLinkMap.get(caller), lowLinkMap.get(host)));
+                }
+            }
+        }
+
+        return components;
+    }
+
+    /**
+     * Starts visiting a host in the Tarjan's algorithm: assigns its index and low-link value,
+     * pushes it into the component stack and the call stack, and stores the iterator of its successors.
+     *
+     * @param host                 the host to visit
+     * @param indexMap             the index of each visited host, in the visiting order
+     * @param lowLinkMap           the lowest index reachable from each visited host
+     * @param onStackHostSet       the hosts in the component stack
+     * @param componentStack       the hosts whose component has not been computed yet
+     * @param callStack            the hosts being visited, which replaces the recursive calls
+     * @param successorIteratorMap the iterator of the successors not visited yet by each host in the call stack
+     */
+    private void visit(final Host host,
+                       final Map<Host, Integer> indexMap,
+                       final Map<Host, Integer> lowLinkMap,
+                       final Set<Host> onStackHostSet,
+                       final Deque<Host> componentStack,
+                       final Deque<Host> callStack,
+                       final Map<Host, Iterator<Host>> successorIteratorMap) {
+        final int index = indexMap.size();
+        indexMap.put(host, index);
+        lowLinkMap.put(host, index);
+        componentStack.push(host);
+        onStackHostSet.add(host);
+        callStack.push(host);
+        successorIteratorMap.put(host, getDestinationHostSet(host).iterator());
+    }
+}
@@ -8,6 +8,7 @@ import org.myPaper.acsAlgorithms.OurAcsAlgorithm.KneePointSelectionPolicy;
 import org.myPaper.acsAlgorithms.OurAcsAlgorithm.OurAcs;
 import org.myPaper.broker.DatacenterBrokerOurAcs;
 import org.myPaper.datacenter.DatacenterPro;
+import org.myPaper.datacenter.HostCpuUtilizationIndex;
 import org.myPaper.datacenter.VmSelectionPolicy.VmSelectionPolicyMaximumCpuUtilization;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -141,123 +142,114 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
     }
 
     /**
-     * Sorts the given migration map in order to avoid any migration overlap. Note that it does not consider VM migrations that
-     * are in loop.
+     * Sorts the given migration map in order to avoid any migration overlap. The migrations are scheduled in the
+     * topological order of the {@link MigrationDependencyGraph}, where the migrations out of a host come before the
+     * migrations into it. If some migrations are still infeasible, the migration lock-in solver tries to break the
+     * migration loops.
      *
      * @param migrationMap the migration map
      * @return sorted migration map
      */
     private Map<Vm, Host> sortMigrationMap(final Map<Vm, Host> migrationMap) {
-        Map<Host, List<Vm>> hostVmListMap = new HashMap<>();
-        migrationMap.forEach((vm, host) -> {
-            List<Vm> vmList = host.getVmList();
-            hostVmListMap.putIfAbsent(host, new ArrayList<>(vmList));
-        });
-
+        MigrationDependencyGraph dependencyGraph = new MigrationDependencyGraph(migrationMap);
         Map<Vm, Host> feasibleMigrationMap = new LinkedHashMap<>();
-        Map<Vm, Host> notFeasibleMigrationMap = new HashMap<>();
-
-        for (Map.Entry<Vm, Host> vmHostEntry : migrationMap.entrySet()) {
-            Vm sourceVm = vmHostEntry.getKey();
-            Host sourceHost = sourceVm.getHost();
-            Host targetHost = vmHostEntry.getValue();
-
-            if (isHostSuitableForVm(sourceVm, targetHost, hostVmListMap.get(targetHost))) {
-                feasibleMigrationMap.put(sourceVm, targetHost);
+        Map<Vm, Host> notFeasibleMigrationMap = scheduleMigrations(migrationMap, dependencyGraph, feasibleMigrationMap);
 
-                //deallocating the VM from source targetHost
-                if (hostVmListMap.containsKey(sourceHost)) {
-                    hostVmListMap.get(sourceHost).remove(sourceVm);
-                }
+        feasibleMigrationMap.forEach((sourceVm, targetHost) ->
+            LOGGER.info("{}: {}: {} is going to be migrated from {} to {}.",
+                getDatacenter().getSimulation().clockStr(),
+                getDatacenter(),
+                sourceVm,
+                sourceVm.getHost(),
+                targetHost));
 
-                //allocating resources of the destination targetHost to the VM
-                hostVmListMap.get(targetHost).add(sourceVm);
+        if (!notFeasibleMigrationMap.isEmpty()) {
+            LOGGER.warn("{}: {}: some VMs ({}) are not able to migrate out due to the migration lock-in status!",
+                getDatacenter().getSimulation().clockStr(),
+                getDatacenter(),
+                notFeasibleMigrationMap.keySet().toString());
 
-                LOGGER.info("{}: {}: {} is going to be migrated from {} to {}.",
+            notFeasibleMigrationMap.forEach((sourceVm, targetHost) -> {
+                Host sourceHost = sourceVm.getHost();
+                LOGGER.warn("{}: {} wants to migrate from {} to {} while the destination host does not have enough amount of resources.",
                     getDatacenter().getSimulation().clockStr(),
-                    getDatacenter(),
                     sourceVm,
                     sourceHost,
                     targetHost);
-            } else {
-                notFeasibleMigrationMap.put(sourceVm, targetHost);
+            });
+
+            //Try to make the hole of the solution feasible
+            Map<Vm, Host> newMigrationMap = closeSolutionFromVmMigrationLockInStatus(migrationMap, dependencyGraph);
 
-                LOGGER.warn("{}: {}: the migration of {} to {} is detected as an infeasible migration plan and " +
-                        "the data center will try to make it feasible.",
+            if (!migrationMap.equals(newMigrationMap)) {
+                LOGGER.info("{}: {}: the migration lock-in solver solves the migration lock-in status successfully. " +
+                        "The migration map is going to be resorted again.",
                     getDatacenter().getSimulation().clockStr(),
-                    getDatacenter(),
-                    sourceVm,
-                    targetHost);
+                    getDatacenter().getName());
+
+                return sortMigrationMap(newMigrationMap);
+            } else {
+                LOGGER.warn("{}: {}: the migration lock-in solver couldn't solve the migration lock-in status!",
+                    getDatacenter().getSimulation().clockStr(),
+                    getDatacenter().getName());
             }
         }
 
-        while (!notFeasibleMigrationMap.isEmpty()) {
-            Map<Vm, Host> newFeasibleMigration = new HashMap<>();
-
-            for (Map.Entry<Vm, Host> vmHostEntry : notFeasibleMigrationMap.entrySet()) {
-                Vm sourceVm = vmHostEntry.getKey();
-                Host sourceHost = sourceVm.getHost();
-                Host targetHost = vmHostEntry.getValue();
-
-                if (isHostSuitableForVm(sourceVm, targetHost, hostVmListMap.get(targetHost))) {
-                    feasibleMigrationMap.put(sourceVm, targetHost);
-                    newFeasibleMigration.put(sourceVm, targetHost);
+        return feasibleMigrationMap;
+    }
 
-                    //deallocating the VM from source targetHost
-                    if (hostVmListMap.containsKey(sourceHost)) {
-                        hostVmListMap.get(sourceHost).remove(sourceVm);
-                    }
+    /**
+     * Allocates the resources of the destination hosts to the migrating VMs following the order of the given
+     * dependency graph. Since the migrations of a component just depend on the previous components, a single pass is
+     * performed for the migrations that are not in loop, while the migrations of a loop are tried until no one of them
+     * becomes feasible anymore.
+     *
+     * @param migrationMap the migration map
+     * @param dependencyGraph the dependency graph of the migration map
+     * @param feasibleMigrationMap the map to add the feasible migrations in the order they should be performed
+     * @return the infeasible migrations
+     */
+    private Map<Vm, Host> scheduleMigrations(final Map<Vm, Host> migrationMap,
+                                             final MigrationDependencyGraph dependencyGraph,
+                                             final Map<Vm, Host> feasibleMigrationMap) {
+        Map<Host, List<Vm>> hostVmListMap = new HashMap<>();
+        migrationMap.forEach((vm, host) -> hostVmListMap.putIfAbsent(host, new ArrayList<>(host.getVmList())));
 
-                    //allocating resources of the destination targetHost to the VM
-                    hostVmListMap.get(targetHost).add(sourceVm);
+        Map<Vm, Host> notFeasibleMigrationMap = new LinkedHashMap<>();
 
-                    LOGGER.info("{}: {}: the migration of {} to {} is able to become feasible after some other Vm migrations. " +
-                            "It might not be able to do the migration at the first try (It will be queued).",
-                        getDatacenter().getSimulation().clockStr(),
-                        getDatacenter(),
-                        sourceVm,
-                        targetHost);
-                }
-            }
+        for (List<Vm> componentVmList : dependencyGraph.getScheduledComponentList()) {
+            List<Vm> pendingVmList = new ArrayList<>(componentVmList);
+            boolean newFeasibleMigration = true;
 
-            if (newFeasibleMigration.isEmpty()) {
-                LOGGER.warn("{}: {}: some VMs ({}) are not able to migrate out due to the migration lock-in status!",
-                    getDatacenter().getSimulation().clockStr(),
-                    getDatacenter(),
-                    notFeasibleMigrationMap.keySet().toString());
+            while (newFeasibleMigration && !pendingVmList.isEmpty()) {
+                newFeasibleMigration = false;
 
-                notFeasibleMigrationMap.forEach((sourceVm, targetHost) -> {
+                for (Iterator<Vm> iterator = pendingVmList.iterator(); iterator.hasNext(); ) {
+                    Vm sourceVm = iterator.next();
                     Host sourceHost = sourceVm.getHost();
-                    LOGGER.warn("{}: {} wants to migrate from {} to {} while the destination host does not have enough amount of resources.",
-                        getDatacenter().getSimulation().clockStr(),
-                        sourceVm,
-                        sourceHost,
-                        targetHost);
-                });
+                    Host targetHost = migrationMap.get(sourceVm);
 
-                //Try to make the hole of the solution feasible
-                Map<Vm, Host> newMigrationMap = closeSolutionFromVmMigrationLockInStatus(migrationMap);
+                    if (isHostSuitableForVm(sourceVm, targetHost, hostVmListMap.get(targetHost))) {
+                        feasibleMigrationMap.put(sourceVm, targetHost);
 
-                if (!migrationMap.equals(newMigrationMap)) {
-                    LOGGER.info("{}: {}: the migration lock-in solver solves the migration lock-in status successfully. " +
-                            "The migration map is going to be resorted again.",
-                        getDatacenter().getSimulation().clockStr(),
-                        getDatacenter().getName());
+                        //deallocating the VM from source targetHost
+                        if (hostVmListMap.containsKey(sourceHost)) {
+                            hostVmListMap.get(sourceHost).remove(sourceVm);
+                        }
 
-                    return sortMigrationMap(newMigrationMap);
-                } else {
-                    LOGGER.warn("{}: {}: the migration lock-in solver couldn't solve the migration lock-in status!",
-                        getDatacenter().getSimulation().clockStr(),
-                        getDatacenter().getName());
-                }
+                        //allocating resources of the destination targetHost to the VM
+                        hostVmListMap.get(targetHost).add(sourceVm);
 
-                break;
-            } else {
-                newFeasibleMigration.keySet().forEach(notFeasibleMigrationMap::remove);
+                        iterator.remove();
+                        newFeasibleMigration = true;
+                    }
+                }
             }
+
+            pendingVmList.forEach(vm -> notFeasibleMigrationMap.put(vm, migrationMap.get(vm)));
         }
 
-        return feasibleMigrationMap;
+        return notFeasibleMigrationMap;
     }
 
     private boolean isHostSuitableForVm(Vm vm, Host host, List<Vm> hostVmList) {
@@ -362,11 +354,13 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
      * then it's not included in the returned List
      * because the VMs to be migrated to move the Host from
      * the overload state already are in migration.
+     * The candidates are taken from the datacenter {@link HostCpuUtilizationIndex},
+     * which is up to date since the migration checkup happens right after the hosts processing update.
      *
      * @return the over utilized hosts
      */
     private List<Host> getOverloadedHosts() {
-        return getHostList().parallelStream()
+        return getDatacenterPro().getHostCpuUtilizationIndex().getHostsAbove(getOverUtilizationThreshold()).stream()
             .filter(Host::isActive)
             .filter(this::isHostOverloaded)
             .filter(host -> host.getVmsMigratingOut().isEmpty())
@@ -420,10 +414,11 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
      * @return list of underloaded hosts
      */
     private List<Host> getUnderloadedHosts(List<Host> overloadedHostList) {
+        final Set<Host> overloadedHostSet = new HashSet<>(overloadedHostList);
 
-        return getHostList().parallelStream()
+        return getDatacenterPro().getHostCpuUtilizationIndex().getHostsAtOrBelow(getUnderUtilizationThreshold()).stream()
             .filter(Host::isActive)
-            .filter(host -> !overloadedHostList.contains(host))
+            .filter(host -> !overloadedHostSet.contains(host))
             .filter(host -> !host.getVmList().isEmpty())
             .filter(host -> host.getVmsMigratingOut().isEmpty())
             .filter(this::isHostUnderloaded)
@@ -500,7 +495,11 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
 
     @Override
     public boolean areHostsUnderOrOverloaded() {
-        for (Host host : getHostList()) {
+        final HostCpuUtilizationIndex index = getDatacenterPro().getHostCpuUtilizationIndex();
+        final List<Host> candidateHostList = new ArrayList<>(index.getHostsAbove(getOverUtilizationThreshold()));
+        candidateHostList.addAll(index.getHostsAtOrBelow(getUnderUtilizationThreshold()));
+
+        for (Host host : candidateHostList) {
             if (host.isActive() && !host.getVmList().isEmpty()) {
                 if (host.getCpuPercentUtilization() > getOverUtilizationThreshold() ||
                     host.getCpuPercentUtilization() <= getUnderUtilizationThreshold()) {
@@ -563,18 +562,25 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
 
     /**
      * Closes the given migration map solution from the migration lock-in status and return new migration map solution.
+     * The infeasible loops are the strongly connected components of the migration dependency graph
+     * whose migrations are infeasible. Each loop is broken by redirecting its VMs, one at a time, to other hosts of the
+     * current solution, until the loop becomes feasible, so that just a few redirections are done for each loop.
      * Note that if the algorithm could not find any suitable host for closing the given solution from the migration map,
      * the original solution will be returned.
      *
      * @param migrationMap the migration map
+     * @param dependencyGraph the dependency graph of the migration map
      * @return a new solution if possible
      */
-    private Map<Vm, Host> closeSolutionFromVmMigrationLockInStatus(final Map<Vm, Host> migrationMap) {
+    private Map<Vm, Host> closeSolutionFromVmMigrationLockInStatus(final Map<Vm, Host> migrationMap,
+                                                                   final MigrationDependencyGraph dependencyGraph) {
         LOGGER.info("{}: {}: is calling the migration lock-in solver algorithm to solve the migration loops.",
             getDatacenter().getSimulation().clockStr(),
             getDatacenter().getName());
 
-        List<Map<Vm, Host>> migrationLoopMapList = detectLoopsInMigrationLockInSolution(migrationMap);
+        List<Map<Vm, Host>> migrationLoopMapList = dependencyGraph.getLoopList().stream()
+            .filter(migrationLoopMap -> !isMigrationMapFeasible(migrationLoopMap))
+            .collect(Collectors.toList());
 
         if (migrationLoopMapList.isEmpty()) {
             //No loop was found in the given migration map
@@ -593,8 +599,17 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
         //Make a shallow copy from the original migration map
         Map<Vm, Host> newMigrationMap = new LinkedHashMap<>(migrationMap);
 
+        Set<Host> concatSet = new LinkedHashSet<>(migrationMap.values());
+        migrationMap.keySet().forEach(vm -> concatSet.add(vm.getHost()));
+
+        //List of sorted hosts at current migration map
+        List<Host> currentSolutionTotalHostList = concatSet.stream()
+            .sorted(Comparator.comparing(Host::getCpuMipsUtilization).reversed())
+            .collect(Collectors.toList());
+
         for (Map<Vm, Host> migrationLoopEntry : migrationLoopMapList) {
             Map<Vm, Host> currentLoopMap = new HashMap<>(migrationLoopEntry);
+            List<Vm> redirectedVmList = new ArrayList<>();
             Map<Host, List<Vm>> hostMigratingOutVmMap = new HashMap<>();
             migrationLoopEntry.forEach((vm, host) -> {
                 hostMigratingOutVmMap.putIfAbsent(vm.getHost(), new ArrayList<>());
@@ -610,36 +625,10 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
             loopHostIteration:
             for (Host hostInLoop : loopSortedHostList) {
                 //Sort host's migrating out Vm list according to Vm's number of Pes
-                List<Vm> loopHostSortedVmList = hostMigratingOutVmMap.get(hostInLoop).parallelStream()
+                List<Vm> loopHostSortedVmList = hostMigratingOutVmMap.get(hostInLoop).stream()
                     .sorted(Comparator.comparing(Vm::getNumberOfPes))
                     .collect(Collectors.toList());
 
-                List<Host> currentSolutionDestinationHostList = migrationMap.values().stream()
-                    .distinct()
-                    .collect(Collectors.toList());
-
-                List<Host> currentSolutionSourceHostList = migrationMap.keySet().stream()
-                    .map(Vm::getHost)
-                    .filter(host -> !currentSolutionDestinationHostList.contains(host))
-                    .distinct()
-                    .collect(Collectors.toList());
-
-                List<Host> concatList = new ArrayList<>();
-                concatList.addAll(currentSolutionDestinationHostList);
-                concatList.addAll(currentSolutionSourceHostList);
-
-                //List of sorted hosts at current migration map
-                List<Host> currentSolutionTotalHostList = concatList.parallelStream()
-                    .sorted(Comparator.comparing(Host::getCpuMipsUtilization).reversed())
-                    .collect(Collectors.toList());
-
-                //List of sorted hosts that has not been used in the current migration map yet
-                List<Host> notTriedHostList = getHostList().parallelStream()
-                    .filter(host -> !currentSolutionTotalHostList.contains(host))
-                    .filter(host -> host.getFreePesNumber() > 0)
-                    .sorted(Comparator.comparing(Host::getCpuMipsUtilization).reversed())
-                    .collect(Collectors.toList());
-
                 loopVmIteration:
                 for (Vm vmInLoop : loopHostSortedVmList) {
                     //Try the hosts that exist in the current migration map
@@ -666,6 +655,7 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
 
                             newMigrationMap.replace(vmInLoop, host);
                             currentLoopMap.replace(vmInLoop, host);
+                            redirectedVmList.add(vmInLoop);
 
                             if (isMigrationMapFeasible(currentLoopMap)) {
                                 break loopHostIteration;
@@ -676,7 +666,13 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
                     }
 
                     //Try the hosts that do not exist in the current migration map
-                    /*for (Host host : notTriedHostList) {
+                    /*List<Host> notTriedHostList = getHostList().stream()
+                        .filter(host -> !concatSet.contains(host))
+                        .filter(host -> host.getFreePesNumber() > 0)
+                        .sorted(Comparator.comparing(Host::getCpuMipsUtilization).reversed())
+                        .collect(Collectors.toList());
+
+                    for (Host host : notTriedHostList) {
                         List<Vm> newVmList = getHostNewVmList(host, newMigrationMap, true);
 
                         if (isHostSuitableForVm(vmInLoop, host, newVmList)) {
@@ -698,6 +694,12 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
                     }*/
                 }
             }
+
+            LOGGER.info("{}: {}: the lock-in solver redirected the following Vms to break the loop {}: {}",
+                getDatacenter().getSimulation().clockStr(),
+                getDatacenter().getName(),
+                migrationLoopEntry.keySet(),
+                redirectedVmList);
         }
 
         if (isMigrationMapFeasible(newMigrationMap)) {
@@ -732,131 +734,6 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
         return vmList;
     }
 
-    /**
-     * Detects the infeasible loops of the given migration lock-in map. Note that if no loop exist in the given map, an empty list
-     * will be returned.
-     *
-     * @param migrationLockInMap the migration map that all of its Vms are in the migration lock-in status
-     * @return list of infeasible loop in migration maps that are in the migration lock-in status
-     */
-    private List<Map<Vm, Host>> detectLoopsInMigrationLockInSolution(final Map<Vm, Host> migrationLockInMap) {
-        if (migrationLockInMap.isEmpty()) {
-            throw new IllegalStateException("The migration lock-in map could not be empty!");
-        }
-
-        Map<Vm, Host> newMigrationLockInMap = new HashMap<>(migrationLockInMap);
-        List<Map<Vm, Host>> migrationLockInMapList = new ArrayList<>();
-
-        for (Map.Entry<Vm, Host> vmHostEntry : migrationLockInMap.entrySet()) {
-            Map<Vm, Host> temporaryLoopMap = new HashMap<>();
-
-            Vm sourceVm = vmHostEntry.getKey();
-            Host sourceHost = sourceVm.getHost();
-            Host destinationHost = vmHostEntry.getValue();
-
-            if (!newMigrationLockInMap.containsKey(sourceVm)) {
-                continue;
-            }
-
-            temporaryLoopMap.put(sourceVm, destinationHost);
-            newMigrationLockInMap.remove(sourceVm);
-
-            Host nextDestination = destinationHost;
-            List<Host> migrationPath = new ArrayList<>();
-            List<Host> ignoredDestinationHostList = new ArrayList<>();
-            List<Host> notTriedDestinationList = new ArrayList<>();
-
-            migrationPath.add(sourceHost);
-
-            boolean infeasibleLoopIsDetected = false;
-            while (true) {
-
-                Host finalNextDestination = nextDestination;
-                //Find migration plans that their source current host is the destination of nextDestination
-                Map<Vm, Host> connectedMigrationPlans = newMigrationLockInMap.entrySet().parallelStream()
-                    .filter(comparativeVmHostEntry -> comparativeVmHostEntry.getKey().getHost() == finalNextDestination)
-                    .filter(comparativeVmHostEntry ->
-                        !migrationPath.contains(comparativeVmHostEntry.getKey().getHost()) || comparativeVmHostEntry.getKey().getHost() == sourceHost)
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                Host previousDestination = nextDestination;
-                migrationPath.add(previousDestination);
-
-                //Find connected destination hosts
-                List<Host> possibleDestinationHosts = connectedMigrationPlans.values().parallelStream().distinct()
-                    .filter(host -> !ignoredDestinationHostList.contains(host))
-                    .filter(host -> !migrationPath.contains(host) || sourceHost == host)
-                    .collect(Collectors.toList());
-
-                //Choose one of the possible destinations
-                nextDestination = possibleDestinationHosts.parallelStream()
-                    .findFirst()
-                    .orElse(Host.NULL);
-
-                if (nextDestination != Host.NULL && possibleDestinationHosts.size() > 1) {
-                    //Add not tried destinations to not tried destination list
-                    Host finalNextDestination1 = nextDestination;
-                    List<Host> remainingHostList = possibleDestinationHosts.parallelStream()
-                        .filter(notTriedDestination -> !notTriedDestinationList.contains(notTriedDestination))
-                        .filter(notTriedDestination -> notTriedDestination != finalNextDestination1)
-                        .collect(Collectors.toList());
-
-                    notTriedDestinationList.addAll(remainingHostList);
-                }
-
-                if (nextDestination == Host.NULL) {
-                    if (!ignoredDestinationHostList.contains(previousDestination)) {
-                        //Add the previous destination host to the list of ignored hosts in order to be checked again
-
-                        ignoredDestinationHostList.add(previousDestination);
-                    }
-
-                    //Remove previous destination from not tried destination list if exist
-                    notTriedDestinationList.remove(previousDestination);
-
-                    if (notTriedDestinationList.isEmpty()) {
-                        //Break from while loop because the source node does not involve in any loop
-                        break;
-                    } else {
-                        //Reset the temporary loop map and the migration path if any not tried destination is available at not tried destination list
-
-                        nextDestination = destinationHost;
-                        temporaryLoopMap.clear();
-                        temporaryLoopMap.put(sourceVm, destinationHost);
-                        migrationPath.clear();
-                        migrationPath.add(sourceHost);
-
-                        continue;
-                    }
-                }
-
-                notTriedDestinationList.remove(previousDestination);
-
-                Host finalNextDestination2 = nextDestination;
-                Map<Vm, Host> nextNodes = connectedMigrationPlans.entrySet().parallelStream()
-                    .filter(vmHostEntry1 -> vmHostEntry1.getValue() == finalNextDestination2)
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-                temporaryLoopMap.putAll(nextNodes);
-
-                if (sourceHost == nextDestination) {
-                    //Select the loop if it is an infeasible migration map
-                    if (!isMigrationMapFeasible(temporaryLoopMap)) {
-                        migrationLockInMapList.add(temporaryLoopMap);
-                        infeasibleLoopIsDetected = true;
-                    }
-
-                    break;
-                }
-            }
-
-            if (infeasibleLoopIsDetected) {
-                temporaryLoopMap.forEach(newMigrationLockInMap::remove);
-            }
-        }
-
-        return migrationLockInMapList;
-    }
-
     /**
      * Checks if the given migration map is feasible or not. In other words, it checks if the given migration map
      * consists any migration lock-in status or not.
@@ -865,60 +742,6 @@ public class VmAllocationPolicyMigrationStaticThresholdOurAcs
      * @return true if the given migration map is feasible, false otherwise
      */
     private boolean isMigrationMapFeasible(final Map<Vm, Host> migrationMap) {
-        Map<Host, List<Vm>> hostVmListMap = new HashMap<>();
-        migrationMap.forEach((vm, host) -> {
-            List<Vm> vmList = host.getVmList();
-            hostVmListMap.putIfAbsent(host, new ArrayList<>(vmList));
-        });
-
-        Map<Vm, Host> notFeasibleMigrationMap = new LinkedHashMap<>();
-
-        for (Map.Entry<Vm, Host> vmHostEntry : migrationMap.entrySet()) {
-            Vm sourceVm = vmHostEntry.getKey();
-            Host sourceHost = sourceVm.getHost();
-            Host targetHost = vmHostEntry.getValue();
-
-            if (isHostSuitableForVm(sourceVm, targetHost, hostVmListMap.get(targetHost))) {
-                //deallocating the VM from source targetHost
-                if (hostVmListMap.containsKey(sourceHost)) {
-                    hostVmListMap.get(sourceHost).remove(sourceVm);
-                }
-
-                //allocating resources of the destination targetHost to the VM
-                hostVmListMap.get(targetHost).add(sourceVm);
-            } else {
-                notFeasibleMigrationMap.put(sourceVm, targetHost);
-            }
-        }
-
-        while (!notFeasibleMigrationMap.isEmpty()) {
-            Map<Vm, Host> newFeasibleMigration = new HashMap<>();
-
-            for (Map.Entry<Vm, Host> vmHostEntry : notFeasibleMigrationMap.entrySet()) {
-                Vm sourceVm = vmHostEntry.getKey();
-                Host sourceHost = sourceVm.getHost();
-                Host targetHost = vmHostEntry.getValue();
-
-                if (isHostSuitableForVm(sourceVm, targetHost, hostVmListMap.get(targetHost))) {
-                    newFeasibleMigration.put(sourceVm, targetHost);
-
-                    //deallocating the VM from source targetHost
-                    if (hostVmListMap.containsKey(sourceHost)) {
-                        hostVmListMap.get(sourceHost).remove(sourceVm);
-                    }
-
-                    //allocating resources of the destination targetHost to the VM
-                    hostVmListMap.get(targetHost).add(sourceVm);
-                }
-            }
-
-            if (newFeasibleMigration.isEmpty()) {
-                return false;
-            } else {
-                newFeasibleMigration.keySet().forEach(notFeasibleMigrationMap::remove);
-            }
-        }
-
-        return true;
+        return scheduleMigrations(migrationMap, new MigrationDependencyGraph(migrationMap), new LinkedHashMap<>()).isEmpty();
     }
 }
@@ -14,8 +14,6 @@ public abstract class HostTypeAbstract {
     protected static final int MIPS_1 = 2500;
     protected static final int MIPS_2 = 2700;
 
-    protected static long vmId;
-
     /**
      * Converts GB or Gb to MB or Mb
      * @param G GB or Gb
@@ -43,6 +41,7 @@ public abstract class HostTypeAbstract {
 
     /**
      * Creates a new Host base on the given configuration.
+     * The Host ID isn't set, since each simulation assigns the IDs of its own Hosts.
      * @return a new host
      */
     protected Host newHost(){
@@ -51,7 +50,6 @@ public abstract class HostTypeAbstract {
             (long) getStorage(),
             getPeList());
 
-        host.setId(vmId++);
 //        host.enableStateHistory();
         host.setVmScheduler(new VmSchedulerSpaceShared());
         host.setPowerModel(getPowerModel());
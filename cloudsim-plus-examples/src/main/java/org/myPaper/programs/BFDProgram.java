@@ -14,6 +14,20 @@ public class BFDProgram extends ParentClass {
         runProgram();
     }
 
+    public BFDProgram(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed) {
+        this(directory, cloudFederation, workloadsNumber, seed, false);
+    }
+
+    public BFDProgram(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed, final boolean clockSkipAhead) {
+        this(directory, cloudFederation, workloadsNumber, seed, clockSkipAhead, false);
+    }
+
+    public BFDProgram(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed, final boolean clockSkipAhead, final boolean profiling) {
+        super(directory, cloudFederation, false, workloadsNumber, seed, clockSkipAhead, profiling);
+
+        runProgram();
+    }
+
     private void runProgram() {
         simulation = new CloudSim();
 
@@ -63,9 +77,7 @@ public class BFDProgram extends ParentClass {
         createVms(cloudletList);
 
         //Simulation
-        simulation.addOnClockTickListener(this::simulationClocktickListener);
-        simulation.terminateAt(SIMULATION_TIME);
-        simulation.start();
+        startSimulation();
 
         generateExperimentalResults();
     }
@@ -13,6 +13,20 @@ public class CraDpProgram extends ParentClass {
         runProgram();
     }
 
+    public CraDpProgram(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed) {
+        this(directory, cloudFederation, workloadsNumber, seed, false);
+    }
+
+    public CraDpProgram(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed, final boolean clockSkipAhead) {
+        this(directory, cloudFederation, workloadsNumber, seed, clockSkipAhead, false);
+    }
+
+    public CraDpProgram(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed, final boolean clockSkipAhead, final boolean profiling) {
+        super(directory, cloudFederation, false, workloadsNumber, seed, clockSkipAhead, profiling);
+
+        runProgram();
+    }
+
     private void runProgram() {
         simulation = new CloudSim();
 
@@ -59,9 +73,7 @@ public class CraDpProgram extends ParentClass {
         createVms(cloudletList);
 
         //Simulation
-        simulation.addOnClockTickListener(this::simulationClocktickListener);
-        simulation.terminateAt(SIMULATION_TIME);
-        simulation.start();
+        startSimulation();
 
         generateExperimentalResults();
 
@@ -13,6 +13,20 @@ public class FFDProgram extends ParentClass {
         runProgram();
     }
 
+    public FFDProgram(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed) {
+        this(directory, cloudFederation, workloadsNumber, seed, false);
+    }
+
+    public FFDProgram(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed, final boolean clockSkipAhead) {
+        this(directory, cloudFederation, workloadsNumber, seed, clockSkipAhead, false);
+    }
+
+    public FFDProgram(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed, final boolean clockSkipAhead, final boolean profiling) {
+        super(directory, cloudFederation, false, workloadsNumber, seed, clockSkipAhead, profiling);
+
+        runProgram();
+    }
+
     private void runProgram() {
         simulation = new CloudSim();
 
@@ -62,9 +76,7 @@ public class FFDProgram extends ParentClass {
         createVms(cloudletList);
 
         //Simulation
-        simulation.addOnClockTickListener(this::simulationClocktickListener);
-        simulation.terminateAt(SIMULATION_TIME);
-        simulation.start();
+        startSimulation();
 
         generateExperimentalResults();
 
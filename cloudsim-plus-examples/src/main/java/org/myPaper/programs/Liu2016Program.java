@@ -17,6 +17,20 @@ public class Liu2016Program extends ParentClass {
         runProgram();
     }
 
+    public Liu2016Program(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed) {
+        this(directory, cloudFederation, workloadsNumber, seed, false);
+    }
+
+    public Liu2016Program(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed, final boolean clockSkipAhead) {
+        this(directory, cloudFederation, workloadsNumber, seed, clockSkipAhead, false);
+    }
+
+    public Liu2016Program(final String directory, final boolean cloudFederation, final int workloadsNumber, final long seed, final boolean clockSkipAhead, final boolean profiling) {
+        super(directory, cloudFederation, false, workloadsNumber, seed, clockSkipAhead, profiling);
+
+        runProgram();
+    }
+
     private void runProgram() {
         simulation = new CloudSim();
 
@@ -78,9 +92,7 @@ public class Liu2016Program extends ParentClass {
         createVms(cloudletList);
 
         //Simulation
-        simulation.addOnClockTickListener(this::simulationClocktickListener);
-        simulation.terminateAt(SIMULATION_TIME);
-        simulation.start();
+        startSimulation();
 
         generateExperimentalResults();
 
@@ -17,6 +17,31 @@ public class Liu2017Program extends ParentClass {
         runProgram();
     }
 
+    public Liu2017Program(final String directory, final boolean cloudFederation, final boolean liveVmMigration, final int workloadsNumber, final long seed) {
+        this(directory, cloudFederation, liveVmMigration, workloadsNumber, seed, false);
+    }
+
+    public Liu2017Program(final String directory,
+                          final boolean cloudFederation,
+                          final boolean liveVmMigration,
+                          final int workloadsNumber,
+                          final long seed,
+                          final boolean clockSkipAhead) {
+        this(directory, cloudFederation, liveVmMigration, workloadsNumber, seed, clockSkipAhead, false);
+    }
+
+    public Liu2017Program(final String directory,
+                          final boolean cloudFederation,
+                          final boolean liveVmMigration,
+                          final int workloadsNumber,
+                          final long seed,
+                          final boolean clockSkipAhead,
+                          final boolean profiling) {
+        super(directory, cloudFederation, liveVmMigration, workloadsNumber, seed, clockSkipAhead, profiling);
+
+        runProgram();
+    }
+
     private void runProgram() {
         simulation = new CloudSim();
 
@@ -78,9 +103,7 @@ public class Liu2017Program extends ParentClass {
         createVms(cloudletList);
 
         //Simulation
-        simulation.addOnClockTickListener(this::simulationClocktickListener);
-        simulation.terminateAt(SIMULATION_TIME);
-        simulation.start();
+        startSimulation();
 
         generateExperimentalResults();
 
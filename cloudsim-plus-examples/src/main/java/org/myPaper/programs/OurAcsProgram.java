@@ -8,12 +8,87 @@ import org.myPaper.datacenter.vmAllocationPolicies.VmAllocationPolicyMigrationSt
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
 
 public class OurAcsProgram extends ParentClass {
+    /**
+     * Creates the OUR-ACS algorithm of each data center from the CPU over-utilization threshold.
+     */
+    private final Function<Double, OurAcs> ourAcsFactory;
+
     public OurAcsProgram(final String directory, final boolean cloudFederation, final boolean liveVmMigration, final int workloadsNumber) {
-        super(directory, cloudFederation, liveVmMigration, workloadsNumber);
+        this(directory, cloudFederation, liveVmMigration, workloadsNumber, new Random().nextLong(), OurAcsProgram::createDefaultOurAcs);
+    }
 
-        ourAcsExecutionTimeList = new ArrayList<>();
+    /**
+     * Creates the program with a given seed and OUR-ACS parameters.
+     *
+     * @param directory the directory to save the experimental results
+     * @param cloudFederation true if the cloud federation is enabled
+     * @param liveVmMigration true if the live VM migration is enabled
+     * @param workloadsNumber the total number of VM creation requests
+     * @param seed the seed of the program random numbers
+     * @param ourAcsFactory a function that creates the OUR-ACS algorithm of each data center from the CPU over-utilization threshold
+     */
+    public OurAcsProgram(final String directory,
+                         final boolean cloudFederation,
+                         final boolean liveVmMigration,
+                         final int workloadsNumber,
+                         final long seed,
+                         final Function<Double, OurAcs> ourAcsFactory) {
+        this(directory, cloudFederation, liveVmMigration, workloadsNumber, seed, false, ourAcsFactory);
+    }
+
+    /**
+     * Creates the program with a given seed and OUR-ACS parameters, which may let the simulation clock skip ahead.
+     *
+     * @param directory the directory to save the experimental results
+     * @param cloudFederation true if the cloud federation is enabled
+     * @param liveVmMigration true if the live VM migration is enabled
+     * @param workloadsNumber the total number of VM creation requests
+     * @param seed the seed of the program random numbers
+     * @param clockSkipAhead true to let the simulation clock skip ahead, see {@link ParentClass#startSimulation()}
+     * @param ourAcsFactory a function that creates the OUR-ACS algorithm of each data center from the CPU over-utilization threshold
+     */
+    public OurAcsProgram(final String directory,
+                         final boolean cloudFederation,
+                         final boolean liveVmMigration,
+                         final int workloadsNumber,
+                         final long seed,
+                         final boolean clockSkipAhead,
+                         final Function<Double, OurAcs> ourAcsFactory) {
+        this(directory, cloudFederation, liveVmMigration, workloadsNumber, seed, clockSkipAhead, false, ourAcsFactory);
+    }
+
+    /**
+     * Creates the program with a given seed and OUR-ACS parameters, which may let the simulation clock skip ahead
+     * and profile the simulation.
+     *
+     * @param directory the directory to save the experimental results
+     * @param cloudFederation true if the cloud federation is enabled
+     * @param liveVmMigration true if the live VM migration is enabled
+     * @param workloadsNumber the total number of VM creation requests
+     * @param seed the seed of the program random numbers
+     * @param clockSkipAhead true to let the simulation clock skip ahead, see {@link ParentClass#startSimulation()}
+     * @param profiling true to profile the simulation, including the run time of OUR-ACS, see {@link ParentClass#startSimulation()}
+     * @param ourAcsFactory a function that creates the OUR-ACS algorithm of each data center from the CPU over-utilization threshold
+     */
+    public OurAcsProgram(final String directory,
+                         final boolean cloudFederation,
+                         final boolean liveVmMigration,
+                         final int workloadsNumber,
+                         final long seed,
+                         final boolean clockSkipAhead,
+                         final boolean profiling,
+                         final Function<Double, OurAcs> ourAcsFactory) {
+        super(directory, cloudFederation, liveVmMigration, workloadsNumber, seed, clockSkipAhead, profiling);
+        this.ourAcsFactory = Objects.requireNonNull(ourAcsFactory);
+
+        //Datacenters may be processed in parallel, sharing the same list
+        ourAcsExecutionTimeList = Collections.synchronizedList(new ArrayList<>());
 
         runProgram();
     }
@@ -79,9 +154,7 @@ public class OurAcsProgram extends ParentClass {
         createVms(cloudletList);
 
         //Simulation
-        simulation.addOnClockTickListener(this::simulationClocktickListener);
-        simulation.terminateAt(SIMULATION_TIME);
-        simulation.start();
+        startSimulation();
 
         generateExperimentalResults();
 
@@ -98,7 +171,8 @@ public class OurAcsProgram extends ParentClass {
      * @return a new VM allocation migration policy
      */
     private VmAllocationPolicyMigration createNewVmAllocationPolicy() {
-        OurAcs ourAcs = new OurAcs(10, 5, 2, 0.85, 0.3, 0.6, OVERUTILIZATION_THRESHOLD);
+        OurAcs ourAcs = ourAcsFactory.apply(OVERUTILIZATION_THRESHOLD)
+            .setExecutionTimeList(ourAcsExecutionTimeList);
 
         VmAllocationPolicyMigrationStaticThresholdOurAcs vmAllocationPolicyMigration =
             new VmAllocationPolicyMigrationStaticThresholdOurAcs(ourAcs);
@@ -107,4 +181,8 @@ public class OurAcsProgram extends ParentClass {
 
         return vmAllocationPolicyMigration;
     }
+
+    private static OurAcs createDefaultOurAcs(final double ovuThreshold) {
+        return new OurAcs(10, 5, 2, 0.85, 0.3, 0.6, ovuThreshold);
+    }
 }
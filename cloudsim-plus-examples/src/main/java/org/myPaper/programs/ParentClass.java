@@ -2,17 +2,20 @@ package org.myPaper.programs;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimulationProfiler;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.util.SwfWorkloadFileReader;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.listeners.EventListener;
 import org.myPaper.additionalClasses.ExperimentalResults;
 import org.myPaper.additionalClasses.UtilizationModelDynamicCustomized;
 import org.myPaper.broker.DatacenterBrokerMain;
 import org.myPaper.coordinator.CloudCoordinator;
 import org.myPaper.datacenter.DatacenterPowerSupplyOverheadPowerAware;
 import org.myPaper.datacenter.DatacenterPro;
+import org.myPaper.host.HostTypeAbstract;
 import org.myPaper.host.instances.*;
 import org.myPaper.vm.instances.*;
 import org.myPaper.datacenter.vmAllocationPolicies.VmAllocationPolicyFirstFitCustomized;
@@ -26,15 +29,17 @@ import java.util.function.BiFunction;
 public abstract class ParentClass {
     //SimulatorConfigurations
     protected static final int SIMULATION_TIME = 432000; //5 days
-    protected static final LocalTime SIMULATION_START_TIME = LocalTime.now();
-    protected static CloudSim simulation;
+    protected final LocalTime SIMULATION_START_TIME = LocalTime.now();
+    protected CloudSim simulation;
     protected final String OUTPUT_DIRECTORY;
+    protected final long SEED;
+    protected final Random random; //Seeded by the SEED, just used for the host shuffling, workload utilization and workload distribution
 
     //Broker Configurations
     protected final boolean CLOUD_FEDERATION;
-    protected static DatacenterBrokerMain broker1;
-    protected static DatacenterBrokerMain broker2;
-    protected static DatacenterBrokerMain broker3;
+    protected DatacenterBrokerMain broker1;
+    protected DatacenterBrokerMain broker2;
+    protected DatacenterBrokerMain broker3;
 
     //Datacenter Configurations
     protected final double SCHEDULING_INTERVAL = 100; //Every 100 seconds.
@@ -43,55 +48,55 @@ public abstract class ParentClass {
     protected final double UNDERUTILIZATION_THRESHOLD = 0.3;
     protected final double OVERUTILIZATION_THRESHOLD = 0.9;
     //------------------------------------Datacenter1------------------------------------
-    protected static DatacenterPro datacenter1; //Palo Alto, California, USA
+    protected DatacenterPro datacenter1; //Palo Alto, California, USA
     protected final String DC1_WEATHER_DATASET = "weather-info/Palo-Alto-California-US-weather-info-hourly-data.csv";
     protected final double DC1_OFF_SITE_ENERGY_PRICE = 12.37; //Cents/KWh
     protected final double DC1_CARBON_FOOTPRINT_RATE = 0.2060; //Tons/MWh
     protected final double DC1_CARBON_TAX = 15.30 * 100; //Cents/Ton
     //------------------------------------Datacenter2------------------------------------
-    protected static DatacenterPro datacenter2; //Richmond, Virginia, USA
+    protected DatacenterPro datacenter2; //Richmond, Virginia, USA
     protected final String DC2_WEATHER_DATASET = "weather-info/Richmond-Virginia-US-weather-info-hourly-data.csv";
     protected final double DC2_OFF_SITE_ENERGY_PRICE = 6.59; //Cents/KWh
     protected final double DC2_CARBON_FOOTPRINT_RATE = 0.3715; //Tons/MWh
     protected final double DC2_CARBON_TAX = 10.77 * 100; //Cents/Ton
     //------------------------------------Datacenter3------------------------------------
-    protected static DatacenterPro datacenter3; //Tokyo, Japan
+    protected DatacenterPro datacenter3; //Tokyo, Japan
     protected final String DC3_WEATHER_DATASET = "weather-info/Tokyo-Japan-weather-info-hourly-data.csv";
     protected final double DC3_OFF_SITE_ENERGY_PRICE = 21.5; //Cents/KWh
     protected final double DC3_CARBON_FOOTPRINT_RATE = 0.4916; //Tons/MWh
     protected final double DC3_CARBON_TAX = 5.58 * 100; //Cents/Ton
     //------------------------------------Datacenter4------------------------------------
-    protected static DatacenterPro datacenter4; //Sydney, Australia
+    protected DatacenterPro datacenter4; //Sydney, Australia
     protected final String DC4_WEATHER_DATASET = "weather-info/Sydney-Australia-weather-info-hourly-data.csv";
     protected final double DC4_OFF_SITE_ENERGY_PRICE = 18.5; //Cents/KWh
     protected final double DC4_CARBON_FOOTPRINT_RATE = 0.82; //Tons/MWh
     protected final double DC4_CARBON_TAX = 10.20; //Dollar/Ton
     //------------------------------------Datacenter5------------------------------------
-    protected static DatacenterPro datacenter5; //Vancouver, British Columbia, Canada
+    protected DatacenterPro datacenter5; //Vancouver, British Columbia, Canada
     protected final String DC5_WEATHER_DATASET = "weather-info/Vancouver-Canada-weather-info-hourly-data.csv";
     protected final double DC5_OFF_SITE_ENERGY_PRICE = 12.03; //Cents/KWh
     protected final double DC5_CARBON_FOOTPRINT_RATE = 0.0093; //Tons/MWh
     protected final double DC5_CARBON_TAX = 32 * 100; //Cents/Ton
     //------------------------------------Datacenter6------------------------------------
-    protected static DatacenterPro datacenter6; // Toronto, Ontario, Canada
+    protected DatacenterPro datacenter6; // Toronto, Ontario, Canada
     protected final String DC6_WEATHER_DATASET = "weather-info/Toronto-Canada-weather-info-hourly-data.csv";
     protected final double DC6_OFF_SITE_ENERGY_PRICE = 7.03; //Cents/KWh
     protected final double DC6_CARBON_FOOTPRINT_RATE = 0.017; //Tons/MWh
     protected final double DC6_CARBON_TAX = 21.1 * 100; //Cents/Ton
     //------------------------------------Datacenter7------------------------------------
-    protected static DatacenterPro datacenter7; //London, UK
+    protected DatacenterPro datacenter7; //London, UK
     protected final String DC7_WEATHER_DATASET = "weather-info/London-UK-weather-info-hourly-data.csv";
     protected final double DC7_OFF_SITE_ENERGY_PRICE = 21.4; //Cents/KWh
     protected final double DC7_CARBON_FOOTPRINT_RATE = 0.2773; //Tons/MWh
     protected final double DC7_CARBON_TAX = 22.28 * 100; //Cents/Ton
     //------------------------------------Datacenter8------------------------------------
-    protected static DatacenterPro datacenter8; //Columbus, Ohio, USA
+    protected DatacenterPro datacenter8; //Columbus, Ohio, USA
     protected final String DC8_WEATHER_DATASET = "weather-info/Columbus-Ohio-US-weather-info-hourly-data.csv";
     protected final double DC8_OFF_SITE_ENERGY_PRICE = 5.45; //Cents/KWh
     protected final double DC8_CARBON_FOOTPRINT_RATE = 0.6692; //Tons/MWh
     protected final double DC8_CARBON_TAX = 18 * 100; //Cents/Ton
     //------------------------------------Datacenter9------------------------------------
-    protected static DatacenterPro datacenter9; //Portland, Oregon, USA
+    protected DatacenterPro datacenter9; //Portland, Oregon, USA
     protected final String DC9_WEATHER_DATASET = "weather-info/Portland-Oregon-US-weather-info-hourly-data.csv";
     protected final double DC9_OFF_SITE_ENERGY_PRICE = 5.87; //Cents/KWh
     protected final double DC9_CARBON_FOOTPRINT_RATE = 0.1393; //Tons/MWh
@@ -100,23 +105,92 @@ public abstract class ParentClass {
     //Host Configurations
     protected final int MAXIMUM_NUMBER_OF_HOSTS = 90; //The maximum number of hosts must be equal or greater than the number of host categories
     protected final int IDLE_SHUTDOWN_DEADLINE = 150; //10 minutes
+    private long nextHostId; //Each program has its own ID sequences, so that the IDs don't depend on other programs running in parallel
 
     //VM Configurations
     protected final double VM_DESTRUCTION_DELAY = 60; //one minute
     protected final double VM_SUBMISSION_INTERVAL = 100; //every 10 minutes
-    protected static double lastVmListSubmissionTime;
+    protected double lastVmListSubmissionTime;
+    private int lastVmId; //See nextHostId
+    private final EventListener<EventInfo> workloadSubmissionTimer = this::simulationClocktickListener;
 
     //Cloudlet Configurations
-    protected static List<Cloudlet> cloudletList;
+    protected List<Cloudlet> cloudletList;
     protected final String SWF_WORKLOAD_DIRECTORY = "workload/swf/METACENTRUM_Sublist.swf";
     protected final int UTILIZATION_UPDATE_SCHEDULING_INTERVAL = 300; //5 minutes
     protected final int CLOUDLET_LENGTH = 50_000_000; //Million Instructions (MI)
     protected final int MAXIMUM_NUMBER_OF_CLOUDLETS; //cloudlets will be submitted dynamically to the broker during the simulation time
 
-    //OUR-ACS Overhead
-    public static List<Double> ourAcsExecutionTimeList;
+    //OUR-ACS Overhead (it's just set by the programs that use OUR-ACS)
+    protected List<Double> ourAcsExecutionTimeList;
+
+    /**
+     * @see #startSimulation()
+     */
+    protected final boolean CLOCK_SKIP_AHEAD;
+
+    /**
+     * @see #startSimulation()
+     */
+    protected final boolean PROFILING;
 
     public ParentClass(final String directory, final boolean cloudFederation, final boolean liveVmMigration, final int totalVmReqs) {
+        this(directory, cloudFederation, liveVmMigration, totalVmReqs, new Random().nextLong());
+    }
+
+    /**
+     * Creates a program whose host shuffling, workload utilization and workload distribution among providers
+     * are drawn from a given seed.
+     *
+     * @param directory the directory to save the experimental results
+     * @param cloudFederation true if the cloud federation is enabled
+     * @param liveVmMigration true if the live VM migration is enabled
+     * @param totalVmReqs the total number of VM creation requests
+     * @param seed the seed of the program random numbers
+     */
+    public ParentClass(final String directory, final boolean cloudFederation, final boolean liveVmMigration, final int totalVmReqs, final long seed) {
+        this(directory, cloudFederation, liveVmMigration, totalVmReqs, seed, false);
+    }
+
+    /**
+     * Creates a program with a given seed, which may let the simulation clock skip ahead.
+     *
+     * @param directory the directory to save the experimental results
+     * @param cloudFederation true if the cloud federation is enabled
+     * @param liveVmMigration true if the live VM migration is enabled
+     * @param totalVmReqs the total number of VM creation requests
+     * @param seed the seed of the program random numbers
+     * @param clockSkipAhead true to let the simulation clock skip ahead, which changes the workload submission times
+     *                       (see {@link #startSimulation()}), false to keep the results of the published experiments
+     */
+    public ParentClass(final String directory,
+                       final boolean cloudFederation,
+                       final boolean liveVmMigration,
+                       final int totalVmReqs,
+                       final long seed,
+                       final boolean clockSkipAhead) {
+        this(directory, cloudFederation, liveVmMigration, totalVmReqs, seed, clockSkipAhead, false);
+    }
+
+    /**
+     * Creates a program with a given seed, which may let the simulation clock skip ahead and profile the simulation.
+     *
+     * @param directory the directory to save the experimental results
+     * @param cloudFederation true if the cloud federation is enabled
+     * @param liveVmMigration true if the live VM migration is enabled
+     * @param totalVmReqs the total number of VM creation requests
+     * @param seed the seed of the program random numbers
+     * @param clockSkipAhead true to let the simulation clock skip ahead, which changes the workload submission times
+     *                       (see {@link #startSimulation()}), false to keep the results of the published experiments
+     * @param profiling true to record where the wall-clock time of the simulation is spent (see {@link #startSimulation()})
+     */
+    public ParentClass(final String directory,
+                       final boolean cloudFederation,
+                       final boolean liveVmMigration,
+                       final int totalVmReqs,
+                       final long seed,
+                       final boolean clockSkipAhead,
+                       final boolean profiling) {
         if (directory == null || !Files.exists(Paths.get(directory))) {
             throw new IllegalStateException("The given directory is not allowed!");
         }
@@ -125,6 +199,10 @@ public abstract class ParentClass {
         CLOUD_FEDERATION = cloudFederation;
         LIVE_VM_MIGRATION = liveVmMigration;
         MAXIMUM_NUMBER_OF_CLOUDLETS = totalVmReqs;
+        SEED = seed;
+        random = new Random(seed);
+        CLOCK_SKIP_AHEAD = clockSkipAhead;
+        PROFILING = profiling;
     }
 
     /**
@@ -143,37 +221,37 @@ public abstract class ParentClass {
         // Configuration 1
         for (int i = 0; i < numberOfHostsFromEachInstance; i++) {
             Host_Instance1_medium hostInstance = new Host_Instance1_medium();
-            hostList.add(hostInstance.getHost().setIdleShutdownDeadline(IDLE_SHUTDOWN_DEADLINE));
+            hostList.add(createHost(hostInstance));
         }
 
         // Configuration 2
         for (int i = 0; i < numberOfHostsFromEachInstance; i++) {
             Host_Instance2_large hostInstance = new Host_Instance2_large();
-            hostList.add(hostInstance.getHost().setIdleShutdownDeadline(IDLE_SHUTDOWN_DEADLINE));
+            hostList.add(createHost(hostInstance));
         }
 
         // Configuration 3
         for (int i = 0; i < numberOfHostsFromEachInstance; i++) {
             Host_Instance3_xlarge hostInstance = new Host_Instance3_xlarge();
-            hostList.add(hostInstance.getHost().setIdleShutdownDeadline(IDLE_SHUTDOWN_DEADLINE));
+            hostList.add(createHost(hostInstance));
         }
 
         // Configuration 4
         for (int i = 0; i < numberOfHostsFromEachInstance; i++) {
             Host_Instance4_2xlarge hostInstance = new Host_Instance4_2xlarge();
-            hostList.add(hostInstance.getHost().setIdleShutdownDeadline(IDLE_SHUTDOWN_DEADLINE));
+            hostList.add(createHost(hostInstance));
         }
 
         // Configuration 5
         for (int i = 0; i < numberOfHostsFromEachInstance; i++) {
             Host_Instance5_4xlarge hostInstance = new Host_Instance5_4xlarge();
-            hostList.add(hostInstance.getHost().setIdleShutdownDeadline(IDLE_SHUTDOWN_DEADLINE));
+            hostList.add(createHost(hostInstance));
         }
 
         // Configuration 6
         for (int i = 0; i < numberOfHostsFromEachInstance; i++) {
             Host_Instance6_8xLarge hostInstance = new Host_Instance6_8xLarge();
-            hostList.add(hostInstance.getHost().setIdleShutdownDeadline(IDLE_SHUTDOWN_DEADLINE));
+            hostList.add(createHost(hostInstance));
         }
 
         if (hostList.isEmpty()) {
@@ -181,7 +259,7 @@ public abstract class ParentClass {
         }
 
         //Shuffling the list of hosts
-        Collections.shuffle(hostList);
+        Collections.shuffle(hostList, random);
 
         DatacenterPro datacenterPro = new DatacenterPro(simulation, hostList, new VmAllocationPolicyFirstFitCustomized());
         datacenterPro.setName(name);
@@ -207,6 +285,18 @@ public abstract class ParentClass {
         return datacenterPro;
     }
 
+    /**
+     * Creates a Host from the given instance, assigning it the next Host ID of this program.
+     *
+     * @param hostInstance the host instance
+     * @return the created host
+     */
+    private Host createHost(final HostTypeAbstract hostInstance) {
+        final Host host = hostInstance.getHost();
+        host.setId(nextHostId++);
+        return host.setIdleShutdownDeadline(IDLE_SHUTDOWN_DEADLINE);
+    }
+
     /**
      * Creates a list of Cloudlets.
      */
@@ -245,7 +335,8 @@ public abstract class ParentClass {
             return (double) Math.round(value * a) / a;
         };
 
-        Random random = new Random();
+        //Each model has its own generator, since the utilization may be updated by Datacenters running in parallel
+        Random random = new Random(this.random.nextLong());
         //Set a higher initial resource utilization in order to avoid fast overloaded or underloaded detection at the initial Vm placement level
         double initialUtilizationPercent =
             random.nextDouble() * (OVERUTILIZATION_THRESHOLD - (UNDERUTILIZATION_THRESHOLD + 0.01)) + (UNDERUTILIZATION_THRESHOLD + 0.01);
@@ -295,6 +386,8 @@ public abstract class ParentClass {
                     cloudlet.setNumberOfPes(vm.getNumberOfPes());
                     vmList.add(vm);
             }
+
+            vm.setId(++lastVmId);
         });
 
         if (vmList.isEmpty()) {
@@ -304,6 +397,36 @@ public abstract class ParentClass {
         return vmList;
     }
 
+    /**
+     * Starts the simulation, submitting the workloads dynamically every {@link #VM_SUBMISSION_INTERVAL}.
+     *
+     * <p>By default, the workloads are submitted at the clock ticks, as in the published experiments: at every tick up to
+     * {@link #VM_SUBMISSION_INTERVAL} and then at the first tick at least {@link #VM_SUBMISSION_INTERVAL} after the previous submission.
+     * If {@link #CLOCK_SKIP_AHEAD} is enabled, the workload submission is a simulation timer and the simulation clock skips ahead
+     * when there is no event to process, instead of being advanced every scheduling interval up to the simulation time.
+     * Then, the workloads are just submitted at the start and at the exact multiples of {@link #VM_SUBMISSION_INTERVAL},
+     * thus the ones due between two ticks are submitted later and the experimental results differ.</p>
+     *
+     * <p>If {@link #PROFILING} is enabled, the simulation has a {@link SimulationProfiler}, which also records the run time
+     * of OUR-ACS for the programs that use it. The profile is saved beside the experimental results.</p>
+     */
+    protected void startSimulation() {
+        if (PROFILING) {
+            simulation.setProfiler(new SimulationProfiler());
+        }
+
+        if (CLOCK_SKIP_AHEAD) {
+            simulation.setClockSkipAhead(true);
+            simulation.addOnSimulationStartListener(info -> dynamicWorkloadSubmission(info.getTime()));
+            simulation.addTimer(VM_SUBMISSION_INTERVAL, workloadSubmissionTimer);
+        } else {
+            simulation.addOnClockTickListener(this::simulationClocktickListener);
+        }
+
+        simulation.terminateAt(SIMULATION_TIME);
+        simulation.start();
+    }
+
     protected void simulationClocktickListener(EventInfo info) {
         dynamicWorkloadSubmission(info.getTime());
     }
@@ -330,16 +453,18 @@ public abstract class ParentClass {
 //                newCloudletList.add(cloudletList.get(i));
             }
 
-            Collections.shuffle(newCloudletList);
+            Collections.shuffle(newCloudletList, random);
 
             if (!newCloudletList.isEmpty()) {
                 submitWorkloadsForBrokers(newCloudletList);
             }
+        } else {
+            //All workloads were submitted, so the simulation doesn't need to wake up for submitting them anymore
+            simulation.removeTimer(workloadSubmissionTimer);
         }
     }
 
     protected void submitWorkloadsForBrokers(List<Cloudlet> cloudletList) {
-        Random random = new Random();
         final double provider1_workload_portion = 0.5;//50%
         final double provider2_workload_portion = 0.35;//35%
         final double provider3_workload_portion = 0.15;//15%
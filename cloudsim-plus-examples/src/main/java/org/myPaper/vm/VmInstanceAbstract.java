@@ -60,17 +60,6 @@ public abstract class VmInstanceAbstract {
     protected static final int MIPS_1 = 2500;
     protected static final int MIPS_2 = 2700;
 
-    private static int vmId = 0;
-
-    /**
-     * Gets a new ID for assigning to a new VM.
-     *
-     * @return new VM ID
-     */
-    public int getNewId() {
-        return ++vmId;
-    }
-
     /**
      * Converts GB or Gb to MB or Mb
      *
@@ -83,6 +72,7 @@ public abstract class VmInstanceAbstract {
 
     /**
      * Creates a new VM base on the given configuration.
+     * The VM ID isn't set, since each simulation assigns the IDs of its own VMs.
      *
      * @return a new VM
      */
@@ -90,7 +80,6 @@ public abstract class VmInstanceAbstract {
         Vm vm = new VmSimple(getMIPS(), getCpu(), new CloudletSchedulerSpaceShared())
             .setRam((long) getMemory());
 
-        vm.setId(getNewId());
 //        vm.getUtilizationHistory().enable();
 
         return vm;
@@ -19,7 +19,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -115,7 +115,13 @@ public class CloudSim implements Simulation {
     /**
      * The queue of events that will be sent in a future simulation time.
      */
-    private final FutureQueue future;
+    private final FutureEventQueue future;
+
+    /**
+     * An index of the events in the {@link #future} queue by their source entity and tag,
+     * used to find the events to cancel without scanning the whole queue.
+     */
+    private final FutureEventIndex futureIndex;
 
     /**
      * The deferred event queue.
@@ -168,8 +174,52 @@ public class CloudSim implements Simulation {
     private final Set<EventListener<EventInfo>> onSimulationPauseListeners;
     private final Set<EventListener<EventInfo>> onClockTickListeners;
     private final Set<EventListener<EventInfo>> onSimulationStartListeners;
+
+    /** @see #isParallelDatacentersProcessing() */
     private boolean processEventsInParallel;
 
+    /**
+     * The pool used to reuse events after processed,
+     * or null if {@link #isEventPooling() event pooling} is disabled.
+     */
+    private EventPool eventPool;
+
+    /**
+     * The pooled events which have been processed during the current simulation time,
+     * which are {@link #releaseConsumedEvents() released} after all entities are executed.
+     */
+    private final List<SimEvent> consumedEvents;
+
+    /** @see #getProfiler() */
+    private SimulationProfiler profiler;
+
+    /**
+     * The timers added by {@link #addTimer(double, EventListener)},
+     * ordered by the time they must be notified next.
+     */
+    private final PriorityQueue<SimulationTimer> timers;
+
+    /**
+     * The timer being notified, which is out of the {@link #timers} queue
+     * until its listener returns, or null if no timer is being notified.
+     */
+    private SimulationTimer notifiedTimer;
+
+    /**
+     * The times registered by {@link #scheduleWakeUp(double)} that the clock
+     * must reach when {@link #isClockSkipAhead() skipping ahead}.
+     */
+    private final PriorityQueue<Double> wakeUpTimes;
+
+    /** @see #isClockSkipAhead() */
+    private boolean clockSkipAhead;
+
+    /**
+     * The actions buffered by the current thread while running a task
+     * given to {@link #runBuffered(Runnable)}, or null if the thread isn't buffering.
+     */
+    private final ThreadLocal<List<Runnable>> bufferedActions;
+
     /**
      * Creates a CloudSim simulation.
      * Internally it creates a CloudInformationService.
@@ -189,11 +239,47 @@ public class CloudSim implements Simulation {
      * @param minTimeBetweenEvents the minimal period between events. Events
      * within shorter periods after the last event are discarded.
      * @see CloudInformationService
+     * @see #CloudSim(double, FutureEventQueue)
      */
     public CloudSim(final double minTimeBetweenEvents) {
+        this(minTimeBetweenEvents, new FutureQueue());
+    }
+
+    /**
+     * Creates a CloudSim simulation that uses a given queue to store the future events.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param futureQueue an empty queue to store the future events,
+     *                    such as a {@link FutureQueue} (the default one) or a {@link CalendarQueue}
+     *                    for simulations with a large number of pending events
+     * @see CloudInformationService
+     * @see #CloudSim(double, FutureEventQueue)
+     */
+    public CloudSim(final FutureEventQueue futureQueue){
+        this(0.1, futureQueue);
+    }
+
+    /**
+     * Creates a CloudSim simulation that tracks events happening in a time interval
+     * as little as the minTimeBetweenEvents parameter
+     * and uses a given queue to store the future events.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param minTimeBetweenEvents the minimal period between events. Events
+     * within shorter periods after the last event are discarded.
+     * @param futureQueue an empty queue to store the future events,
+     *                    such as a {@link FutureQueue} (the default one) or a {@link CalendarQueue}
+     *                    for simulations with a large number of pending events
+     * @see CloudInformationService
+     */
+    public CloudSim(final double minTimeBetweenEvents, final FutureEventQueue futureQueue) {
         this.entities = new ArrayList<>();
-        this.future = new FutureQueue();
+        this.future = requireNonNull(futureQueue);
+        this.futureIndex = new FutureEventIndex();
+        this.consumedEvents = new ArrayList<>();
+        this.profiler = SimulationProfiler.NULL;
         this.deferred = new DeferredQueue();
+        this.bufferedActions = new ThreadLocal<>();
         this.waitPredicates = new HashMap<>();
         this.networkTopology = NetworkTopology.NULL;
         this.clock = 0;
@@ -203,6 +289,8 @@ public class CloudSim implements Simulation {
         this.onSimulationPauseListeners = new HashSet<>();
         this.onClockTickListeners = new HashSet<>();
         this.onSimulationStartListeners = new HashSet<>();
+        this.timers = new PriorityQueue<>();
+        this.wakeUpTimes = new PriorityQueue<>();
 
         // NOTE: the order for the lines below is important
         this.calendar = Calendar.getInstance();
@@ -470,9 +558,26 @@ public class CloudSim implements Simulation {
         final double oldTime = clock;
         this.clock = newTime;
         notifyOnClockTickListenersIfClockChanged();
+        notifyDueTimers();
         return oldTime;
     }
 
+    /**
+     * Notifies the {@link #timers} whose next notification time was reached by the clock.
+     */
+    private void notifyDueTimers() {
+        while (!timers.isEmpty() && timers.peek().getNextTime() <= clock) {
+            notifiedTimer = timers.poll();
+            notifiedTimer.notifyListener(clock);
+            //The listener may have removed the timer
+            if (!notifiedTimer.isRemoved()) {
+                timers.add(notifiedTimer);
+            }
+        }
+
+        notifiedTimer = null;
+    }
+
     @Override
     public int getNumEntities() {
         return entities.size();
@@ -488,13 +593,16 @@ public class CloudSim implements Simulation {
         requireNonNull(entity);
         if (running) {
             final SimEvent evt = new CloudSimEvent(SimEvent.Type.CREATE, 0, entity, SimEntity.NULL, -1, entity);
-            future.addEvent(evt);
+            addFutureEvent(evt, false);
         }
 
-        if (entity.getId() == -1) { // Only add once!
-            entity.setId(entities.size());
-            entities.add(entity);
-        }
+        //Entities may be created by Datacenters running in parallel (such as a HostFaultInjection)
+        sync(() -> {
+            if (entity.getId() == -1) { // Only add once!
+                entity.setId(entities.size());
+                entities.add(entity);
+            }
+        });
     }
 
     /**
@@ -506,13 +614,14 @@ public class CloudSim implements Simulation {
      */
     private boolean runClockTickAndProcessFutureEvents(final double until) {
         executeRunnableEntities(until);
+        releaseConsumedEvents();
         if (future.isEmpty()) {
             return false;
         }
 
         final SimEvent first = future.first();
         if(first.getTime() <= until) {
-            processFutureEventsHappeningAtSameTimeOfTheFirstOne(first);
+            processFutureEventsHappeningAtSameTimeOfTheFirstOne();
             return true;
         }
 
@@ -520,6 +629,15 @@ public class CloudSim implements Simulation {
     }
 
     private boolean isToWaitClockToReachTerminationTime() {
+        if(isTerminationTimeSet() && clockSkipAhead){
+            final double nextWakeUpTime = nextWakeUpTime();
+            LOGGER.info(
+                "{}: Simulation: Waiting more events or the clock to reach {} (the termination time set). Skipping ahead to the next wake-up time {}",
+                clockStr(), terminationTime, nextWakeUpTime);
+            setClock(nextWakeUpTime);
+            return true;
+        }
+
         if(isTerminationTimeSet()){
             final double increment = minDatacentersSchedulingInterval();
             final String info = increment == minTimeBetweenEvents
@@ -540,6 +658,34 @@ public class CloudSim implements Simulation {
         return false;
     }
 
+    /**
+     * Gets the earliest time the clock must reach when {@link #isClockSkipAhead() skipping ahead},
+     * which is the first among the {@link #wakeUpTimes}, the next time of the {@link #timers},
+     * the time of the next future event and the termination time.
+     *
+     * @return the next wake-up time, which is always greater than the current clock
+     */
+    private double nextWakeUpTime() {
+        while (!wakeUpTimes.isEmpty() && wakeUpTimes.peek() <= clock) {
+            wakeUpTimes.poll();
+        }
+
+        double nextTime = Math.max(terminationTime, newTerminationTime);
+        if (!wakeUpTimes.isEmpty()) {
+            nextTime = Math.min(nextTime, wakeUpTimes.peek());
+        }
+
+        if (!timers.isEmpty()) {
+            nextTime = Math.min(nextTime, timers.peek().getNextTime());
+        }
+
+        if (!future.isEmpty()) {
+            nextTime = Math.min(nextTime, future.first().getTime());
+        }
+
+        return nextTime > clock ? nextTime : clock + minTimeBetweenEvents;
+    }
+
     /**
      * Gets the minimum {@link Datacenter#getSchedulingInterval()} defined
      * among all existing Datacenters.
@@ -557,18 +703,19 @@ public class CloudSim implements Simulation {
                 .min().orElse(minTimeBetweenEvents);
     }
 
-    private void processFutureEventsHappeningAtSameTimeOfTheFirstOne(final SimEvent firstEvent) {
-        processEvent(firstEvent);
-        future.remove(firstEvent);
-
-        //Uses iterator to increase efficiency and avoid ConcurrentModificationException while removing
-        for(final Iterator<SimEvent> it = future.iterator(); it.hasNext();){
-            SimEvent evt = it.next();
-            if(evt.getTime() == firstEvent.getTime()){
-                processEvent(evt);
-                it.remove();
-            }
+    /**
+     * Removes all the events happening at the same time of the first one
+     * from the {@link #future future event queue} as a batch, then processes them in order.
+     * Events happening later are not even visited.
+     */
+    private void processFutureEventsHappeningAtSameTimeOfTheFirstOne() {
+        final List<SimEvent> events = future.pollFirstEvents();
+        futureIndex.removeAll(events);
+        for (final SimEvent evt : events) {
+            processEvent(evt);
         }
+
+        profiler.sampleQueues(clock, future.size(), deferred.size());
     }
 
     /**
@@ -577,14 +724,53 @@ public class CloudSim implements Simulation {
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
     private void executeRunnableEntities(final double until) {
+        /*Consecutive runnable Datacenters are collected to be executed in parallel
+        just before the next runnable entity which isn't a Datacenter.*/
+        final List<CloudSimEntity> datacenters = new ArrayList<>();
+
         /*Uses an indexed for instead of anything else to avoid
         ConcurrencyModificationException when a HostFaultInjection is created inside a Datacenter*/
         for (int i = 0; i < entities.size(); i++) {
             CloudSimEntity ent = entities.get(i);
-            if (ent.getState() == SimEntity.State.RUNNABLE) {
-                ent.run(until);
+            if (ent.getState() != SimEntity.State.RUNNABLE) {
+                continue;
+            }
+
+            if (processEventsInParallel && ent instanceof Datacenter) {
+                datacenters.add(ent);
+                continue;
             }
+
+            executeDatacentersInParallel(datacenters, until);
+            ent.run(until);
         }
+
+        executeDatacentersInParallel(datacenters, until);
+    }
+
+    /**
+     * Executes a list of runnable Datacenters in parallel, as described in
+     * {@link #setParallelDatacentersProcessing(boolean)}, then clears the list.
+     * The events sent by each Datacenter are buffered and, after all of them finish,
+     * the buffers are flushed following the order of the given list.
+     *
+     * @param datacenters the Datacenters to execute
+     * @param until the time up to which the events of each Datacenter should be processed
+     */
+    private void executeDatacentersInParallel(final List<CloudSimEntity> datacenters, final double until) {
+        if (datacenters.size() == 1) {
+            datacenters.get(0).run(until);
+        } else if (datacenters.size() > 1) {
+            final Runnable[] bufferedActions = new Runnable[datacenters.size()];
+            IntStream.range(0, datacenters.size()).parallel().forEach(i ->
+                bufferedActions[i] = runBuffered(() -> datacenters.get(i).run(until)));
+
+            for (final Runnable actions : bufferedActions) {
+                actions.run();
+            }
+        }
+
+        datacenters.clear();
     }
 
     private void executeRunnableEntities() {
@@ -602,26 +788,75 @@ public class CloudSim implements Simulation {
 
     @Override
     public void send(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        send(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        send(newEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
     }
 
     @Override
     public void send(final SimEvent evt) {
         requireNonNull(evt);
         //Events with a negative tag have higher priority (except the "end of the simulation" event)
-        if(evt.getTag() < 0 && evt.getTag() != CloudSimTags.END_OF_SIMULATION)
-            future.addEventFirst(evt);
-        else future.addEvent(evt);
+        addFutureEvent(evt, evt.getTag() < 0 && evt.getTag() != CloudSimTags.END_OF_SIMULATION);
     }
 
     @Override
     public void sendFirst(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        sendFirst(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        sendFirst(newEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
     }
 
     @Override
     public void sendFirst(SimEvent evt) {
-        future.addEventFirst(evt);
+        addFutureEvent(evt, true);
+    }
+
+    /**
+     * Adds an event to the future queue or, if the current thread is
+     * {@link #runBuffered(Runnable) buffering}, buffers it to be added later.
+     *
+     * @param evt the event to add
+     * @param first true to add the event to the beginning of the queue, false to add it to the end
+     */
+    private void addFutureEvent(final SimEvent evt, final boolean first) {
+        final List<Runnable> buffer = bufferedActions.get();
+        if (buffer != null) {
+            //When flushed by a thread that is also buffering, the event is moved to the enclosing buffer
+            buffer.add(() -> addFutureEvent(evt, first));
+        } else if (first) {
+            future.addEventFirst(evt);
+            futureIndex.add(evt);
+        } else {
+            future.addEvent(evt);
+            futureIndex.add(evt);
+        }
+    }
+
+    @Override
+    public Runnable runBuffered(final Runnable task) {
+        requireNonNull(task);
+        final List<Runnable> enclosingBuffer = bufferedActions.get();
+        final List<Runnable> buffer = new ArrayList<>();
+        bufferedActions.set(buffer);
+        try {
+            task.run();
+        } finally {
+            if (enclosingBuffer == null) {
+                bufferedActions.remove();
+            } else {
+                bufferedActions.set(enclosingBuffer);
+            }
+        }
+
+        return () -> buffer.forEach(Runnable::run);
+    }
+
+    @Override
+    public void runOrBuffer(final Runnable action) {
+        final List<Runnable> buffer = bufferedActions.get();
+        if (buffer == null) {
+            action.run();
+        } else {
+            //When flushed by a thread that is also buffering, the action is moved to the enclosing buffer
+            buffer.add(() -> runOrBuffer(action));
+        }
     }
 
     @Override
@@ -629,69 +864,74 @@ public class CloudSim implements Simulation {
         src.setState(SimEntity.State.WAITING);
         if (predicate != ANY_EVT) {
             // If a predicate has been used, store it in order to check incoming events that matches it
-            waitPredicates.put(src, predicate);
+            sync(() -> waitPredicates.put(src, predicate));
         }
     }
 
     @Override
     public SimEvent select(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        final SimEvent evt = findFirstDeferred(dest, predicate);
-        if(evt != SimEvent.NULL) {
-            deferred.remove(evt);
-        }
+        /*Each entity just removes events sent to itself,
+        * therefore Datacenters running in parallel don't interfere in the events selected by each other.*/
+        final SimEvent[] evt = {SimEvent.NULL};
+        sync(() -> {
+            evt[0] = deferred.stream(dest).filter(predicate).findFirst().orElse(SimEvent.NULL);
+            if (evt[0] != SimEvent.NULL) {
+                deferred.remove(evt[0]);
+                consumeEvent(evt[0]);
+            }
+        });
 
-        return evt;
+        return evt[0];
     }
 
     @Override
     public SimEvent findFirstDeferred(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        return filterEventsToDestinationEntity(deferred, predicate, dest).findFirst().orElse(SimEvent.NULL);
-    }
-
-    /**
-     * Gets a stream of events inside a specific queue that match a given predicate
-     * and are targeted to an specific entity.
-     *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @param dest Id of entity that the event has to be sent to
-     * @return a Stream of events from the queue
-     */
-    private Stream<SimEvent> filterEventsToDestinationEntity(final EventQueue queue, final Predicate<SimEvent> predicate, final SimEntity dest) {
-        return filterEvents(queue, predicate.and(evt -> evt.getDestination() == dest));
+        final SimEvent[] evt = {SimEvent.NULL};
+        sync(() -> evt[0] = deferred.stream(dest).filter(predicate).findFirst().orElse(SimEvent.NULL));
+        return evt[0];
     }
 
     @Override
     public SimEvent cancel(final SimEntity src, final Predicate<SimEvent> predicate) {
-        final SimEvent canceled =
-                future.stream()
-                      .filter(isEventSourceEqualsTo(predicate, src))
-                      .findFirst()
-                      .orElse(SimEvent.NULL);
-        future.remove(canceled);
+        final List<SimEvent> events = futureIndex.find(src, predicate);
+        final SimEvent canceled = events.isEmpty() ? SimEvent.NULL : events.get(0);
+        /*The removal is buffered when Datacenters are running in parallel,
+        * since other ones may be reading the future queue.*/
+        runOrBuffer(() -> removeFutureEvent(canceled));
         return canceled;
     }
 
     @Override
     public boolean cancelAll(final SimEntity src, final Predicate<SimEvent> predicate) {
-        final int previousSize = future.size();
-        future.removeIf(isEventSourceEqualsTo(predicate, src));
-        return previousSize < future.size();
+        /*The result is computed from the index before the removal is buffered,
+        * since a buffered removal just happens after this method returns.*/
+        final boolean found = !futureIndex.find(src, predicate).isEmpty();
+
+        /*The events are just selected again when the removal is actually performed,
+        * since the ones sent by the entity during a buffered processing are not in the queue yet.*/
+        runOrBuffer(() -> {
+            for (final SimEvent evt : futureIndex.find(src, predicate)) {
+                removeFutureEvent(evt);
+            }
+        });
+        return found;
     }
 
-    private Predicate<SimEvent> isEventSourceEqualsTo(final Predicate<SimEvent> predicate, final SimEntity src) {
-        return predicate.and(evt -> evt.getSource().equals(src));
+    @Override
+    public boolean cancel(final SimEvent evt) {
+        //The result is computed from the index before the removal is buffered, as in cancelAll
+        final boolean found = futureIndex.contains(evt);
+        runOrBuffer(() -> removeFutureEvent(evt));
+        return found;
     }
 
     /**
-     * Gets a stream of events inside a specific queue that match a given predicate.
-     *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @return a Stream of events from the queue
+     * Removes an event from the {@link #future} queue and its index.
+     * @param evt the event to remove
+     * @return true if the event was in the queue and was removed, false otherwise
      */
-    private Stream<SimEvent> filterEvents(final EventQueue queue, final Predicate<SimEvent> predicate) {
-        return queue.stream().filter(predicate);
+    private boolean removeFutureEvent(final SimEvent evt) {
+        return futureIndex.remove(evt) && future.remove(evt);
     }
 
     /**
@@ -709,6 +949,49 @@ public class CloudSim implements Simulation {
         for (final EventListener<SimEvent> listener : onEventProcessingListeners) {
             listener.update(evt);
         }
+
+        //SEND events are consumed just when the destination entity gets them
+        if (evt.getType() != SimEvent.Type.SEND) {
+            consumeEvent(evt);
+        }
+    }
+
+    /**
+     * Creates an event or, if {@link #isEventPooling() event pooling} is enabled,
+     * gets a free one from the {@link #eventPool}.
+     * @see CloudSimEvent#CloudSimEvent(SimEvent.Type, double, SimEntity, SimEntity, int, Object)
+     */
+    private SimEvent newEvent(
+        final SimEvent.Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        return eventPool == null ?
+                    new CloudSimEvent(type, delay, src, dest, tag, data) :
+                    eventPool.obtain(type, delay, src, dest, tag, data);
+    }
+
+    /**
+     * Indicates that an event was delivered and can be {@link #releaseConsumedEvents() released}
+     * to the {@link #eventPool} after all entities are executed.
+     * @param evt the consumed event
+     */
+    private void consumeEvent(final SimEvent evt) {
+        if (eventPool != null) {
+            consumedEvents.add(evt);
+        }
+    }
+
+    /**
+     * Releases the events consumed during the current simulation time to the {@link #eventPool},
+     * after all entities have processed them.
+     */
+    private void releaseConsumedEvents() {
+        if (eventPool != null) {
+            eventPool.releaseAll(consumedEvents);
+        }
+
+        consumedEvents.clear();
     }
 
     /**
@@ -721,9 +1004,7 @@ public class CloudSim implements Simulation {
      * This gives the sync() method a lambda expression representing a {@link Runnable}.
      * </p>
      *
-     * <p><b>WARNING:</b> this is a very experimental feature. It may result
-     * in unexpected simulation behaviour. Use at your own risk.</p>
-     *
+     * @see #setParallelDatacentersProcessing(boolean)
      * @param runnable The {@link Runnable} that encapsulates the code block to be called synchronously.
      */
     private void sync(final Runnable runnable){
@@ -746,7 +1027,14 @@ public class CloudSim implements Simulation {
             if (circularClockTimeQueue[0] < circularClockTimeQueue[1])
             {
                 lastClockTickListenersUpdate = circularClockTimeQueue[0];
-                notifyEventListeners(onClockTickListeners, lastClockTickListenersUpdate);
+                //Avoids reading the wall clock when profiling is disabled
+                if (profiler == SimulationProfiler.NULL) {
+                    notifyEventListeners(onClockTickListeners, lastClockTickListenersUpdate);
+                } else {
+                    final long start = System.nanoTime();
+                    notifyEventListeners(onClockTickListeners, lastClockTickListenersUpdate);
+                    profiler.addClockTickListenersProcessing(System.nanoTime() - start);
+                }
             }
         }
     }
@@ -811,7 +1099,10 @@ public class CloudSim implements Simulation {
         if (destEnt.getState() == SimEntity.State.WAITING) {
             final Predicate<SimEvent> p = waitPredicates.get(destEnt);
             if (p == null || evt.getTag() == 9999 || p.test(evt)) {
-                destEnt.setEventBuffer(new CloudSimEvent(evt));
+                final SimEvent copy = eventPool == null ? new CloudSimEvent(evt) : eventPool.obtain(evt);
+                destEnt.setEventBuffer(copy);
+                consumeEvent(copy);
+                consumeEvent(evt);
                 destEnt.setState(SimEntity.State.RUNNABLE);
                 waitPredicates.remove(destEnt);
             } else {
@@ -872,12 +1163,12 @@ public class CloudSim implements Simulation {
 
     @Override
     public void pauseEntity(final SimEntity src, final double delay) {
-        final SimEvent evt = new CloudSimEvent(SimEvent.Type.HOLD_DONE, delay, src);
+        final SimEvent evt = newEvent(SimEvent.Type.HOLD_DONE, delay, src, SimEntity.NULL, -1, null);
         addHoldingFutureEvent(src, evt);
     }
 
     private void addHoldingFutureEvent(SimEntity src, SimEvent evt) {
-        future.addEvent(evt);
+        addFutureEvent(evt, false);
         src.setState(SimEntity.State.HOLDING);
     }
 
@@ -887,7 +1178,7 @@ public class CloudSim implements Simulation {
      * @param delay How many seconds after the current time the entity has to be held
      */
     protected void holdEntity(final SimEntity src, final long delay) {
-        final SimEvent evt = new CloudSimEvent(SimEvent.Type.HOLD_DONE, delay, src);
+        final SimEvent evt = newEvent(SimEvent.Type.HOLD_DONE, delay, src, SimEntity.NULL, -1, null);
         addHoldingFutureEvent(src, evt);
     }
 
@@ -950,7 +1241,7 @@ public class CloudSim implements Simulation {
     }
 
     private boolean isNextFutureEventHappeningAfterTimeToPause() {
-        return future.iterator().next().getTime() >= pauseAt;
+        return future.first().getTime() >= pauseAt;
     }
 
     @Override
@@ -1003,6 +1294,54 @@ public class CloudSim implements Simulation {
         return onClockTickListeners.remove(requireNonNull(listener));
     }
 
+    @Override
+    public Simulation addTimer(final double interval, final EventListener<EventInfo> listener) {
+        timers.add(new SimulationTimer(listener, interval, clock));
+        return this;
+    }
+
+    @Override
+    public boolean removeTimer(final EventListener<EventInfo> listener) {
+        boolean removed = false;
+        if (notifiedTimer != null && notifiedTimer.getListener().equals(listener)) {
+            notifiedTimer.remove();
+            removed = true;
+        }
+
+        for (final SimulationTimer timer : timers) {
+            if (timer.getListener().equals(listener)) {
+                timer.remove();
+                removed = true;
+            }
+        }
+
+        timers.removeIf(SimulationTimer::isRemoved);
+        return removed;
+    }
+
+    @Override
+    public Simulation scheduleWakeUp(final double time) {
+        //Wake-up times may be requested by Datacenters running in parallel
+        sync(() -> {
+            if (time > clock) {
+                wakeUpTimes.add(time);
+            }
+        });
+
+        return this;
+    }
+
+    @Override
+    public boolean isClockSkipAhead() {
+        return clockSkipAhead;
+    }
+
+    @Override
+    public Simulation setClockSkipAhead(final boolean clockSkipAhead) {
+        this.clockSkipAhead = clockSkipAhead;
+        return this;
+    }
+
     @Override
     public NetworkTopology getNetworkTopology() {
         return networkTopology;
@@ -1013,6 +1352,45 @@ public class CloudSim implements Simulation {
         this.networkTopology = networkTopology;
     }
 
+    @Override
+    public boolean isParallelDatacentersProcessing() {
+        return processEventsInParallel;
+    }
+
+    @Override
+    public Simulation setParallelDatacentersProcessing(final boolean parallelDatacentersProcessing) {
+        this.processEventsInParallel = parallelDatacentersProcessing;
+        return this;
+    }
+
+    @Override
+    public boolean isEventPooling() {
+        return eventPool != null;
+    }
+
+    @Override
+    public Simulation setEventPooling(final boolean eventPooling) {
+        if (eventPooling && eventPool == null) {
+            eventPool = new EventPool();
+        } else if (!eventPooling) {
+            releaseConsumedEvents();
+            eventPool = null;
+        }
+
+        return this;
+    }
+
+    @Override
+    public SimulationProfiler getProfiler() {
+        return profiler;
+    }
+
+    @Override
+    public Simulation setProfiler(final SimulationProfiler profiler) {
+        this.profiler = requireNonNull(profiler);
+        return this;
+    }
+
     @Override
     public double getLastCloudletProcessingUpdate() {
         return lastCloudletProcessingUpdate;
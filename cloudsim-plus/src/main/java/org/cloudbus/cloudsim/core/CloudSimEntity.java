@@ -8,7 +8,6 @@
 package org.cloudbus.cloudsim.core;
 
 import org.apache.commons.lang3.StringUtils;
-import org.cloudbus.cloudsim.core.events.CloudSimEvent;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -112,7 +111,13 @@ public abstract class CloudSimEntity implements SimEntity {
 
     @Override
     public boolean schedule(final SimEntity dest, final double delay, final int tag, final Object data) {
-        return schedule(new CloudSimEvent(delay, this, dest, tag, data));
+        if (!canSendEvent(tag, dest)) {
+            return false;
+        }
+
+        //The simulation creates the event, so that it may be reused after processed
+        simulation.send(this, dest, delay, tag, data);
+        return true;
     }
 
     @Override
@@ -145,14 +150,18 @@ public abstract class CloudSimEntity implements SimEntity {
     }
 
     private boolean canSendEvent(final SimEvent evt) {
+        return canSendEvent(evt.getTag(), evt.getDestination());
+    }
+
+    private boolean canSendEvent(final int tag, final SimEntity dest) {
         /**
          * If the simulation has finished and an  {@link CloudSimTags#END_OF_SIMULATION}
          * message is sent, it has to be processed to enable entities to shutdown.
          */
-        if (!simulation.isRunning() && evt.getTag() != CloudSimTags.END_OF_SIMULATION) {
+        if (!simulation.isRunning() && tag != CloudSimTags.END_OF_SIMULATION) {
             LOGGER.warn(
                 "{}: {}: Cannot send events before simulation starts or after it finishes. Trying to send message {} to {}",
-                getSimulation().clockStr(), this, evt.getTag(), evt.getDestination());
+                getSimulation().clockStr(), this, tag, dest);
             return false;
         }
 
@@ -220,12 +229,11 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param data  The data to be sent with the event.
      */
     public void scheduleFirst(final SimEntity dest, final double delay, final int tag, final Object data) {
-        final CloudSimEvent evt = new CloudSimEvent(delay, this, dest, tag, data);
-        if (!canSendEvent(evt)) {
+        if (!canSendEvent(tag, dest)) {
             return;
         }
 
-        simulation.sendFirst(evt);
+        simulation.sendFirst(this, dest, delay, tag, data);
     }
 
     /**
@@ -271,6 +279,16 @@ public abstract class CloudSimEntity implements SimEntity {
         return simulation.isRunning() ? simulation.cancel(this, predicate) : SimEvent.NULL;
     }
 
+    /**
+     * Cancels an event previously submitted by this entity, then removes it from the future event queue.
+     *
+     * @param evt the event to cancel
+     * @return true if the event has been cancelled; false otherwise
+     */
+    public boolean cancelEvent(final SimEvent evt) {
+        return simulation.isRunning() && simulation.cancel(evt);
+    }
+
     /**
      * Gets the first event matching a predicate from the deferred queue, or if
      * none match, wait for a matching event to arrive.
@@ -317,10 +335,19 @@ public abstract class CloudSimEntity implements SimEntity {
     }
 
     public void run(final double until) {
+        final SimulationProfiler profiler = simulation.getProfiler();
         SimEvent evt = buffer == null ? getNextEvent(e -> e.getTime() <= until) : buffer;
 
         while (evt != SimEvent.NULL) {
-            processEvent(evt);
+            //Avoids reading the wall clock when profiling is disabled
+            if (profiler == SimulationProfiler.NULL) {
+                processEvent(evt);
+            } else {
+                final long start = System.nanoTime();
+                processEvent(evt);
+                profiler.addEventProcessing(this, evt, System.nanoTime() - start);
+            }
+
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -75,12 +75,31 @@ public interface Simulation {
      * Cancels all events from the future event queue that matches a given predicate
      * and were sent by a given entity, then removes those ones from the queue.
      *
+     * <p>While Datacenters are {@link #setParallelDatacentersProcessing(boolean) processed in parallel},
+     * the removal is buffered and performed after the Datacenters finish. In this case, the result tells if
+     * matching events were in the queue when this method was called, while the matching events the entity
+     * sends during the same parallel processing are removed too.</p>
+     *
      * @param src Id of entity that scheduled the event
      * @param p   the event selection predicate
      * @return true if at least one event has been cancelled; false otherwise
      */
     boolean cancelAll(SimEntity src, Predicate<SimEvent> p);
 
+    /**
+     * Cancels a given event from the future event queue, then removes it from the queue.
+     * Since the event object itself is used as a handle,
+     * the event is removed without searching the queue for it.
+     *
+     * <p>While Datacenters are {@link #setParallelDatacentersProcessing(boolean) processed in parallel},
+     * the removal is buffered and performed after the Datacenters finish. In this case, the result tells if
+     * the event was in the queue when this method was called.</p>
+     *
+     * @param evt the event to cancel
+     * @return true if the event was in the queue and has been cancelled; false otherwise
+     */
+    boolean cancel(SimEvent evt);
+
     /**
      * Gets the current simulation time in seconds.
      *
@@ -220,6 +239,69 @@ public interface Simulation {
      */
     boolean removeOnClockTickListener(EventListener<? extends EventInfo> listener);
 
+    /**
+     * Adds a timer that notifies a {@link EventListener} every time the simulation clock
+     * reaches a multiple of a given interval.
+     * Differently from {@link #addOnClockTickListener(EventListener) clock tick listeners},
+     * which are notified every time the clock advances,
+     * the listener is notified just once per interval, when the clock reaches or passes its next time.
+     * The next time of each timer is a wake-up time when the {@link #setClockSkipAhead(boolean) clock skips ahead},
+     * therefore timers are the way to run periodic tasks (such as the dynamic submission of Cloudlets)
+     * without requiring the clock to be advanced in fixed increments.
+     *
+     * @param interval the interval between notifications (in seconds)
+     * @param listener the event listener to notify
+     * @return
+     * @see #removeTimer(EventListener)
+     */
+    Simulation addTimer(double interval, EventListener<EventInfo> listener);
+
+    /**
+     * Removes the timers that notify a given listener.
+     * It can be called by the listener itself, when it doesn't need to be notified anymore.
+     *
+     * @param listener the listener of the timers to remove
+     * @return true if some timer was found and removed, false otherwise
+     */
+    boolean removeTimer(EventListener<EventInfo> listener);
+
+    /**
+     * Registers a time the simulation clock must reach when {@link #setClockSkipAhead(boolean) skipping ahead},
+     * even if there is no event to be processed at that time.
+     * This enables entities and listeners to be notified at the time they require
+     * (such as to power off Hosts that are idle for a given time).
+     * Times that are not after the current clock are ignored.
+     *
+     * @param time the time the clock must reach (in seconds)
+     * @return
+     */
+    Simulation scheduleWakeUp(double time);
+
+    /**
+     * Checks if the simulation clock skips ahead when there is no event to process.
+     *
+     * @return true if the clock skips ahead, false if it's advanced in fixed increments
+     * @see #setClockSkipAhead(boolean)
+     */
+    boolean isClockSkipAhead();
+
+    /**
+     * Enables or disables the simulation clock to skip ahead when there is no event to process,
+     * which is disabled by default.
+     *
+     * <p>When a {@link #terminateAt(double) termination time} is set and there is no event to process,
+     * the simulation must keep running, waiting for dynamic events.
+     * By default, it advances the clock in increments of the minimum {@link Datacenter#getSchedulingInterval()},
+     * notifying every {@link #addOnClockTickListener(EventListener) clock tick listener} each time.
+     * When skipping ahead, the clock jumps straight to the earliest time among
+     * the {@link #scheduleWakeUp(double) wake-up times}, the {@link #addTimer(double, EventListener) timers},
+     * the next event and the termination time.</p>
+     *
+     * @param clockSkipAhead true to enable the clock to skip ahead, false to advance it in fixed increments
+     * @return
+     */
+    Simulation setClockSkipAhead(boolean clockSkipAhead);
+
     /**
      * Pauses an entity for some time.
      * @param src   id of entity to be paused
@@ -315,6 +397,35 @@ public interface Simulation {
      */
     void sendFirst(SimEntity src, SimEntity dest, double delay, int tag, Object data);
 
+    /**
+     * Runs a task that may be executed concurrently with other tasks
+     * (such as the processing update of a Host in a worker thread),
+     * buffering the events sent and the actions given to {@link #runOrBuffer(Runnable)}
+     * by the current thread while the task runs.
+     * The buffered events are not added to the future queue until the returned
+     * {@link Runnable} is executed. This way, after all concurrent tasks finish,
+     * the simulation thread can flush the buffers in a deterministic order,
+     * ensuring events get the same serial numbers they would get if the tasks were run sequentially.
+     *
+     * <p>If the current thread is already buffering, the returned {@link Runnable}
+     * moves the buffered events and actions to the enclosing buffer.</p>
+     *
+     * @param task the task to run
+     * @return a {@link Runnable} that must be executed by the simulation thread
+     *         to send the buffered events and run the buffered actions, in the order they were issued
+     * @see #runOrBuffer(Runnable)
+     */
+    Runnable runBuffered(Runnable task);
+
+    /**
+     * Runs an action that changes the shared simulation state (such as destroying a VM
+     * or shutting down an entity) right away, or buffers it to be executed later
+     * if the current thread is running a task given to {@link #runBuffered(Runnable)}.
+     *
+     * @param action the action to run or buffer
+     */
+    void runOrBuffer(Runnable action);
+
     /**
      * Sends an event from one entity to another without delaying
      * the message.
@@ -481,6 +592,86 @@ public interface Simulation {
      */
     long getNumberOfFutureEvents(Predicate<SimEvent> predicate);
 
+    /**
+     * Checks if the events of different Datacenters happening at the same time
+     * are processed in parallel.
+     *
+     * @return true if Datacenters are processed in parallel, false otherwise
+     * @see #setParallelDatacentersProcessing(boolean)
+     */
+    boolean isParallelDatacentersProcessing();
+
+    /**
+     * Enables or disables processing the events of different Datacenters in parallel,
+     * which is disabled by default.
+     * This is a conservative parallel execution that can reduce the simulation time
+     * of federated scenarios with several Datacenters.
+     *
+     * <p>Since entities usually send events without delay,
+     * there is no lookahead enabling Datacenters to safely process events at different times.
+     * Therefore, the safe window is the current simulation time:
+     * after the events happening at that time are delivered,
+     * consecutive runnable Datacenters in the entity list are executed in parallel,
+     * each one in a worker thread of the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * Events they send and actions they request through {@link #runOrBuffer(Runnable)}
+     * are {@link #runBuffered(Runnable) buffered} and flushed in the order of the entity list,
+     * before the next runnable entity (such as a broker) is executed.
+     * This way, the results are the same as the sequential execution,
+     * as long as Datacenters just interact with other entities by sending events
+     * and their listeners are thread-safe.</p>
+     *
+     * @param parallelDatacentersProcessing true to enable the parallel processing, false to disable it
+     * @return
+     * @see Datacenter#setParallelHostsProcessing(boolean)
+     */
+    Simulation setParallelDatacentersProcessing(boolean parallelDatacentersProcessing);
+
+    /**
+     * Checks if the events created by the simulation are reused after processed.
+     *
+     * @return true if events are pooled, false otherwise
+     * @see #setEventPooling(boolean)
+     */
+    boolean isEventPooling();
+
+    /**
+     * Enables or disables reusing the events created by the simulation after they are processed,
+     * which is disabled by default.
+     * It reduces the pressure on the garbage collector for long simulations,
+     * which create millions of short-lived events.
+     *
+     * <p>Just the events created by the simulation itself (such as the ones sent by
+     * {@link CloudSimEntity#schedule(SimEntity, double, int, Object)}) are reused,
+     * after all entities have processed the events of the current simulation time.
+     * Events created by the researcher and given to the simulation are never reused.
+     * Listeners and entities which keep a reference to a processed event after the
+     * current simulation time must store its {@link org.cloudbus.cloudsim.core.events.CloudSimEvent#getGeneration() generation}
+     * and check if the reference is {@link org.cloudbus.cloudsim.core.events.CloudSimEvent#isStale(long) stale}
+     * before using it.</p>
+     *
+     * @param eventPooling true to enable reusing events, false to disable it
+     * @return
+     */
+    Simulation setEventPooling(boolean eventPooling);
+
+    /**
+     * Gets the profiler recording where the wall-clock time of the simulation is spent.
+     *
+     * @return the profiler or {@link SimulationProfiler#NULL} if profiling is disabled
+     * @see #setProfiler(SimulationProfiler)
+     */
+    SimulationProfiler getProfiler();
+
+    /**
+     * Sets a profiler to record where the wall-clock time of the simulation is spent,
+     * which is disabled by default.
+     * It must be set before starting the simulation.
+     *
+     * @param profiler the profiler to set or {@link SimulationProfiler#NULL} to disable profiling
+     * @return
+     */
+    Simulation setProfiler(SimulationProfiler profiler);
+
     /**
      * Gets the last time (in seconds) some Cloudlet was processed in the simulation.
      */
@@ -27,6 +27,7 @@ final class SimulationNull implements Simulation {
     @Override public boolean cancelAll(SimEntity src, Predicate<SimEvent> predicate) {
         return false;
     }
+    @Override public boolean cancel(SimEvent evt) { return false; }
     @Override public double clock() { return 0.0; }
     @Override public String clockStr() { return ""; }
     @Override public double clockInMinutes() { return 0.0; }
@@ -77,6 +78,11 @@ final class SimulationNull implements Simulation {
     @Override public void sendFirst(SimEvent evt) {/**/}
     @Override public void sendFirst(SimEntity src, SimEntity dest, double delay, int tag, Object data) {/**/}
     @Override public void sendNow(SimEntity src, SimEntity dest, int tag, Object data) {/**/}
+    @Override public Runnable runBuffered(Runnable task) {
+        task.run();
+        return () -> {};
+    }
+    @Override public void runOrBuffer(Runnable action) { action.run(); }
     @Override public double runFor(double interval) { return 0; }
     @Override public Simulation addOnEventProcessingListener(EventListener<SimEvent> listener) {
         return this;
@@ -87,6 +93,15 @@ final class SimulationNull implements Simulation {
     @Override public boolean removeOnClockTickListener(EventListener<? extends EventInfo> listener) {
         return false;
     }
+    @Override public Simulation addTimer(double interval, EventListener<EventInfo> listener) {
+        return this;
+    }
+    @Override public boolean removeTimer(EventListener<EventInfo> listener) {
+        return false;
+    }
+    @Override public Simulation scheduleWakeUp(double time) { return this; }
+    @Override public boolean isClockSkipAhead() { return false; }
+    @Override public Simulation setClockSkipAhead(boolean clockSkipAhead) { return this; }
     @Override public double start() throws RuntimeException { return 0; }
     @Override public void startSync() { /**/ }
     @Override public boolean isTimeToTerminateSimulationUnderRequest() { return false; }
@@ -100,6 +115,12 @@ final class SimulationNull implements Simulation {
     @Override public NetworkTopology getNetworkTopology() { return NetworkTopology.NULL; }
     @Override public void setNetworkTopology(NetworkTopology networkTopology) {/**/}
     @Override public long getNumberOfFutureEvents(Predicate<SimEvent> predicate) { return 0; }
+    @Override public boolean isParallelDatacentersProcessing() { return false; }
+    @Override public Simulation setParallelDatacentersProcessing(boolean parallelDatacentersProcessing) { return this; }
+    @Override public boolean isEventPooling() { return false; }
+    @Override public Simulation setEventPooling(boolean eventPooling) { return this; }
+    @Override public SimulationProfiler getProfiler() { return SimulationProfiler.NULL; }
+    @Override public Simulation setProfiler(SimulationProfiler profiler) { return this; }
     @Override public double getLastCloudletProcessingUpdate() { return 0; }
     @Override public void setLastCloudletProcessingUpdate(double lastCloudletProcessingUpdate) {/**/}
 }
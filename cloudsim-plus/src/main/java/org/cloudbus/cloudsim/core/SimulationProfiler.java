@@ -0,0 +1,338 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudsimplus.builders.tables.CsvTable;
+import org.cloudsimplus.builders.tables.ProfilerEntryTableBuilder;
+import org.cloudsimplus.builders.tables.ProfilerQueueTableBuilder;
+
+import java.io.PrintStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records where the wall-clock time of a simulation is spent,
+ * without requiring an external profiler to be attached to long runs.
+ * It aggregates the number of events, the total and the maximum processing time
+ * for each event {@link SimEvent#getTag() tag} and for each entity class,
+ * the time spent by the {@link Simulation#addOnClockTickListener(org.cloudsimplus.listeners.EventListener) clock tick listeners}
+ * and by the {@link #addSectionProcessing(String, long) code sections} reported by the user (such as a placement algorithm)
+ * and samples the size of the event queues along the simulation time.
+ *
+ * <p>The profiler is enabled by calling {@link Simulation#setProfiler(SimulationProfiler)}
+ * before starting the simulation. Otherwise, the simulation has a {@link #NULL} profiler, which doesn't record anything.
+ * The results can be exported to CSV
+ * by {@link #printCsv(PrintStream)} or printed in other formats
+ * by a {@link ProfilerEntryTableBuilder} and a {@link ProfilerQueueTableBuilder}.</p>
+ *
+ * <p>Since Datacenters may be {@link Simulation#setParallelDatacentersProcessing(boolean) processed in parallel},
+ * the profiler is thread-safe.</p>
+ *
+ * @since CloudSim Plus 5.4.3
+ */
+public class SimulationProfiler {
+    /**
+     * The default interval (in seconds) to sample the size of the event queues.
+     */
+    public static final double DEF_QUEUE_SAMPLING_INTERVAL = 300;
+
+    /**
+     * The name of the {@link CloudSimTags} constants, indexed by their values.
+     */
+    private static final Map<Integer, String> TAG_NAMES = tagNames();
+
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link SimulationProfiler} objects,
+     * which is used when profiling is disabled.
+     */
+    public static final SimulationProfiler NULL = new SimulationProfiler(){
+        @Override void addEventProcessing(SimEntity entity, SimEvent evt, long nanos) {/**/}
+        @Override void addClockTickListenersProcessing(long nanos) {/**/}
+        @Override void sampleQueues(double clock, int futureEvents, int deferredEvents) {/**/}
+        @Override public void addSectionProcessing(String name, long nanos) {/**/}
+    };
+
+    private final Map<Integer, Entry> tagEntries;
+    private final Map<Class<?>, Entry> entityClassEntries;
+    private final Map<String, Entry> sectionEntries;
+    private final Entry clockTickListenersEntry;
+    private final List<QueueSample> queueSamples;
+
+    /** @see #getQueueSamplingInterval() */
+    private final double queueSamplingInterval;
+
+    /**
+     * The simulation time the size of the queues must be sampled next.
+     */
+    private double nextQueueSamplingTime;
+
+    /**
+     * Creates a profiler that samples the event queues every
+     * {@link #DEF_QUEUE_SAMPLING_INTERVAL} seconds.
+     */
+    public SimulationProfiler() {
+        this(DEF_QUEUE_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * Creates a profiler that samples the event queues at a given interval.
+     * @param queueSamplingInterval the interval (in seconds) to sample the size of the event queues
+     */
+    public SimulationProfiler(final double queueSamplingInterval) {
+        if (queueSamplingInterval <= 0) {
+            throw new IllegalArgumentException("Queue sampling interval must be greater than 0.");
+        }
+
+        this.queueSamplingInterval = queueSamplingInterval;
+        this.tagEntries = new ConcurrentHashMap<>();
+        this.entityClassEntries = new ConcurrentHashMap<>();
+        this.sectionEntries = new ConcurrentHashMap<>();
+        this.clockTickListenersEntry = new Entry("Listener", "Clock Tick");
+        this.queueSamples = new ArrayList<>();
+    }
+
+    private static Map<Integer, String> tagNames() {
+        final Map<Integer, String> names = new HashMap<>();
+        for (final Field field : CloudSimTags.class.getDeclaredFields()) {
+            final int modifiers = field.getModifiers();
+            if (Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers) && field.getType() == int.class) {
+                try {
+                    names.putIfAbsent(field.getInt(null), field.getName());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * Adds the time spent by an entity to process an event.
+     * @param entity the entity which processed the event
+     * @param evt the processed event
+     * @param nanos the wall-clock processing time (in nanoseconds)
+     */
+    void addEventProcessing(final SimEntity entity, final SimEvent evt, final long nanos) {
+        final int tag = evt.getTag();
+        tagEntries.computeIfAbsent(tag, key -> new Entry("Tag", TAG_NAMES.getOrDefault(key, String.valueOf(key)))).add(nanos);
+        entityClassEntries.computeIfAbsent(entity.getClass(), key -> new Entry("Entity", key.getSimpleName())).add(nanos);
+    }
+
+    /**
+     * Adds the time spent to notify the clock tick listeners.
+     * @param nanos the wall-clock time (in nanoseconds)
+     */
+    void addClockTickListenersProcessing(final long nanos) {
+        clockTickListenersEntry.add(nanos);
+    }
+
+    /**
+     * Adds the time spent by a section of code run during the simulation, such as a placement algorithm.
+     * Since such a section is run while some entity processes an event,
+     * its time is also included in the time of that event.
+     * This method can be called from different threads.
+     *
+     * @param name the name of the section
+     * @param nanos the wall-clock time (in nanoseconds)
+     */
+    public void addSectionProcessing(final String name, final long nanos) {
+        sectionEntries.computeIfAbsent(name, key -> new Entry("Section", key)).add(nanos);
+    }
+
+    /**
+     * Samples the size of the event queues if the simulation clock has reached the
+     * next sampling time.
+     * @param clock the current simulation time
+     * @param futureEvents the number of events into the future queue
+     * @param deferredEvents the number of events into the deferred queue
+     */
+    void sampleQueues(final double clock, final int futureEvents, final int deferredEvents) {
+        if (clock < nextQueueSamplingTime) {
+            return;
+        }
+
+        synchronized (queueSamples) {
+            queueSamples.add(new QueueSample(clock, futureEvents, deferredEvents));
+        }
+        nextQueueSamplingTime = (Math.floor(clock / queueSamplingInterval) + 1) * queueSamplingInterval;
+    }
+
+    /**
+     * Gets the interval (in seconds) to sample the size of the event queues.
+     */
+    public double getQueueSamplingInterval() {
+        return queueSamplingInterval;
+    }
+
+    /**
+     * Gets the processing statistics for each event tag,
+     * sorted by the total processing time in descending order.
+     */
+    public List<Entry> getTagEntries() {
+        return sorted(tagEntries.values());
+    }
+
+    /**
+     * Gets the processing statistics for each entity class,
+     * sorted by the total processing time in descending order.
+     */
+    public List<Entry> getEntityClassEntries() {
+        return sorted(entityClassEntries.values());
+    }
+
+    /**
+     * Gets the processing statistics for each {@link #addSectionProcessing(String, long) code section},
+     * sorted by the total processing time in descending order.
+     */
+    public List<Entry> getSectionEntries() {
+        return sorted(sectionEntries.values());
+    }
+
+    /**
+     * Gets the statistics for the notification of clock tick listeners.
+     */
+    public Entry getClockTickListenersEntry() {
+        return clockTickListenersEntry;
+    }
+
+    /**
+     * Gets all statistics: the ones for entity classes, then for tags, for code sections and finally for clock tick listeners.
+     */
+    public List<Entry> getEntries() {
+        final List<Entry> entries = new ArrayList<>(getEntityClassEntries());
+        entries.addAll(getTagEntries());
+        entries.addAll(getSectionEntries());
+        entries.add(clockTickListenersEntry);
+        return entries;
+    }
+
+    /**
+     * Gets the samples of the size of the event queues along the simulation time.
+     */
+    public List<QueueSample> getQueueSamples() {
+        synchronized (queueSamples) {
+            return new ArrayList<>(queueSamples);
+        }
+    }
+
+    private static List<Entry> sorted(final Collection<Entry> entries) {
+        final List<Entry> list = new ArrayList<>(entries);
+        list.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        return list;
+    }
+
+    /**
+     * Prints the processing statistics and then the queue samples as two {@link CsvTable}s.
+     * @param out the stream to print the tables (such as a {@link PrintStream} for a file)
+     */
+    public void printCsv(final PrintStream out) {
+        final CsvTable entriesTable = new CsvTable();
+        entriesTable.setPrintStream(out);
+        new ProfilerEntryTableBuilder(getEntries(), entriesTable).build();
+
+        final CsvTable queuesTable = new CsvTable();
+        queuesTable.setPrintStream(out);
+        new ProfilerQueueTableBuilder(getQueueSamples(), queuesTable).build();
+    }
+
+    /**
+     * Processing statistics of a given category (such as an event tag or an entity class).
+     */
+    public static final class Entry {
+        private final String category;
+        private final String name;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private Entry(final String category, final String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        private synchronized void add(final long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        /**
+         * Gets the kind of statistics, such as "Tag", "Entity", "Section" or "Listener".
+         */
+        public String getCategory() {
+            return category;
+        }
+
+        /**
+         * Gets the name of the tag, entity class or listener.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of times some processing was performed.
+         */
+        public synchronized long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the total wall-clock processing time (in nanoseconds).
+         */
+        public synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Gets the maximum wall-clock time of a single processing (in nanoseconds).
+         */
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Gets the mean wall-clock time of a single processing (in nanoseconds).
+         */
+        public synchronized double getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / (double) count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: count %d total %d ns max %d ns", category, name, getCount(), getTotalNanos(), getMaxNanos());
+        }
+    }
+
+    /**
+     * The size of the event queues at a given simulation time.
+     */
+    public static final class QueueSample {
+        private final double time;
+        private final int futureEvents;
+        private final int deferredEvents;
+
+        private QueueSample(final double time, final int futureEvents, final int deferredEvents) {
+            this.time = time;
+            this.futureEvents = futureEvents;
+            this.deferredEvents = deferredEvents;
+        }
+
+        /**
+         * Gets the simulation time of the sample (in seconds).
+         */
+        public double getTime() {
+            return time;
+        }
+
+        public int getFutureEvents() {
+            return futureEvents;
+        }
+
+        public int getDeferredEvents() {
+            return deferredEvents;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.listeners.EventListener;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A timer that periodically notifies a {@link EventListener}
+ * when the simulation clock reaches a multiple of a given interval.
+ * The time the timer must be notified next is used as a wake-up time
+ * when the {@link Simulation#setClockSkipAhead(boolean) clock skips ahead}.
+ *
+ * @see Simulation#addTimer(double, EventListener)
+ * @since CloudSim Plus 5.4.3
+ */
+final class SimulationTimer implements Comparable<SimulationTimer> {
+    private final EventListener<EventInfo> listener;
+    private final double interval;
+
+    /** @see #getNextTime() */
+    private double nextTime;
+
+    /** @see #isRemoved() */
+    private boolean removed;
+
+    /**
+     * Creates a timer.
+     *
+     * @param listener the listener to be notified
+     * @param interval the interval between notifications (in seconds)
+     * @param clock the current simulation time
+     */
+    SimulationTimer(final EventListener<EventInfo> listener, final double interval, final double clock) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Timer interval must be greater than 0.");
+        }
+
+        this.listener = requireNonNull(listener);
+        this.interval = interval;
+        this.nextTime = nextMultipleOfInterval(clock);
+    }
+
+    /**
+     * Notifies the listener that the clock has reached (or passed) the {@link #getNextTime() next time},
+     * then schedules the next notification to the first multiple of the interval after the given clock.
+     * If the clock skipped several intervals, the listener is notified just once.
+     *
+     * @param clock the current simulation time
+     */
+    void notifyListener(final double clock) {
+        nextTime = nextMultipleOfInterval(clock);
+        listener.update(EventInfo.of(listener, clock));
+    }
+
+    private double nextMultipleOfInterval(final double clock) {
+        return (Math.floor(clock / interval) + 1) * interval;
+    }
+
+    /**
+     * Gets the time the listener must be notified next.
+     */
+    double getNextTime() {
+        return nextTime;
+    }
+
+    EventListener<EventInfo> getListener() {
+        return listener;
+    }
+
+    /**
+     * Checks if the timer was removed from the simulation,
+     * therefore it must not be notified anymore.
+     */
+    boolean isRemoved() {
+        return removed;
+    }
+
+    void remove() {
+        this.removed = true;
+    }
+
+    @Override
+    public int compareTo(final SimulationTimer other) {
+        return Double.compare(nextTime, other.nextTime);
+    }
+}
@@ -0,0 +1,479 @@
+package org.cloudbus.cloudsim.core.events;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A {@link FutureEventQueue} implemented as a calendar queue (R. Brown, 1988),
+ * which provides O(1) amortized complexity to add and remove events,
+ * instead of the O(log n) of the {@link FutureQueue}.
+ *
+ * <p>The time is split into buckets of a fixed width, such as the days of a calendar.
+ * The buckets are stored in a circular array, where each position represents
+ * a day of the year. Each bucket keeps its events sorted, but since there are
+ * only a few events per bucket, adding or removing an event is cheap.
+ * The number of buckets and their width are automatically adjusted as
+ * the number of events grows or shrinks, so that the buckets are kept small.
+ * Since all the events happening at the same time are stored in the same bucket,
+ * they are removed as one batch by {@link #pollFirstEvents()}.</p>
+ *
+ * <p>This queue is intended for simulations with a large number of pending events.
+ * Iterating or streaming the events requires sorting them,
+ * therefore these operations are more expensive than in the {@link FutureQueue}.</p>
+ *
+ * @see <a href="https://doi.org/10.1145/63039.63045">Calendar queues: a fast O(1) priority queue implementation for the simulation event set problem</a>
+ * @since CloudSim Plus 5.4.3
+ */
+public class CalendarQueue implements FutureEventQueue {
+    /**
+     * The minimum number of buckets, which must be a power of two.
+     */
+    private static final int MIN_BUCKETS = 16;
+
+    /**
+     * The maximum number of distinct event times used to estimate a new bucket width.
+     */
+    private static final int WIDTH_SAMPLE_SIZE = 25;
+
+    /**
+     * Compares events by their time and then by their serial number.
+     * Events with the same time and serial are kept in the order they were added.
+     */
+    private static final Comparator<SimEvent> COMPARATOR =
+        Comparator.comparingDouble(SimEvent::getTime).thenComparingLong(SimEvent::getSerial);
+
+    /**
+     * The calendar days, which is always a power of two.
+     */
+    private Bucket[] buckets;
+
+    /**
+     * The width (time interval) of each bucket.
+     */
+    private double bucketWidth;
+
+    /**
+     * The virtual index of the bucket containing the first event
+     * (the number of bucket widths from time zero), which is never
+     * greater than the virtual index of any event in the queue.
+     */
+    private long currentBucket;
+
+    private int size;
+
+    /** @see #getSerial() */
+    private long serial;
+
+    /** @see #getMaxEventsNumber() */
+    private long maxEventsNumber;
+
+    /**
+     * Creates a calendar queue with a default initial bucket width of 1 second,
+     * which is adjusted as the events are added.
+     */
+    public CalendarQueue() {
+        this(1);
+    }
+
+    /**
+     * Creates a calendar queue with a given initial bucket width,
+     * which is adjusted as the events are added.
+     *
+     * @param initialBucketWidth the initial bucket width (in seconds)
+     */
+    public CalendarQueue(final double initialBucketWidth) {
+        if (initialBucketWidth <= 0) {
+            throw new IllegalArgumentException("The bucket width must be positive, but is: " + initialBucketWidth);
+        }
+
+        this.bucketWidth = initialBucketWidth;
+        this.buckets = newBuckets(MIN_BUCKETS);
+    }
+
+    private static Bucket[] newBuckets(final int count) {
+        final Bucket[] newBuckets = new Bucket[count];
+        for (int i = 0; i < count; i++) {
+            newBuckets[i] = new Bucket();
+        }
+
+        return newBuckets;
+    }
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        newEvent.setSerial(serial++);
+        insert(newEvent);
+        maxEventsNumber = Math.max(maxEventsNumber, size);
+    }
+
+    @Override
+    public void addEventFirst(final SimEvent newEvent) {
+        newEvent.setSerial(0);
+        insert(newEvent);
+    }
+
+    private void insert(final SimEvent evt) {
+        final long virtualBucket = virtualBucket(evt.getTime());
+        if (size == 0 || virtualBucket < currentBucket) {
+            currentBucket = virtualBucket;
+        }
+
+        bucket(virtualBucket).add(evt);
+        size++;
+        if (size > 2 * buckets.length) {
+            resize(buckets.length * 2);
+        }
+    }
+
+    private long virtualBucket(final double time) {
+        return (long) Math.floor(time / bucketWidth);
+    }
+
+    private Bucket bucket(final long virtualBucket) {
+        return buckets[(int) (virtualBucket & (buckets.length - 1))];
+    }
+
+    /**
+     * Finds the bucket containing the first event, moving the {@link #currentBucket} to it.
+     * Buckets are checked as the days of a year, starting from the current one.
+     * If no event is found in one year, the first event is directly searched.
+     *
+     * @return the bucket containing the first event
+     */
+    private Bucket findFirstBucket() {
+        for (int i = 0; i < buckets.length; i++) {
+            final long virtualBucket = currentBucket + i;
+            final Bucket bucket = bucket(virtualBucket);
+            if (!bucket.isEmpty() && virtualBucket(bucket.first().getTime()) == virtualBucket) {
+                currentBucket = virtualBucket;
+                return bucket;
+            }
+        }
+
+        Bucket firstBucket = null;
+        for (final Bucket bucket : buckets) {
+            if (!bucket.isEmpty() && (firstBucket == null || COMPARATOR.compare(bucket.first(), firstBucket.first()) < 0)) {
+                firstBucket = bucket;
+            }
+        }
+
+        currentBucket = virtualBucket(Objects.requireNonNull(firstBucket).first().getTime());
+        return firstBucket;
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return findFirstBucket().first();
+    }
+
+    @Override
+    public List<SimEvent> pollFirstEvents() {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+
+        final Bucket bucket = findFirstBucket();
+        final double time = bucket.first().getTime();
+        final List<SimEvent> events = new ArrayList<>();
+        while (!bucket.isEmpty() && bucket.first().getTime() == time) {
+            events.add(bucket.pollFirst());
+        }
+
+        size -= events.size();
+        shrinkIfNeeded();
+        return events;
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        if (size == 0 || !bucket(virtualBucket(event.getTime())).remove(event)) {
+            return false;
+        }
+
+        size--;
+        shrinkIfNeeded();
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<SimEvent> predicate) {
+        int removed = 0;
+        for (final Bucket bucket : buckets) {
+            removed += bucket.removeIf(predicate);
+        }
+
+        size -= removed;
+        shrinkIfNeeded();
+        return removed > 0;
+    }
+
+    @Override
+    public void clear() {
+        buckets = newBuckets(MIN_BUCKETS);
+        size = 0;
+    }
+
+    private void shrinkIfNeeded() {
+        if (buckets.length > MIN_BUCKETS && size < buckets.length / 2) {
+            resize(buckets.length / 2);
+        }
+    }
+
+    /**
+     * Changes the number of buckets, estimating a new bucket width
+     * from the separation between the first event times,
+     * then redistributes all the events.
+     *
+     * @param newBucketsCount the new number of buckets (a power of two)
+     */
+    private void resize(final int newBucketsCount) {
+        final List<SimEvent> events = new ArrayList<>(size);
+        for (final Bucket bucket : buckets) {
+            bucket.addAllTo(events);
+        }
+
+        bucketWidth = estimateBucketWidth(events);
+        buckets = newBuckets(newBucketsCount);
+        currentBucket = Long.MAX_VALUE;
+        for (final SimEvent evt : events) {
+            final long virtualBucket = virtualBucket(evt.getTime());
+            currentBucket = Math.min(currentBucket, virtualBucket);
+            bucket(virtualBucket).add(evt);
+        }
+    }
+
+    /**
+     * Estimates a bucket width as three times the average separation between the first
+     * distinct event times, ignoring the separations greater than twice the average.
+     *
+     * @param events the events in the queue
+     * @return the new bucket width or the current one if there are not enough distinct event times
+     */
+    private double estimateBucketWidth(final List<SimEvent> events) {
+        final double[] times = new double[events.size()];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = events.get(i).getTime();
+        }
+        Arrays.sort(times);
+
+        final double[] separations = new double[WIDTH_SAMPLE_SIZE];
+        int count = 0;
+        double total = 0;
+        for (int i = 1; i < times.length && count < separations.length; i++) {
+            if (times[i] > times[i - 1]) {
+                separations[count] = times[i] - times[i - 1];
+                total += separations[count++];
+            }
+        }
+
+        if (count == 0) {
+            return bucketWidth;
+        }
+
+        final double average = total / count;
+        double filteredTotal = 0;
+        int filteredCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (separations[i] <= 2 * average) {
+                filteredTotal += separations[i];
+                filteredCount++;
+            }
+        }
+
+        final double width = 3 * filteredTotal / filteredCount;
+        return width > 0 && !Double.isInfinite(width) ? width : bucketWidth;
+    }
+
+    /**
+     * Gets all the events sorted, as they are returned by {@link #pollFirstEvents()}.
+     * @return a new sorted list of events
+     */
+    private List<SimEvent> toSortedList() {
+        final List<SimEvent> events = new ArrayList<>(size);
+        for (final Bucket bucket : buckets) {
+            bucket.addAllTo(events);
+        }
+
+        //A stable sort keeps the events with the same time and serial in the order they were added
+        events.sort(COMPARATOR);
+        return events;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The iterator works on a sorted copy of the events,
+     * but removing an event through it also removes the event from this queue.
+     */
+    @Override
+    public Iterator<SimEvent> iterator() {
+        final Iterator<SimEvent> it = toSortedList().iterator();
+        return new Iterator<SimEvent>() {
+            private SimEvent last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public SimEvent next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+
+                CalendarQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    @Override
+    public Stream<SimEvent> stream() {
+        return toSortedList().stream();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSerial() {
+        return serial;
+    }
+
+    @Override
+    public long getMaxEventsNumber() {
+        return maxEventsNumber;
+    }
+
+    /**
+     * A day of the calendar, which stores its events sorted in an array.
+     * Since events are usually added in time order, a new event is
+     * usually appended to the end of the array; and since the first events
+     * are removed from the beginning of the array, the array has a moving head
+     * to avoid shifting the remaining events.
+     */
+    private static final class Bucket {
+        private SimEvent[] events = new SimEvent[4];
+        private int head;
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        SimEvent first() {
+            return events[head];
+        }
+
+        SimEvent pollFirst() {
+            final SimEvent evt = events[head];
+            events[head++] = null;
+            if (--size == 0) {
+                head = 0;
+            }
+
+            return evt;
+        }
+
+        /**
+         * Adds an event after all the events that are lower or equal to it.
+         * @param evt the event to add
+         */
+        void add(final SimEvent evt) {
+            int end = head + size;
+            if (end == events.length) {
+                if (head > 0) {
+                    System.arraycopy(events, head, events, 0, size);
+                    Arrays.fill(events, size, end, null);
+                    head = 0;
+                    end = size;
+                } else {
+                    events = Arrays.copyOf(events, events.length * 2);
+                }
+            }
+
+            int low = head;
+            int high = end;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (COMPARATOR.compare(events[mid], evt) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            System.arraycopy(events, low, events, low + 1, end - low);
+            events[low] = evt;
+            size++;
+        }
+
+        boolean remove(final SimEvent evt) {
+            final int end = head + size;
+            for (int i = head; i < end; i++) {
+                if (events[i] == evt) {
+                    System.arraycopy(events, i + 1, events, i, end - i - 1);
+                    events[end - 1] = null;
+                    if (--size == 0) {
+                        head = 0;
+                    }
+
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        int removeIf(final Predicate<SimEvent> predicate) {
+            final int end = head + size;
+            int kept = head;
+            for (int i = head; i < end; i++) {
+                if (!predicate.test(events[i])) {
+                    events[kept++] = events[i];
+                }
+            }
+
+            Arrays.fill(events, kept, end, null);
+            final int removed = end - kept;
+            size -= removed;
+            if (size == 0) {
+                head = 0;
+            }
+
+            return removed;
+        }
+
+        void addAllTo(final List<SimEvent> list) {
+            list.addAll(Arrays.asList(events).subList(head, head + size));
+        }
+    }
+}
@@ -29,12 +29,12 @@ public final class CloudSimEvent implements SimEvent {
      */
     private Simulation simulation;
 
-    private final Type type;
+    private Type type;
 
     /**
      * The actual simulation time that this event was scheduled to (at which it should occur).
      */
-    private final double time;
+    private double time;
 
     /**
      * Time that the event was removed from the queue to start service.
@@ -51,15 +51,26 @@ public final class CloudSimEvent implements SimEvent {
      */
     private SimEntity dest;
 
-    private final int tag;
+    private int tag;
 
-    private final Object data;
+    private Object data;
 
     /**
      * @see #getSerial()
      */
     private long serial = -1;
 
+    /**
+     * @see #getGeneration()
+     */
+    private long generation;
+
+    /**
+     * Indicates if the event was obtained from an {@link EventPool},
+     * therefore it can be recycled after processed.
+     */
+    private boolean pooled;
+
     /**
      * Creates a {@link Type#SEND} CloudSimEvent.
      * @param delay how many seconds after the current simulation time the event should be scheduled
@@ -159,6 +170,19 @@ public final class CloudSimEvent implements SimEvent {
         final Type type, final double delay,
         final SimEntity src, final SimEntity dest,
         final int tag, final Object data)
+    {
+        init(type, delay, src, dest, tag, data);
+    }
+
+    /**
+     * Sets the attributes of the event, which is used both when the event
+     * is created and when it is reused by an {@link EventPool}.
+     * @see #CloudSimEvent(Type, double, SimEntity, SimEntity, int, Object)
+     */
+    CloudSimEvent init(
+        final Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
     {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay can't be negative.");
@@ -171,6 +195,53 @@ public final class CloudSimEvent implements SimEvent {
         this.time = simulation.clock() + delay;
         this.tag = tag;
         this.data = data;
+        return this;
+    }
+
+    /**
+     * Clears the event attributes so that it can be reused by an {@link EventPool},
+     * increasing its {@link #getGeneration() generation}.
+     * Entity attributes are just replaced when the event is reused,
+     * since they are required to be not null.
+     */
+    void recycle() {
+        this.generation++;
+        this.type = Type.NULL;
+        this.data = null;
+        this.serial = -1;
+        this.endWaitingTime = 0;
+    }
+
+    boolean isPooled() {
+        return pooled;
+    }
+
+    void setPooled(final boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    /**
+     * Gets the number of times the event was recycled by an {@link EventPool}.
+     * Since a pooled event may be reused after processed,
+     * anyone keeping a reference to it must store its generation
+     * and check {@link #isStale(long)} before using it again.
+     *
+     * @return the event generation
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Checks if this event was recycled since a given generation,
+     * which means a reference taken at such a generation is stale
+     * and the event now represents another message (or none at all).
+     *
+     * @param generation the {@link #getGeneration() generation} of the event when the reference was taken
+     * @return true if the reference is stale, false otherwise
+     */
+    public boolean isStale(final long generation) {
+        return this.generation != generation;
     }
 
     @Override
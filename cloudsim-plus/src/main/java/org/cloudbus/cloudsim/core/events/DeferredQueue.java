@@ -1,5 +1,7 @@
 package org.cloudbus.cloudsim.core.events;
 
+import org.cloudbus.cloudsim.core.SimEntity;
+
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -12,24 +14,37 @@ import java.util.stream.Stream;
  * because the {@link LinkedList} provides constant O(1) complexity
  * to add elements to the end.
  *
+ * <p>Since entities just select the events sent to themselves,
+ * the events are indexed by their {@link SimEvent#getDestination() destination entity},
+ * keeping one list for each entity. This way, selecting or removing an event
+ * just visits the events sent to the same entity, instead of all the deferred events.
+ * Operations on all events, such as {@link #stream()} and {@link #iterator()},
+ * require the lists to be merged, therefore they are more expensive.</p>
+ *
  * @author Marcos Dias de Assuncao
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 4.4.2
  */
 public class DeferredQueue implements EventQueue {
     /**
+     * Compares events by their time. Since the merge of the lists of different entities
+     * uses a stable sort, events with the same time are kept in the order of each list.
+     */
+    private static final Comparator<SimEvent> COMPARATOR = Comparator.comparingDouble(SimEvent::getTime);
+
+    /**
+     * A map where each key is a destination entity and each value is the list of events sent to it.
      * Despite the events are sorted by time and there are
      * sorted collections such as {@link java.util.SortedSet},
      * since the time of a new event is usually higher than the previous
      * one, in such a case, the {@link LinkedList#add(Object)} provides
      * better performance, which is O(1).
+     * Entities are compared by identity, since their id may not be set yet.
      */
-    private final List<SimEvent> list = new LinkedList<>();
+    private final Map<SimEntity, LinkedList<SimEvent>> destinationMap = new IdentityHashMap<>();
 
-    /**
-     * The max time that an added event is scheduled.
-     */
-    private double maxTime = -1;
+    /** @see #size() */
+    private int size;
 
     private int addedToTail;
     private int addedToMiddle;
@@ -37,7 +52,7 @@ public class DeferredQueue implements EventQueue {
 
     /**
      * Adds a new event to the queue, preserving the temporal order
-     * of the events.
+     * of the events sent to the same entity.
      *
      * @param newEvent the event to be added to the queue.
      */
@@ -45,43 +60,70 @@ public class DeferredQueue implements EventQueue {
         // The event has to be inserted as the last of all events
         // with the same event_time(). Yes, this matters.
         final double eventTime = newEvent.getTime();
-        maxSize = Math.max(maxSize, list.size());
-        if (eventTime >= maxTime) {
+        maxSize = Math.max(maxSize, size);
+        size++;
+        final LinkedList<SimEvent> list = destinationMap.computeIfAbsent(newEvent.getDestination(), dest -> new LinkedList<>());
+        if (list.isEmpty() || eventTime >= list.getLast().getTime()) {
             list.add(newEvent);
-            maxTime = eventTime;
             addedToTail++;
             return;
         }
 
         /*
          * Adds an event in some position from the tail of the list.
-         * If the event time is smaller than the maxTime, traverses the list
+         * If the event time is smaller than the time of the last event, traverses the list
          * to find the place to insert the event.
          * It uses a reverse iterator because usually in such cases,
          * the time of the new event is close to the last events.
          * Starting from the tail of the list will ensure the lowest number
          * of iterations of the best cases.
          * */
-        final ListIterator<SimEvent> reverseIterator = list.listIterator(list.size() - 1);
+        addedToMiddle++;
+        final ListIterator<SimEvent> reverseIterator = list.listIterator(list.size());
         while (reverseIterator.hasPrevious()) {
             if (reverseIterator.previous().getTime() <= eventTime) {
                 reverseIterator.next();
                 reverseIterator.add(newEvent);
-                addedToMiddle++;
                 return;
             }
         }
 
-        list.add(newEvent);
+        list.addFirst(newEvent);
     }
 
     /**
      * Returns an iterator to the events in the queue.
+     * The iterator works on a sorted copy of the events,
+     * but removing an event through it also removes the event from this queue.
      *
      * @return the iterator
      */
     public Iterator<SimEvent> iterator() {
-        return list.iterator();
+        final Iterator<SimEvent> it = toSortedList().iterator();
+        return new Iterator<SimEvent>() {
+            private SimEvent last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public SimEvent next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+
+                DeferredQueue.this.remove(last);
+                last = null;
+            }
+        };
     }
 
     /**
@@ -90,7 +132,30 @@ public class DeferredQueue implements EventQueue {
      * @return the stream
      */
     public Stream<SimEvent> stream() {
-        return list.stream();
+        return toSortedList().stream();
+    }
+
+    /**
+     * Returns a stream to the events sent to a given entity,
+     * which just visits the events of that entity.
+     *
+     * @param dest the destination entity to get the events
+     * @return the stream
+     */
+    public Stream<SimEvent> stream(final SimEntity dest) {
+        final List<SimEvent> list = destinationMap.get(dest);
+        return list == null ? Stream.empty() : list.stream();
+    }
+
+    /**
+     * Gets all the events sorted by time.
+     * @return a new sorted list of events
+     */
+    private List<SimEvent> toSortedList() {
+        final List<SimEvent> events = new ArrayList<>(size);
+        destinationMap.values().forEach(events::addAll);
+        events.sort(COMPARATOR);
+        return events;
     }
 
     /**
@@ -99,12 +164,12 @@ public class DeferredQueue implements EventQueue {
      * @return the number of events in the queue.
      */
     public int size() {
-        return list.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return list.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -114,7 +179,22 @@ public class DeferredQueue implements EventQueue {
      * @return true, if successful
      */
     public boolean remove(final SimEvent event) {
-        return list.remove(event);
+        final List<SimEvent> list = destinationMap.get(event.getDestination());
+        if (list == null) {
+            return false;
+        }
+
+        //Compares by identity, since events with the same time and serial are equal
+        for (final Iterator<SimEvent> it = list.iterator(); it.hasNext(); ) {
+            if (it.next() == event) {
+                it.remove();
+                size--;
+                removeListIfEmpty(event.getDestination(), list);
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -124,27 +204,52 @@ public class DeferredQueue implements EventQueue {
      * @return true, if successful
      */
     public boolean removeAll(final Collection<SimEvent> events) {
-        return list.removeAll(events);
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
     }
 
     public boolean removeIf(final Predicate<SimEvent> predicate) {
-        return list.removeIf(predicate);
+        boolean removed = false;
+        for (final Iterator<LinkedList<SimEvent>> it = destinationMap.values().iterator(); it.hasNext(); ) {
+            final List<SimEvent> list = it.next();
+            final int previousSize = list.size();
+            if (list.removeIf(predicate)) {
+                removed = true;
+                size -= previousSize - list.size();
+                if (list.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+
+        return removed;
+    }
+
+    private void removeListIfEmpty(final SimEntity dest, final List<SimEvent> list) {
+        if (list.isEmpty()) {
+            destinationMap.remove(dest);
+        }
     }
 
     /**
      * Clears the queue.
      */
     public void clear() {
-        list.clear();
+        destinationMap.clear();
+        size = 0;
     }
 
     @Override
     public SimEvent first() throws NoSuchElementException {
-        if (list.isEmpty()) {
+        if (isEmpty()) {
             throw new NoSuchElementException("The Deferred Queue is empty.");
         }
 
-        return list.get(0);
+        return toSortedList().get(0);
     }
 
     /**
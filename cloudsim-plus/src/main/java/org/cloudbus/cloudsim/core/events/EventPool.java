@@ -0,0 +1,163 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * A pool of {@link CloudSimEvent}s that enables reusing the events
+ * after they are processed, instead of creating new ones for every message.
+ * Long simulations create millions of short-lived events,
+ * therefore reusing them reduces the pressure on the garbage collector.
+ *
+ * <p>Just events {@link #obtain(SimEvent.Type, double, SimEntity, SimEntity, int, Object) obtained}
+ * from the pool are {@link #release(SimEvent) released} back to it.
+ * Events created by other means are ignored, since the creator may keep
+ * a reference to them. Every time an event is released, its
+ * {@link CloudSimEvent#getGeneration() generation} is increased,
+ * so that stale references can be detected by {@link CloudSimEvent#isStale(long)}.</p>
+ *
+ * <p>The methods are synchronized since events may be created by
+ * Datacenters running in parallel.</p>
+ *
+ * @since CloudSim Plus 5.4.3
+ */
+public class EventPool {
+    /**
+     * The default maximum number of free events kept into the pool.
+     */
+    public static final int DEF_CAPACITY = 65536;
+
+    private final Deque<CloudSimEvent> freeEvents;
+
+    /** @see #getCapacity() */
+    private final int capacity;
+
+    /** @see #getCreatedEvents() */
+    private long createdEvents;
+
+    /** @see #getReusedEvents() */
+    private long reusedEvents;
+
+    /**
+     * Creates a pool with the {@link #DEF_CAPACITY default capacity}.
+     */
+    public EventPool() {
+        this(DEF_CAPACITY);
+    }
+
+    /**
+     * Creates a pool with a given capacity.
+     * @param capacity the maximum number of free events kept into the pool
+     */
+    public EventPool(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0.");
+        }
+
+        this.capacity = capacity;
+        this.freeEvents = new ArrayDeque<>();
+    }
+
+    /**
+     * Gets a free event from the pool (or creates a new one if there isn't any)
+     * and sets its attributes.
+     *
+     * @param type the internal type of the event
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param src the source entity which is sending the message
+     * @param dest the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message, that depends on the message tag
+     * @return the event
+     * @see CloudSimEvent#CloudSimEvent(SimEvent.Type, double, SimEntity, SimEntity, int, Object)
+     */
+    public synchronized CloudSimEvent obtain(
+        final SimEvent.Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        final CloudSimEvent evt = freeEvents.pollLast();
+        if (evt == null) {
+            createdEvents++;
+            final CloudSimEvent newEvt = new CloudSimEvent(type, delay, src, dest, tag, data);
+            newEvt.setPooled(true);
+            return newEvt;
+        }
+
+        reusedEvents++;
+        return evt.init(type, delay, src, dest, tag, data);
+    }
+
+    /**
+     * Gets a free event from the pool which is a copy of another event.
+     * @param src the event to copy
+     * @return the event
+     * @see CloudSimEvent#CloudSimEvent(SimEvent)
+     */
+    public CloudSimEvent obtain(final SimEvent src) {
+        return obtain(
+            src.getType(), src.getTime(),
+            src.getSource(), src.getDestination(), src.getTag(), src.getData());
+    }
+
+    /**
+     * Releases an event that was processed back to the pool, so that it can be reused.
+     * Events not obtained from the pool are ignored.
+     *
+     * @param evt the event to release
+     * @return true if the event was released, false if it wasn't obtained from the pool
+     */
+    public synchronized boolean release(final SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent) || !((CloudSimEvent) evt).isPooled()) {
+            return false;
+        }
+
+        final CloudSimEvent cloudSimEvent = (CloudSimEvent) evt;
+        cloudSimEvent.recycle();
+        if (freeEvents.size() < capacity) {
+            freeEvents.addLast(cloudSimEvent);
+        }
+
+        return true;
+    }
+
+    /**
+     * Releases a collection of events back to the pool.
+     * @param events the events to release
+     * @see #release(SimEvent)
+     */
+    public synchronized void releaseAll(final Collection<SimEvent> events) {
+        events.forEach(this::release);
+    }
+
+    /**
+     * Gets the maximum number of free events kept into the pool.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of free events currently into the pool.
+     */
+    public synchronized int size() {
+        return freeEvents.size();
+    }
+
+    /**
+     * Gets the number of events created by the pool because there wasn't a free one.
+     */
+    public synchronized long getCreatedEvents() {
+        return createdEvents;
+    }
+
+    /**
+     * Gets the number of times a free event was reused.
+     */
+    public synchronized long getReusedEvents() {
+        return reusedEvents;
+    }
+}
@@ -0,0 +1,155 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * An index of the events stored in a {@link FutureEventQueue},
+ * by their {@link SimEvent#getSource() source entity} and {@link SimEvent#getTag() tag}.
+ * Since an entity can just cancel the events it has sent,
+ * the index enables finding such events without scanning the whole queue.
+ * It must be kept in sync with the queue, i.e., every event added to or removed from the
+ * queue must be added to or removed from the index.
+ *
+ * <p>Entities and events are compared by identity, since an entity id may not be set yet
+ * and different events with the same time and serial are equal.
+ * Such events are kept in the queue in the order they were added
+ * (for instance, all the events {@link FutureEventQueue#addEventFirst(SimEvent) added first} have serial 0).
+ * Accordingly, the index stores the sequence each event was added,
+ * so that it finds events in the same order as the queue.</p>
+ *
+ * @since CloudSim Plus 5.4.3
+ */
+public class FutureEventIndex {
+    /**
+     * Compares entries of events and their sequence by the event time, then by the event serial number
+     * and finally by the sequence the events were added,
+     * which is the order they are stored in a {@link FutureEventQueue}.
+     */
+    private static final Comparator<Map.Entry<SimEvent, Long>> COMPARATOR =
+        Comparator.<Map.Entry<SimEvent, Long>>comparingDouble(entry -> entry.getKey().getTime())
+                  .thenComparingLong(entry -> entry.getKey().getSerial())
+                  .thenComparingLong(Map.Entry::getValue);
+
+    /**
+     * A map where each key is a source entity and each value is
+     * a map of the events sent by that entity, indexed by the event tag.
+     * The events of each tag are mapped to the sequence they were added to the index.
+     */
+    private final Map<SimEntity, Map<Integer, Map<SimEvent, Long>>> sourceMap = new IdentityHashMap<>();
+
+    /**
+     * The sequence of the next event added to the index.
+     */
+    private long sequence;
+
+    /**
+     * Adds an event to the index.
+     * It must be called in the same order the events are added to the {@link FutureEventQueue}.
+     * @param evt the event to add
+     */
+    public void add(final SimEvent evt) {
+        sourceMap.computeIfAbsent(evt.getSource(), src -> new HashMap<>())
+                 .computeIfAbsent(evt.getTag(), tag -> new IdentityHashMap<>())
+                 .put(evt, sequence++);
+    }
+
+    /**
+     * Removes an event from the index.
+     * @param evt the event to remove
+     * @return true if the event was found and removed, false otherwise
+     */
+    public boolean remove(final SimEvent evt) {
+        final Map<Integer, Map<SimEvent, Long>> tagMap = sourceMap.get(evt.getSource());
+        if (tagMap == null) {
+            return false;
+        }
+
+        final Map<SimEvent, Long> events = tagMap.get(evt.getTag());
+        if (events == null || events.remove(evt) == null) {
+            return false;
+        }
+
+        if (events.isEmpty()) {
+            tagMap.remove(evt.getTag());
+            if (tagMap.isEmpty()) {
+                sourceMap.remove(evt.getSource());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if an event is in the index.
+     * @param evt the event to check
+     * @return true if the event is in the index, false otherwise
+     */
+    public boolean contains(final SimEvent evt) {
+        final Map<Integer, Map<SimEvent, Long>> tagMap = sourceMap.get(evt.getSource());
+        if (tagMap == null) {
+            return false;
+        }
+
+        final Map<SimEvent, Long> events = tagMap.get(evt.getTag());
+        return events != null && events.containsKey(evt);
+    }
+
+    /**
+     * Removes a list of events from the index.
+     * @param events the events to remove
+     */
+    public void removeAll(final Collection<SimEvent> events) {
+        events.forEach(this::remove);
+    }
+
+    /**
+     * Gets the events sent by a given entity which match a predicate,
+     * in the order they are stored in the {@link FutureEventQueue}.
+     * If the predicate is a {@link PredicateType}, just the events with the tag
+     * of the predicate are visited.
+     *
+     * @param src the entity that has sent the events
+     * @param predicate the predicate to select the events
+     * @return a new list of the matching events
+     */
+    public List<SimEvent> find(final SimEntity src, final Predicate<SimEvent> predicate) {
+        final Map<Integer, Map<SimEvent, Long>> tagMap = sourceMap.get(src);
+        if (tagMap == null) {
+            return Collections.emptyList();
+        }
+
+        final List<Map.Entry<SimEvent, Long>> entries = new ArrayList<>();
+        if (predicate instanceof PredicateType) {
+            addMatchingEvents(entries, tagMap.get(((PredicateType) predicate).getTag()), predicate);
+        } else {
+            tagMap.values().forEach(tagEvents -> addMatchingEvents(entries, tagEvents, predicate));
+        }
+
+        entries.sort(COMPARATOR);
+        final List<SimEvent> events = new ArrayList<>(entries.size());
+        entries.forEach(entry -> events.add(entry.getKey()));
+        return events;
+    }
+
+    private void addMatchingEvents(final List<Map.Entry<SimEvent, Long>> entries, final Map<SimEvent, Long> tagEvents, final Predicate<SimEvent> predicate) {
+        if (tagEvents == null) {
+            return;
+        }
+
+        for (final Map.Entry<SimEvent, Long> entry : tagEvents.entrySet()) {
+            if (predicate.test(entry.getKey())) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+            }
+        }
+    }
+
+    /**
+     * Clears the index.
+     */
+    public void clear() {
+        sourceMap.clear();
+    }
+}
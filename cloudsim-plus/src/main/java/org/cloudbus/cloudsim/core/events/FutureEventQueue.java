@@ -0,0 +1,75 @@
+package org.cloudbus.cloudsim.core.events;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An interface to be implemented by queues that store the future simulation events,
+ * i.e., the events that were sent but were not processed yet.
+ * The events are ordered by their {@link SimEvent#getTime() time}, then by their
+ * {@link SimEvent#getSerial() serial number} and finally by the order they were added.
+ * The {@link #iterator()} and {@link #stream()} return the events in such an order.
+ *
+ * <p>The queue to be used by a simulation can be selected when creating the
+ * {@link org.cloudbus.cloudsim.core.CloudSim} instance.</p>
+ *
+ * @see FutureQueue
+ * @see CalendarQueue
+ * @since CloudSim Plus 5.4.3
+ */
+public interface FutureEventQueue extends EventQueue {
+    /**
+     * Adds a new event to the head of the queue, that is,
+     * before any other event that happens at the same time.
+     *
+     * @param newEvent The event to be put in the queue.
+     */
+    void addEventFirst(SimEvent newEvent);
+
+    /**
+     * Removes and returns all the events that happen at the time of the
+     * {@link #first() first event}, in the order they were stored in the queue.
+     *
+     * @return the list of removed events (which is empty if the queue is empty)
+     */
+    List<SimEvent> pollFirstEvents();
+
+    /**
+     * Removes the event from the queue.
+     *
+     * @param event the event
+     * @return true, if successful
+     */
+    boolean remove(SimEvent event);
+
+    /**
+     * Removes all the events from the queue.
+     *
+     * @param events the events
+     * @return true, if successful
+     */
+    boolean removeAll(Collection<SimEvent> events);
+
+    /**
+     * Removes all the events that match a given predicate.
+     *
+     * @param predicate the predicate to select the events to remove
+     * @return true if any event was removed, false otherwise
+     */
+    boolean removeIf(Predicate<SimEvent> predicate);
+
+    /**
+     * Clears the queue.
+     */
+    void clear();
+
+    /** Gets an incremental number used for {@link SimEvent#getSerial()} event attribute. */
+    long getSerial();
+
+    /**
+     * Maximum number of events that have ever existed at the same time
+     * inside the queue.
+     */
+    long getMaxEventsNumber();
+}
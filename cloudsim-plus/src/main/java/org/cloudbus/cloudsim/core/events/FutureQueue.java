@@ -18,13 +18,15 @@ import java.util.stream.Stream;
  * are stored ordered. Using a {@link java.util.LinkedList}
  * as defined by {@link DeferredQueue} to improve performance
  * doesn't work for this queue.
+ * This is the default {@link FutureEventQueue} of a simulation.
  *
  * @author Marcos Dias de Assuncao
  * @author Manoel Campos da Silva Filho
  * @see java.util.TreeSet
+ * @see CalendarQueue
  * @since CloudSim Toolkit 1.0
  */
-public class FutureQueue implements EventQueue {
+public class FutureQueue implements FutureEventQueue {
 
     /**
      * The sorted set of events.
@@ -44,16 +46,37 @@ public class FutureQueue implements EventQueue {
         maxEventsNumber = Math.max(maxEventsNumber, sortedSet.size());
     }
 
-    /**
-     * Adds a new event to the head of the queue.
-     *
-     * @param newEvent The event to be put in the queue.
-     */
+    @Override
     public void addEventFirst(final SimEvent newEvent) {
         newEvent.setSerial(0);
         sortedSet.add(newEvent);
     }
 
+    /**
+     * {@inheritDoc}
+     * Since the events are sorted, it stops at the first event that happens later.
+     */
+    @Override
+    public List<SimEvent> pollFirstEvents() {
+        if (sortedSet.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<SimEvent> events = new ArrayList<>();
+        final double time = sortedSet.first().getTime();
+        for (final Iterator<SimEvent> it = sortedSet.iterator(); it.hasNext(); ) {
+            final SimEvent evt = it.next();
+            if (evt.getTime() != time) {
+                break;
+            }
+
+            events.add(evt);
+            it.remove();
+        }
+
+        return events;
+    }
+
     @Override
     public Iterator<SimEvent> iterator() {
         return sortedSet.iterator();
@@ -74,26 +97,17 @@ public class FutureQueue implements EventQueue {
         return sortedSet.isEmpty();
     }
 
-    /**
-     * Removes the event from the queue.
-     *
-     * @param event the event
-     * @return true, if successful
-     */
+    @Override
     public boolean remove(final SimEvent event) {
         return sortedSet.remove(event);
     }
 
-    /**
-     * Removes all the events from the queue.
-     *
-     * @param events the events
-     * @return true, if successful
-     */
+    @Override
     public boolean removeAll(final Collection<SimEvent> events) {
         return sortedSet.removeAll(events);
     }
 
+    @Override
     public boolean removeIf(final Predicate<SimEvent> predicate){
         return sortedSet.removeIf(predicate);
     }
@@ -103,22 +117,17 @@ public class FutureQueue implements EventQueue {
         return sortedSet.first();
     }
 
-    /**
-     * Clears the queue.
-     */
+    @Override
     public void clear() {
         sortedSet.clear();
     }
 
-    /** Gets an incremental number used for {@link SimEvent#getSerial()} event attribute. */
+    @Override
     public long getSerial() {
         return serial;
     }
 
-    /**
-     * Maximum number of events that have ever existed at the same time
-     * inside the queue.
-     */
+    @Override
     public long getMaxEventsNumber() {
         return maxEventsNumber;
     }
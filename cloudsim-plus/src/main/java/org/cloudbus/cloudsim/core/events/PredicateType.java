@@ -42,4 +42,12 @@ public class PredicateType implements Predicate<SimEvent> {
         return tag == evt.getTag();
     }
 
+    /**
+     * Gets the {@link SimEvent#getTag() tag} of the events matched by this predicate.
+     * @return
+     */
+    public int getTag() {
+        return tag;
+    }
+
 }
@@ -264,6 +264,41 @@ public interface Datacenter extends SimEntity, PowerAware, TimeZoned {
      */
     Datacenter disableMigrations();
 
+    /**
+     * Checks if the processing of Hosts is updated in parallel.
+     *
+     * @return true if the processing of Hosts is updated in parallel, false otherwise
+     * @see #setParallelHostsProcessing(boolean)
+     */
+    boolean isParallelHostsProcessing();
+
+    /**
+     * Enables or disables updating the processing of Hosts in parallel,
+     * which is disabled by default.
+     * Parallel processing can reduce the simulation time of Datacenters with a large number of Hosts,
+     * since updating the processing of each Host is independent of the other ones.
+     *
+     * <p>The VMs of each Host are updated in a worker thread of the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool},
+     * while the events sent during such an update are buffered.
+     * Then, the simulation thread sends the buffered events, notifies the Host
+     * {@link Host#addOnUpdateProcessingListener(EventListener) update listeners}
+     * and stores the Host state history, following the order of the Host list.
+     * This way, the simulation results are the same as when the parallel processing is disabled.
+     *
+     * <p>However, everything called while a Host updates its VMs runs concurrently in the worker threads,
+     * including the {@link org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler}s,
+     * the {@link org.cloudbus.cloudsim.utilizationmodels.UtilizationModel}s of the Cloudlets
+     * and the VM and Cloudlet listeners (such as the
+     * {@link org.cloudbus.cloudsim.cloudlets.Cloudlet#addOnUpdateProcessingListener(EventListener) Cloudlet update processing listeners}).
+     * Therefore, custom implementations of such objects must be thread-safe
+     * whenever they share state among different Hosts, VMs or Cloudlets.</p>
+     *
+     * @param parallelHostsProcessing true to enable the parallel processing, false to disable it
+     * @return
+     */
+    Datacenter setParallelHostsProcessing(boolean parallelHostsProcessing);
+
     /**
      * Sets a {@link DatacenterPowerSupply} to enable computing the Datacenter's power consumption,
      * based on the consumption of its {@link Host}s.
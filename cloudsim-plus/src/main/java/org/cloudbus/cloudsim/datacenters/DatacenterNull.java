@@ -49,6 +49,8 @@ final class DatacenterNull implements Datacenter, SimEntityNullBase {
     @Override public boolean isMigrationsEnabled() { return false; }
     @Override public Datacenter enableMigrations() { return this; }
     @Override public Datacenter disableMigrations() { return this; }
+    @Override public boolean isParallelHostsProcessing() { return false; }
+    @Override public Datacenter setParallelHostsProcessing(boolean parallelHostsProcessing) { return this; }
     @Override public void setPowerSupply(DatacenterPowerSupply powerSupply) {}
     @Override public DatacenterPowerSupply getPowerSupply() { return DatacenterPowerSupply.NULL; }
     @Override public double getHostSearchForMigrationDelay() { return 0; }
@@ -30,6 +30,7 @@ import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -65,6 +66,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      */
     private boolean migrationsEnabled;
 
+    /** @see #isParallelHostsProcessing() */
+    private boolean parallelHostsProcessing;
+
     private List<? extends Host> hostList;
 
     /** @see #getCharacteristics() */
@@ -728,9 +732,13 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      */
     private double updateHostsProcessing() {
         double nextSimulationDelay = Double.MAX_VALUE;
-        for (final Host host : getHostList()) {
-            final double delay = host.updateProcessing(clock());
-            nextSimulationDelay = Math.min(delay, nextSimulationDelay);
+        if (parallelHostsProcessing) {
+            nextSimulationDelay = updateHostsProcessingInParallel();
+        } else {
+            for (final Host host : getHostList()) {
+                final double delay = host.updateProcessing(clock());
+                nextSimulationDelay = Math.min(delay, nextSimulationDelay);
+            }
         }
 
         // Guarantees a minimal interval before scheduling the event
@@ -746,6 +754,34 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return nextSimulationDelay;
     }
 
+    /**
+     * Updates the processing of all Hosts in parallel, as described in {@link #setParallelHostsProcessing(boolean)}.
+     * The VMs of each Host are updated by a worker thread, buffering the events they send.
+     * Then, the buffered events of each Host are sent and the Host processing update is finished,
+     * following the order of the Host list.
+     *
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     */
+    private double updateHostsProcessingInParallel() {
+        final List<? extends Host> hosts = getHostList();
+        final double clock = clock();
+        final double[] delays = new double[hosts.size()];
+        final Runnable[] bufferedActions = new Runnable[hosts.size()];
+        IntStream.range(0, hosts.size()).parallel().forEach(i ->
+            bufferedActions[i] = getSimulation().runBuffered(() -> delays[i] = hosts.get(i).updateVmsProcessing(clock)));
+
+        double nextSimulationDelay = Double.MAX_VALUE;
+        for (int i = 0; i < delays.length; i++) {
+            bufferedActions[i].run();
+            hosts.get(i).finishProcessingUpdate(clock);
+            nextSimulationDelay = Math.min(delays[i], nextSimulationDelay);
+        }
+
+        return nextSimulationDelay;
+    }
+
     /**
      * Updates processing of each Host, that fires the update of VMs,
      * which in turn updates cloudlets running in this Datacenter.
@@ -1124,6 +1160,17 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return this;
     }
 
+    @Override
+    public boolean isParallelHostsProcessing() {
+        return parallelHostsProcessing;
+    }
+
+    @Override
+    public final Datacenter setParallelHostsProcessing(final boolean parallelHostsProcessing) {
+        this.parallelHostsProcessing = parallelHostsProcessing;
+        return this;
+    }
+
     @Override
     public void setPowerSupply(final DatacenterPowerSupply powerSupply) {
         this.powerSupply = powerSupply == null ? DatacenterPowerSupply.NULL : powerSupply.setDatacenter(this);
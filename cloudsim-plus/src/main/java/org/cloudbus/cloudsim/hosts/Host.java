@@ -443,9 +443,38 @@ public interface Host extends Machine, Comparable<Host> {
      * @return the predicted completion time of the earliest finishing cloudlet
      * (which is a relative delay from the current simulation time),
      * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     * @see #updateVmsProcessing(double)
+     * @see #finishProcessingUpdate(double)
      */
     double updateProcessing(double currentTime);
 
+    /**
+     * Updates just the processing of VMs running on this Host,
+     * which is the first phase of {@link #updateProcessing(double)}.
+     * This phase only changes the state of this Host, its VMs and Cloudlets,
+     * so that it can be executed for different Hosts in parallel.
+     * Events sent and actions affecting other entities are issued through the
+     * {@link org.cloudbus.cloudsim.core.Simulation#runOrBuffer(Runnable) simulation}
+     * to enable them to be buffered.
+     *
+     * @param currentTime the current time
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     * @see #finishProcessingUpdate(double)
+     */
+    double updateVmsProcessing(double currentTime);
+
+    /**
+     * Finishes the processing update of this Host after {@link #updateVmsProcessing(double)},
+     * notifying the {@link #addOnUpdateProcessingListener(EventListener) update listeners}
+     * and storing the Host state history.
+     * This phase must be executed sequentially by the simulation thread.
+     *
+     * @param currentTime the current time
+     */
+    void finishProcessingUpdate(double currentTime);
+
     /**
      * Try to allocate resources to a new VM in the Host.
      *
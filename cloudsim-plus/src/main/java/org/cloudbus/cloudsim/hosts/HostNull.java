@@ -110,6 +110,10 @@ final class HostNull implements Host {
     @Override public double updateProcessing(double currentTime) {
         return 0.0;
     }
+    @Override public double updateVmsProcessing(double currentTime) {
+        return 0.0;
+    }
+    @Override public void finishProcessingUpdate(double currentTime) {/**/}
     @Override public boolean createVm(Vm vm) {
         return false;
     }
@@ -390,9 +390,16 @@ public class HostSimple implements Host {
             .sum();
     }
 
-    @SuppressWarnings("ForLoopReplaceableByForEach")
     @Override
     public double updateProcessing(final double currentTime) {
+        final double nextSimulationDelay = updateVmsProcessing(currentTime);
+        finishProcessingUpdate(currentTime);
+        return nextSimulationDelay;
+    }
+
+    @SuppressWarnings("ForLoopReplaceableByForEach")
+    @Override
+    public double updateVmsProcessing(final double currentTime) {
         /*The previous utilization mips is just used when there is a DatacenterPowerSupply instance
         attached to the datacenter. Since getting the utilization of CPU is an expensive
         operation in large scale experiments, if a Datacenter power supply is not set,
@@ -404,7 +411,7 @@ public class HostSimple implements Host {
         if (!vmList.isEmpty()) {
             lastBusyTime = simulation.clock();
         } else if (isIdleEnough(idleShutdownDeadline)) {
-            setActive(false);
+            simulation.runOrBuffer(() -> setActive(false));
         }
 
         double nextSimulationDelay = Double.MAX_VALUE;
@@ -417,10 +424,13 @@ public class HostSimple implements Host {
             nextSimulationDelay = delay > 0 ? Math.min(delay, nextSimulationDelay) : nextSimulationDelay;
         }
 
+        return nextSimulationDelay;
+    }
+
+    @Override
+    public void finishProcessingUpdate(final double currentTime) {
         notifyOnUpdateProcessingListeners(currentTime);
         addStateHistory(currentTime);
-
-        return nextSimulationDelay;
     }
 
     private void notifyOnUpdateProcessingListeners(final double nextSimulationTime) {
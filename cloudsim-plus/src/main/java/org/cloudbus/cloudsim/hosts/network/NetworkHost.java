@@ -88,12 +88,10 @@ public class NetworkHost extends HostSimple {
     }
 
     @Override
-    public double updateProcessing(final double currentTime) {
-        final double timeOfNextFinishingCloudlet = super.updateProcessing(currentTime);
+    public void finishProcessingUpdate(final double currentTime) {
+        super.finishProcessingUpdate(currentTime);
         receivePackets();
         sendAllPacketListsOfAllVms();
-
-        return  timeOfNextFinishingCloudlet;
     }
 
     /**
@@ -0,0 +1,77 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import org.cloudbus.cloudsim.core.SimulationProfiler;
+
+import java.util.List;
+
+/**
+ * Builds a table for printing the processing statistics recorded by a {@link SimulationProfiler}.
+ * It defines a set of default columns but new ones can be added
+ * dynamically using the {@code addColumn()} methods.
+ *
+ * @since CloudSim Plus 5.4.3
+ */
+public class ProfilerEntryTableBuilder extends TableBuilderAbstract<SimulationProfiler.Entry> {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Instantiates a builder to print the statistics using a
+     * default {@link TextTable}.
+     *
+     * @param list the statistics to print
+     * @see SimulationProfiler#getEntries()
+     */
+    public ProfilerEntryTableBuilder(final List<? extends SimulationProfiler.Entry> list) {
+        super(list);
+    }
+
+    /**
+     * Instantiates a builder to print the statistics using a
+     * given {@link Table}, such as a {@link CsvTable}.
+     *
+     * @param list the statistics to print
+     * @param table the {@link Table} used to build the table with the statistics
+     */
+    public ProfilerEntryTableBuilder(final List<? extends SimulationProfiler.Entry> list, final Table table) {
+        super(list, table);
+    }
+
+    @Override
+    protected void createTableColumns() {
+        addColumnDataFunction(getTable().addColumn("Category"), SimulationProfiler.Entry::getCategory);
+        addColumnDataFunction(getTable().addColumn("Name"), SimulationProfiler.Entry::getName);
+        addColumnDataFunction(getTable().addColumn("Count"), SimulationProfiler.Entry::getCount);
+
+        TableColumn col = getTable().addColumn("Total", "ms").setFormat("%.3f");
+        addColumnDataFunction(col, entry -> entry.getTotalNanos()/NANOS_PER_MILLI);
+
+        col = getTable().addColumn("Mean", "ms").setFormat("%.6f");
+        addColumnDataFunction(col, entry -> entry.getMeanNanos()/NANOS_PER_MILLI);
+
+        col = getTable().addColumn("Max", "ms").setFormat("%.3f");
+        addColumnDataFunction(col, entry -> entry.getMaxNanos()/NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import org.cloudbus.cloudsim.core.SimulationProfiler;
+
+import java.util.List;
+
+/**
+ * Builds a table for printing the size of the event queues
+ * sampled along the simulation time by a {@link SimulationProfiler}.
+ *
+ * @since CloudSim Plus 5.4.3
+ */
+public class ProfilerQueueTableBuilder extends TableBuilderAbstract<SimulationProfiler.QueueSample> {
+    /**
+     * Instantiates a builder to print the queue samples using a
+     * default {@link TextTable}.
+     *
+     * @param list the samples to print
+     * @see SimulationProfiler#getQueueSamples()
+     */
+    public ProfilerQueueTableBuilder(final List<? extends SimulationProfiler.QueueSample> list) {
+        super(list);
+    }
+
+    /**
+     * Instantiates a builder to print the queue samples using a
+     * given {@link Table}, such as a {@link CsvTable}.
+     *
+     * @param list the samples to print
+     * @param table the {@link Table} used to build the table with the samples
+     */
+    public ProfilerQueueTableBuilder(final List<? extends SimulationProfiler.QueueSample> list, final Table table) {
+        super(list, table);
+    }
+
+    @Override
+    protected void createTableColumns() {
+        final TableColumn col = getTable().addColumn("Time", "Seconds").setFormat("%.0f");
+        addColumnDataFunction(col, SimulationProfiler.QueueSample::getTime);
+        addColumnDataFunction(getTable().addColumn("Future Events"), SimulationProfiler.QueueSample::getFutureEvents);
+        addColumnDataFunction(getTable().addColumn("Deferred Events"), SimulationProfiler.QueueSample::getDeferredEvents);
+    }
+}
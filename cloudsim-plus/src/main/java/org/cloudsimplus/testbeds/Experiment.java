@@ -202,12 +202,30 @@ public abstract class Experiment implements Runnable {
      */
     @Override
     public final void run() {
+        simulate();
+        finish();
+    }
+
+    /**
+     * Builds the simulation scenario and starts execution,
+     * without notifying the {@link #setAfterExperimentFinish(Consumer) afterExperimentFinish} consumer.
+     * This way, the {@link ExperimentRunner} can run experiments in parallel
+     * and then call {@link #finish()} for each one in order.
+     */
+    void simulate() {
         if(vmsByBrokerFunction == null){
             throw new NullPointerException("You need to set the function that indicates the number of VMs to create for each broker.");
         }
 
         build();
         simulation.start();
+    }
+
+    /**
+     * Notifies the {@link #setAfterExperimentFinish(Consumer) afterExperimentFinish} consumer
+     * and prints the results after the simulation has finished.
+     */
+    void finish() {
         afterExperimentFinish(this);
         printResultsInternal();
     }
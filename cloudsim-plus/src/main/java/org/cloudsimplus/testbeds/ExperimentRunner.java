@@ -35,6 +35,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
@@ -82,6 +86,11 @@ public abstract class ExperimentRunner<T extends Experiment> implements Runnable
      */
     private int numberOfBatches;
 
+    /**
+     * @see #getParallelism()
+     */
+    private int parallelism;
+
     /**
      * Creates an experiment runner, setting the
      * {@link #getBaseSeed() base seed} as the current time.
@@ -102,6 +111,7 @@ public abstract class ExperimentRunner<T extends Experiment> implements Runnable
         seeds = new ArrayList<>();
         setBaseSeed(baseSeed);
         setNumberOfBatches(0);
+        setParallelism(1);
         setApplyAntitheticVariatesTechnique(antitheticVariatesTechnique);
     }
 
@@ -558,11 +568,13 @@ public abstract class ExperimentRunner<T extends Experiment> implements Runnable
         Log.setLevel(Level.OFF);
         try {
             experimentsStartTime = System.currentTimeMillis();
-            for (int i = 0; i < getSimulationRuns(); i++) {
-                if (isVerbose()) {
-                    System.out.print(((i + 1) % 100 == 0 ? String.format(". Run #%d%n", i + 1) : "."));
+            if (parallelism > 1) {
+                runExperimentsInParallel();
+            } else {
+                for (int i = 0; i < getSimulationRuns(); i++) {
+                    printProgress(i);
+                    createExperiment(i).run();
                 }
-                createExperiment(i).run();
             }
             System.out.println();
             experimentsFinishTime = (System.currentTimeMillis() - experimentsStartTime) / 1000;
@@ -576,6 +588,61 @@ public abstract class ExperimentRunner<T extends Experiment> implements Runnable
         System.out.printf("%nExperiments finished in %d seconds!%n", getExperimentsFinishTime());
     }
 
+    private void printProgress(final int experimentIndex) {
+        if (isVerbose()) {
+            final int run = experimentIndex + 1;
+            System.out.print((run % 100 == 0 ? String.format(". Run #%d%n", run) : "."));
+        }
+    }
+
+    /**
+     * Runs the experiments in a pool of {@link #getParallelism()} threads.
+     * The experiments are created in order by the calling thread,
+     * so that the seeds are assigned as in the sequential execution
+     * (preserving the pairing of the "Antithetic Variates Technique").
+     * After the simulation of each experiment finishes, its
+     * {@link Experiment#setAfterExperimentFinish(java.util.function.Consumer) afterExperimentFinish}
+     * consumer is called by the calling thread, following the experiments order.
+     * This way, the metrics collected for the {@link #createMetricsMap()} don't need
+     * to be thread-safe and are in the same order as in the sequential execution.
+     */
+    private void runExperimentsInParallel() {
+        final List<T> experiments = new ArrayList<>(getSimulationRuns());
+        for (int i = 0; i < getSimulationRuns(); i++) {
+            experiments.add(createExperiment(i));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(experiments.size());
+            experiments.forEach(experiment -> futures.add(executor.submit(experiment::simulate)));
+            for (int i = 0; i < experiments.size(); i++) {
+                waitExperimentToFinish(futures.get(i));
+                printProgress(i);
+                experiments.get(i).finish();
+                //Releases the finished experiment
+                experiments.set(i, null);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void waitExperimentToFinish(final Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting an experiment to finish.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     /**
      * Creates a Map adding a List of values for each metric to be computed.
      * The computation of final experiments results are performed on this map.
@@ -685,6 +752,37 @@ public abstract class ExperimentRunner<T extends Experiment> implements Runnable
      */
     protected abstract void printFinalResults(String metricName, SummaryStatistics stats);
 
+    /**
+     * Gets the maximum number of experiments executed in parallel.
+     * The default value is 1, meaning the experiments are executed sequentially.
+     * @return
+     * @see #setParallelism(int)
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of experiments executed in parallel,
+     * each one in a thread of a fixed pool.
+     * Since each experiment has its own simulation instance,
+     * the runs are independent, as long as the experiments don't share mutable state.
+     * The {@link Experiment#setAfterExperimentFinish(java.util.function.Consumer) afterExperimentFinish}
+     * consumers are still called in the order of the experiments, by the thread running the runner.
+     *
+     * @param parallelism the number of experiments to execute in parallel
+     *                    (such as {@link Runtime#availableProcessors()}), or 1 to execute them sequentially
+     * @return
+     */
+    public final ExperimentRunner setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
     public final ExperimentRunner setBaseSeed(final long baseSeed) {
         this.baseSeed = baseSeed;
         return this;
@@ -0,0 +1,87 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationProfilerTest {
+    private static SimEvent createEvent(final int tag) {
+        return new CloudSimEvent(SimEvent.Type.SEND, 0, SimEntity.NULL, SimEntity.NULL, tag, null);
+    }
+
+    @Test
+    public void testEventProcessingAggregatedByTag() {
+        final SimulationProfiler profiler = new SimulationProfiler();
+        profiler.addEventProcessing(SimEntity.NULL, createEvent(CloudSimTags.VM_CREATE_ACK), 10);
+        profiler.addEventProcessing(SimEntity.NULL, createEvent(CloudSimTags.VM_CREATE_ACK), 30);
+        profiler.addEventProcessing(SimEntity.NULL, createEvent(99999), 5);
+
+        final List<SimulationProfiler.Entry> entries = profiler.getTagEntries();
+        assertEquals(2, entries.size());
+
+        final SimulationProfiler.Entry first = entries.get(0);
+        assertEquals("VM_CREATE_ACK", first.getName());
+        assertEquals(2, first.getCount());
+        assertEquals(40, first.getTotalNanos());
+        assertEquals(30, first.getMaxNanos());
+        assertEquals(20, first.getMeanNanos());
+        assertEquals("99999", entries.get(1).getName());
+
+        assertEquals(1, profiler.getEntityClassEntries().size());
+        assertEquals(3, profiler.getEntityClassEntries().get(0).getCount());
+    }
+
+    @Test
+    public void testQueuesSampledOncePerInterval() {
+        final SimulationProfiler profiler = new SimulationProfiler(100);
+        profiler.sampleQueues(0, 1, 1);
+        profiler.sampleQueues(50, 2, 2);
+        profiler.sampleQueues(100, 3, 3);
+        profiler.sampleQueues(350, 4, 4);
+
+        final List<SimulationProfiler.QueueSample> samples = profiler.getQueueSamples();
+        assertEquals(3, samples.size());
+        assertEquals(100, samples.get(1).getTime());
+        assertEquals(4, samples.get(2).getFutureEvents());
+    }
+
+    @Test
+    public void testSectionProcessingAggregatedByName() {
+        final SimulationProfiler profiler = new SimulationProfiler();
+        profiler.addSectionProcessing("Placement", 10);
+        profiler.addSectionProcessing("Placement", 20);
+        profiler.addSectionProcessing("Migration", 50);
+
+        final List<SimulationProfiler.Entry> entries = profiler.getSectionEntries();
+        assertEquals(2, entries.size());
+        assertEquals("Migration", entries.get(0).getName());
+        assertEquals("Section", entries.get(1).getCategory());
+        assertEquals(2, entries.get(1).getCount());
+        assertEquals(30, entries.get(1).getTotalNanos());
+        assertTrue(profiler.getEntries().containsAll(entries));
+    }
+
+    @Test
+    public void testNullProfilerRecordsNothing() {
+        final SimulationProfiler profiler = SimulationProfiler.NULL;
+        profiler.addEventProcessing(SimEntity.NULL, createEvent(CloudSimTags.VM_CREATE_ACK), 10);
+        profiler.addClockTickListenersProcessing(10);
+        profiler.addSectionProcessing("Placement", 10);
+        profiler.sampleQueues(0, 1, 1);
+
+        assertTrue(profiler.getTagEntries().isEmpty());
+        assertTrue(profiler.getEntityClassEntries().isEmpty());
+        assertTrue(profiler.getSectionEntries().isEmpty());
+        assertEquals(0, profiler.getClockTickListenersEntry().getCount());
+        assertTrue(profiler.getQueueSamples().isEmpty());
+    }
+
+    @Test
+    public void testSimulationProfilerIsNullByDefault() {
+        assertSame(SimulationProfiler.NULL, new CloudSim().getProfiler());
+    }
+}
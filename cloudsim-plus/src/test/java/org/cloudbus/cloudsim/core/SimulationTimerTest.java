@@ -0,0 +1,52 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudsimplus.listeners.EventInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationTimerTest {
+    @Test
+    public void testFirstNextTimeIsTheNextMultipleOfInterval() {
+        assertEquals(100, new SimulationTimer(info -> {}, 100, 0).getNextTime());
+        assertEquals(200, new SimulationTimer(info -> {}, 100, 100).getNextTime());
+        assertEquals(200, new SimulationTimer(info -> {}, 100, 150).getNextTime());
+    }
+
+    @Test
+    public void testNotifyListenerOncePerSkippedIntervals() {
+        final List<Double> times = new ArrayList<>();
+        final SimulationTimer timer = new SimulationTimer(info -> times.add(info.getTime()), 100, 0);
+
+        timer.notifyListener(100);
+        assertEquals(200, timer.getNextTime());
+
+        timer.notifyListener(450);
+        assertEquals(500, timer.getNextTime());
+        assertEquals(Arrays.asList(100.0, 450.0), times);
+    }
+
+    @Test
+    public void testOrderedByNextTime() {
+        final SimulationTimer timer1 = new SimulationTimer(info -> {}, 300, 0);
+        final SimulationTimer timer2 = new SimulationTimer(info -> {}, 100, 0);
+        assertTrue(timer2.compareTo(timer1) < 0);
+    }
+
+    @Test
+    public void testInvalidInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationTimer(info -> {}, 0, 0));
+    }
+
+    @Test
+    public void testRemove() {
+        final SimulationTimer timer = new SimulationTimer((EventInfo info) -> {}, 10, 0);
+        assertFalse(timer.isRemoved());
+        timer.remove();
+        assertTrue(timer.isRemoved());
+    }
+}
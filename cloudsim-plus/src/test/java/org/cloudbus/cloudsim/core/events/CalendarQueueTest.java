@@ -0,0 +1,135 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarQueueTest {
+    private static SimEvent createEvent(final double time, final int tag) {
+        return new CloudSimEvent(SimEvent.Type.SEND, time, SimEntity.NULL, SimEntity.NULL, tag, null);
+    }
+
+    private static List<Integer> tags(final Collection<SimEvent> events) {
+        return events.stream().map(SimEvent::getTag).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testFirstWhenEmpty() {
+        final CalendarQueue queue = new CalendarQueue();
+        assertTrue(queue.isEmpty());
+        assertThrows(NoSuchElementException.class, queue::first);
+        assertTrue(queue.pollFirstEvents().isEmpty());
+    }
+
+    @Test
+    public void testPollFirstEventsReturnsSameTimeEventsAsBatch() {
+        final CalendarQueue queue = new CalendarQueue();
+        queue.addEvent(createEvent(5, 1));
+        queue.addEvent(createEvent(2, 2));
+        queue.addEvent(createEvent(5, 3));
+        queue.addEvent(createEvent(2, 4));
+        queue.addEventFirst(createEvent(2, 5));
+
+        assertEquals(5, queue.size());
+        assertEquals(5, queue.first().getTag());
+        assertEquals(Arrays.asList(5, 2, 4), tags(queue.pollFirstEvents()));
+        assertEquals(Arrays.asList(1, 3), tags(queue.pollFirstEvents()));
+        assertTrue(queue.isEmpty());
+        assertEquals(4, queue.getMaxEventsNumber());
+        assertEquals(4, queue.getSerial());
+    }
+
+    @Test
+    public void testIteratorRemovesFromQueue() {
+        final CalendarQueue queue = new CalendarQueue();
+        for (int i = 0; i < 10; i++) {
+            queue.addEvent(createEvent(10 - i, i));
+        }
+
+        final Iterator<SimEvent> it = queue.iterator();
+        assertEquals(9, it.next().getTag());
+        it.remove();
+
+        assertEquals(9, queue.size());
+        assertEquals(8, queue.first().getTag());
+        assertEquals(Arrays.asList(8, 7, 6, 5, 4, 3, 2, 1, 0), tags(queue.stream().collect(Collectors.toList())));
+    }
+
+    /**
+     * Performs the same random operations in a {@link CalendarQueue} and a {@link FutureQueue},
+     * mimicking a simulation which always adds events at or after the current time,
+     * and checks that both queues keep the same events in the same order.
+     */
+    @Test
+    public void testSameOrderOfFutureQueue() {
+        final Random random = new Random(1);
+        final CalendarQueue calendarQueue = new CalendarQueue(0.5);
+        final FutureQueue futureQueue = new FutureQueue();
+        double clock = 0;
+        int tag = 0;
+
+        for (int i = 0; i < 20000; i++) {
+            final int operation = random.nextInt(10);
+            if (operation < 6) {
+                //Uses few distinct delays to have many events happening at the same time
+                final double time = clock + random.nextInt(50) * (random.nextBoolean() ? 1 : 0.25);
+                final boolean first = random.nextInt(20) == 0;
+                addEvent(calendarQueue, createEvent(time, tag), first);
+                addEvent(futureQueue, createEvent(time, tag), first);
+                tag++;
+            } else if (operation < 9) {
+                final List<SimEvent> events = futureQueue.pollFirstEvents();
+                assertEquals(tags(events), tags(calendarQueue.pollFirstEvents()));
+                if (!events.isEmpty()) {
+                    clock = events.get(0).getTime();
+                }
+            } else {
+                final int divisor = 2 + random.nextInt(30);
+                assertEquals(
+                    futureQueue.removeIf(evt -> evt.getTag() % divisor == 0),
+                    calendarQueue.removeIf(evt -> evt.getTag() % divisor == 0));
+            }
+
+            assertEquals(futureQueue.size(), calendarQueue.size());
+        }
+
+        assertEquals(tags(futureQueue.stream().collect(Collectors.toList())), tags(calendarQueue.stream().collect(Collectors.toList())));
+        while (!futureQueue.isEmpty()) {
+            assertEquals(futureQueue.first().getTag(), calendarQueue.first().getTag());
+            assertEquals(tags(futureQueue.pollFirstEvents()), tags(calendarQueue.pollFirstEvents()));
+        }
+
+        assertTrue(calendarQueue.isEmpty());
+        assertEquals(futureQueue.getMaxEventsNumber(), calendarQueue.getMaxEventsNumber());
+    }
+
+    private static void addEvent(final FutureEventQueue queue, final SimEvent evt, final boolean first) {
+        if (first) {
+            queue.addEventFirst(evt);
+        } else {
+            queue.addEvent(evt);
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        final CalendarQueue queue = new CalendarQueue();
+        final SimEvent evt1 = createEvent(1, 1);
+        final SimEvent evt2 = createEvent(1, 2);
+        queue.addEvent(evt1);
+        queue.addEvent(evt2);
+
+        assertFalse(queue.remove(createEvent(1, 1)));
+        assertTrue(queue.remove(evt1));
+        assertFalse(queue.remove(evt1));
+        assertEquals(1, queue.size());
+        assertSame(evt2, queue.first());
+
+        queue.clear();
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,47 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventPoolTest {
+    private static CloudSimEvent obtain(final EventPool pool, final int tag) {
+        return pool.obtain(SimEvent.Type.SEND, 1, SimEntity.NULL, SimEntity.NULL, tag, null);
+    }
+
+    @Test
+    public void testReleasedEventIsReused() {
+        final EventPool pool = new EventPool();
+        final CloudSimEvent evt = obtain(pool, 1);
+        final long generation = evt.getGeneration();
+        assertTrue(pool.release(evt));
+        assertTrue(evt.isStale(generation));
+
+        final CloudSimEvent reused = obtain(pool, 2);
+        assertSame(evt, reused);
+        assertEquals(2, reused.getTag());
+        assertEquals(1, pool.getCreatedEvents());
+        assertEquals(1, pool.getReusedEvents());
+    }
+
+    @Test
+    public void testEventNotObtainedFromPoolIsNotReleased() {
+        final EventPool pool = new EventPool();
+        final CloudSimEvent evt = new CloudSimEvent(SimEvent.Type.SEND, 1, SimEntity.NULL, SimEntity.NULL, 1, null);
+        final long generation = evt.getGeneration();
+        assertFalse(pool.release(evt));
+        assertFalse(evt.isStale(generation));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testCapacityLimitsFreeEvents() {
+        final EventPool pool = new EventPool(1);
+        final CloudSimEvent evt1 = obtain(pool, 1);
+        final CloudSimEvent evt2 = obtain(pool, 2);
+        pool.release(evt1);
+        pool.release(evt2);
+        assertEquals(1, pool.size());
+    }
+}
@@ -0,0 +1,93 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FutureEventIndexTest {
+    private static SimEvent createEvent(final SimEntity src, final double time, final int tag) {
+        return new CloudSimEvent(SimEvent.Type.SEND, time, src, SimEntity.NULL, tag, null);
+    }
+
+    private static List<Integer> tags(final List<SimEvent> events) {
+        return events.stream().map(SimEvent::getTag).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testFindJustEventsFromSourceSortedByTime() {
+        final SimEntity src1 = EasyMock.createNiceMock(SimEntity.class);
+        final SimEntity src2 = EasyMock.createNiceMock(SimEntity.class);
+        final FutureEventIndex index = new FutureEventIndex();
+        index.add(createEvent(src1, 5, 1));
+        index.add(createEvent(src2, 1, 2));
+        index.add(createEvent(src1, 2, 3));
+        index.add(createEvent(src1, 3, 1));
+
+        assertEquals(Arrays.asList(3, 1, 1), tags(index.find(src1, evt -> true)));
+        assertEquals(Arrays.asList(2), tags(index.find(src2, evt -> true)));
+    }
+
+    @Test
+    public void testFindByPredicateType() {
+        final SimEntity src = EasyMock.createNiceMock(SimEntity.class);
+        final FutureEventIndex index = new FutureEventIndex();
+        final SimEvent evt1 = createEvent(src, 5, 1);
+        final SimEvent evt2 = createEvent(src, 2, 1);
+        index.add(evt1);
+        index.add(createEvent(src, 1, 2));
+        index.add(evt2);
+
+        assertEquals(Arrays.asList(evt2, evt1), index.find(src, new PredicateType(1)));
+        assertTrue(index.find(src, new PredicateType(3)).isEmpty());
+    }
+
+    @Test
+    public void testFindEventsWithSameTimeAndSerialInInsertionOrder() {
+        final SimEntity src = EasyMock.createNiceMock(SimEntity.class);
+        final FutureEventIndex index = new FutureEventIndex();
+        final List<Integer> expectedTags = new ArrayList<>();
+        for (int tag = 0; tag < 100; tag++) {
+            //All the events added to the beginning of the future queue have serial 0
+            final SimEvent evt = createEvent(src, 5, tag);
+            evt.setSerial(0);
+            index.add(evt);
+            expectedTags.add(tag);
+        }
+
+        assertEquals(expectedTags, tags(index.find(src, evt -> true)));
+    }
+
+    @Test
+    public void testContains() {
+        final SimEntity src = EasyMock.createNiceMock(SimEntity.class);
+        final FutureEventIndex index = new FutureEventIndex();
+        final SimEvent evt = createEvent(src, 5, 1);
+        assertFalse(index.contains(evt));
+
+        index.add(evt);
+        assertTrue(index.contains(evt));
+        assertFalse(index.contains(createEvent(src, 5, 1)));
+
+        index.remove(evt);
+        assertFalse(index.contains(evt));
+    }
+
+    @Test
+    public void testRemove() {
+        final SimEntity src = EasyMock.createNiceMock(SimEntity.class);
+        final FutureEventIndex index = new FutureEventIndex();
+        final SimEvent evt = createEvent(src, 5, 1);
+        index.add(evt);
+
+        assertTrue(index.remove(evt));
+        assertFalse(index.remove(evt));
+        assertTrue(index.find(src, evt1 -> true).isEmpty());
+    }
+}
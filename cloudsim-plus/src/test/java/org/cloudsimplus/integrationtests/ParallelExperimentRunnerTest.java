@@ -0,0 +1,156 @@
+package org.cloudsimplus.integrationtests;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.testbeds.Experiment;
+import org.cloudsimplus.testbeds.ExperimentRunner;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * An Integration Test (IT) running the same experiments with an {@link ExperimentRunner}
+ * sequentially and in parallel, which checks if both executions produce the same results,
+ * collected in the order of the experiments.
+ *
+ * <p>The Cloudlet lengths are drawn from the pseudo random number generator the runner creates
+ * for each experiment, so that each experiment has different results
+ * and the results depend on the seed assigned to each experiment.</p>
+ */
+public final class ParallelExperimentRunnerTest {
+    private static final int SIMULATION_RUNS = 8;
+    private static final int HOSTS = 4;
+    private static final int HOST_PES = 4;
+    private static final double MIPS = 1000;
+    private static final int VMS = HOSTS * 2;
+    private static final int VM_PES = HOST_PES / 2;
+    private static final int CLOUDLETS = VMS * 2;
+
+    private static final class TestExperiment extends Experiment {
+        private final ContinuousDistribution lengthPrng;
+
+        private TestExperiment(final int index, final ExperimentRunner runner) {
+            super(index, runner);
+            setHostsNumber(HOSTS);
+            setVmsByBrokerFunction(broker -> VMS);
+            lengthPrng = runner.createRandomGen(index, 10_000, 100_000);
+        }
+
+        @Override
+        public void printResults() {/**/}
+
+        @Override
+        protected DatacenterBroker createBroker() {
+            return new DatacenterBrokerSimple(getSimulation());
+        }
+
+        @Override
+        protected List<Cloudlet> createCloudlets(final DatacenterBroker broker) {
+            final List<Cloudlet> list = new ArrayList<>(CLOUDLETS);
+            for (int i = 0; i < CLOUDLETS; i++) {
+                list.add(createCloudlet(broker));
+            }
+
+            return list;
+        }
+
+        @Override
+        protected Cloudlet createCloudlet(final DatacenterBroker broker) {
+            return new CloudletSimple(nextCloudletId(), (long) lengthPrng.sample(), 1);
+        }
+
+        @Override
+        protected Vm createVm(final DatacenterBroker broker, final int id) {
+            return new VmSimple(id, MIPS, VM_PES);
+        }
+
+        @Override
+        protected Host createHost(final int id) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int i = 0; i < HOST_PES; i++) {
+                peList.add(new PeSimple(MIPS));
+            }
+
+            return new HostSimple(peList);
+        }
+
+        /**
+         * Gets the seed and the finish time of each Cloudlet, sorted by the Cloudlet ID.
+         * @return
+         */
+        private String getResult() {
+            return getSeed() + "|" + getBrokerList().get(0).getCloudletFinishedList().stream()
+                .sorted(Comparator.comparingLong(Cloudlet::getId))
+                .map(cloudlet -> cloudlet.getId() + ":" + cloudlet.getVm().getId() + ":" + cloudlet.getFinishTime())
+                .collect(Collectors.joining(","));
+        }
+    }
+
+    private static final class TestRunner extends ExperimentRunner<TestExperiment> {
+        /**
+         * The result of each experiment, in the order the afterExperimentFinish consumers are called.
+         */
+        private final List<String> results;
+
+        private TestRunner(final int parallelism) {
+            super(false, 1475098589732L);
+            results = new ArrayList<>();
+            setSimulationRuns(SIMULATION_RUNS);
+            setParallelism(parallelism);
+        }
+
+        @Override
+        protected void setup() {/**/}
+
+        @Override
+        protected Map<String, List<Double>> createMetricsMap() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        protected TestExperiment createExperiment(final int i) {
+            final TestExperiment experiment = new TestExperiment(i, this);
+            experiment.setAfterExperimentFinish((TestExperiment exp) -> results.add(exp.getResult()));
+            return experiment;
+        }
+
+        @Override
+        protected void printSimulationParameters() {/**/}
+
+        @Override
+        protected void printFinalResults(final String metricName, final SummaryStatistics stats) {/**/}
+    }
+
+    private List<String> runExperiments(final int parallelism) {
+        final TestRunner runner = new TestRunner(parallelism);
+        runner.run();
+        return runner.results;
+    }
+
+    @Test
+    public void integrationTest() {
+        final List<String> sequential = runExperiments(1);
+        final List<String> parallel = runExperiments(4);
+
+        assertEquals(SIMULATION_RUNS, sequential.size());
+        assertEquals(SIMULATION_RUNS, sequential.stream().distinct().count(), "Each experiment should have different results");
+        assertEquals(sequential, parallel);
+    }
+}
@@ -0,0 +1,159 @@
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * An Integration Test (IT) running the same federated scenario with
+ * the parallel Hosts processing and the parallel Datacenters processing enabled and disabled,
+ * which checks if all executions produce the same results.
+ *
+ * <p>Each Datacenter just has capacity for some of the VMs,
+ * so that the broker places the remaining ones in the next Datacenters.
+ * The Cloudlets use dynamic utilization models and finish at different times,
+ * so that the Hosts are updated with different loads. The Host update processing listeners
+ * of each Datacenter are also checked to be notified in the same order, while the Cloudlet update processing listeners,
+ * which may be notified by worker threads, are checked to be notified the same number of times.</p>
+ */
+public final class ParallelProcessingTest {
+    private static final int DATACENTERS = 3;
+    private static final int HOSTS = 4;
+    private static final int HOST_PES = 4;
+    private static final double MIPS = 1000;
+    private static final int VMS = DATACENTERS * HOSTS * 2;
+    private static final int VM_PES = HOST_PES / 2;
+    private static final int CLOUDLETS_PER_VM = 2;
+    private static final long CLOUDLET_LENGTH = 10_000;
+
+    /**
+     * The results of a simulation execution.
+     */
+    private static final class Result {
+        private final List<String> cloudletFinishTimes;
+        private final List<List<String>> hostUpdates;
+        private final Map<Long, Integer> cloudletUpdates;
+        private final long generatedEvents;
+        private final double clock;
+
+        private Result(final CloudSim simulation, final DatacenterBroker broker, final List<List<String>> hostUpdates, final Map<Long, Integer> cloudletUpdates) {
+            cloudletFinishTimes = broker.getCloudletFinishedList().stream()
+                .sorted(Comparator.comparingLong(Cloudlet::getId))
+                .map(cloudlet -> cloudlet.getId() + ":" + cloudlet.getLastTriedDatacenter().getId() + ":" + cloudlet.getFinishTime())
+                .collect(Collectors.toList());
+            this.hostUpdates = hostUpdates;
+            this.cloudletUpdates = new TreeMap<>(cloudletUpdates);
+            generatedEvents = simulation.getGeneratedEventsNumber();
+            clock = simulation.clock();
+        }
+    }
+
+    private Result runSimulation(final boolean parallelHostsProcessing, final boolean parallelDatacentersProcessing) {
+        final CloudSim simulation = new CloudSim();
+        simulation.setParallelDatacentersProcessing(parallelDatacentersProcessing);
+
+        /*Host listeners are notified following the order of the Hosts of each Datacenter,
+        * but Datacenters processed in parallel notify them from different threads.*/
+        final List<List<String>> hostUpdates = new ArrayList<>(DATACENTERS);
+        //Cloudlet listeners may be notified by the worker threads, so they must be thread-safe
+        final Map<Long, Integer> cloudletUpdates = new ConcurrentHashMap<>();
+        for (int i = 0; i < DATACENTERS; i++) {
+            final List<String> datacenterHostUpdates = new ArrayList<>();
+            hostUpdates.add(datacenterHostUpdates);
+            final List<Host> hostList = createHosts();
+            hostList.forEach(host -> host.addOnUpdateProcessingListener(info ->
+                datacenterHostUpdates.add(info.getTime() + ":" + info.getHost().getId() + ":" + info.getHost().getCpuPercentUtilization())));
+            new DatacenterSimple(simulation, hostList)
+                .setSchedulingInterval(i + 1)
+                .setParallelHostsProcessing(parallelHostsProcessing);
+        }
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        final List<Cloudlet> cloudletList = new ArrayList<>(VMS * CLOUDLETS_PER_VM);
+        for (int i = 0; i < VMS; i++) {
+            final Vm vm = new VmSimple(MIPS, VM_PES);
+            vmList.add(vm);
+
+            for (int j = 0; j < CLOUDLETS_PER_VM; j++) {
+                final Cloudlet cloudlet = new CloudletSimple(CLOUDLET_LENGTH * (i + j + 1), VM_PES / CLOUDLETS_PER_VM);
+                cloudlet.setUtilizationModelCpu(new UtilizationModelDynamic(0.5).setUtilizationUpdateFunction(
+                    model -> Math.min(1, model.getUtilization() + model.getTimeSpan() * 0.1)));
+                cloudlet.setSubmissionDelay(j * 5);
+                cloudlet.setVm(vm);
+                cloudlet.addOnUpdateProcessingListener(info -> cloudletUpdates.merge(info.getCloudlet().getId(), 1, Integer::sum));
+                cloudletList.add(cloudlet);
+            }
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+
+        return new Result(simulation, broker, hostUpdates, cloudletUpdates);
+    }
+
+    private List<Host> createHosts() {
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(MIPS));
+            }
+
+            hostList.add(new HostSimple(peList));
+        }
+
+        return hostList;
+    }
+
+    /**
+     * Checks the sequential execution produced a meaningful scenario
+     * and the parallel one produced the same results.
+     */
+    private void assertSameResults(final Result sequential, final Result parallel) {
+        assertEquals(VMS * CLOUDLETS_PER_VM, sequential.cloudletFinishTimes.size());
+        final long usedDatacenters = sequential.cloudletFinishTimes.stream().map(result -> result.split(":")[1]).distinct().count();
+        assertTrue(usedDatacenters > 1, "The Cloudlets should run in more than one Datacenter");
+        assertFalse(sequential.hostUpdates.get(0).isEmpty());
+
+        assertEquals(sequential.cloudletFinishTimes, parallel.cloudletFinishTimes);
+        assertEquals(sequential.hostUpdates, parallel.hostUpdates);
+        assertEquals(sequential.cloudletUpdates, parallel.cloudletUpdates);
+        assertEquals(sequential.generatedEvents, parallel.generatedEvents);
+        assertEquals(sequential.clock, parallel.clock);
+    }
+
+    @Test
+    public void parallelHostsProcessing() {
+        assertSameResults(runSimulation(false, false), runSimulation(true, false));
+    }
+
+    @Test
+    public void parallelDatacentersProcessing() {
+        assertSameResults(runSimulation(false, false), runSimulation(false, true));
+    }
+}